@@ -19,6 +19,8 @@ package io.jmix.audit;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
+import java.time.Duration;
+
 @ConfigurationProperties("jmix.audit")
 public class AuditProperties {
 
@@ -26,12 +28,63 @@ public class AuditProperties {
     //ToDo: make system user name globally configurable?
     String systemUsername;
 
+    /**
+     * Whether entity log items are written by a background writer after the business transaction is committed
+     * instead of being written in the business transaction.
+     */
+    boolean entityLogAsyncEnabled;
+
+    /**
+     * Maximum number of entity log items waiting for the background writer.
+     */
+    int entityLogAsyncQueueCapacity;
+
+    /**
+     * Maximum number of entity log items written by the background writer in one transaction.
+     */
+    int entityLogAsyncBatchSize;
+
+    /**
+     * How long a committing thread waits for free space in the full queue. After the timeout, the remaining items
+     * are written synchronously by the committing thread.
+     */
+    Duration entityLogAsyncOfferTimeout;
+
+    /**
+     * How long the application shutdown waits for the background writer to write queued items.
+     */
+    Duration entityLogAsyncShutdownTimeout;
+
+    /**
+     * How many times the background writer retries writing a failed batch before writing its items one by one.
+     */
+    int entityLogAsyncRetryAttempts;
+
+    /**
+     * Delay before the first retry of a failed batch. The delay is doubled for each next retry.
+     */
+    Duration entityLogAsyncRetryBackoff;
+
     public AuditProperties(
             @DefaultValue("true") boolean enabled,
-            @DefaultValue("system") String systemUsername
+            @DefaultValue("system") String systemUsername,
+            @DefaultValue("false") boolean entityLogAsyncEnabled,
+            @DefaultValue("10000") int entityLogAsyncQueueCapacity,
+            @DefaultValue("500") int entityLogAsyncBatchSize,
+            @DefaultValue("1000") Duration entityLogAsyncOfferTimeout,
+            @DefaultValue("30000") Duration entityLogAsyncShutdownTimeout,
+            @DefaultValue("3") int entityLogAsyncRetryAttempts,
+            @DefaultValue("500") Duration entityLogAsyncRetryBackoff
     ) {
         this.enabled = enabled;
         this.systemUsername = systemUsername;
+        this.entityLogAsyncEnabled = entityLogAsyncEnabled;
+        this.entityLogAsyncQueueCapacity = entityLogAsyncQueueCapacity;
+        this.entityLogAsyncBatchSize = entityLogAsyncBatchSize;
+        this.entityLogAsyncOfferTimeout = entityLogAsyncOfferTimeout;
+        this.entityLogAsyncShutdownTimeout = entityLogAsyncShutdownTimeout;
+        this.entityLogAsyncRetryAttempts = entityLogAsyncRetryAttempts;
+        this.entityLogAsyncRetryBackoff = entityLogAsyncRetryBackoff;
     }
 
     public boolean isEnabled() {
@@ -41,4 +94,53 @@ public class AuditProperties {
     public String getSystemUsername() {
         return systemUsername;
     }
+
+    /**
+     * @see #entityLogAsyncEnabled
+     */
+    public boolean isEntityLogAsyncEnabled() {
+        return entityLogAsyncEnabled;
+    }
+
+    /**
+     * @see #entityLogAsyncQueueCapacity
+     */
+    public int getEntityLogAsyncQueueCapacity() {
+        return entityLogAsyncQueueCapacity;
+    }
+
+    /**
+     * @see #entityLogAsyncBatchSize
+     */
+    public int getEntityLogAsyncBatchSize() {
+        return entityLogAsyncBatchSize;
+    }
+
+    /**
+     * @see #entityLogAsyncOfferTimeout
+     */
+    public Duration getEntityLogAsyncOfferTimeout() {
+        return entityLogAsyncOfferTimeout;
+    }
+
+    /**
+     * @see #entityLogAsyncShutdownTimeout
+     */
+    public Duration getEntityLogAsyncShutdownTimeout() {
+        return entityLogAsyncShutdownTimeout;
+    }
+
+    /**
+     * @see #entityLogAsyncRetryAttempts
+     */
+    public int getEntityLogAsyncRetryAttempts() {
+        return entityLogAsyncRetryAttempts;
+    }
+
+    /**
+     * @see #entityLogAsyncRetryBackoff
+     */
+    public Duration getEntityLogAsyncRetryBackoff() {
+        return entityLogAsyncRetryBackoff;
+    }
 }
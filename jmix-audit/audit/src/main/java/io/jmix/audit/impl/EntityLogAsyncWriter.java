@@ -0,0 +1,288 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.audit.impl;
+
+import io.jmix.audit.AuditProperties;
+import io.jmix.audit.entity.EntityLogItem;
+import io.jmix.core.MetadataTools;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes entity log items in background when {@link AuditProperties#isEntityLogAsyncEnabled()} is set.
+ * <p>
+ * Items are submitted after the business transaction is committed and are kept in a bounded in-memory queue. The
+ * writer takes them from the queue and persists them in batches, each batch in its own transaction. If the queue
+ * stays full for {@link AuditProperties#getEntityLogAsyncOfferTimeout()}, the submitting thread writes the remaining
+ * items itself, which slows down producers instead of losing items. On shutdown, the queue is drained.
+ * <p>
+ * A failed batch is retried {@link AuditProperties#getEntityLogAsyncRetryAttempts()} times with exponential backoff
+ * starting from {@link AuditProperties#getEntityLogAsyncRetryBackoff()}. If it still fails, its items are written one
+ * by one, so a single invalid item doesn't prevent writing of the others; items failing individually are dropped.
+ * Each attempt persists fresh copies of the items, because a rolled back transaction leaves the persisted instances
+ * in the detached state.
+ * <p>
+ * Items in the queue are not durable: they are lost if the process terminates abnormally before they are written.
+ * <p>
+ * Meters: {@code jmix.audit.entityLog.queue.size} (gauge), {@code jmix.audit.entityLog.lag} (timer, from submitting
+ * to writing an item), {@code jmix.audit.entityLog.syncWrites} (counter of items written by submitting threads) and
+ * {@code jmix.audit.entityLog.dropped} (counter of items that could not be written).
+ */
+@Component("audit_EntityLogAsyncWriter")
+public class EntityLogAsyncWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityLogAsyncWriter.class);
+
+    @Autowired
+    protected AuditProperties properties;
+
+    @Autowired
+    protected MetadataTools metadataTools;
+
+    @Autowired(required = false)
+    protected MeterRegistry meterRegistry;
+
+    @PersistenceContext
+    protected EntityManager entityManager;
+
+    protected TransactionTemplate transaction;
+
+    protected BlockingQueue<QueuedItem> queue;
+    protected volatile boolean accepting;
+    protected Thread writerThread;
+
+    protected Timer lagTimer;
+    protected Counter syncWritesCounter;
+    protected Counter droppedCounter;
+
+    @Autowired
+    protected void setTransactionManager(PlatformTransactionManager transactionManager) {
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    protected void init() {
+        if (!properties.isEntityLogAsyncEnabled()) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(Math.max(properties.getEntityLogAsyncQueueCapacity(), 1));
+        if (meterRegistry != null) {
+            Gauge.builder("jmix.audit.entityLog.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+            lagTimer = meterRegistry.timer("jmix.audit.entityLog.lag");
+            syncWritesCounter = meterRegistry.counter("jmix.audit.entityLog.syncWrites");
+            droppedCounter = meterRegistry.counter("jmix.audit.entityLog.dropped");
+        }
+        accepting = true;
+        writerThread = new Thread(this::processQueue, "jmix-entity-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * @return true if items can be submitted to the writer
+     */
+    public boolean isActive() {
+        return accepting;
+    }
+
+    /**
+     * Queues the items for writing. Items that cannot be queued in time, or that are submitted after shutdown has
+     * started, are written by the calling thread.
+     */
+    public void submit(Collection<EntityLogItem> items) {
+        long now = System.nanoTime();
+        List<EntityLogItem> rejected = new ArrayList<>();
+        Iterator<EntityLogItem> iterator = items.iterator();
+        try {
+            while (iterator.hasNext()) {
+                EntityLogItem item = iterator.next();
+                if (!accepting || !queue.offer(new QueuedItem(item, now),
+                        properties.getEntityLogAsyncOfferTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                    rejected.add(item);
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        iterator.forEachRemaining(rejected::add);
+
+        if (!rejected.isEmpty()) {
+            log.debug("Entity log queue is full or stopped, writing {} items synchronously", rejected.size());
+            write(rejected);
+            if (syncWritesCounter != null) {
+                syncWritesCounter.increment(rejected.size());
+            }
+        }
+    }
+
+    protected void processQueue() {
+        int batchSize = Math.max(properties.getEntityLogAsyncBatchSize(), 1);
+        List<QueuedItem> batch = new ArrayList<>(batchSize);
+        while (accepting || !queue.isEmpty()) {
+            try {
+                QueuedItem first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                if (!accepting) {
+                    // shutdown: continue draining the queue
+                    continue;
+                }
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    protected void writeBatch(List<QueuedItem> batch) {
+        List<EntityLogItem> items = new ArrayList<>(batch.size());
+        for (QueuedItem queuedItem : batch) {
+            items.add(queuedItem.item);
+        }
+        if (writeWithRetries(items)) {
+            recordLag(batch);
+            return;
+        }
+        log.warn("Unable to write batch of {} entity log items, writing them one by one", items.size());
+        for (QueuedItem queuedItem : batch) {
+            try {
+                write(List.of(queuedItem.item));
+                recordLag(List.of(queuedItem));
+            } catch (RuntimeException e) {
+                log.error("Unable to write entity log item {}, the item is dropped", queuedItem.item, e);
+                if (droppedCounter != null) {
+                    droppedCounter.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the items in one transaction, retrying with exponential backoff if writing fails.
+     *
+     * @return true if the items have been written
+     */
+    protected boolean writeWithRetries(List<EntityLogItem> items) {
+        int attempts = Math.max(properties.getEntityLogAsyncRetryAttempts(), 0) + 1;
+        long backoffMillis = properties.getEntityLogAsyncRetryBackoff().toMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                write(items);
+                return true;
+            } catch (RuntimeException e) {
+                if (attempt >= attempts) {
+                    log.error("Unable to write {} entity log items in {} attempts", items.size(), attempts, e);
+                    return false;
+                }
+                log.warn("Unable to write {} entity log items, retrying in {} ms", items.size(), backoffMillis, e);
+            }
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                // shutdown: stop retrying, the items are written one by one
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            backoffMillis *= 2;
+        }
+    }
+
+    protected void recordLag(List<QueuedItem> queuedItems) {
+        if (lagTimer != null) {
+            long now = System.nanoTime();
+            for (QueuedItem queuedItem : queuedItems) {
+                lagTimer.record(now - queuedItem.submittedNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    protected void write(List<EntityLogItem> items) {
+        transaction.executeWithoutResult(status -> {
+            for (EntityLogItem item : items) {
+                entityManager.persist(copyForWrite(item));
+            }
+        });
+    }
+
+    /**
+     * Creates a new instance with the same state as the item, including the identifier, so it can be persisted
+     * regardless of the outcome of previous attempts to write the item.
+     */
+    protected EntityLogItem copyForWrite(EntityLogItem item) {
+        EntityLogItem copy = metadataTools.copy(item);
+        if (item.getEntityRef() != null) {
+            copy.setEntityRef(metadataTools.copy(item.getEntityRef()));
+        }
+        return copy;
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        if (writerThread == null) {
+            return;
+        }
+        accepting = false;
+        try {
+            writerThread.join(properties.getEntityLogAsyncShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            log.warn("Entity log writer has not finished in {}, {} items are not written",
+                    properties.getEntityLogAsyncShutdownTimeout(), queue.size());
+        }
+    }
+
+    protected static class QueuedItem {
+        protected final EntityLogItem item;
+        protected final long submittedNanos;
+
+        protected QueuedItem(EntityLogItem item, long submittedNanos) {
+            this.item = item;
+            this.submittedNanos = submittedNanos;
+        }
+    }
+}
@@ -99,6 +99,9 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
     @Autowired
     protected CurrentUserSubstitution currentUserSubstitution;
 
+    @Autowired
+    protected EntityLogAsyncWriter asyncWriter;
+
     @Autowired
     protected void setTransactionManager(PlatformTransactionManager transactionManager) {
         transaction = new TransactionTemplate(transactionManager);
@@ -165,20 +168,29 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
         if (items == null || items.isEmpty())
             return;
 
-        Set<EntityLogItem> saved = new LinkedHashSet<>();
+        Map<Object, List<EntityLogItem>> itemsByEntity = new LinkedHashMap<>();
         for (EntityLogItem item : items) {
-            List<EntityLogItem> sameEntityList = items.stream()
-                    .filter(entityLogItem -> entityLogItem.getDbGeneratedIdEntity() != null ?
-                            entityLogItem.getDbGeneratedIdEntity().equals(item.getDbGeneratedIdEntity()) :
-                            entityLogItem.getEntityRef().getObjectEntityId().equals(item.getEntityRef().getObjectEntityId()))
-                    .collect(Collectors.toList());
+            itemsByEntity.computeIfAbsent(getEntityKey(item), key -> new ArrayList<>()).add(item);
+        }
+
+        List<EntityLogItem> itemsToSave = new ArrayList<>(itemsByEntity.size());
+        for (List<EntityLogItem> sameEntityList : itemsByEntity.values()) {
             EntityLogItem itemToSave = sameEntityList.get(0);
-            if (!saved.contains(itemToSave)) {
-                computeChanges(itemToSave, sameEntityList);
-                saved.add(itemToSave);
-                saveItem(itemToSave);
-            }
+            computeChanges(itemToSave, sameEntityList);
+            itemsToSave.add(itemToSave);
         }
+        saveItems(itemsToSave);
+    }
+
+    /**
+     * Returns a key identifying the logged entity instance, used to merge several log items of the same instance
+     * registered in one transaction.
+     */
+    protected Object getEntityKey(EntityLogItem item) {
+        if (item.getDbGeneratedIdEntity() != null) {
+            return item.getDbGeneratedIdEntity();
+        }
+        return Arrays.asList(item.getEntity(), item.getEntityRef().getObjectEntityId());
     }
 
     protected void computeChanges(EntityLogItem itemToSave, List<EntityLogItem> sameEntityList) {
@@ -216,77 +228,138 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
     }
 
     protected void processAttributes(EntityLogItem itemToSave, List<EntityLogItem> sameEntityList, Set<String> attributes) {
+        Map<String, EntityLogAttr> firstItemAttributes = getAttributesByName(sameEntityList.get(0));
+        Map<String, EntityLogAttr> lastItemAttributes = getAttributesByName(sameEntityList.get(sameEntityList.size() - 1));
+        Map<String, EntityLogAttr> attributesToSave = getAttributesByName(itemToSave);
         for (String attributeName : attributes) {
             // old value from the first item
-            sameEntityList.get(0).getAttributes().stream()
-                    .filter(entityLogAttr -> entityLogAttr.getName().equals(attributeName))
-                    .findFirst()
-                    .ifPresent(entityLogAttr -> setAttributeOldValue(entityLogAttr, itemToSave));
+            EntityLogAttr firstAttr = firstItemAttributes.get(attributeName);
+            if (firstAttr != null) {
+                setAttributeOldValue(firstAttr, getAttrToSave(firstAttr, itemToSave, attributesToSave));
+            }
             // new value from the last item
-            sameEntityList.get(sameEntityList.size() - 1).getAttributes().stream()
-                    .filter(entityLogAttr -> entityLogAttr.getName().equals(attributeName))
-                    .findFirst()
-                    .ifPresent(entityLogAttr -> setAttributeNewValue(entityLogAttr, itemToSave));
+            EntityLogAttr lastAttr = lastItemAttributes.get(attributeName);
+            if (lastAttr != null) {
+                setAttributeNewValue(lastAttr, getAttrToSave(lastAttr, itemToSave, attributesToSave));
+            }
         }
     }
 
-    protected void setAttributeOldValue(EntityLogAttr entityLogAttr, EntityLogItem itemToSave) {
-        EntityLogAttr attr = getAttrToSave(entityLogAttr, itemToSave);
+    protected Map<String, EntityLogAttr> getAttributesByName(EntityLogItem item) {
+        Map<String, EntityLogAttr> result = new HashMap<>();
+        for (EntityLogAttr attr : item.getAttributes()) {
+            result.putIfAbsent(attr.getName(), attr);
+        }
+        return result;
+    }
+
+    protected void setAttributeOldValue(EntityLogAttr entityLogAttr, EntityLogAttr attr) {
         attr.setOldValue(entityLogAttr.getOldValue());
         attr.setOldValueId(entityLogAttr.getOldValueId());
     }
 
-    protected void setAttributeNewValue(EntityLogAttr entityLogAttr, EntityLogItem itemToSave) {
-        EntityLogAttr attr = getAttrToSave(entityLogAttr, itemToSave);
+    protected void setAttributeNewValue(EntityLogAttr entityLogAttr, EntityLogAttr attr) {
         attr.setValue(entityLogAttr.getValue());
         attr.setValueId(entityLogAttr.getValueId());
     }
 
-    protected EntityLogAttr getAttrToSave(EntityLogAttr entityLogAttr, EntityLogItem itemToSave) {
-        EntityLogAttr attr = itemToSave.getAttributes().stream()
-                .filter(a -> a.getName().equals(entityLogAttr.getName()))
-                .findFirst()
-                .orElse(null);
+    protected EntityLogAttr getAttrToSave(EntityLogAttr entityLogAttr, EntityLogItem itemToSave,
+                                          Map<String, EntityLogAttr> attributesToSave) {
+        EntityLogAttr attr = attributesToSave.get(entityLogAttr.getName());
         if (attr == null) {
             attr = metadata.create(EntityLogAttr.class);
             attr.setName(entityLogAttr.getName());
             itemToSave.getAttributes().add(attr);
+            attributesToSave.put(attr.getName(), attr);
         }
         return attr;
     }
 
-    protected void saveItem(EntityLogItem item) {
-        String storeName = metadata.getClass(item.getEntity()).getStore().getName();
+    /**
+     * Saves log items in the current transaction if they belong to the main store. Items of additional stores are
+     * saved together in one new transaction of the main store. Items of entities with DB-generated ids are saved
+     * together after commit, when the ids are known.
+     */
+    protected void saveItems(List<EntityLogItem> items) {
+        if (asyncWriter.isActive() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            submitItemsAfterCommit(items);
+            return;
+        }
+
+        List<EntityLogItem> mainStoreItems = new ArrayList<>();
+        List<EntityLogItem> additionalStoreItems = new ArrayList<>();
+        List<EntityLogItem> dbGeneratedIdItems = new ArrayList<>();
 
-        entityEventManager.publishEntitySavingEvent(item, true);//workaround for jmix-framework/jmix#1069
-        if (item.getDbGeneratedIdEntity() == null) {
-            if (Stores.isMain(storeName)) {
-                entityManager.persist(item);
+        for (EntityLogItem item : items) {
+            entityEventManager.publishEntitySavingEvent(item, true);//workaround for jmix-framework/jmix#1069
+            if (item.getDbGeneratedIdEntity() != null) {
+                dbGeneratedIdItems.add(item);
+            } else if (Stores.isMain(metadata.getClass(item.getEntity()).getStore().getName())) {
+                mainStoreItems.add(item);
             } else {
-                // Create a new transaction in main DB if we are saving an entity from additional data store
-                transaction.executeWithoutResult(transactionStatus -> entityManager.persist(item));
+                additionalStoreItems.add(item);
             }
-        } else {
+        }
+
+        for (EntityLogItem item : mainStoreItems) {
+            entityManager.persist(item);
+        }
+        if (!additionalStoreItems.isEmpty()) {
+            // Create a new transaction in main DB if we are saving entities from additional data store
+            transaction.executeWithoutResult(transactionStatus -> additionalStoreItems.forEach(entityManager::persist));
+        }
+        if (!dbGeneratedIdItems.isEmpty()) {
             TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
                 @Override
                 public void afterCommit() {
-                    Object id = EntityValues.getId(item.getDbGeneratedIdEntity());
-                    item.getEntityRef().setObjectEntityId(id);
-                    transaction.executeWithoutResult(status -> {
-                        entityManager.persist(item);
-                    });
+                    for (EntityLogItem item : dbGeneratedIdItems) {
+                        Object id = EntityValues.getId(item.getDbGeneratedIdEntity());
+                        item.getEntityRef().setObjectEntityId(id);
+                    }
+                    transaction.executeWithoutResult(status -> dbGeneratedIdItems.forEach(entityManager::persist));
                 }
             });
         }
     }
 
+    /**
+     * Passes log items to the background writer after the current transaction is committed.
+     */
+    protected void submitItemsAfterCommit(List<EntityLogItem> items) {
+        for (EntityLogItem item : items) {
+            entityEventManager.publishEntitySavingEvent(item, true);//workaround for jmix-framework/jmix#1069
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                for (EntityLogItem item : items) {
+                    if (item.getDbGeneratedIdEntity() != null) {
+                        item.getEntityRef().setObjectEntityId(EntityValues.getId(item.getDbGeneratedIdEntity()));
+                    }
+                }
+                asyncWriter.submit(items);
+            }
+        });
+    }
+
+    /**
+     * Saves a single log item.
+     *
+     * @deprecated log items are saved together by {@link #saveItems(List)}, which is not routed through this method
+     * anymore. Override {@link #saveItems(List)} to customize saving.
+     */
+    @Deprecated(since = "2.6", forRemoval = true)
+    protected void saveItem(EntityLogItem item) {
+        saveItems(Collections.singletonList(item));
+    }
+
     @Override
-    public synchronized boolean isEnabled() {
+    public boolean isEnabled() {
         return enabled && isLoggingForCurrentThread();
     }
 
     @Override
-    public synchronized void setEnabled(boolean enabled) {
+    public void setEnabled(boolean enabled) {
         this.enabled = enabled;
     }
 
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+import io.jmix.audit.entity.EntityLogItem
+import io.jmix.audit.impl.EntityLogAsyncWriter
+import io.jmix.core.entity.EntityValues
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.test.context.TestPropertySource
+import spock.util.concurrent.PollingConditions
+import test_support.testmodel.IdentityEntity
+
+@TestPropertySource(properties = ["jmix.audit.entity-log-async-enabled=true"])
+class EntityLogAsyncTest extends AbstractEntityLogTest {
+
+    @Autowired
+    EntityLogAsyncWriter asyncWriter
+
+    void setup() {
+        clearTables("AUDIT_LOGGED_ATTR", "AUDIT_LOGGED_ENTITY")
+
+        withTransaction {
+            clearTable(em, "AUDIT_ENTITY_LOG")
+            saveEntityLogAutoConfFor('test$IdentityEntity', 'name')
+        }
+
+        initEntityLogAPI()
+    }
+
+    void cleanup() {
+        clearTables("AUDIT_LOGGED_ATTR", "AUDIT_LOGGED_ENTITY")
+    }
+
+    def "log items are written by the background writer after commit"() {
+        given:
+        def identityEntity = new IdentityEntity(name: 'test1')
+
+        expect:
+        asyncWriter.isActive()
+
+        when:
+        withTransaction {
+            em.persist(identityEntity)
+        }
+
+        then:
+        new PollingConditions(timeout: 10).eventually {
+            EntityLogItem item = getLatestEntityLogItem('test$IdentityEntity', identityEntity)
+            assert item != null
+            assert item.type == EntityLogItem.Type.CREATE
+            assert loggedValueMatches(item, 'name', 'test1')
+        }
+
+        cleanup:
+        runSqlUpdate("delete from TEST_IDENTITY where id = ${EntityValues.getId(identityEntity)}")
+    }
+
+    def "log items are not written if transaction is rolled back"() {
+        given:
+        def identityEntity = new IdentityEntity(name: 'test2')
+
+        when:
+        transaction.executeWithoutResult { status ->
+            em.persist(identityEntity)
+            em.flush()
+            status.setRollbackOnly()
+        }
+        Thread.sleep(1500)
+
+        then:
+        getEntityLogItems('test$IdentityEntity', EntityValues.getId(identityEntity)).isEmpty()
+    }
+
+    def "log item is written after a rolled back attempt"() {
+        given:
+        EntityLogItem item = metadata.create(EntityLogItem)
+        item.eventTs = new Date()
+        item.type = EntityLogItem.Type.CREATE
+        item.entity = 'test$IdentityEntity'
+        item.entityRef.objectEntityId = 1L
+
+        when:
+        transaction.executeWithoutResult { status ->
+            em.persist(item)
+            em.flush()
+            status.setRollbackOnly()
+        }
+        asyncWriter.write([item])
+
+        then:
+        jdbc.queryForObject("select count(*) from AUDIT_ENTITY_LOG where ID = ?", Integer, item.id) == 1
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+import io.jmix.audit.AuditProperties
+import io.jmix.audit.entity.EntityLogItem
+import io.jmix.audit.impl.EntityLogAsyncWriter
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import spock.lang.Specification
+
+import java.time.Duration
+
+class EntityLogAsyncWriterRetryTest extends Specification {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
+    List<List<EntityLogItem>> writes = []
+    int failuresLeft
+    EntityLogItem invalidItem
+
+    EntityLogAsyncWriter writer
+
+    void setup() {
+        writer = new EntityLogAsyncWriter() {
+            @Override
+            protected void write(List<EntityLogItem> items) {
+                if (failuresLeft > 0 || items.contains(invalidItem)) {
+                    failuresLeft--
+                    throw new IllegalStateException("write failed")
+                }
+                writes << new ArrayList<>(items)
+            }
+        }
+        writer.properties = new AuditProperties(true, 'system', true, 10, 10,
+                Duration.ofSeconds(1), Duration.ofSeconds(1), 2, Duration.ofMillis(1))
+        writer.meterRegistry = meterRegistry
+        writer.droppedCounter = meterRegistry.counter('jmix.audit.entityLog.dropped')
+    }
+
+    def "failed batch is retried"() {
+        given:
+        def items = [new EntityLogItem(), new EntityLogItem()]
+        failuresLeft = 2
+
+        when:
+        writer.writeBatch(queued(items))
+
+        then:
+        writes == [items]
+        meterRegistry.counter('jmix.audit.entityLog.dropped').count() == 0
+    }
+
+    def "items of batch failing after retries are written one by one and invalid ones are dropped"() {
+        given:
+        def items = [new EntityLogItem(), new EntityLogItem(), new EntityLogItem()]
+        invalidItem = items[1]
+
+        when:
+        writer.writeBatch(queued(items))
+
+        then:
+        writes == [[items[0]], [items[2]]]
+        meterRegistry.counter('jmix.audit.entityLog.dropped').count() == 1
+    }
+
+    protected static List<EntityLogAsyncWriter.QueuedItem> queued(List<EntityLogItem> items) {
+        items.collect { new EntityLogAsyncWriter.QueuedItem(it, System.nanoTime()) }
+    }
+}
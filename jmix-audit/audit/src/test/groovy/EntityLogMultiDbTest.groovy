@@ -1,12 +1,18 @@
 import io.jmix.audit.entity.EntityLogItem
+import io.jmix.audit.impl.EntityLogImpl
 import io.jmix.core.DataManager
 import io.jmix.core.EntitySet
 import io.jmix.core.security.SystemAuthenticator
 import io.jmix.data.StoreAwareLocator
 import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.transaction.TransactionDefinition
+import org.springframework.transaction.support.TransactionCallback
+import org.springframework.transaction.support.TransactionTemplate
 import test_support.testmodel.Db1Entity
 import test_support.testmodel.UuidEntity
 
+import java.util.concurrent.atomic.AtomicInteger
+
 /*
  * Copyright 2019 Haulmont.
  *
@@ -170,6 +176,66 @@ class EntityLogMultiDbTest extends AbstractEntityLogTest {
         authenticator.end()
     }
 
+    def "Changes of an instance in one transaction are merged into one item"() {
+        given:
+        authenticator.begin()
+        def uuidEntity = metadata.create(UuidEntity)
+        uuidEntity.name = 'test1'
+
+        when:
+        transaction.executeWithoutResult {
+            UuidEntity saved = dataManager.save(uuidEntity)
+            saved.name = 'test2'
+            dataManager.save(saved)
+        }
+
+        then:
+        def entityLogItems = getEntityLogItems('test_UuidEntity', uuidEntity.id)
+        entityLogItems.size() == 1
+        entityLogItems[0].type == EntityLogItem.Type.CREATE
+        loggedValueMatches(entityLogItems[0], 'name', 'test2')
+        loggedOldValueMatches(entityLogItems[0], 'name', null)
+
+        cleanup:
+        clearTable('TEST_UUID_ENTITY')
+        authenticator.end()
+    }
+
+    def "Items of additional datastore entities are saved in one transaction"() {
+        given:
+        authenticator.begin()
+        def entityLogImpl = (EntityLogImpl) entityLog
+        TransactionTemplate originalTransaction = entityLogImpl.transaction
+        def transactions = new AtomicInteger()
+        def countingTransaction = new TransactionTemplate(originalTransaction.transactionManager) {
+            @Override
+            <T> T execute(TransactionCallback<T> action) {
+                transactions.incrementAndGet()
+                return super.execute(action)
+            }
+        }
+        countingTransaction.propagationBehavior = TransactionDefinition.PROPAGATION_REQUIRES_NEW
+        entityLogImpl.transaction = countingTransaction
+
+        def db1Entities = (1..3).collect {
+            def db1Entity = metadata.create(Db1Entity)
+            db1Entity.name = "test$it"
+            db1Entity
+        }
+
+        when:
+        saveEntities(db1Entities.toArray())
+
+        then:
+        transactions.get() == 1
+        db1Entities.every { getEntityLogItems('test_Db1Entity', it.id).size() == 1 }
+
+        cleanup:
+        entityLogImpl.transaction = originalTransaction
+        locator.getJdbcTemplate('db1').update('delete from TEST_DB1_ENTITY')
+        authenticator.end()
+    }
+
     protected EntitySet saveEntities(Object... entities) {
         return dataManager.save(entities)
     }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+/**
+ * Iterates over query results loading them by batches. Each batch is loaded by a separate
+ * {@link UnconstrainedDataManager#loadList(LoadContext)} call, so the loaded entities are detached and not referenced
+ * by the persistence context after the call, and only the current batch is held in memory.
+ * <p>
+ * In keyset mode, each next batch starts after the last entity of the previous batch using
+ * {@link LoadContext.Query#setAfterKey(List)}, so the database doesn't have to skip rows of the previous batches.
+ *
+ * @param <E> entity type
+ */
+class BatchLoadingIterator<E> implements Iterator<E> {
+
+    private final UnconstrainedDataManager dataManager;
+    private final Supplier<LoadContext<E>> loadContextSupplier;
+    private final int batchSize;
+    private final boolean keyset;
+
+    private int firstResult;
+    private List<Object> afterKey;
+    private int remaining;
+
+    private Iterator<E> batch = Collections.emptyIterator();
+    private boolean exhausted;
+
+    /**
+     * @param loadContextSupplier creates load context with query and its offset and limit
+     * @param batchSize           maximum number of entities loaded by one call
+     * @param keyset              whether the data store supports keyset pagination for the query
+     */
+    BatchLoadingIterator(UnconstrainedDataManager dataManager, Supplier<LoadContext<E>> loadContextSupplier,
+                         int batchSize, boolean keyset) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.dataManager = dataManager;
+        this.loadContextSupplier = loadContextSupplier;
+        this.batchSize = batchSize;
+        this.keyset = keyset;
+
+        LoadContext.Query query = loadContextSupplier.get().getQuery();
+        this.firstResult = query != null ? query.getFirstResult() : 0;
+        List<Object> initialKey = query != null ? query.getAfterKey() : null;
+        // the first batch is requested in keyset mode too, so that all batches are sorted identically
+        this.afterKey = keyset && initialKey == null ? Collections.emptyList() : initialKey;
+        this.remaining = query != null && query.getMaxResults() > 0 ? query.getMaxResults() : Integer.MAX_VALUE;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!batch.hasNext() && !exhausted) {
+            loadNextBatch();
+        }
+        return batch.hasNext();
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return batch.next();
+    }
+
+    private void loadNextBatch() {
+        int size = Math.min(batchSize, remaining);
+        if (size <= 0) {
+            exhausted = true;
+            return;
+        }
+
+        LoadContext<E> loadContext = loadContextSupplier.get();
+        LoadContext.Query query = loadContext.getQuery();
+        if (query == null) {
+            throw new IllegalStateException("Query is required to load entities by batches");
+        }
+        query.setFirstResult(firstResult);
+        query.setMaxResults(size);
+        query.setAfterKey(afterKey);
+
+        List<E> entities = dataManager.loadList(loadContext);
+
+        if (keyset && !entities.isEmpty()) {
+            afterKey = LoadContext.Query.getAfterKey(query.getSort(), entities.get(entities.size() - 1));
+            firstResult = 0;
+        } else {
+            firstResult += entities.size();
+        }
+        remaining -= entities.size();
+        exhausted = entities.size() < size;
+        batch = entities.iterator();
+    }
+}
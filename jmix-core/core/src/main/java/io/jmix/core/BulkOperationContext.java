@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core;
+
+import io.jmix.core.constraint.AccessConstraint;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.querycondition.Condition;
+import org.springframework.lang.Nullable;
+
+import java.util.*;
+
+/**
+ * Defines a set-based operation updating or deleting all instances of an entity that match a condition, without
+ * loading them.
+ * <p>
+ * The operation is executed by the data store as a single statement, so entity listeners and entity lifecycle events
+ * are not invoked for the affected instances. Instead, the data store publishes one
+ * {@link io.jmix.core.event.BulkEntityChangedEvent}.
+ *
+ * @see UnconstrainedDataManager#update(Class)
+ * @see UnconstrainedDataManager#delete(Class)
+ */
+public class BulkOperationContext {
+
+    /**
+     * Type of the bulk operation.
+     */
+    public enum Type {
+        UPDATE,
+        DELETE
+    }
+
+    protected final MetaClass entityMetaClass;
+    protected final Type type;
+    protected Map<String, Object> values = new LinkedHashMap<>();
+    protected Condition condition;
+    protected Map<String, Object> parameters = new HashMap<>();
+    protected boolean softDeletion = true;
+    protected boolean joinTransaction = true;
+    protected List<AccessConstraint<?>> accessConstraints = new ArrayList<>();
+
+    /**
+     * @param entityMetaClass metaclass of the affected entity
+     * @param type            operation type
+     */
+    public BulkOperationContext(MetaClass entityMetaClass, Type type) {
+        this.entityMetaClass = entityMetaClass;
+        this.type = type;
+    }
+
+    public MetaClass getEntityMetaClass() {
+        return entityMetaClass;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return new values of entity attributes assigned by the {@link Type#UPDATE} operation
+     */
+    public Map<String, Object> getValues() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Assigns a new value to the entity attribute in all affected instances.
+     *
+     * @param property name of a local or reference attribute
+     * @param value    new value, can be null
+     * @return this instance for chaining
+     */
+    public BulkOperationContext setValue(String property, @Nullable Object value) {
+        if (type != Type.UPDATE) {
+            throw new IllegalStateException("Values can be set for the update operation only");
+        }
+        values.put(property, value);
+        return this;
+    }
+
+    /**
+     * @return condition selecting affected instances, or null if the operation affects all instances
+     */
+    @Nullable
+    public Condition getCondition() {
+        return condition;
+    }
+
+    /**
+     * @param condition condition selecting affected instances, or null to affect all instances
+     * @return this instance for chaining
+     */
+    public BulkOperationContext setCondition(@Nullable Condition condition) {
+        this.condition = condition;
+        return this;
+    }
+
+    /**
+     * @return values of parameters used in the condition
+     */
+    public Map<String, Object> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Sets value of a parameter used in the condition.
+     *
+     * @return this instance for chaining
+     */
+    public BulkOperationContext setParameter(String name, @Nullable Object value) {
+        parameters.put(name, value);
+        return this;
+    }
+
+    /**
+     * @return whether the {@link Type#DELETE} operation marks soft-deletable instances as deleted instead of removing
+     * them, and whether both operations skip instances already marked as deleted. True by default.
+     * <p>
+     * Neither soft nor hard deletion applies {@code @OnDelete}/{@code @OnDeleteInverse} policies and composition
+     * cascades.
+     */
+    public boolean isSoftDeletion() {
+        return softDeletion;
+    }
+
+    /**
+     * @see #isSoftDeletion()
+     */
+    public BulkOperationContext setSoftDeletion(boolean softDeletion) {
+        this.softDeletion = softDeletion;
+        return this;
+    }
+
+    /**
+     * @return whether the operation must be performed in an existing transaction if it exists. True by default.
+     */
+    public boolean isJoinTransaction() {
+        return joinTransaction;
+    }
+
+    /**
+     * @see #isJoinTransaction()
+     */
+    public BulkOperationContext setJoinTransaction(boolean joinTransaction) {
+        this.joinTransaction = joinTransaction;
+        return this;
+    }
+
+    public List<AccessConstraint<?>> getAccessConstraints() {
+        return accessConstraints;
+    }
+
+    public BulkOperationContext setAccessConstraints(List<AccessConstraint<?>> accessConstraints) {
+        this.accessConstraints = accessConstraints;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkOperationContext{" +
+                "entity=" + entityMetaClass +
+                ", type=" + type +
+                ", values=" + values +
+                ", condition=" + condition +
+                ", softDeletion=" + softDeletion +
+                '}';
+    }
+}
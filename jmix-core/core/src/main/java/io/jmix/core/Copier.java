@@ -20,8 +20,11 @@ package io.jmix.core;
  * Creates copies of objects.
  * <p>
  * This interface provides the {@link #copy(Object)} method similar by semantics to {@link MetadataTools#deepCopy(Object)}
- * but different in that it doesn't rely on metadata and copies all object's state using a low-level mechanism
- * like Java serialization.
+ * but different in that it copies all object's state including entity system state, and preserves references between
+ * objects of the graph.
+ *
+ * @see io.jmix.core.impl.MetadataCopier
+ * @see io.jmix.core.impl.SerializingCopier
  */
 public interface Copier {
 
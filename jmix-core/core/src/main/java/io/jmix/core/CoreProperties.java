@@ -106,6 +106,37 @@ public class CoreProperties {
      */
     boolean skipNullOrEmptyConditionsByDefault;
 
+    /**
+     * Whether to read classes of Jmix modules listed in the index files generated by the Jmix Gradle plugin directly.
+     * Classpath roots are still listed to find classes missing in the indexes.
+     */
+    boolean classIndexEnabled;
+
+    /**
+     * Number of threads loading entity properties into metadata on application start. The default value 1 loads
+     * the classes sequentially, zero or a negative value uses all available processors.
+     */
+    int metadataLoadingParallelism;
+
+    /**
+     * Number of threads loading cross-datastore references into different data stores concurrently. The default
+     * value 1 loads references sequentially in the calling thread.
+     */
+    int crossDataStoreReferenceLoadingParallelism;
+
+    /**
+     * Maximum number of concurrent cross-datastore reference loads into one data store performed by the threads
+     * defined by {@link #crossDataStoreReferenceLoadingParallelism}. Zero or a negative value means no limit.
+     */
+    int crossDataStoreReferenceLoadingStoreConcurrency;
+
+    /**
+     * Number of threads executing independent load contexts passed to {@link UnconstrainedDataManager#loadAll(List)}
+     * and {@link UnconstrainedDataManager#loadValuesAll(List)} concurrently. The default value 1 executes them
+     * sequentially in the calling thread.
+     */
+    int concurrentLoadParallelism;
+
     public CoreProperties(
             String webHostName,
             String webPort,
@@ -126,7 +157,12 @@ public class CoreProperties {
             @DefaultValue("true") boolean triggerFilesEnabled,
             @DefaultValue("5000") Duration triggerFilesProcessInterval,
             @DefaultValue("true") boolean roundDecimalValueByFormat,
-            @DefaultValue("false") boolean skipNullOrEmptyConditionsByDefault) {
+            @DefaultValue("false") boolean skipNullOrEmptyConditionsByDefault,
+            @DefaultValue("true") boolean classIndexEnabled,
+            @DefaultValue("1") int metadataLoadingParallelism,
+            @DefaultValue("1") int crossDataStoreReferenceLoadingParallelism,
+            @DefaultValue("0") int crossDataStoreReferenceLoadingStoreConcurrency,
+            @DefaultValue("1") int concurrentLoadParallelism) {
         this.webHostName = webHostName;
         this.webPort = webPort;
         this.confDir = confDir;
@@ -156,6 +192,11 @@ public class CoreProperties {
         this.triggerFilesProcessInterval = triggerFilesProcessInterval;
         this.roundDecimalValueByFormat = roundDecimalValueByFormat;
         this.skipNullOrEmptyConditionsByDefault = skipNullOrEmptyConditionsByDefault;
+        this.classIndexEnabled = classIndexEnabled;
+        this.metadataLoadingParallelism = metadataLoadingParallelism;
+        this.crossDataStoreReferenceLoadingParallelism = crossDataStoreReferenceLoadingParallelism;
+        this.crossDataStoreReferenceLoadingStoreConcurrency = crossDataStoreReferenceLoadingStoreConcurrency;
+        this.concurrentLoadParallelism = concurrentLoadParallelism;
     }
 
     public String getWebHostName() {
@@ -266,4 +307,39 @@ public class CoreProperties {
     public boolean isSkipNullOrEmptyConditionsByDefault() {
         return skipNullOrEmptyConditionsByDefault;
     }
+
+    /**
+     * @see #classIndexEnabled
+     */
+    public boolean isClassIndexEnabled() {
+        return classIndexEnabled;
+    }
+
+    /**
+     * @see #metadataLoadingParallelism
+     */
+    public int getMetadataLoadingParallelism() {
+        return metadataLoadingParallelism;
+    }
+
+    /**
+     * @see #crossDataStoreReferenceLoadingParallelism
+     */
+    public int getCrossDataStoreReferenceLoadingParallelism() {
+        return crossDataStoreReferenceLoadingParallelism;
+    }
+
+    /**
+     * @see #crossDataStoreReferenceLoadingStoreConcurrency
+     */
+    public int getCrossDataStoreReferenceLoadingStoreConcurrency() {
+        return crossDataStoreReferenceLoadingStoreConcurrency;
+    }
+
+    /**
+     * @see #concurrentLoadParallelism
+     */
+    public int getConcurrentLoadParallelism() {
+        return concurrentLoadParallelism;
+    }
 }
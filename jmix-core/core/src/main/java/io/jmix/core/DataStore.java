@@ -84,4 +84,23 @@ public interface DataStore {
      * @return number of key-value pairs in the data store
      */
     long getCount(ValueLoadContext context);
+
+    /**
+     * Returns true if the data store can load entities by the query of the given context with keyset pagination,
+     * that is apply {@link LoadContext.Query#getAfterKey()}.
+     */
+    default boolean supportsKeysetPagination(LoadContext<?> context) {
+        return false;
+    }
+
+    /**
+     * Updates or deletes entity instances matching the condition passed in the {@link BulkOperationContext}.
+     *
+     * @return number of affected instances
+     * @throws UnsupportedOperationException if the data store doesn't support bulk operations
+     */
+    default int execute(BulkOperationContext context) {
+        throw new UnsupportedOperationException(
+                String.format("Data store '%s' doesn't support bulk operations", getName()));
+    }
 }
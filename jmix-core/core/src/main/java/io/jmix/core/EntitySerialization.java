@@ -19,6 +19,7 @@ package io.jmix.core;
 import io.jmix.core.metamodel.model.MetaClass;
 
 import org.springframework.lang.Nullable;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.util.Collection;
 
@@ -64,6 +65,21 @@ public interface EntitySerialization {
                   @Nullable FetchPlan fetchPlan,
                   EntitySerializationOption... options);
 
+    /**
+     * Serializes entities to the JSON array and writes it to the {@code writer} entity by entity, without building
+     * the whole JSON in memory. Method works like the {@link #toJson(Collection, FetchPlan, EntitySerializationOption...)}.
+     * The writer is flushed but not closed.
+     *
+     * @param entities  entities to be serialized
+     * @param writer    a writer receiving the JSON array
+     * @param fetchPlan a fetch plan that defines which entity properties should be added to the result JSON objects
+     * @param options   options specifying how entities should be serialized
+     */
+    void toJson(Iterable<?> entities,
+                Writer writer,
+                @Nullable FetchPlan fetchPlan,
+                EntitySerializationOption... options);
+
     /**
      * An overloaded version of the {@link #toJson(Object, FetchPlan, EntitySerializationOption...)} method with a null
      * {@code fetchPlan} parameter and with no serialization options.
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core;
+
+import io.jmix.core.constraint.AccessConstraint;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.querycondition.Condition;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+
+/**
+ * Builds and executes a set-based deletion of entity instances matching a condition. For example:
+ * <pre>
+ * int deleted = dataManager.delete(Order.class)
+ *         .condition(PropertyCondition.less("date", date))
+ *         .execute();
+ * </pre>
+ * Soft-deletable instances are marked as deleted unless soft deletion is turned off by {@link #softDeletion(boolean)}.
+ * <p>
+ * The deletion doesn't apply {@code @OnDelete}/{@code @OnDeleteInverse} policies and composition cascades,
+ * see {@link UnconstrainedDataManager#delete(Class)}.
+ *
+ * @param <E> entity type
+ * @see BulkOperationContext
+ */
+public class FluentBulkDelete<E> {
+
+    private final UnconstrainedDataManager dataManager;
+    private final BulkOperationContext context;
+
+    public FluentBulkDelete(MetaClass metaClass, UnconstrainedDataManager dataManager) {
+        this.dataManager = dataManager;
+        this.context = new BulkOperationContext(metaClass, BulkOperationContext.Type.DELETE);
+    }
+
+    /**
+     * Sets the condition selecting affected instances. If not set, all instances are deleted.
+     */
+    public FluentBulkDelete<E> condition(Condition condition) {
+        context.setCondition(condition);
+        return this;
+    }
+
+    /**
+     * Sets value for a parameter used in the condition.
+     */
+    public FluentBulkDelete<E> parameter(String name, @Nullable Object value) {
+        context.setParameter(name, value);
+        return this;
+    }
+
+    /**
+     * Indicates whether soft-deletable instances should be marked as deleted instead of removing them from the
+     * database. True by default.
+     */
+    public FluentBulkDelete<E> softDeletion(boolean softDeletion) {
+        context.setSoftDeletion(softDeletion);
+        return this;
+    }
+
+    /**
+     * Indicates that the operation must be performed in an existing transaction if it exists. True by default.
+     */
+    public FluentBulkDelete<E> joinTransaction(boolean join) {
+        context.setJoinTransaction(join);
+        return this;
+    }
+
+    /**
+     * Adds access constraints.
+     */
+    public FluentBulkDelete<E> accessConstraints(Collection<AccessConstraint<?>> accessConstraints) {
+        context.getAccessConstraints().addAll(accessConstraints);
+        return this;
+    }
+
+    /**
+     * Executes the deletion.
+     *
+     * @return number of deleted instances
+     */
+    public int execute() {
+        return dataManager.execute(context);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core;
+
+import io.jmix.core.constraint.AccessConstraint;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.querycondition.Condition;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+
+/**
+ * Builds and executes a set-based update of entity instances matching a condition. For example:
+ * <pre>
+ * int updated = dataManager.update(Order.class)
+ *         .set("status", OrderStatus.ARCHIVED)
+ *         .condition(PropertyCondition.less("date", date))
+ *         .execute();
+ * </pre>
+ *
+ * @param <E> entity type
+ * @see BulkOperationContext
+ */
+public class FluentBulkUpdate<E> {
+
+    private final UnconstrainedDataManager dataManager;
+    private final BulkOperationContext context;
+
+    public FluentBulkUpdate(MetaClass metaClass, UnconstrainedDataManager dataManager) {
+        this.dataManager = dataManager;
+        this.context = new BulkOperationContext(metaClass, BulkOperationContext.Type.UPDATE);
+    }
+
+    /**
+     * Assigns a new value to the attribute in all affected instances.
+     */
+    public FluentBulkUpdate<E> set(String property, @Nullable Object value) {
+        context.setValue(property, value);
+        return this;
+    }
+
+    /**
+     * Sets the condition selecting affected instances. If not set, all instances are updated.
+     */
+    public FluentBulkUpdate<E> condition(Condition condition) {
+        context.setCondition(condition);
+        return this;
+    }
+
+    /**
+     * Sets value for a parameter used in the condition.
+     */
+    public FluentBulkUpdate<E> parameter(String name, @Nullable Object value) {
+        context.setParameter(name, value);
+        return this;
+    }
+
+    /**
+     * Indicates whether instances marked as deleted should be skipped. True by default.
+     */
+    public FluentBulkUpdate<E> softDeletion(boolean softDeletion) {
+        context.setSoftDeletion(softDeletion);
+        return this;
+    }
+
+    /**
+     * Indicates that the operation must be performed in an existing transaction if it exists. True by default.
+     */
+    public FluentBulkUpdate<E> joinTransaction(boolean join) {
+        context.setJoinTransaction(join);
+        return this;
+    }
+
+    /**
+     * Adds access constraints.
+     */
+    public FluentBulkUpdate<E> accessConstraints(Collection<AccessConstraint<?>> accessConstraints) {
+        context.getAccessConstraints().addAll(accessConstraints);
+        return this;
+    }
+
+    /**
+     * Executes the update.
+     *
+     * @return number of updated instances
+     */
+    public int execute() {
+        return dataManager.execute(context);
+    }
+}
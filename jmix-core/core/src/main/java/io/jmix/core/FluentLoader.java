@@ -19,6 +19,7 @@ package io.jmix.core;
 import com.google.common.base.Strings;
 import io.jmix.core.common.util.Preconditions;
 import io.jmix.core.constraint.AccessConstraint;
+import io.jmix.core.impl.DataStoreFactory;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.querycondition.Condition;
 import io.jmix.core.querycondition.LogicalCondition;
@@ -36,6 +37,9 @@ import org.springframework.stereotype.Component;
 import java.io.Serializable;
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Component("core_FluentLoader")
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
@@ -72,6 +76,9 @@ public class FluentLoader<E> {
     @Autowired
     private AccessConstraintsRegistry accessConstraintsRegistry;
 
+    @Autowired
+    private DataStoreFactory dataStoreFactory;
+
     public void setDataManager(UnconstrainedDataManager dataManager) {
         this.dataManager = dataManager;
     }
@@ -128,6 +135,42 @@ public class FluentLoader<E> {
         }
     }
 
+    Stream<E> stream(Supplier<LoadContext<E>> loadContextSupplier, int batchSize) {
+        Supplier<LoadContext<E>> supplier = () -> {
+            LoadContext<E> loadContext = loadContextSupplier.get();
+            applyStableSort(loadContext);
+            return loadContext;
+        };
+        Iterator<E> iterator = new BatchLoadingIterator<>(dataManager, supplier, batchSize,
+                dataStoreFactory.get(metaClass.getStore().getName()).supportsKeysetPagination(supplier.get()));
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Appends the primary key to the sort as the final tiebreaker, so that results split into batches don't overlap
+     * or skip rows if values of the specified sort properties are not unique.
+     */
+    private void applyStableSort(LoadContext<E> loadContext) {
+        LoadContext.Query query = loadContext.getQuery();
+        if (query == null
+                || query.getQueryString() != null && StringUtils.containsIgnoreCase(query.getQueryString(), "order by")) {
+            return;
+        }
+        String primaryKeyName = metadataTools.getPrimaryKeyName(metaClass);
+        if (primaryKeyName == null || metadataTools.hasCompositePrimaryKey(metaClass)) {
+            return;
+        }
+        Sort sort = query.getSort();
+        if (sort == null || sort.getOrders().isEmpty()) {
+            query.setSort(Sort.by(primaryKeyName));
+        } else if (sort.getOrders().stream().noneMatch(order -> order.getProperty().equals(primaryKeyName))) {
+            List<Sort.Order> orders = new ArrayList<>(sort.getOrders());
+            orders.add(Sort.Order.asc(primaryKeyName));
+            query.setSort(Sort.by(orders));
+        }
+    }
+
     /**
      * Load by entity identifier.
      * <p>
@@ -520,6 +563,8 @@ public class FluentLoader<E> {
         private int maxResults;
         private Sort sort;
         private boolean cacheable;
+        private List<?> afterKey;
+        private E afterEntity;
 
         protected ByQuery(FluentLoader<E> loader, String queryString, ApplicationContext applicationContext) {
             Preconditions.checkNotEmptyString(queryString, "queryString is empty");
@@ -563,6 +608,8 @@ public class FluentLoader<E> {
             loadContext.getQuery().setMaxResults(maxResults);
             loadContext.getQuery().setSort(sort);
             loadContext.getQuery().setCacheable(cacheable);
+            loadContext.getQuery().setAfterKey(
+                    afterEntity != null ? LoadContext.Query.getAfterKey(sort, afterEntity) : afterKey);
 
             return loadContext;
         }
@@ -575,6 +622,31 @@ public class FluentLoader<E> {
             return loader.dataManager.loadList(loadContext);
         }
 
+        /**
+         * Loads entities by batches of the given size and returns them as a lazily populated stream.
+         * <p>
+         * Each batch is loaded by a separate call to the data manager, so the loaded entities are detached and access
+         * constraints are applied for each batch, and only the current batch is held in memory. If neither sort nor
+         * {@code order by} clause is specified, results are sorted by the primary key to keep batches consistent.
+         * For JPA entities sorted by their own attributes, each next batch is selected after the last entity of the
+         * previous one (see {@link #after(Object)}), otherwise the query offset is used.
+         *
+         * @param batchSize maximum number of entities loaded by one query
+         */
+        public Stream<E> stream(int batchSize) {
+            return loader.stream(this::createLoadContext, batchSize);
+        }
+
+        /**
+         * Loads entities by batches of the given size and passes them to the action one by one.
+         *
+         * @param batchSize maximum number of entities loaded by one query
+         * @see #stream(int)
+         */
+        public void forEach(int batchSize, Consumer<? super E> action) {
+            stream(batchSize).forEach(action);
+        }
+
         /**
          * Loads a single instance and wraps it in Optional.
          */
@@ -720,6 +792,34 @@ public class FluentLoader<E> {
             return this;
         }
 
+        /**
+         * Starts results right after the given entity in the sort order, so that the next page is selected by a
+         * condition on the sort properties and id instead of an offset. The entity must be loaded with the same sort,
+         * and its sort properties must be loaded. Loading fails with {@link IllegalStateException} if the data store
+         * can't apply the key, see {@link DataStore#supportsKeysetPagination(LoadContext)}.
+         *
+         * @param lastEntity last entity of the previous page
+         * @see LoadContext.Query#setAfterKey(List)
+         */
+        public ByQuery<E> after(E lastEntity) {
+            this.afterEntity = lastEntity;
+            this.afterKey = null;
+            return this;
+        }
+
+        /**
+         * Starts results right after the given sort key: values of the sort properties followed by the entity id.
+         * Loading fails with {@link IllegalStateException} if the data store can't apply the key.
+         *
+         * @param afterKey sort key of the last entity of the previous page, or null to start from the beginning
+         * @see LoadContext.Query#setAfterKey(List)
+         */
+        public ByQuery<E> afterKey(@Nullable List<?> afterKey) {
+            this.afterKey = afterKey;
+            this.afterEntity = null;
+            return this;
+        }
+
         /**
          * Indicates that the query results should be cached.
          * By default, queries are not cached.
@@ -773,6 +873,8 @@ public class FluentLoader<E> {
         private int maxResults;
         private Sort sort;
         private boolean cacheable;
+        private List<?> afterKey;
+        private E afterEntity;
         private Condition condition;
 
         protected ByCondition(FluentLoader<E> loader, String entityName, boolean jpaEntity, Condition condition) {
@@ -790,6 +892,8 @@ public class FluentLoader<E> {
             this.maxResults = byQuery.maxResults;
             this.sort = byQuery.sort;
             this.cacheable = byQuery.cacheable;
+            this.afterKey = byQuery.afterKey;
+            this.afterEntity = byQuery.afterEntity;
         }
 
         LoadContext<E> createLoadContext() {
@@ -814,6 +918,8 @@ public class FluentLoader<E> {
             loadContext.getQuery().setMaxResults(maxResults);
             loadContext.getQuery().setSort(sort);
             loadContext.getQuery().setCacheable(cacheable);
+            loadContext.getQuery().setAfterKey(
+                    afterEntity != null ? LoadContext.Query.getAfterKey(sort, afterEntity) : afterKey);
 
             return loadContext;
         }
@@ -826,6 +932,31 @@ public class FluentLoader<E> {
             return loader.dataManager.loadList(loadContext);
         }
 
+        /**
+         * Loads entities by batches of the given size and returns them as a lazily populated stream.
+         * <p>
+         * Each batch is loaded by a separate call to the data manager, so the loaded entities are detached and access
+         * constraints are applied for each batch, and only the current batch is held in memory. If neither sort nor
+         * {@code order by} clause is specified, results are sorted by the primary key to keep batches consistent.
+         * For JPA entities sorted by their own attributes, each next batch is selected after the last entity of the
+         * previous one (see {@link #after(Object)}), otherwise the query offset is used.
+         *
+         * @param batchSize maximum number of entities loaded by one query
+         */
+        public Stream<E> stream(int batchSize) {
+            return loader.stream(this::createLoadContext, batchSize);
+        }
+
+        /**
+         * Loads entities by batches of the given size and passes them to the action one by one.
+         *
+         * @param batchSize maximum number of entities loaded by one query
+         * @see #stream(int)
+         */
+        public void forEach(int batchSize, Consumer<? super E> action) {
+            stream(batchSize).forEach(action);
+        }
+
         /**
          * Loads a single instance and wraps it in Optional.
          */
@@ -963,6 +1094,34 @@ public class FluentLoader<E> {
             return this;
         }
 
+        /**
+         * Starts results right after the given entity in the sort order, so that the next page is selected by a
+         * condition on the sort properties and id instead of an offset. The entity must be loaded with the same sort,
+         * and its sort properties must be loaded. Loading fails with {@link IllegalStateException} if the data store
+         * can't apply the key, see {@link DataStore#supportsKeysetPagination(LoadContext)}.
+         *
+         * @param lastEntity last entity of the previous page
+         * @see LoadContext.Query#setAfterKey(List)
+         */
+        public ByCondition<E> after(E lastEntity) {
+            this.afterEntity = lastEntity;
+            this.afterKey = null;
+            return this;
+        }
+
+        /**
+         * Starts results right after the given sort key: values of the sort properties followed by the entity id.
+         * Loading fails with {@link IllegalStateException} if the data store can't apply the key.
+         *
+         * @param afterKey sort key of the last entity of the previous page, or null to start from the beginning
+         * @see LoadContext.Query#setAfterKey(List)
+         */
+        public ByCondition<E> afterKey(@Nullable List<?> afterKey) {
+            this.afterKey = afterKey;
+            this.afterEntity = null;
+            return this;
+        }
+
         /**
          * Indicates that the query results should be cached.
          * By default, queries are not cached.
@@ -329,6 +329,7 @@ public class LoadContext<E> implements DataLoadContext, Serializable {
         private Condition condition;
         private Sort sort;
         private boolean distinct;
+        private List<Object> afterKey;
 
         protected Query() {
         }
@@ -448,6 +449,61 @@ public class LoadContext<E> implements DataLoadContext, Serializable {
             return this;
         }
 
+        /**
+         * @return sort key of the entity after which the results start, or null if the results are limited by
+         * {@link #getFirstResult()} only
+         * @see #setAfterKey(List)
+         */
+        @Nullable
+        public List<Object> getAfterKey() {
+            return afterKey;
+        }
+
+        /**
+         * Sets the sort key of the last entity of the previous page, so that the results start right after this entity.
+         * This is keyset (seek) pagination: instead of skipping {@link #getFirstResult()} rows, the data store adds a
+         * condition selecting only the rows following the given key in the sort order, which is efficient regardless
+         * of the page depth.
+         * <p>
+         * The key contains values of the {@link #getSort()} properties of the entity in the same order, followed by
+         * the entity id, which breaks ties between entities with equal sort values. Sort properties must be
+         * persistent mandatory attributes of the entity or its mandatory embedded attributes, because rows with null
+         * values cannot be compared with the key. The previous page must be loaded with the same sort. Use
+         * {@link #getAfterKey(Sort, Object)} to obtain the key of a loaded entity.
+         * <p>
+         * An empty list selects the first page sorted exactly as the following keyset pages, which is recommended
+         * because the regular sorting may use different expressions.
+         * <p>
+         * Keyset pagination is supported by JPA data store only. Data manager throws {@link IllegalStateException}
+         * if the data store can't apply the key, see {@link DataStore#supportsKeysetPagination(LoadContext)}.
+         *
+         * @param afterKey sort key values and id of the last entity of the previous page, an empty list to load the
+         *                 first page, or null to use regular offset pagination
+         * @return this query instance for chaining
+         */
+        public Query setAfterKey(@Nullable List<?> afterKey) {
+            this.afterKey = afterKey == null ? null : new ArrayList<>(afterKey);
+            return this;
+        }
+
+        /**
+         * Returns the sort key of the given entity for {@link #setAfterKey(List)}: values of the sort properties
+         * followed by the entity id.
+         *
+         * @param sort   query sort, can be null if results are sorted by id only
+         * @param entity loaded entity
+         */
+        public static List<Object> getAfterKey(@Nullable Sort sort, Object entity) {
+            List<Object> key = new ArrayList<>();
+            if (sort != null) {
+                for (Sort.Order order : sort.getOrders()) {
+                    key.add(EntityValues.getValueEx(entity, order.getProperty()));
+                }
+            }
+            key.add(EntityValues.getId(entity));
+            return key;
+        }
+
         /**
          * Indicates that the query results should be cached.
          *
@@ -511,6 +567,7 @@ public class LoadContext<E> implements DataLoadContext, Serializable {
             query.cacheable = this.cacheable;
             query.condition = this.condition == null ? null : this.condition.copy();
             query.sort = this.sort;
+            query.afterKey = this.afterKey == null ? null : new ArrayList<>(this.afterKey);
         }
 
         @Override
@@ -523,6 +580,7 @@ public class LoadContext<E> implements DataLoadContext, Serializable {
             if (firstResult != query.firstResult) return false;
             if (maxResults != query.maxResults) return false;
             if (!parameters.equals(query.parameters)) return false;
+            if (!Objects.equals(afterKey, query.afterKey)) return false;
             return queryString.equals(query.queryString);
         }
 
@@ -532,6 +590,7 @@ public class LoadContext<E> implements DataLoadContext, Serializable {
             result = 31 * result + queryString.hashCode();
             result = 31 * result + firstResult;
             result = 31 * result + maxResults;
+            result = 31 * result + Objects.hashCode(afterKey);
             return result;
         }
 
@@ -543,6 +602,7 @@ public class LoadContext<E> implements DataLoadContext, Serializable {
                     ", sort=" + sort +
                     ", firstResult=" + firstResult +
                     ", maxResults=" + maxResults +
+                    (afterKey != null ? ", afterKey=" + afterKey : "") +
                     ", distinct=" + distinct +
                     "}";
             return StringHelper.removeExtraSpaces(stringResult.replace('\n', ' '));
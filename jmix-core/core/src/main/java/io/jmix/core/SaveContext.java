@@ -35,6 +35,7 @@ public class SaveContext implements Serializable {
     protected Map<Object, FetchPlan> fetchPlans = new HashMap<>();
 
     protected boolean discardSaved;
+    protected boolean skipReload;
     protected boolean joinTransaction = true;
     protected List<AccessConstraint<?>> accessConstraints;
     protected Map<String, Serializable> hints;
@@ -158,6 +159,34 @@ public class SaveContext implements Serializable {
         return this;
     }
 
+    /**
+     * @return true if saved instances are returned as they are after saving instead of being reloaded
+     * @see #setSkipReload(boolean)
+     */
+    public boolean isSkipReload() {
+        return skipReload;
+    }
+
+    /**
+     * Set to true to return saved instances without reloading them from the data store, which avoids a query for
+     * each saved entity.
+     * <p>
+     * Returned instances can be the same objects as passed for saving. They are detached and contain the values of
+     * local attributes and references as they were saved, including values generated on saving like id, version and
+     * audit attributes. Non-persistent attributes are copied from the passed instances. Attributes that were not
+     * loaded in the passed instances remain not loaded, fetch plans set by {@link #saving(Object, FetchPlan)} are not
+     * applied, and values changed by the database itself, for example by triggers, are not visible.
+     * <p>
+     * If reading of a saved instance is restricted by constraints that can only be applied by a query, for example
+     * JPQL row-level read policies, the instance is reloaded as if this flag was not set.
+     * <p>
+     * Has no effect if {@link #setDiscardSaved(boolean)} is set to true.
+     */
+    public SaveContext setSkipReload(boolean skipReload) {
+        this.skipReload = skipReload;
+        return this;
+    }
+
     /**
      * Returns the list of access constraints.
      */
@@ -20,6 +20,7 @@ import io.jmix.core.entity.KeyValueEntity;
 
 import org.springframework.lang.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -54,6 +55,28 @@ public interface UnconstrainedDataManager {
      */
     <E> List<E> loadList(LoadContext<E> context);
 
+    /**
+     * Loads collections of entity instances for several independent load contexts.
+     * <p>
+     * If the {@code jmix.core.concurrent-load-parallelism} application property is greater than 1, the contexts are
+     * executed concurrently, each in its own transaction and with the security context of the calling thread.
+     * The contexts are executed sequentially if the calling thread has an active transaction and some of the
+     * contexts should join it.
+     * <p>
+     * The default implementation executes the contexts sequentially.
+     *
+     * @param contexts load contexts that don't depend on results of each other
+     * @return lists of loaded instances in the order of the passed contexts
+     * @see #loadList(LoadContext)
+     */
+    default List<List<?>> loadAll(List<? extends LoadContext<?>> contexts) {
+        List<List<?>> result = new ArrayList<>(contexts.size());
+        for (LoadContext<?> context : contexts) {
+            result.add(loadList(context));
+        }
+        return result;
+    }
+
     /**
      * Returns the number of entity instances for the given query passed in the {@link LoadContext}.
      *
@@ -116,6 +139,24 @@ public interface UnconstrainedDataManager {
      */
     List<KeyValueEntity> loadValues(ValueLoadContext context);
 
+    /**
+     * Loads lists of key-value pairs for several independent value load contexts. The contexts are executed
+     * concurrently in the same way as by {@link #loadAll(List)}.
+     * <p>
+     * The default implementation executes the contexts sequentially.
+     *
+     * @param contexts value load contexts that don't depend on results of each other
+     * @return lists of KeyValueEntity instances in the order of the passed contexts
+     * @see #loadValues(ValueLoadContext)
+     */
+    default List<List<KeyValueEntity>> loadValuesAll(List<ValueLoadContext> contexts) {
+        List<List<KeyValueEntity>> result = new ArrayList<>(contexts.size());
+        for (ValueLoadContext context : contexts) {
+            result.add(loadValues(context));
+        }
+        return result;
+    }
+
     /**
      * Returns the number of records for the given query passed in the {@link ValueLoadContext}.
      *
@@ -124,6 +165,63 @@ public interface UnconstrainedDataManager {
      */
     long getCount(ValueLoadContext context);
 
+    /**
+     * Updates or deletes all entity instances matching the condition by a single statement, without loading them.
+     * <p>
+     * Entity listeners and entity lifecycle events are not invoked for the affected instances, a single
+     * {@link io.jmix.core.event.BulkEntityChangedEvent} is published instead.
+     *
+     * @param context defines the entity, the operation and the condition
+     * @return number of affected instances
+     * @throws UnsupportedOperationException if the data store of the entity doesn't support bulk operations or the
+     *                                       implementation doesn't support them at all
+     */
+    default int execute(BulkOperationContext context) {
+        throw new UnsupportedOperationException("Bulk operations are not supported by " + getClass().getName());
+    }
+
+    /**
+     * Entry point to the fluent API for set-based update of entities.
+     * <p>
+     * Usage example:
+     * <pre>
+     * int updated = dataManager.update(Order.class)
+     *      .set("status", OrderStatus.ARCHIVED)
+     *      .condition(PropertyCondition.less("date", date))
+     *      .execute();
+     * </pre>
+     *
+     * @param entityClass class of the updated entity
+     * @throws UnsupportedOperationException if the implementation doesn't support bulk operations
+     * @see #execute(BulkOperationContext)
+     */
+    default <E> FluentBulkUpdate<E> update(Class<E> entityClass) {
+        throw new UnsupportedOperationException("Bulk operations are not supported by " + getClass().getName());
+    }
+
+    /**
+     * Entry point to the fluent API for set-based deletion of entities. Soft-deletable instances are marked as
+     * deleted by default.
+     * <p>
+     * Instances are deleted by a single statement without loading, so {@code @OnDelete}/{@code @OnDeleteInverse}
+     * policies and composition cascades are not applied. Related instances must be handled separately, otherwise
+     * the statement may fail on foreign key constraints or leave orphaned compositions.
+     * <p>
+     * Usage example:
+     * <pre>
+     * int deleted = dataManager.delete(Order.class)
+     *      .condition(PropertyCondition.less("date", date))
+     *      .execute();
+     * </pre>
+     *
+     * @param entityClass class of the deleted entity
+     * @throws UnsupportedOperationException if the implementation doesn't support bulk operations
+     * @see #execute(BulkOperationContext)
+     */
+    default <E> FluentBulkDelete<E> delete(Class<E> entityClass) {
+        throw new UnsupportedOperationException("Bulk operations are not supported by " + getClass().getName());
+    }
+
     /**
      * Entry point to the fluent API for loading entities.
      * <p>
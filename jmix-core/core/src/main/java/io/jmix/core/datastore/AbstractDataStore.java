@@ -236,7 +236,10 @@ public abstract class AbstractDataStore implements DataStore {
             rollbackTransaction(transaction);
         }
 
-        return context.isDiscardSaved() ? Collections.emptySet() : loadAllAfterSave(context, savedEntities);
+        if (context.isDiscardSaved()) {
+            return Collections.emptySet();
+        }
+        return context.isSkipReload() ? getAllAfterSave(context, savedEntities) : loadAllAfterSave(context, savedEntities);
     }
 
     @Override
@@ -367,6 +370,8 @@ public abstract class AbstractDataStore implements DataStore {
 
         int firstResult = 0;
         int maxResults = (requestedFirst + requestedMax) * factor;
+        // with keyset pagination, each batch continues after the last loaded entity instead of using offset
+        List<Object> afterKey = context.getQuery().getAfterKey();
         int i = 0;
         while (entities.size() < expectedSize) {
             if (i++ > 100000) {
@@ -377,13 +382,17 @@ public abstract class AbstractDataStore implements DataStore {
             LoadContext<?> batchContext = context.copy();
 
             assert batchContext.getQuery() != null;
-            batchContext.getQuery().setFirstResult(firstResult);
+            batchContext.getQuery().setFirstResult(afterKey != null ? 0 : firstResult);
             batchContext.getQuery().setMaxResults(maxResults);
+            batchContext.getQuery().setAfterKey(afterKey);
 
             List<Object> list = loadAll(batchContext);
             if (list.size() == 0) {
                 break;
             }
+            if (afterKey != null) {
+                afterKey = LoadContext.Query.getAfterKey(context.getQuery().getSort(), list.get(list.size() - 1));
+            }
 
             DataStoreEntityLoadingEvent loadEvent = new DataStoreEntityLoadingEvent(context, list, eventState);
             fireEvent(loadEvent);
@@ -480,6 +489,66 @@ public abstract class AbstractDataStore implements DataStore {
         return resultEntities;
     }
 
+    /**
+     * Returns saved instances without reloading them, passing them through the same reload and loading events as
+     * {@link #loadAllAfterSave(SaveContext, Set)} does. Instances for which {@link #isReloadRequired(LoadContext)}
+     * returns true are reloaded by {@link #loadAllAfterSave(SaveContext, Set)}.
+     */
+    protected Set<Object> getAllAfterSave(SaveContext context, Set<Object> savedEntities) {
+        Set<Object> resultEntities = new HashSet<>();
+        Set<Object> entitiesToReload = new HashSet<>();
+        for (Object entity : savedEntities) {
+            EventSharedState loadState = new EventSharedState();
+            LoadContext<?> loadContext = new LoadContext<>(metadata.getClass(entity))
+                    .setId(Objects.requireNonNull(EntityValues.getId(entity)))
+                    .setFetchPlan(getFetchPlanForSave(context.getFetchPlans(), entity));
+
+            DataStoreEntityReloadEvent reloadEvent = new DataStoreEntityReloadEvent(loadContext, context, loadState);
+            fireEvent(reloadEvent);
+
+            DataStoreBeforeEntityLoadEvent beforeLoadEvent = new DataStoreBeforeEntityLoadEvent(loadContext, loadState);
+            fireEvent(beforeLoadEvent);
+
+            if (beforeLoadEvent.loadPrevented()) {
+                continue;
+            }
+
+            if (isReloadRequired(loadContext)) {
+                entitiesToReload.add(entity);
+                continue;
+            }
+
+            context.getEntitiesToSave().optional(entity)
+                    .filter(sourceEntity -> sourceEntity != entity)
+                    .ifPresent(sourceEntity -> copyNonPersistentAttributes(sourceEntity, entity));
+
+            DataStoreEntityLoadingEvent loadEvent = DataStoreEntityLoadingEvent.byEntity(loadContext, entity, loadState);
+            fireEvent(loadEvent);
+
+            Object loadedEntity = loadEvent.getResultEntity();
+            if (loadedEntity != null) {
+                DataStoreAfterEntityLoadEvent afterLoadEvent = new DataStoreAfterEntityLoadEvent(loadContext, loadedEntity, loadState);
+                fireEvent(afterLoadEvent);
+
+                if (afterLoadEvent.getResultEntity() != null) {
+                    resultEntities.add(afterLoadEvent.getResultEntity());
+                }
+            }
+        }
+        if (!entitiesToReload.isEmpty()) {
+            resultEntities.addAll(loadAllAfterSave(context, entitiesToReload));
+        }
+        return resultEntities;
+    }
+
+    /**
+     * Returns true if a saved instance must be reloaded even if {@link SaveContext#isSkipReload()} is set, for
+     * example because the load context contains constraints that can only be applied by a query.
+     */
+    protected boolean isReloadRequired(LoadContext<?> loadContext) {
+        return false;
+    }
+
     protected FetchPlan getFetchPlanForSave(Map<Object, FetchPlan> fetchPlans, Object entity) {
         FetchPlan fetchPlan = fetchPlans.get(entity);
         if (fetchPlan == null) {
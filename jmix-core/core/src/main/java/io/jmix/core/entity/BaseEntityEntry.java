@@ -60,6 +60,11 @@ public abstract class BaseEntityEntry implements EntityEntry, Cloneable {
     protected static final int PROPERTY_CHANGE_LISTENERS_INITIAL_CAPACITY = 1;
     protected static final int WEAK_PROPERTY_CHANGE_LISTENERS_INITIAL_CAPACITY = 4;
 
+    /**
+     * Returned by {@link #getSourceAttributeValue(String)} if there is no generated accessor for the attribute.
+     */
+    protected static final Object NO_GENERATED_ACCESSOR = new Object();
+
     public BaseEntityEntry(Entity source) {
         this.source = source;
     }
@@ -85,6 +90,10 @@ public abstract class BaseEntityEntry implements EntityEntry, Cloneable {
                 }
             }
         }
+        Object value = getSourceAttributeValue(name);
+        if (value != NO_GENERATED_ACCESSOR) {
+            return (T) value;
+        }
         return (T) MethodsCache.getOrCreate(getSource().getClass()).getGetter(name).apply(getSource());
     }
 
@@ -93,22 +102,51 @@ public abstract class BaseEntityEntry implements EntityEntry, Cloneable {
     public void setAttributeValue(@NonNull String name, Object value, boolean checkEquals) {
         EntityValuesProvider valuesProvider = null;
         if (entityValuesProviders != null) {
-            valuesProvider = entityValuesProviders.values().stream()
-                    .filter(provider -> provider.supportAttribute(name))
-                    .findFirst()
-                    .orElse(null);
+            for (EntityValuesProvider provider : entityValuesProviders.values()) {
+                if (provider.supportAttribute(name)) {
+                    valuesProvider = provider;
+                    break;
+                }
+            }
         }
         if (valuesProvider != null) {
             valuesProvider.setAttributeValue(name, value, checkEquals);
         } else {
             Object oldValue = getAttributeValue(name);
             if (!checkEquals || !EntityValues.propertyValueEquals(oldValue, value)) {
-                BiConsumer setter = MethodsCache.getOrCreate(getSource().getClass()).getSetter(name);
-                setter.accept(getSource(), value);
+                if (!setSourceAttributeValue(name, value)) {
+                    BiConsumer setter = MethodsCache.getOrCreate(getSource().getClass()).getSetter(name);
+                    setter.accept(getSource(), value);
+                }
             }
         }
     }
 
+    /**
+     * Reads the attribute of the source entity by calling its getter directly. The method is generated by the
+     * enhancer for attributes backed by fields with plain accessors, other attributes are read through
+     * {@link MethodsCache}.
+     *
+     * @param name attribute name
+     * @return attribute value or {@link #NO_GENERATED_ACCESSOR} if the attribute has no generated accessor
+     */
+    @Nullable
+    protected Object getSourceAttributeValue(String name) {
+        return NO_GENERATED_ACCESSOR;
+    }
+
+    /**
+     * Writes the attribute of the source entity by calling its setter directly. The method is generated by the
+     * enhancer, see {@link #getSourceAttributeValue(String)}.
+     *
+     * @param name  attribute name
+     * @param value new value
+     * @return false if the attribute has no generated accessor
+     */
+    protected boolean setSourceAttributeValue(String name, @Nullable Object value) {
+        return false;
+    }
+
     @Override
     public boolean isNew() {
         return (state & NEW) == NEW;
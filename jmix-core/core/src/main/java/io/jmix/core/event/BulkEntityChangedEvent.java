@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.event;
+
+import io.jmix.core.BulkOperationContext;
+import io.jmix.core.annotation.Internal;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.querycondition.Condition;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+
+/**
+ * Event that is published once for a set-based update or delete executed by
+ * {@link io.jmix.core.UnconstrainedDataManager#update(Class)} or {@link io.jmix.core.UnconstrainedDataManager#delete(Class)}.
+ * <p>
+ * Unlike {@link EntityChangedEvent}, it doesn't contain ids of the affected instances, as they are not loaded. Use
+ * {@link #getCondition()} and {@link #getValues()} to find out what was changed.
+ * <p>
+ * The event is published inside the transaction, so it can be handled by {@code @TransactionalEventListener}.
+ *
+ * @param <E> entity type
+ */
+public class BulkEntityChangedEvent<E> extends ApplicationEvent implements ResolvableTypeProvider {
+
+    private final EntityChangedEvent.Type type;
+    private final Map<String, Object> values;
+    private final Condition condition;
+    private final int affectedCount;
+    private final MetaClass originalMetaClass;
+
+    /**
+     * INTERNAL.
+     */
+    @Internal
+    public BulkEntityChangedEvent(Object source, EntityChangedEvent.Type type, Map<String, Object> values,
+                                  @Nullable Condition condition, int affectedCount, MetaClass originalMetaClass) {
+        super(source);
+        this.type = type;
+        this.values = values;
+        this.condition = condition;
+        this.affectedCount = affectedCount;
+        this.originalMetaClass = originalMetaClass;
+    }
+
+    /**
+     * Returns {@code UPDATED} for bulk updates and {@code DELETED} for bulk deletion, including soft deletion.
+     */
+    public EntityChangedEvent.Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns new values of the attributes assigned by the update, including system attributes like last modified
+     * date and soft deletion attributes.
+     */
+    public Map<String, Object> getValues() {
+        return values;
+    }
+
+    /**
+     * Returns the condition selecting affected instances, or null if all instances were affected.
+     *
+     * @see BulkOperationContext#getCondition()
+     */
+    @Nullable
+    public Condition getCondition() {
+        return condition;
+    }
+
+    /**
+     * Returns the number of affected instances reported by the data store.
+     */
+    public int getAffectedCount() {
+        return affectedCount;
+    }
+
+    /**
+     * Returns the metaclass of the affected entity.
+     */
+    public MetaClass getMetaClass() {
+        return originalMetaClass;
+    }
+
+    /**
+     * INTERNAL.
+     */
+    @Internal
+    @Override
+    public ResolvableType getResolvableType() {
+        return ResolvableType.forClassWithGenerics(getClass(),
+                ResolvableType.forClass(originalMetaClass.getJavaClass()));
+    }
+
+    @Override
+    public String toString() {
+        return "BulkEntityChangedEvent{" +
+                "entity=" + originalMetaClass.getName() +
+                ", type=" + type +
+                ", values=" + values +
+                ", affectedCount=" + affectedCount +
+                '}';
+    }
+}
@@ -33,6 +33,16 @@ public class CachingLoadedPropertiesInfo implements LoadedPropertiesInfo {
 
     private Map<String, Boolean> cache = new HashMap<>();
 
+    public CachingLoadedPropertiesInfo() {
+    }
+
+    /**
+     * Creates a copy of the given info.
+     */
+    public CachingLoadedPropertiesInfo(CachingLoadedPropertiesInfo info) {
+        cache.putAll(info.cache);
+    }
+
     @Override
     public boolean isLoaded(Object entity, String property, PersistentAttributesLoadChecker checker) {
         if (EntitySystemAccess.getEntityEntry(entity).isManaged()) {
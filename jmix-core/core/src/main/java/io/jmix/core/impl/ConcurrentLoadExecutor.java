@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.impl;
+
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.jmix.core.CoreProperties;
+import io.jmix.core.annotation.Internal;
+import jakarta.annotation.PreDestroy;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * INTERNAL.
+ * Executes independent load operations of {@link io.jmix.core.UnconstrainedDataManager#loadAll(List)} and
+ * {@link io.jmix.core.UnconstrainedDataManager#loadValuesAll(List)}, concurrently if
+ * {@link CoreProperties#getConcurrentLoadParallelism()} is greater than 1.
+ * <p>
+ * Operations started from a worker thread are executed inline in that thread, so that nested calls do not wait for
+ * the pool occupied by the outer ones.
+ */
+@Internal
+@Component("core_ConcurrentLoadExecutor")
+public class ConcurrentLoadExecutor {
+
+    protected static final ThreadLocal<Boolean> ON_WORKER_THREAD = ThreadLocal.withInitial(() -> false);
+
+    protected final ExecutorService executor;
+
+    public ConcurrentLoadExecutor(CoreProperties coreProperties) {
+        int parallelism = coreProperties.getConcurrentLoadParallelism();
+        if (parallelism > 1) {
+            ThreadPoolExecutor threadPool = new ThreadPoolExecutor(parallelism, parallelism,
+                    1L, TimeUnit.MINUTES,
+                    new LinkedBlockingQueue<>(),
+                    new ThreadFactoryBuilder()
+                            .setNameFormat("jmix-concurrent-load-%d")
+                            .setDaemon(true)
+                            .build());
+            threadPool.allowCoreThreadTimeOut(true);
+            executor = threadPool;
+        } else {
+            executor = null;
+        }
+    }
+
+    @PreDestroy
+    protected void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs the tasks and returns their results in the order of the tasks.
+     *
+     * @param tasks           load operations
+     * @param allowConcurrent whether the tasks can be run in threads other than the calling one
+     */
+    public <T> List<T> executeAll(List<Callable<T>> tasks, boolean allowConcurrent) {
+        List<T> results = new ArrayList<>(tasks.size());
+        if (executor == null || !allowConcurrent || tasks.size() < 2 || ON_WORKER_THREAD.get()) {
+            for (Callable<T> task : tasks) {
+                results.add(call(task));
+            }
+            return results;
+        }
+
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(executor.submit(() -> callWithSecurityContext(task, securityContext)));
+        }
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while loading data", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new RuntimeException("Error loading data", e.getCause());
+        }
+    }
+
+    protected <T> T callWithSecurityContext(Callable<T> task, SecurityContext securityContext) throws Exception {
+        SecurityContext previousContext = SecurityContextHolder.getContext();
+        SecurityContextHolder.setContext(securityContext);
+        ON_WORKER_THREAD.set(true);
+        try {
+            return task.call();
+        } finally {
+            ON_WORKER_THREAD.remove();
+            SecurityContextHolder.setContext(previousContext);
+        }
+    }
+
+    protected <T> T call(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (Exception e) {
+            Throwables.throwIfUnchecked(e);
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -57,6 +58,9 @@ public class CrossDataStoreReferenceLoader {
     @Autowired
     private EntityStates entityStates;
 
+    @Autowired
+    private CrossDataStoreReferenceLoadingExecutor loadingExecutor;
+
     private MetaClass metaClass;
 
     private FetchPlan fetchPlan;
@@ -135,11 +139,7 @@ public class CrossDataStoreReferenceLoader {
         if (entityCrossDataStorePropertyList.size() == 1) {
             loadOne(entityCrossDataStorePropertyList.get(0));
         } else {
-            entityCrossDataStorePropertyList.stream()
-                    .collect(Collectors.groupingBy(EntityCrossDataStoreProperty::getCrossProp))
-                    .forEach((ap, eapList) ->
-                            loadMany(ap, eapList.stream().map(eap -> eap.entity).collect(Collectors.toList()))
-                    );
+            loadAll(entityCrossDataStorePropertyList);
         }
     }
 
@@ -188,9 +188,7 @@ public class CrossDataStoreReferenceLoader {
         Object id = EntityValues.getValue(entity, aProp.relatedPropertyName);
 
         if (aProp.needsFakeInstance()) {
-            Object fakeInstance = metadata.create(aProp.property.getRange().asClass(), id);
-            entityStates.makePatch(fakeInstance);
-            EntityValues.setValue(entity, aProp.property.getName(), fakeInstance);
+            setFakeInstance(entity, aProp);
 
         } else {
             LoadContext<?> loadContext = new LoadContext<>(aProp.property.getRange().asClass())
@@ -205,97 +203,141 @@ public class CrossDataStoreReferenceLoader {
 
     }
 
-    private void loadMany(CrossDataStoreProperty crossDataStoreProperty, List<Object> entities) {
-        int offset = 0, limit = properties.getCrossDataStoreReferenceLoadingBatchSize();
-        while (true) {
-            int end = offset + limit;
-            List<Object> batch = entities.subList(offset, Math.min(end, entities.size()));
-            loadBatch(crossDataStoreProperty, batch);
-            if (end >= entities.size())
-                break;
-            else
-                offset += limit;
+    /**
+     * Collects ids of references of the same entity and fetch plan into one group, loads the groups of each data
+     * store by batches, different data stores possibly concurrently, and then assigns loaded references in the
+     * calling thread.
+     */
+    private void loadAll(List<EntityCrossDataStoreProperty> entityCrossDataStorePropertyList) {
+        Map<List<Object>, LoadGroup> groups = new LinkedHashMap<>();
+        for (EntityCrossDataStoreProperty entityCrossDataStoreProperty : entityCrossDataStorePropertyList) {
+            CrossDataStoreProperty crossProp = entityCrossDataStoreProperty.crossProp;
+            if (crossProp.needsFakeInstance()) {
+                setFakeInstance(entityCrossDataStoreProperty.entity, crossProp);
+                continue;
+            }
+            assert crossProp.fetchPlanProperty != null;
+            MetaClass cdsrMetaClass = crossProp.property.getRange().asClass();
+            FetchPlan cdsrFetchPlan = crossProp.fetchPlanProperty.getFetchPlan();
+            boolean jpa = metadataTools.isJpa(crossProp.property);
+            groups.computeIfAbsent(Arrays.asList(cdsrMetaClass, cdsrFetchPlan, jpa),
+                            key -> new LoadGroup(cdsrMetaClass, cdsrFetchPlan, jpa, crossProp.primaryKeyName))
+                    .items.add(entityCrossDataStoreProperty);
+        }
+        if (groups.isEmpty())
+            return;
+
+        Map<String, List<LoadGroup>> groupsByStore = groups.values().stream()
+                .collect(Collectors.groupingBy(group -> group.metaClass.getStore().getName(),
+                        LinkedHashMap::new, Collectors.toList()));
+        Map<String, Runnable> tasks = new LinkedHashMap<>();
+        groupsByStore.forEach((storeName, storeGroups) ->
+                tasks.put(storeName, () -> storeGroups.forEach(this::loadGroup)));
+
+        // loading in other threads would not see data of the transaction joined by the calling thread
+        boolean allowConcurrent = !joinTransaction || !TransactionSynchronizationManager.isActualTransactionActive();
+        loadingExecutor.execute(tasks, allowConcurrent);
+
+        for (LoadGroup group : groups.values()) {
+            for (EntityCrossDataStoreProperty item : group.items) {
+                Object id = EntityValues.getValue(item.entity, item.crossProp.relatedPropertyName);
+                Object relatedEntity = id == null ? null : group.loadedEntities.get(id);
+                if (relatedEntity != null) {
+                    EntityValues.setValue(item.entity, item.crossProp.property.getName(), relatedEntity);
+                }
+            }
         }
     }
 
-    private void loadBatch(CrossDataStoreProperty crossDataStoreProperty, List<Object> entities) {
-        List<Object> idList = entities.stream()
-                .map(e -> EntityValues.getValue(e, crossDataStoreProperty.relatedPropertyName))
+    private void setFakeInstance(Object entity, CrossDataStoreProperty crossDataStoreProperty) {
+        Object id = EntityValues.getValue(entity, crossDataStoreProperty.relatedPropertyName);
+        if (id != null) {
+            Object fakeInstance = metadata.create(crossDataStoreProperty.property.getRange().asClass(), id);
+            entityStates.makePatch(fakeInstance);
+
+            EntityValues.setValue(entity, crossDataStoreProperty.property.getName(), fakeInstance);
+        }
+    }
+
+    private void loadGroup(LoadGroup group) {
+        List<Object> idList = group.items.stream()
+                .map(item -> EntityValues.getValue(item.entity, item.crossProp.relatedPropertyName))
                 .filter(Objects::nonNull)
                 .distinct()
                 .collect(Collectors.toList());
 
-        if (idList.isEmpty())
-            return;
-
-        MetaClass cdsrMetaClass = crossDataStoreProperty.property.getRange().asClass();
-
-        if (crossDataStoreProperty.needsFakeInstance()) {
-            for (Object entity : entities) {
-                Object id = EntityValues.getValue(entity, crossDataStoreProperty.relatedPropertyName);
-                if (id != null) {
-                    Object fakeInstance = metadata.create(cdsrMetaClass, id);
-                    entityStates.makePatch(fakeInstance);
+        int limit = properties.getCrossDataStoreReferenceLoadingBatchSize();
+        for (int offset = 0; offset < idList.size(); offset += limit) {
+            List<Object> batch = idList.subList(offset, Math.min(offset + limit, idList.size()));
+            for (Object loadedEntity : loadBatch(group, batch)) {
+                group.loadedEntities.put(EntityValues.getId(loadedEntity), loadedEntity);
+            }
+        }
+    }
 
-                    EntityValues.setValue(entity, crossDataStoreProperty.property.getName(), fakeInstance);
+    private List<?> loadBatch(LoadGroup group, List<Object> idList) {
+        MetaClass cdsrMetaClass = group.metaClass;
+        LoadContext<?> loadContext = new LoadContext<>(cdsrMetaClass);
+
+        if (group.jpa) {
+            // Don't use standard loading by ids for JPA entities because AbstractDataStore throws exception
+            // if not all requested entities are loaded, see checkAndReorderLoadedEntities()
+            MetaProperty primaryKeyProperty = metadataTools.getPrimaryKeyProperty(cdsrMetaClass);
+            if (primaryKeyProperty == null || !primaryKeyProperty.getRange().isClass()) {
+                String queryString = String.format(
+                        "select e from %s e where e.%s in :idList", cdsrMetaClass, group.primaryKeyName);
+                loadContext.setQuery(new LoadContext.Query(queryString).setParameter("idList", idList));
+            } else {
+                // composite key entity
+                StringBuilder sb = new StringBuilder("select e from ");
+                sb.append(cdsrMetaClass).append(" e where ");
+
+                MetaClass idMetaClass = primaryKeyProperty.getRange().asClass();
+                for (Iterator<MetaProperty> it = idMetaClass.getProperties().iterator(); it.hasNext(); ) {
+                    MetaProperty property = it.next();
+                    sb.append("e.").append(group.primaryKeyName).append(".").append(property.getName());
+                    sb.append(" in :list_").append(property.getName());
+                    if (it.hasNext())
+                        sb.append(" and ");
                 }
-            }
-        } else {
-            LoadContext<?> loadContext = new LoadContext<>(cdsrMetaClass);
-
-            if (metadataTools.isJpa(crossDataStoreProperty.property)) {
-                // Don't use standard loading by ids for JPA entities because AbstractDataStore throws exception
-                // if not all requested entities are loaded, see checkAndReorderLoadedEntities()
-                MetaProperty primaryKeyProperty = metadataTools.getPrimaryKeyProperty(cdsrMetaClass);
-                if (primaryKeyProperty == null || !primaryKeyProperty.getRange().isClass()) {
-                    String queryString = String.format(
-                            "select e from %s e where e.%s in :idList", cdsrMetaClass, crossDataStoreProperty.primaryKeyName);
-                    loadContext.setQuery(new LoadContext.Query(queryString).setParameter("idList", idList));
-                } else {
-                    // composite key entity
-                    StringBuilder sb = new StringBuilder("select e from ");
-                    sb.append(cdsrMetaClass).append(" e where ");
-
-                    MetaClass idMetaClass = primaryKeyProperty.getRange().asClass();
-                    for (Iterator<MetaProperty> it = idMetaClass.getProperties().iterator(); it.hasNext(); ) {
-                        MetaProperty property = it.next();
-                        sb.append("e.").append(crossDataStoreProperty.primaryKeyName).append(".").append(property.getName());
-                        sb.append(" in :list_").append(property.getName());
-                        if (it.hasNext())
-                            sb.append(" and ");
-                    }
-                    LoadContext.Query query = new LoadContext.Query(sb.toString());
-                    for (MetaProperty property : idMetaClass.getProperties()) {
-                        List<Object> propList = idList.stream()
-                                .map(o -> EntityValues.getValue(o, property.getName()))
-                                .collect(Collectors.toList());
-                        query.setParameter("list_" + property.getName(), propList);
-                    }
-                    loadContext.setQuery(query);
+                LoadContext.Query query = new LoadContext.Query(sb.toString());
+                for (MetaProperty property : idMetaClass.getProperties()) {
+                    List<Object> propList = idList.stream()
+                            .map(o -> EntityValues.getValue(o, property.getName()))
+                            .collect(Collectors.toList());
+                    query.setParameter("list_" + property.getName(), propList);
                 }
-            } else {
-                // A custom datastore based on AbstractDataStore can override checkAndReorderLoadedEntities() if needed
-                loadContext.setIds(idList);
+                loadContext.setQuery(query);
             }
+        } else {
+            // A custom datastore based on AbstractDataStore can override checkAndReorderLoadedEntities() if needed
+            loadContext.setIds(idList);
+        }
 
-            assert crossDataStoreProperty.fetchPlanProperty != null;
-            loadContext.setFetchPlan(crossDataStoreProperty.fetchPlanProperty.getFetchPlan());
-            loadContext.setJoinTransaction(joinTransaction);
+        loadContext.setFetchPlan(group.fetchPlan);
+        loadContext.setJoinTransaction(joinTransaction);
 
-            List<?> loadedEntities = dataManager.loadList(loadContext);
-
-            for (Object entity : entities) {
-                Object relatedPropertyValue = EntityValues.getValue(entity, crossDataStoreProperty.relatedPropertyName);
-                loadedEntities.stream()
-                        .filter(e -> {
-                            Object id = EntityValues.getId(e);
-                            assert id != null;
-                            return id.equals(relatedPropertyValue);
-                        })
-                        .findAny()
-                        .ifPresent(e -> EntityValues.setValue(entity, crossDataStoreProperty.property.getName(), e)
-                        );
-            }
+        return dataManager.loadList(loadContext);
+    }
+
+    /**
+     * References of the same entity loaded with the same fetch plan.
+     */
+    private static class LoadGroup {
+
+        private final MetaClass metaClass;
+        @Nullable
+        private final FetchPlan fetchPlan;
+        private final boolean jpa;
+        private final String primaryKeyName;
+        private final List<EntityCrossDataStoreProperty> items = new ArrayList<>();
+        private final Map<Object, Object> loadedEntities = new HashMap<>();
+
+        private LoadGroup(MetaClass metaClass, @Nullable FetchPlan fetchPlan, boolean jpa, String primaryKeyName) {
+            this.metaClass = metaClass;
+            this.fetchPlan = fetchPlan;
+            this.jpa = jpa;
+            this.primaryKeyName = primaryKeyName;
         }
     }
 
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.impl;
+
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.jmix.core.CoreProperties;
+import io.jmix.core.annotation.Internal;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * INTERNAL.
+ * Executes loading of cross-datastore references into different data stores, concurrently if
+ * {@link CoreProperties#getCrossDataStoreReferenceLoadingParallelism()} is greater than 1.
+ * <p>
+ * Duration of loading is recorded by the {@code jmix.CrossDataStoreReferenceLoader.load} timer tagged by the store
+ * name.
+ * <p>
+ * Loads started from a worker thread (e.g. a reference of a loaded entity pointing to a third data store) are
+ * executed inline in that thread: submitting them to the same bounded pool or waiting for a store permit held by
+ * the outer load could otherwise starve the pool or deadlock.
+ */
+@Internal
+@Component("core_CrossDataStoreReferenceLoadingExecutor")
+public class CrossDataStoreReferenceLoadingExecutor {
+
+    protected static final String TIMER_NAME = "jmix.CrossDataStoreReferenceLoader.load";
+
+    protected final MeterRegistry meterRegistry;
+    protected final int storeConcurrency;
+
+    protected final ExecutorService executor;
+    protected final ConcurrentMap<String, Semaphore> storeSemaphores = new ConcurrentHashMap<>();
+
+    protected static final ThreadLocal<Boolean> ON_WORKER_THREAD = ThreadLocal.withInitial(() -> false);
+
+    public CrossDataStoreReferenceLoadingExecutor(CoreProperties coreProperties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.storeConcurrency = coreProperties.getCrossDataStoreReferenceLoadingStoreConcurrency();
+
+        int parallelism = coreProperties.getCrossDataStoreReferenceLoadingParallelism();
+        if (parallelism > 1) {
+            ThreadPoolExecutor threadPool = new ThreadPoolExecutor(parallelism, parallelism,
+                    1L, TimeUnit.MINUTES,
+                    new LinkedBlockingQueue<>(),
+                    new ThreadFactoryBuilder()
+                            .setNameFormat("jmix-cross-datastore-loader-%d")
+                            .setDaemon(true)
+                            .build());
+            threadPool.allowCoreThreadTimeOut(true);
+            executor = threadPool;
+        } else {
+            executor = null;
+        }
+    }
+
+    @PreDestroy
+    protected void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs the tasks and waits for their completion.
+     *
+     * @param tasksByStore    tasks loading references into data stores, by store name
+     * @param allowConcurrent whether the tasks can be run in threads other than the calling one
+     */
+    public void execute(Map<String, Runnable> tasksByStore, boolean allowConcurrent) {
+        if (executor == null || !allowConcurrent || tasksByStore.size() < 2 || ON_WORKER_THREAD.get()) {
+            tasksByStore.forEach((storeName, task) ->
+                    meterRegistry.timer(TIMER_NAME, "store", storeName).record(task));
+            return;
+        }
+
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        List<Future<?>> futures = new ArrayList<>(tasksByStore.size());
+        tasksByStore.forEach((storeName, task) ->
+                futures.add(executor.submit(() -> runInStore(storeName, task, securityContext))));
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while loading cross-datastore references", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new RuntimeException("Error loading cross-datastore references", e.getCause());
+        }
+    }
+
+    protected void runInStore(String storeName, Runnable task, SecurityContext securityContext) {
+        SecurityContext previousContext = SecurityContextHolder.getContext();
+        SecurityContextHolder.setContext(securityContext);
+        ON_WORKER_THREAD.set(true);
+        Semaphore semaphore = getStoreSemaphore(storeName);
+        try {
+            if (semaphore != null) {
+                semaphore.acquireUninterruptibly();
+            }
+            try {
+                meterRegistry.timer(TIMER_NAME, "store", storeName).record(task);
+            } finally {
+                if (semaphore != null) {
+                    semaphore.release();
+                }
+            }
+        } finally {
+            ON_WORKER_THREAD.remove();
+            SecurityContextHolder.setContext(previousContext);
+        }
+    }
+
+    @Nullable
+    protected Semaphore getStoreSemaphore(String storeName) {
+        if (storeConcurrency <= 0) {
+            return null;
+        }
+        return storeSemaphores.computeIfAbsent(storeName, name -> new Semaphore(storeConcurrency));
+    }
+}
@@ -18,7 +18,10 @@ package io.jmix.core.impl;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.jmix.core.CoreProperties;
 import io.jmix.core.Entity;
 import io.jmix.core.Messages;
 import io.jmix.core.MetadataTools;
@@ -62,6 +65,10 @@ import jakarta.validation.constraints.*;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static io.jmix.core.common.util.Preconditions.checkNotNullArgument;
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -102,6 +109,9 @@ public class MetaModelLoader {
 
     protected Messages messages;
 
+    @Autowired(required = false)
+    protected CoreProperties coreProperties;
+
     private static final Logger log = LoggerFactory.getLogger(MetaModelLoader.class);
 
     @Autowired
@@ -116,6 +126,9 @@ public class MetaModelLoader {
     public void loadModel(Session session, Set<String> classNames) {
         checkNotNullArgument(classNames, "classInfos is null");
 
+        Map<String, Long> timings = new LinkedHashMap<>();
+        long phaseStart = System.currentTimeMillis();
+
         Set<Class<?>> classes = new LinkedHashSet<>();
         for (String className : classNames) {
             try {
@@ -124,6 +137,7 @@ public class MetaModelLoader {
                 log.warn("Class {} not found", className);
             }
         }
+        phaseStart = recordPhase(timings, "loadClasses", phaseStart);
 
         for (Class<?> aClass : classes) {
             MetaClassImpl metaClass = createClass(session, aClass);
@@ -131,39 +145,176 @@ public class MetaModelLoader {
                 log.warn("Class {} is not loaded into metadata", aClass.getName());
             }
         }
+        phaseStart = recordPhase(timings, "createClasses", phaseStart);
+
+        int parallelism = getLoadingParallelism(classes.size());
+
+        List<RangeInitTask> tasks;
+        if (parallelism > 1) {
+            for (MetaClass metaClass : session.getClasses()) {
+                assignStore(metaClass);
+            }
+            phaseStart = recordPhase(timings, "assignStores", phaseStart);
+
+            List<MetadataObjectInfo<MetaClass>> infos = loadClassesInParallel(session, classes, parallelism);
+            phaseStart = recordPhase(timings, "loadProperties", phaseStart);
+
+            Set<MetaProperty> redefinedProperties = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (MetaClass metaClass : session.getClasses()) {
+                removeRedefinedProperties(session, metaClass, redefinedProperties);
+            }
+            for (MetaClass metaClass : session.getClasses()) {
+                linkLoadedAncestors(session, metaClass);
+            }
+            phaseStart = recordPhase(timings, "linkAncestors", phaseStart);
+
+            tasks = collectTasks(classes, infos);
+            tasks.removeIf(task -> redefinedProperties.contains(task.metaProperty));
+        } else {
+            for (MetaClass metaClass : session.getClasses()) {
+                initAncestors(session, metaClass);
+                assignStore(metaClass);
+            }
+            phaseStart = recordPhase(timings, "linkAncestors", phaseStart);
+
+            List<MetadataObjectInfo<MetaClass>> infos = new ArrayList<>(classes.size());
+            for (Class<?> aClass : classes) {
+                infos.add(loadClass(session, aClass));
+            }
+            phaseStart = recordPhase(timings, "loadProperties", phaseStart);
+
+            tasks = collectTasks(classes, infos);
+        }
+
+        for (RangeInitTask task : tasks) {
+            task.execute();
+        }
+        phaseStart = recordPhase(timings, "initRanges", phaseStart);
 
         for (MetaClass metaClass : session.getClasses()) {
-            initAncestors(session, metaClass);
-            assignStore(metaClass);
+            initInheritedProperties(metaClass);
+        }
+        recordPhase(timings, "initInheritedProperties", phaseStart);
+
+        log.debug("Meta-model of {} classes loaded using {} thread(s), phase timings (ms): {}",
+                classes.size(), parallelism, timings);
+    }
+
+    /**
+     * Returns the number of threads to load properties of the given number of classes.
+     *
+     * @see CoreProperties#getMetadataLoadingParallelism()
+     */
+    protected int getLoadingParallelism(int classesCount) {
+        int parallelism = coreProperties != null ? coreProperties.getMetadataLoadingParallelism() : 1;
+        if (parallelism <= 0) {
+            parallelism = Runtime.getRuntime().availableProcessors();
         }
+        return Math.max(1, Math.min(parallelism, classesCount));
+    }
+
+    /**
+     * Loads own properties of the classes concurrently. Ancestors must not be linked yet, so that loading a class
+     * doesn't modify other classes. Returns results in the order of the given classes.
+     */
+    protected List<MetadataObjectInfo<MetaClass>> loadClassesInParallel(Session session, Collection<Class<?>> classes,
+                                                                        int parallelism) {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                new ThreadFactoryBuilder().setNameFormat("jmix-metadata-loader-%d").setDaemon(true).build());
+        try {
+            List<Future<MetadataObjectInfo<MetaClass>>> futures = new ArrayList<>(classes.size());
+            for (Class<?> aClass : classes) {
+                futures.add(executor.submit(() -> loadClass(session, aClass)));
+            }
 
+            List<MetadataObjectInfo<MetaClass>> infos = new ArrayList<>(classes.size());
+            for (Future<MetadataObjectInfo<MetaClass>> future : futures) {
+                infos.add(future.get());
+            }
+            return infos;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while loading meta-model", e);
+        } catch (ExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new RuntimeException("Error loading meta-model", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    protected List<RangeInitTask> collectTasks(Collection<Class<?>> classes,
+                                               List<MetadataObjectInfo<MetaClass>> infos) {
         List<RangeInitTask> tasks = new ArrayList<>();
+        Iterator<MetadataObjectInfo<MetaClass>> infoIterator = infos.iterator();
         for (Class<?> aClass : classes) {
-            MetadataObjectInfo<MetaClass> info = loadClass(session, aClass);
+            MetadataObjectInfo<MetaClass> info = infoIterator.next();
             if (info != null) {
                 tasks.addAll(info.getTasks());
             } else {
                 log.warn("Class {} is not loaded into metadata", aClass.getName());
             }
         }
+        return tasks;
+    }
 
-        for (RangeInitTask task : tasks) {
-            task.execute();
+    protected long recordPhase(Map<String, Long> timings, String phase, long phaseStart) {
+        long now = System.currentTimeMillis();
+        timings.put(phase, now - phaseStart);
+        return now;
+    }
+
+    protected void initAncestors(Session session, MetaClass metaClass) {
+        Class<?> ancestor = metaClass.getJavaClass().getSuperclass();
+        if (ancestor != null) {
+            List<Class<?>> superclasses = ClassUtils.getAllSuperclasses(metaClass.getJavaClass());
+            for (Class<?> superclass : superclasses) {
+                MetaClass ancestorClass = session.findClass(superclass);
+                if (ancestorClass != null) {
+                    ((MetaClassImpl) metaClass).addAncestor(ancestorClass);
+                }
+            }
         }
+    }
 
-        for (MetaClass metaClass : session.getClasses()) {
-            initInheritedProperties(metaClass);
+    /**
+     * Removes own properties of a class which have the same names as own properties of its ancestors. When ancestors
+     * are linked before loading, such properties are not loaded at all, see {@link #initProperties}.
+     *
+     * @param redefinedProperties collects removed properties
+     */
+    protected void removeRedefinedProperties(Session session, MetaClass metaClass, Set<MetaProperty> redefinedProperties) {
+        for (Class<?> superclass : ClassUtils.getAllSuperclasses(metaClass.getJavaClass())) {
+            MetaClass ancestorClass = session.findClass(superclass);
+            if (ancestorClass == null) {
+                continue;
+            }
+            for (MetaProperty ancestorProperty : ancestorClass.getOwnProperties()) {
+                MetaProperty property = metaClass.getOwnProperties().stream()
+                        .filter(ownProperty -> ownProperty.getName().equals(ancestorProperty.getName()))
+                        .findFirst()
+                        .orElse(null);
+                if (property != null) {
+                    log.warn("Property " + metaClass.getJavaClass().getSimpleName() + "." + property.getName()
+                            + " is not included in metadata because property " + ancestorProperty + " already exists");
+                    ((MetaClassImpl) metaClass).removeOwnProperty(property.getName());
+                    redefinedProperties.add(property);
+                }
+            }
         }
     }
 
-    protected void initAncestors(Session session, MetaClass metaClass) {
+    /**
+     * Links ancestors of a class after properties of all classes have been loaded.
+     */
+    protected void linkLoadedAncestors(Session session, MetaClass metaClass) {
         Class<?> ancestor = metaClass.getJavaClass().getSuperclass();
         if (ancestor != null) {
             List<Class<?>> superclasses = ClassUtils.getAllSuperclasses(metaClass.getJavaClass());
             for (Class<?> superclass : superclasses) {
                 MetaClass ancestorClass = session.findClass(superclass);
                 if (ancestorClass != null) {
-                    ((MetaClassImpl) metaClass).addAncestor(ancestorClass);
+                    ((MetaClassImpl) metaClass).addLoadedAncestor(ancestorClass);
                 }
             }
         }
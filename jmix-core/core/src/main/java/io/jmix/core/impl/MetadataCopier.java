@@ -0,0 +1,384 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.impl;
+
+import io.jmix.core.Copier;
+import io.jmix.core.Entity;
+import io.jmix.core.EntityEntry;
+import io.jmix.core.EntitySystemStateSupport;
+import io.jmix.core.Metadata;
+import io.jmix.core.PersistentAttributesLoadChecker;
+import io.jmix.core.common.util.ReflectionHelper;
+import io.jmix.core.entity.HasInstanceMetaClass;
+import io.jmix.core.entity.JmixEntityEntryEnhanced;
+import io.jmix.core.entity.LoadedPropertiesInfo;
+import io.jmix.core.entity.SecurityState;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Primary;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Copier that walks the object graph using metadata instead of Java serialization.
+ * <p>
+ * Entities are copied field by field together with their entity entry state, loaded properties info and
+ * security state. Fields are accessed directly, so getters and setters with custom logic are not invoked.
+ * References between copied entities are preserved, so each source entity is copied once. Values of datatype
+ * properties are shared if they are immutable and copied otherwise.
+ * <p>
+ * Attributes that are not loaded in a source entity remain not loaded in the copy: the store-specific state that
+ * tracks them, like fetch groups and lazy loading value holders, is transferred by {@link EntitySystemStateSupport}.
+ * <p>
+ * If the graph contains something that cannot be copied by metadata without losing state, for example a not loaded
+ * attribute which state cannot be transferred, an entity class with fields not described by metadata or an
+ * arbitrary non-entity object, the whole source is copied by {@link SerializingCopier}.
+ */
+@Primary
+@Component("core_MetadataCopier")
+public class MetadataCopier implements Copier {
+
+    private static final Logger log = LoggerFactory.getLogger(MetadataCopier.class);
+
+    protected static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigDecimal.class, BigInteger.class, UUID.class, URI.class, Locale.class,
+            Class.class);
+
+    protected final Metadata metadata;
+    protected final PersistentAttributesLoadChecker loadChecker;
+    protected final SerializingCopier serializingCopier;
+    protected final EntitySystemStateSupport entitySystemStateSupport;
+
+    protected final Map<Class<?>, CopyPlan> plans = new ConcurrentHashMap<>();
+
+    public MetadataCopier(Metadata metadata,
+                          PersistentAttributesLoadChecker loadChecker,
+                          SerializingCopier serializingCopier,
+                          EntitySystemStateSupport entitySystemStateSupport) {
+        this.metadata = metadata;
+        this.loadChecker = loadChecker;
+        this.serializingCopier = serializingCopier;
+        this.entitySystemStateSupport = entitySystemStateSupport;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T copy(T source) {
+        if (source == null) {
+            return null;
+        }
+        try {
+            return (T) copyObject(source, new IdentityHashMap<>());
+        } catch (NotCopyableException e) {
+            log.debug("Copying {} using serialization: {}", source.getClass().getName(), e.getMessage());
+            return serializingCopier.copy(source);
+        }
+    }
+
+    @Nullable
+    protected Object copyObject(@Nullable Object source, Map<Object, Object> copies) {
+        if (source == null) {
+            return null;
+        }
+        Object copy = copies.get(source);
+        if (copy != null) {
+            return copy;
+        }
+        if (source instanceof Entity) {
+            return copyEntity((Entity) source, copies);
+        }
+        if (source instanceof Collection) {
+            return copyCollection((Collection<?>) source, copies);
+        }
+        if (source instanceof Map) {
+            return copyMap((Map<?, ?>) source, copies);
+        }
+        if (isImmutable(source)) {
+            return source;
+        }
+        throw new NotCopyableException("unsupported object of " + source.getClass());
+    }
+
+    protected Object copyEntity(Entity source, Map<Object, Object> copies) {
+        CopyPlan plan = getPlan(source);
+
+        EntityEntry sourceEntry = source.__getEntityEntry();
+        if (!sourceEntry.getAllExtraState().isEmpty()) {
+            throw new NotCopyableException("extra state in " + source);
+        }
+        Set<String> notLoadedAttributes = null;
+        for (MetaProperty property : plan.properties) {
+            if (!loadChecker.isLoaded(source, property.getName())) {
+                if (sourceEntry.isNew()) {
+                    throw new NotCopyableException("not loaded attribute " + property + " of new entity");
+                }
+                if (notLoadedAttributes == null) {
+                    notLoadedAttributes = new HashSet<>();
+                }
+                notLoadedAttributes.add(property.getName());
+            }
+        }
+
+        Entity copy;
+        try {
+            copy = ReflectionHelper.newInstance(source.getClass());
+        } catch (NoSuchMethodException e) {
+            throw new NotCopyableException("no default constructor in " + source.getClass());
+        }
+        copies.put(source, copy);
+
+        // copy system state first, as hashCode() of entities without id depends on it
+        entitySystemStateSupport.copySystemState(source, copy);
+        EntityEntry entry = copy.__getEntityEntry();
+        entry.removeAllListeners();
+        if (sourceEntry.isManaged()) {
+            entry.setManaged(false);
+            entry.setDetached(true);
+        }
+        entry.setLoadedPropertiesInfo(copyLoadedPropertiesInfo(sourceEntry.getLoadedPropertiesInfo()));
+        entry.setSecurityState(copySecurityState(sourceEntry.getSecurityState()));
+
+        // copy local attributes before references to have the id set when the copy is put into collections
+        try {
+            for (Field field : plan.localFields) {
+                if (notLoadedAttributes == null || !notLoadedAttributes.contains(field.getName())) {
+                    field.set(copy, copyValue(field.get(source)));
+                }
+            }
+            for (Field field : plan.referenceFields) {
+                if (notLoadedAttributes == null || !notLoadedAttributes.contains(field.getName())) {
+                    field.set(copy, copyObject(field.get(source), copies));
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new NotCopyableException("inaccessible field in " + source.getClass() + ": " + e.getMessage());
+        }
+
+        if (notLoadedAttributes != null) {
+            copyNotLoadedState(source, copy, plan, notLoadedAttributes);
+        }
+        return copy;
+    }
+
+    /**
+     * Transfers lazy loading state of not loaded references and checks that all not loaded attributes of the source
+     * are not loaded in the copy too.
+     */
+    protected void copyNotLoadedState(Entity source, Entity copy, CopyPlan plan, Set<String> notLoadedAttributes) {
+        for (MetaProperty property : plan.properties) {
+            String name = property.getName();
+            if (!notLoadedAttributes.contains(name)) {
+                continue;
+            }
+            if (property.getRange().isClass()) {
+                try {
+                    entitySystemStateSupport.mergeLazyLoadingState(source, copy, property, collection -> collection);
+                } catch (RuntimeException e) {
+                    throw new NotCopyableException("lazy loading state of " + property + ": " + e.getMessage());
+                }
+            }
+            if (loadChecker.isLoaded(copy, name)) {
+                throw new NotCopyableException("not loaded attribute " + property);
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected Collection<Object> copyCollection(Collection<?> source, Map<Object, Object> copies) {
+        Collection copy;
+        if (source instanceof List) {
+            copy = source instanceof LinkedList ? new LinkedList<>() : new ArrayList<>(source.size());
+        } else if (source instanceof Set && !(source instanceof SortedSet)) {
+            copy = new LinkedHashSet<>();
+        } else {
+            throw new NotCopyableException("unsupported collection " + source.getClass());
+        }
+        copies.put(source, copy);
+        for (Object element : source) {
+            copy.add(copyObject(element, copies));
+        }
+        return copy;
+    }
+
+    protected Map<Object, Object> copyMap(Map<?, ?> source, Map<Object, Object> copies) {
+        if (!(source instanceof HashMap) && !(source instanceof TreeMap && ((TreeMap<?, ?>) source).comparator() == null)) {
+            throw new NotCopyableException("unsupported map " + source.getClass());
+        }
+        Map<Object, Object> copy = source instanceof TreeMap ? new TreeMap<>() : new LinkedHashMap<>();
+        copies.put(source, copy);
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            copy.put(copyObject(entry.getKey(), copies), copyObject(entry.getValue(), copies));
+        }
+        return copy;
+    }
+
+    /**
+     * Copies a value of a datatype or enum property. Such values never reference entities, so mutable values of
+     * unknown types are copied by serialization one by one.
+     */
+    @Nullable
+    protected Object copyValue(@Nullable Object value) {
+        if (value == null || isImmutable(value)) {
+            return value;
+        }
+        if (value instanceof Date) {
+            return ((Date) value).clone();
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).clone();
+        }
+        return serializingCopier.copy(value);
+    }
+
+    protected boolean isImmutable(Object value) {
+        Class<?> valueClass = value.getClass();
+        return IMMUTABLE_TYPES.contains(valueClass)
+                || value instanceof Enum
+                || valueClass.getName().startsWith("java.time.");
+    }
+
+    @Nullable
+    protected LoadedPropertiesInfo copyLoadedPropertiesInfo(@Nullable LoadedPropertiesInfo info) {
+        if (info == null) {
+            return null;
+        }
+        if (info instanceof CachingLoadedPropertiesInfo) {
+            return new CachingLoadedPropertiesInfo((CachingLoadedPropertiesInfo) info);
+        }
+        return serializingCopier.copy(info);
+    }
+
+    protected SecurityState copySecurityState(SecurityState securityState) {
+        SecurityState copy = new SecurityState();
+        copy.setRestoreState(securityState.getRestoreState());
+        for (String attribute : securityState.getErasedAttributes()) {
+            copy.addErasedIds(attribute, securityState.getErasedIds(attribute));
+        }
+        return copy;
+    }
+
+    protected CopyPlan getPlan(Entity entity) {
+        CopyPlan plan = plans.computeIfAbsent(entity.getClass(), this::createPlan);
+        if (plan.notCopyableReason != null) {
+            throw new NotCopyableException(plan.notCopyableReason);
+        }
+        return plan;
+    }
+
+    protected CopyPlan createPlan(Class<?> entityClass) {
+        if (!JmixEntityEntryEnhanced.class.isAssignableFrom(entityClass)
+                || HasInstanceMetaClass.class.isAssignableFrom(entityClass)) {
+            return new CopyPlan(entityClass + " is not described by static metadata");
+        }
+        MetaClass metaClass = metadata.findClass(entityClass);
+        if (metaClass == null) {
+            return new CopyPlan(entityClass + " is not registered in metadata");
+        }
+
+        List<MetaProperty> properties = new ArrayList<>();
+        List<Field> localFields = new ArrayList<>();
+        List<Field> referenceFields = new ArrayList<>();
+        Set<String> fieldProperties = new HashSet<>();
+        for (MetaProperty property : metaClass.getProperties()) {
+            Field field = property.getAnnotatedElement() instanceof Field ? (Field) property.getAnnotatedElement() : null;
+            if (property.isReadOnly()) {
+                if (field != null) {
+                    return new CopyPlan("read-only attribute " + property);
+                }
+                continue;
+            }
+            // state of method-based properties is kept in fields described by other properties
+            if (field == null) {
+                continue;
+            }
+            properties.add(property);
+            try {
+                field.setAccessible(true);
+            } catch (RuntimeException e) {
+                return new CopyPlan("inaccessible field " + field);
+            }
+            fieldProperties.add(property.getName());
+            if (property.getRange().isClass()) {
+                referenceFields.add(field);
+            } else {
+                localFields.add(field);
+            }
+        }
+
+        for (Class<?> aClass = entityClass; aClass != null && aClass != Object.class; aClass = aClass.getSuperclass()) {
+            for (Field field : aClass.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()
+                        || isEnhancementField(field)) {
+                    continue;
+                }
+                if (!fieldProperties.contains(field.getName())) {
+                    return new CopyPlan("field " + field + " is not described by metadata");
+                }
+            }
+        }
+        return new CopyPlan(properties, localFields, referenceFields);
+    }
+
+    /**
+     * Returns true if the field is added by entity enhancement and its state is restored from entity attributes and
+     * entity entry.
+     */
+    protected boolean isEnhancementField(Field field) {
+        return field.getName().equals("_jmixEntityEntry") || field.getName().startsWith("_persistence_");
+    }
+
+    protected static class CopyPlan {
+
+        protected final MetaProperty[] properties;
+        protected final Field[] localFields;
+        protected final Field[] referenceFields;
+        protected final String notCopyableReason;
+
+        protected CopyPlan(List<MetaProperty> properties, List<Field> localFields, List<Field> referenceFields) {
+            this.properties = properties.toArray(new MetaProperty[0]);
+            this.localFields = localFields.toArray(new Field[0]);
+            this.referenceFields = referenceFields.toArray(new Field[0]);
+            this.notCopyableReason = null;
+        }
+
+        protected CopyPlan(String notCopyableReason) {
+            this.properties = new MetaProperty[0];
+            this.localFields = new Field[0];
+            this.referenceFields = this.localFields;
+            this.notCopyableReason = notCopyableReason;
+        }
+    }
+
+    protected static class NotCopyableException extends RuntimeException {
+
+        protected NotCopyableException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
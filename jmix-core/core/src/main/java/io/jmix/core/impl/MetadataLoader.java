@@ -61,6 +61,7 @@ public class MetadataLoader {
         long startTime = System.currentTimeMillis();
 
         metaModelLoader.loadModel(session, classpathScanner.getClassNames(EntityDetector.class));
+        long modelLoadedTime = System.currentTimeMillis();
 
         for (MetaClass metaClass : session.getClasses()) {
             postProcessClass(metaClass);
@@ -68,12 +69,16 @@ public class MetadataLoader {
         }
 
         initExtensionMetaAnnotations();
+        long postProcessedTime = System.currentTimeMillis();
 
         for (MetadataPostProcessor postProcessor : postProcessors) {
             postProcessor.process(session);
         }
 
-        log.info("Metadata initialized in {} ms", System.currentTimeMillis() - startTime);
+        long endTime = System.currentTimeMillis();
+        log.debug("Metadata phase timings (ms): loadModel={}, postProcessClasses={}, postProcessors={}",
+                modelLoadedTime - startTime, postProcessedTime - modelLoadedTime, endTime - postProcessedTime);
+        log.info("Metadata initialized in {} ms", endTime - startTime);
     }
 
     /**
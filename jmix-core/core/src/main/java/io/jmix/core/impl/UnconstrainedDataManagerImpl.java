@@ -35,8 +35,10 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicLong;
 
 @Primary
@@ -85,11 +87,15 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
     @Autowired
     protected TransactionManagerLocator transactionManagerLocator;
 
+    @Autowired
+    protected ConcurrentLoadExecutor concurrentLoadExecutor;
+
     @Nullable
     @Override
     public <E> E load(LoadContext<E> context) {
         MetaClass metaClass = getEffectiveMetaClassFromContext(context);
         DataStore storage = dataStoreFactory.get(getStoreName(metaClass));
+        checkKeysetPagination(storage, context);
 
         context.setAccessConstraints(mergeConstraints(context.getAccessConstraints()));
 
@@ -105,6 +111,7 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
     public <E> List<E> loadList(LoadContext<E> context) {
         MetaClass metaClass = getEffectiveMetaClassFromContext(context);
         DataStore storage = dataStoreFactory.get(getStoreName(metaClass));
+        checkKeysetPagination(storage, context);
 
         context.setAccessConstraints(mergeConstraints(context.getAccessConstraints()));
 
@@ -115,6 +122,19 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
         return entities;
     }
 
+    @Override
+    public List<List<?>> loadAll(List<? extends LoadContext<?>> contexts) {
+        List<Callable<List<?>>> tasks = new ArrayList<>(contexts.size());
+        boolean joinTransaction = false;
+        for (LoadContext<?> context : contexts) {
+            // constraints are resolved in the calling thread
+            context.setAccessConstraints(mergeConstraints(context.getAccessConstraints()));
+            joinTransaction |= context.isJoinTransaction();
+            tasks.add(() -> loadList(context));
+        }
+        return concurrentLoadExecutor.executeAll(tasks, canLoadConcurrently(joinTransaction));
+    }
+
     @Override
     public long getCount(LoadContext<?> context) {
         MetaClass metaClass = getEffectiveMetaClassFromContext(context);
@@ -272,6 +292,26 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
         return store.loadValues(context);
     }
 
+    @Override
+    public List<List<KeyValueEntity>> loadValuesAll(List<ValueLoadContext> contexts) {
+        List<Callable<List<KeyValueEntity>>> tasks = new ArrayList<>(contexts.size());
+        boolean joinTransaction = false;
+        for (ValueLoadContext context : contexts) {
+            context.setAccessConstraints(mergeConstraints(context.getAccessConstraints()));
+            joinTransaction |= context.isJoinTransaction();
+            tasks.add(() -> loadValues(context));
+        }
+        return concurrentLoadExecutor.executeAll(tasks, canLoadConcurrently(joinTransaction));
+    }
+
+    /**
+     * Loading in other threads would not see data of the transaction that the calling thread has and the loaded
+     * contexts should join.
+     */
+    protected boolean canLoadConcurrently(boolean joinTransaction) {
+        return !joinTransaction || !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
     @Override
     public long getCount(ValueLoadContext context) {
         DataStore store = dataStoreFactory.get(getStoreName(context.getStoreName()));
@@ -279,6 +319,24 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
         return store.getCount(context);
     }
 
+    @Override
+    public int execute(BulkOperationContext context) {
+        MetaClass metaClass = extendedEntities.getEffectiveMetaClass(context.getEntityMetaClass());
+        DataStore store = dataStoreFactory.get(getStoreName(metaClass));
+        context.setAccessConstraints(mergeConstraints(context.getAccessConstraints()));
+        return store.execute(context);
+    }
+
+    @Override
+    public <E> FluentBulkUpdate<E> update(Class<E> entityClass) {
+        return new FluentBulkUpdate<>(metadata.getClass(entityClass), this);
+    }
+
+    @Override
+    public <E> FluentBulkDelete<E> delete(Class<E> entityClass) {
+        return new FluentBulkDelete<>(metadata.getClass(entityClass), this);
+    }
+
     @Override
     public <E> FluentLoader<E> load(Class<E> entityClass) {
         //noinspection unchecked
@@ -314,6 +372,7 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
         SaveContext newCtx = new SaveContext();
         newCtx.setHints(context.getHints());
         newCtx.setDiscardSaved(context.isDiscardSaved());
+        newCtx.setSkipReload(context.isSkipReload());
         newCtx.setAccessConstraints(context.getAccessConstraints());
         newCtx.setJoinTransaction(context.isJoinTransaction());
         return newCtx;
@@ -400,6 +459,18 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
         crossDataStoreReferenceLoader.processEntities(entities);
     }
 
+    /**
+     * Checks that the data store applies the sort key of the query, otherwise the first page would be returned
+     * instead of the next one.
+     */
+    protected void checkKeysetPagination(DataStore dataStore, LoadContext<?> context) {
+        LoadContext.Query query = context.getQuery();
+        if (query != null && query.getAfterKey() != null && !dataStore.supportsKeysetPagination(context)) {
+            throw new IllegalStateException(String.format(
+                    "Data store '%s' can't apply keyset pagination to %s", dataStore.getName(), context));
+        }
+    }
+
     protected String getStoreName(MetaClass metaClass) {
         return metaClass.getStore().getName();
     }
@@ -16,20 +16,32 @@
 
 package io.jmix.core.impl.scanning;
 
+import io.jmix.core.CoreProperties;
 import io.jmix.core.JmixModuleDescriptor;
 import io.jmix.core.JmixModules;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.apache.commons.io.IOUtils;
 import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Scans classpath of all Jmix modules used in the application and detects classes according to
@@ -37,12 +49,19 @@ import java.util.stream.Collectors;
  * <p>
  * Detected class names are stored and available through the {@link #getClassNames(Class)} method. This method
  * accepts a {@code ClasspathScanCandidateDetector} type and returns names of classes selected by this detector.
+ * <p>
+ * The {@value #CLASS_INDEX_FILE_NAME} files generated by the Jmix Gradle plugin in the module base package are used as
+ * a hint: classes listed in an index are read directly, looking them up in other classpath roots if they are missing
+ * in the root of the index. Then all roots of the package are listed and the classes not read from an index are
+ * scanned as usual, so a stale or incomplete index doesn't lead to missing classes.
  */
 @Component("core_JmixModulesClasspathScanner")
 public class JmixModulesClasspathScanner extends AbstractClasspathScanner {
 
     private static final Logger log = LoggerFactory.getLogger(JmixModulesClasspathScanner.class);
 
+    public static final String CLASS_INDEX_FILE_NAME = "jmix-classes.idx";
+
     protected MetadataReaderFactory metadataReaderFactory;
 
     protected List<String> basePackages = Collections.emptyList();
@@ -55,6 +74,12 @@ public class JmixModulesClasspathScanner extends AbstractClasspathScanner {
     @Autowired
     protected List<ClasspathScanCandidateDetector> candidateDetectors;
 
+    @Autowired
+    protected CoreProperties coreProperties;
+
+    protected int indexedClassesCount;
+    protected int scannedClassesCount;
+
     @Autowired
     public void setMetadataReaderFactory(AnnotationScanMetadataReaderFactory metadataReaderFactory) {
         this.metadataReaderFactory = metadataReaderFactory;
@@ -73,7 +98,7 @@ public class JmixModulesClasspathScanner extends AbstractClasspathScanner {
         long startTime = System.currentTimeMillis();
 
         basePackages.stream()
-                .flatMap(this::scanPackage)
+                .flatMap(this::readPackage)
                 .forEach(metadataReader -> {
                     for (ClasspathScanCandidateDetector detector : candidateDetectors) {
                         if (detector.isCandidate(metadataReader)) {
@@ -84,7 +109,135 @@ public class JmixModulesClasspathScanner extends AbstractClasspathScanner {
                     }
                 });
 
-        log.info("Classpath scan completed in {} ms", System.currentTimeMillis() - startTime);
+        log.info("Classpath scan completed in {} ms: {} classes read using index, {} classes scanned",
+                System.currentTimeMillis() - startTime, indexedClassesCount, scannedClassesCount);
+    }
+
+    /**
+     * Reads classes of the package from all classpath roots. Classes listed in {@value #CLASS_INDEX_FILE_NAME} files
+     * are read first, then the roots are scanned for the classes not listed in the indexes.
+     */
+    protected Stream<MetadataReader> readPackage(String packageName) {
+        if (!coreProperties.isClassIndexEnabled()) {
+            return countScanned(scanPackage(packageName));
+        }
+
+        String packagePath = resolveBasePackage(packageName);
+        ResourcePatternResolver resourcePatternResolver = new PathMatchingResourcePatternResolver(getResourceLoader());
+        Resource[] roots;
+        try {
+            roots = resourcePatternResolver.getResources(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + packagePath + '/');
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to find classpath roots of package " + packageName, e);
+        }
+        if (roots.length == 0) {
+            return countScanned(scanPackage(packageName));
+        }
+
+        List<MetadataReader> metadataReaders = new ArrayList<>();
+        Set<String> indexedClassNames = new HashSet<>();
+        for (Resource root : roots) {
+            try {
+                Resource index = root.createRelative(CLASS_INDEX_FILE_NAME);
+                if (index.exists()) {
+                    metadataReaders.addAll(readIndexedClasses(root, index, packagePath, indexedClassNames));
+                } else {
+                    log.debug("Class index not found in {}", root);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to read classes of package " + packageName + " from " + root, e);
+            }
+        }
+        for (Resource root : roots) {
+            try {
+                scanRoot(resourcePatternResolver, root, packagePath, indexedClassNames)
+                        .forEach(metadataReader -> {
+                            scannedClassesCount++;
+                            metadataReaders.add(metadataReader);
+                        });
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to read classes of package " + packageName + " from " + root, e);
+            }
+        }
+        return metadataReaders.stream();
+    }
+
+    /**
+     * Reads classes listed in the index. A class not found in the root of the index is looked up in the whole
+     * classpath, as it may be compiled to another output directory of the module.
+     *
+     * @param indexedClassNames collects names of the read classes
+     */
+    protected List<MetadataReader> readIndexedClasses(Resource root, Resource index, String packagePath,
+                                                      Set<String> indexedClassNames) throws IOException {
+        List<MetadataReader> metadataReaders = new ArrayList<>();
+        try (InputStream inputStream = index.getInputStream()) {
+            for (String line : IOUtils.readLines(inputStream, StandardCharsets.UTF_8)) {
+                String className = line.trim();
+                if (className.isEmpty() || indexedClassNames.contains(className)) {
+                    continue;
+                }
+                String classPath = ClassUtils.convertClassNameToResourcePath(className) + ClassUtils.CLASS_FILE_SUFFIX;
+                if (!classPath.startsWith(packagePath + '/')) {
+                    continue;
+                }
+                Resource classResource = root.createRelative(classPath.substring(packagePath.length() + 1));
+                if (!classResource.isReadable()) {
+                    classResource = getResourceLoader().getResource(ResourceLoader.CLASSPATH_URL_PREFIX + classPath);
+                }
+                if (classResource.isReadable()) {
+                    metadataReaders.add(getMetadataReaderFactory().getMetadataReader(classResource));
+                    indexedClassNames.add(className);
+                } else {
+                    log.debug("Class {} listed in {} is not found", className, index);
+                }
+            }
+        }
+        indexedClassesCount += metadataReaders.size();
+        return metadataReaders;
+    }
+
+    /**
+     * Scans classes of the root except the ones already read from an index. Only names of the class files are
+     * listed for the indexed classes, their content is not read.
+     */
+    protected Stream<MetadataReader> scanRoot(ResourcePatternResolver resourcePatternResolver, Resource root,
+                                              String packagePath, Set<String> indexedClassNames) throws IOException {
+        String rootUrl = root.getURL().toString();
+        if (!rootUrl.endsWith("/")) {
+            rootUrl += "/";
+        }
+        String finalRootUrl = rootUrl;
+        Resource[] resources = resourcePatternResolver.getResources(rootUrl + DEFAULT_CLASS_RESOURCE_PATTERN);
+        return Arrays.stream(resources)
+                .filter(Resource::isReadable)
+                .filter(resource -> indexedClassNames.isEmpty()
+                        || !indexedClassNames.contains(getClassName(resource, finalRootUrl, packagePath)))
+                .map(resource -> {
+                    try {
+                        return getMetadataReaderFactory().getMetadataReader(resource);
+                    } catch (IOException e) {
+                        throw new RuntimeException("Unable to read resource " + resource, e);
+                    }
+                });
+    }
+
+    @Nullable
+    protected String getClassName(Resource resource, String rootUrl, String packagePath) {
+        try {
+            String url = resource.getURL().toString();
+            if (!url.startsWith(rootUrl) || !url.endsWith(ClassUtils.CLASS_FILE_SUFFIX)) {
+                return null;
+            }
+            String relativePath = url.substring(rootUrl.length(), url.length() - ClassUtils.CLASS_FILE_SUFFIX.length());
+            return ClassUtils.convertResourcePathToClassName(packagePath + '/' + relativePath);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    protected Stream<MetadataReader> countScanned(Stream<MetadataReader> metadataReaders) {
+        return metadataReaders.peek(metadataReader -> scannedClassesCount++);
     }
 
     /**
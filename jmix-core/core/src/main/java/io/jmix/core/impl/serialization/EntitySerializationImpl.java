@@ -22,6 +22,7 @@ import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Table;
 import com.google.gson.*;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
 import io.jmix.core.*;
 import io.jmix.core.accesscontext.ExportImportEntityContext;
 import io.jmix.core.annotation.Secret;
@@ -40,12 +41,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.text.ParseException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component("core_EntitySerialization")
 public class EntitySerializationImpl implements EntitySerialization {
@@ -79,15 +83,24 @@ public class EntitySerializationImpl implements EntitySerialization {
     protected ThreadLocal<EntitySerializationContext> context =
             ThreadLocal.withInitial(EntitySerializationContext::new);
 
+    protected final Map<MetaClass, EntityPlan> entityPlans = new ConcurrentHashMap<>();
+
+    protected final Map<List<Object>, Gson> deserializationGsons = new ConcurrentHashMap<>();
+
     /**
      * Class is used for storing a collection of entities already processed during the serialization.
      */
     protected static class EntitySerializationContext {
         protected Table<Object, MetaClass, Object> processedEntities = HashBasedTable.create();
+        protected Map<MetaClass, Set<MetaProperty>> additionalProperties = new HashMap<>();
 
         protected Table<Object, MetaClass, Object> getProcessedEntities() {
             return processedEntities;
         }
+
+        protected Map<MetaClass, Set<MetaProperty>> getAdditionalProperties() {
+            return additionalProperties;
+        }
     }
 
     @Override
@@ -116,6 +129,30 @@ public class EntitySerializationImpl implements EntitySerialization {
         return createGsonForSerialization(fetchPlan, options).toJson(entities);
     }
 
+    @Override
+    public void toJson(Iterable<?> entities,
+                       Writer writer,
+                       @Nullable FetchPlan fetchPlan,
+                       EntitySerializationOption... options) {
+        context.remove();
+        Gson gson = createGsonForSerialization(fetchPlan, options);
+        try {
+            JsonWriter jsonWriter = gson.newJsonWriter(writer);
+            jsonWriter.beginArray();
+            for (Object entity : entities) {
+                if (entity == null) {
+                    gson.toJson(JsonNull.INSTANCE, jsonWriter);
+                } else {
+                    gson.toJson(entity, entity.getClass(), jsonWriter);
+                }
+            }
+            jsonWriter.endArray();
+            jsonWriter.flush();
+        } catch (IOException e) {
+            throw new EntitySerializationException("Unable to write entities JSON", e);
+        }
+    }
+
     @Override
     public String objectToJson(Object object, EntitySerializationOption... options) {
         context.remove();
@@ -128,7 +165,7 @@ public class EntitySerializationImpl implements EntitySerialization {
                                 @Nullable MetaClass metaClass,
                                 EntitySerializationOption... options) {
         context.remove();
-        return (T) createGsonForDeserialization(metaClass, options).fromJson(json, Entity.class);
+        return (T) getGsonForDeserialization(metaClass, options).fromJson(json, Entity.class);
     }
 
     @Override
@@ -138,13 +175,13 @@ public class EntitySerializationImpl implements EntitySerialization {
         context.remove();
         Type collectionType = new TypeToken<Collection<Entity>>() {
         }.getType();
-        return createGsonForDeserialization(metaClass, options).fromJson(json, collectionType);
+        return getGsonForDeserialization(metaClass, options).fromJson(json, collectionType);
     }
 
     @Override
     public <T> T objectFromJson(String json, Type type, EntitySerializationOption... options) {
         context.remove();
-        return createGsonForDeserialization(null, options).fromJson(json, type);
+        return getGsonForDeserialization(null, options).fromJson(json, type);
     }
 
     protected Gson createGsonForSerialization(@Nullable FetchPlan fetchPlan, EntitySerializationOption... options) {
@@ -162,6 +199,17 @@ public class EntitySerializationImpl implements EntitySerialization {
         return gsonBuilder.create();
     }
 
+    /**
+     * Returns a Gson instance for deserialization. Deserializers keep no state between calls, so the instance is
+     * created once for each combination of the meta-class and options.
+     */
+    protected Gson getGsonForDeserialization(@Nullable MetaClass metaClass, EntitySerializationOption... options) {
+        Set<EntitySerializationOption> optionSet = EnumSet.noneOf(EntitySerializationOption.class);
+        Collections.addAll(optionSet, options);
+        List<Object> key = Arrays.asList(metaClass, optionSet);
+        return deserializationGsons.computeIfAbsent(key, k -> createGsonForDeserialization(metaClass, options));
+    }
+
     protected Gson createGsonForDeserialization(@Nullable MetaClass metaClass, EntitySerializationOption... options) {
         return new GsonBuilder()
                 .registerTypeHierarchyAdapter(Entity.class, new EntityDeserializer(metaClass, options))
@@ -187,6 +235,125 @@ public class EntitySerializationImpl implements EntitySerialization {
         }
     }
 
+    /**
+     * Returns properties of the meta-class resolved for serialization. The result is computed once per meta-class.
+     */
+    protected EntityPlan getEntityPlan(MetaClass metaClass) {
+        return entityPlans.computeIfAbsent(metaClass, this::createEntityPlan);
+    }
+
+    protected EntityPlan createEntityPlan(MetaClass metaClass) {
+        MetaProperty primaryKeyProperty = metadataTools.getPrimaryKeyProperty(metaClass);
+        boolean compositePrimaryKey = metadataTools.hasCompositePrimaryKey(metaClass);
+        Datatype idDatatype = primaryKeyProperty != null && !compositePrimaryKey
+                ? datatypeRegistry.find(primaryKeyProperty.getJavaType())
+                : null;
+
+        Collection<MetaProperty> metaProperties = metaClass.getProperties();
+        List<PropertyPlan> properties = new ArrayList<>(metaProperties.size());
+        for (MetaProperty metaProperty : metaProperties) {
+            properties.add(createPropertyPlan(metaProperty, primaryKeyProperty));
+        }
+
+        String uuidPropertyName = metadataTools.getUuidPropertyName(metaClass.getJavaClass());
+        List<Field> clearableFields = new ArrayList<>();
+        for (MetaProperty metaProperty : metaProperties) {
+            if (metaProperty == primaryKeyProperty || metaProperty.getName().equals(uuidPropertyName)) {
+                continue;
+            }
+            Field field = getField(metaClass.getJavaClass(), metaProperty.getName());
+            if (field != null) {
+                makeFieldAccessible(field);
+                clearableFields.add(field);
+            }
+        }
+
+        return new EntityPlan(primaryKeyProperty, compositePrimaryKey, idDatatype,
+                properties.toArray(new PropertyPlan[0]), clearableFields.toArray(new Field[0]));
+    }
+
+    protected PropertyPlan createPropertyPlan(MetaProperty metaProperty, @Nullable MetaProperty primaryKeyProperty) {
+        return new PropertyPlan(metaProperty,
+                metaProperty.equals(primaryKeyProperty),
+                metadataTools.isJpa(metaProperty),
+                metaProperty.getAnnotatedElement().isAnnotationPresent(Secret.class),
+                extensionResolver.findExtension(metaProperty));
+    }
+
+    protected Set<MetaProperty> getAdditionalProperties(MetaClass metaClass) {
+        return context.get().getAdditionalProperties()
+                .computeIfAbsent(metaClass, metadataTools::getAdditionalProperties);
+    }
+
+    /**
+     * Meta-class properties with their attributes needed for serialization resolved in advance.
+     */
+    protected static class EntityPlan {
+        protected final MetaProperty primaryKeyProperty;
+        protected final boolean compositePrimaryKey;
+        protected final Datatype idDatatype;
+        protected final PropertyPlan[] properties;
+        protected final Map<String, PropertyPlan> propertiesByName;
+        protected final Field[] clearableFields;
+
+        public EntityPlan(@Nullable MetaProperty primaryKeyProperty,
+                          boolean compositePrimaryKey,
+                          @Nullable Datatype idDatatype,
+                          PropertyPlan[] properties,
+                          Field[] clearableFields) {
+            this.primaryKeyProperty = primaryKeyProperty;
+            this.compositePrimaryKey = compositePrimaryKey;
+            this.idDatatype = idDatatype;
+            this.properties = properties;
+            this.clearableFields = clearableFields;
+            this.propertiesByName = new HashMap<>(properties.length * 2);
+            for (PropertyPlan property : properties) {
+                propertiesByName.put(property.name, property);
+            }
+        }
+
+        @Nullable
+        public PropertyPlan getProperty(String name) {
+            return propertiesByName.get(name);
+        }
+    }
+
+    /**
+     * Meta-property with its attributes needed for serialization resolved in advance.
+     */
+    protected static class PropertyPlan {
+        protected final MetaProperty metaProperty;
+        protected final String name;
+        protected final boolean primaryKey;
+        protected final boolean jpa;
+        protected final boolean secret;
+        protected final EntityAttributeSerializationExtension extension;
+
+        public PropertyPlan(MetaProperty metaProperty,
+                            boolean primaryKey,
+                            boolean jpa,
+                            boolean secret,
+                            @Nullable EntityAttributeSerializationExtension extension) {
+            this.metaProperty = metaProperty;
+            this.name = metaProperty.getName();
+            this.primaryKey = primaryKey;
+            this.jpa = jpa;
+            this.secret = secret;
+            this.extension = extension;
+        }
+    }
+
+    /**
+     * Property provided by a {@link io.jmix.core.MetadataExtension}, written without checking
+     * the fetch plan.
+     */
+    protected static class AdditionalPropertyPlan extends PropertyPlan {
+
+        public AdditionalPropertyPlan(PropertyPlan property) {
+            super(property.metaProperty, property.primaryKey, property.jpa, property.secret, property.extension);
+        }
+    }
+
     protected class EntitySerializer implements JsonSerializer<Entity> {
 
         protected boolean compactRepeatedEntities;
@@ -197,6 +364,8 @@ public class EntitySerializationImpl implements EntitySerialization {
         protected boolean ignoreEntityName;
         protected FetchPlan fetchPlan;
 
+        protected Map<MetaClass, PropertyPlan[]> writablePropertiesCache = new HashMap<>();
+
         public EntitySerializer(@Nullable FetchPlan fetchPlan, EntitySerializationOption... options) {
             this.fetchPlan = fetchPlan;
             for (EntitySerializationOption option : options) {
@@ -262,69 +431,100 @@ public class EntitySerializationImpl implements EntitySerialization {
 
         protected void writeIdField(Entity entity, JsonObject jsonObject) {
             MetaClass metaClass = metadata.getClass(entity);
-            MetaProperty primaryKeyProperty = metadataTools.getPrimaryKeyProperty(metaClass);
+            EntityPlan entityPlan = getEntityPlan(metaClass);
+            MetaProperty primaryKeyProperty = entityPlan.primaryKeyProperty;
             if (primaryKeyProperty == null)
                 throw new EntitySerializationException("Primary key property not found for entity " + metaClass);
-            if (metadataTools.hasCompositePrimaryKey(metaClass)) {
+            if (entityPlan.compositePrimaryKey) {
                 JsonObject serializedIdEntity = serializeEntity((Entity) EntityValues.getId(entity), null, Collections.emptySet());
                 jsonObject.add("id", serializedIdEntity);
             } else {
-                Datatype idDatatype = datatypeRegistry.get(primaryKeyProperty.getJavaType());
+                Datatype idDatatype = entityPlan.idDatatype != null
+                        ? entityPlan.idDatatype
+                        : datatypeRegistry.get(primaryKeyProperty.getJavaType());
                 jsonObject.addProperty("id", idDatatype.format(EntityValues.getId(entity)));
             }
         }
 
-        protected boolean propertyWritingAllowed(MetaProperty metaProperty, Entity entity, ExportImportEntityContext exportImportContext) {
-            if (!serializeSecretFields && metaProperty.getAnnotatedElement().isAnnotationPresent(Secret.class)) {
-                return false;
-            }
-            MetaClass metaClass = metadata.getClass(entity);
-
-            String primaryKeyName = metadataTools.getPrimaryKeyName(metaClass);
-            String propertyName = metaProperty.getName();
+        /**
+         * Returns properties of the meta-class which can be written regardless of the entity state: secret,
+         * denied and read-only properties are excluded according to the serialization options. Access constraints
+         * depend on the current user, so the result is cached only for the lifetime of the serializer.
+         */
+        protected PropertyPlan[] getWritableProperties(MetaClass metaClass) {
+            PropertyPlan[] writableProperties = writablePropertiesCache.get(metaClass);
+            if (writableProperties == null) {
+                EntityPlan entityPlan = getEntityPlan(metaClass);
+                Set<MetaProperty> additionalProperties = getAdditionalProperties(metaClass);
+
+                ExportImportEntityContext exportImportEntityContext = new ExportImportEntityContext(metaClass);
+                if (doNotSerializeDeniedProperties) {
+                    accessManager.applyRegisteredConstraints(exportImportEntityContext);
+                }
 
-            if (!Objects.equals(primaryKeyName, propertyName)) {
-                if (metadataTools.isJpa(metaProperty)) {
-                    return entityStates.isLoaded(entity, propertyName) && exportImportContext.canExported(propertyName);
-                } else {
-                    return (!metaProperty.isReadOnly() || !doNotSerializeReadOnlyProperties) && exportImportContext.canExported(propertyName);
+                List<PropertyPlan> properties = new ArrayList<>(entityPlan.properties.length + additionalProperties.size());
+                for (PropertyPlan property : entityPlan.properties) {
+                    if (propertyWritingAllowed(property, exportImportEntityContext)) {
+                        properties.add(property);
+                    }
                 }
+                for (MetaProperty additionalProperty : additionalProperties) {
+                    PropertyPlan property = createAdditionalPropertyPlan(additionalProperty, entityPlan);
+                    if (propertyWritingAllowed(property, exportImportEntityContext)) {
+                        properties.add(property);
+                    }
+                }
+                writableProperties = properties.toArray(new PropertyPlan[0]);
+                writablePropertiesCache.put(metaClass, writableProperties);
             }
+            return writableProperties;
+        }
 
-            return true;
+        protected PropertyPlan createAdditionalPropertyPlan(MetaProperty metaProperty, EntityPlan entityPlan) {
+            return new AdditionalPropertyPlan(createPropertyPlan(metaProperty, entityPlan.primaryKeyProperty));
+        }
+
+        protected boolean propertyWritingAllowed(PropertyPlan property, ExportImportEntityContext exportImportContext) {
+            if (!serializeSecretFields && property.secret) {
+                return false;
+            }
+            if (property.primaryKey) {
+                return true;
+            }
+            if (!property.jpa && property.metaProperty.isReadOnly() && doNotSerializeReadOnlyProperties) {
+                return false;
+            }
+            return exportImportContext.canExported(property.name);
         }
 
         protected void writeFields(Entity entity, JsonObject jsonObject, @Nullable FetchPlan fetchPlan, Set<Entity> cyclicReferences) {
             MetaClass metaClass = metadata.getClass(entity);
-            Collection<MetaProperty> properties = new ArrayList<>(metaClass.getProperties());
+            boolean isNew = entityStates.isNew(entity);
 
-            Set<MetaProperty> additionalProperties = metadataTools.getAdditionalProperties(metaClass);
-            properties.addAll(additionalProperties);
-            ExportImportEntityContext exportImportEntityContext = new ExportImportEntityContext(metaClass);
-            if (doNotSerializeDeniedProperties) {
-                accessManager.applyRegisteredConstraints(exportImportEntityContext);
-            }
+            for (PropertyPlan property : getWritableProperties(metaClass)) {
+                String propertyName = property.name;
+                MetaProperty metaProperty = property.metaProperty;
+                boolean additional = property instanceof AdditionalPropertyPlan;
 
-            for (MetaProperty metaProperty : properties) {
-                if (!propertyWritingAllowed(metaProperty, entity, exportImportEntityContext)) {
+                if (property.jpa && !property.primaryKey && !entityStates.isLoaded(entity, propertyName)) {
                     continue;
                 }
+
                 FetchPlanProperty fetchPlanProperty = null;
-                if (!additionalProperties.contains(metaProperty)) {
+                if (!additional) {
                     if (fetchPlan != null) {
-                        fetchPlanProperty = fetchPlan.getProperty(metaProperty.getName());
+                        fetchPlanProperty = fetchPlan.getProperty(propertyName);
                         if (fetchPlanProperty == null) continue;
                     }
 
-                    if (!entityStates.isNew(entity)
-                            && !entityStates.isLoaded(entity, metaProperty.getName())) {
+                    if (!isNew && !entityStates.isLoaded(entity, propertyName)) {
                         continue;
                     }
                 }
 
                 Object fieldValue;
                 try {
-                    fieldValue = EntityValues.getValue(entity, metaProperty.getName());
+                    fieldValue = EntityValues.getValue(entity, propertyName);
                 } catch (EntityValueAccessException e) {
                     continue;
                 }
@@ -332,37 +532,37 @@ public class EntitySerializationImpl implements EntitySerialization {
                 //always write nulls here. GSON will not serialize them to the result if
                 //EntitySerializationOptions.SERIALIZE_NULLS was not set.
                 if (fieldValue == null) {
-                    jsonObject.add(metaProperty.getName(), null);
+                    jsonObject.add(propertyName, null);
                     continue;
                 }
 
-                EntityAttributeSerializationExtension extension = extensionResolver.findExtension(metaProperty);
+                EntityAttributeSerializationExtension extension = property.extension;
                 if (extension != null) {
-                    jsonObject.add(metaProperty.getName(), extension.toJson(metaProperty, fieldValue));
+                    jsonObject.add(propertyName, extension.toJson(metaProperty, fieldValue));
                     continue;
                 }
 
                 Range propertyRange = metaProperty.getRange();
                 if (propertyRange.isDatatype()) {
                     if (fieldValue instanceof Collection) {
-                        jsonObject.add(metaProperty.getName(),
+                        jsonObject.add(propertyName,
                                 serializeSimpleCollection((Collection) fieldValue, metaProperty));
                     } else {
                         writeSimpleProperty(jsonObject, fieldValue, metaProperty);
                     }
                 } else if (propertyRange.isEnum()) {
-                    jsonObject.addProperty(metaProperty.getName(), fieldValue.toString());
+                    jsonObject.addProperty(propertyName, fieldValue.toString());
                 } else if (propertyRange.isClass()) {
                     if (fieldValue instanceof Entity) {
                         JsonObject propertyJsonObject = serializeEntity((Entity) fieldValue,
                                 fetchPlanProperty != null ? fetchPlanProperty.getFetchPlan() : null,
                                 new HashSet<>(cyclicReferences));
-                        jsonObject.add(metaProperty.getName(), propertyJsonObject);
+                        jsonObject.add(propertyName, propertyJsonObject);
                     } else if (fieldValue instanceof Collection) {
                         JsonArray jsonArray = serializeCollection((Collection) fieldValue,
                                 fetchPlanProperty != null ? fetchPlanProperty.getFetchPlan() : null,
                                 new HashSet<>(cyclicReferences));
-                        jsonObject.add(metaProperty.getName(), jsonArray);
+                        jsonObject.add(propertyName, jsonArray);
                     }
                 }
             }
@@ -508,13 +708,23 @@ public class EntitySerializationImpl implements EntitySerialization {
 
         protected void readFields(JsonObject jsonObject, Object entity) {
             MetaClass metaClass = metadata.getClass(entity);
-            Set<MetaProperty> additionalMetaProperties = metadataTools.getAdditionalProperties(metaClass);
+            EntityPlan entityPlan = getEntityPlan(metaClass);
+            Set<MetaProperty> additionalMetaProperties = getAdditionalProperties(metaClass);
             for (Map.Entry<String, JsonElement> entry : jsonObject.entrySet()) {
                 String propertyName = entry.getKey();
                 if (!propertyReadRequired(propertyName)) continue;
                 JsonElement propertyValue = entry.getValue();
-                MetaPropertyPath metaPropertyPath = metadataTools.resolveMetaPropertyPathOrNull(metaClass, propertyName);
-                MetaProperty metaProperty = metaPropertyPath != null ? metaPropertyPath.getMetaProperty() : null;
+                MetaProperty metaProperty;
+                EntityAttributeSerializationExtension extension;
+                PropertyPlan property = entityPlan.getProperty(propertyName);
+                if (property != null) {
+                    metaProperty = property.metaProperty;
+                    extension = property.extension;
+                } else {
+                    MetaPropertyPath metaPropertyPath = metadataTools.resolveMetaPropertyPathOrNull(metaClass, propertyName);
+                    metaProperty = metaPropertyPath != null ? metaPropertyPath.getMetaProperty() : null;
+                    extension = metaProperty != null ? extensionResolver.findExtension(metaProperty) : null;
+                }
                 if (metaProperty != null) {
 //                    if (additionalMetaProperties.contains(metaProperty)) {
 //                        fetchDynamicAttributes(entity);
@@ -529,7 +739,6 @@ public class EntitySerializationImpl implements EntitySerialization {
                         continue;
                     }
 
-                    EntityAttributeSerializationExtension extension = extensionResolver.findExtension(metaProperty);
                     if (extension != null) {
                         EntityValues.setValue(entity, propertyName, extension.fromJson(metaProperty, propertyValue));
                         continue;
@@ -682,6 +891,16 @@ public class EntitySerializationImpl implements EntitySerialization {
 
         protected void clearFields(Object entity) {
             MetaClass metaClass = metadata.getClass(entity);
+            if (entity.getClass() == metaClass.getJavaClass()) {
+                for (Field field : getEntityPlan(metaClass).clearableFields) {
+                    try {
+                        field.set(entity, null);
+                    } catch (IllegalAccessException e) {
+                        throw new EntitySerializationException("Can't get access to field " + field.getName() + " of class " + entity.getClass().getName(), e);
+                    }
+                }
+                return;
+            }
             for (MetaProperty metaProperty : metaClass.getProperties()) {
                 if (metaProperty.getName().equals(metadataTools.getPrimaryKeyName(metaClass)) ||
                         metaProperty.getName().equals(metadataTools.getUuidPropertyName(entity.getClass())))
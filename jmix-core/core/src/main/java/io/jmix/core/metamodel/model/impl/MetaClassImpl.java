@@ -145,6 +145,32 @@ public class MetaClassImpl extends MetadataObjectImpl implements MetaClass {
             ((MetaClassImpl) ancestorClass).descendants.add(this);
     }
 
+    /**
+     * Links an ancestor class which own properties are already loaded. Unlike {@link #addAncestor(MetaClass)},
+     * registers copies of the ancestor's properties bound to this class, and properties declared in this class take
+     * precedence over the ancestor's properties with the same names.
+     */
+    public void addLoadedAncestor(MetaClass ancestorClass) {
+        if (!ancestors.contains(ancestorClass)) {
+            ancestors.add(ancestorClass);
+            for (MetaProperty metaProperty : ancestorClass.getOwnProperties()) {
+                registerAncestorProperty(metaProperty);
+            }
+        }
+        if (!((MetaClassImpl) ancestorClass).descendants.contains(this))
+            ((MetaClassImpl) ancestorClass).descendants.add(this);
+    }
+
+    /**
+     * Removes an own property of the class, e.g. when it turns out to redefine a property of an ancestor.
+     */
+    public void removeOwnProperty(String name) {
+        MetaProperty metaProperty = ownPropertyByName.remove(name);
+        if (metaProperty != null) {
+            propertyByName.remove(name, metaProperty);
+        }
+    }
+
     public void registerProperty(MetaProperty metaProperty) {
         propertyByName.put(metaProperty.getName(), metaProperty);
         ownPropertyByName.put(metaProperty.getName(), metaProperty);
@@ -62,6 +62,7 @@ public class MetaPropertyImpl extends MetadataObjectImpl implements MetaProperty
         annotatedElement = prototype.annotatedElement;
         javaType = prototype.javaType;
         declaringClass = prototype.declaringClass;
+        annotations.putAll(prototype.annotations);
     }
 
     @Override
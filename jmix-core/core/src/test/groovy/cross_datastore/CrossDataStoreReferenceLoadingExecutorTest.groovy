@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cross_datastore
+
+import io.jmix.core.impl.CrossDataStoreReferenceLoadingExecutor
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import spock.lang.Specification
+import spock.lang.Timeout
+import test_support.TestCoreProperties
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class CrossDataStoreReferenceLoadingExecutorTest extends Specification {
+
+    CrossDataStoreReferenceLoadingExecutor executor
+
+    def cleanup() {
+        executor?.destroy()
+    }
+
+    def "tasks of different stores run in worker threads concurrently"() {
+        executor = createExecutor(2, 0)
+        def latch = new CountDownLatch(2)
+        def threads = ConcurrentHashMap.newKeySet()
+
+        when:
+        executor.execute([
+                a: { threads << Thread.currentThread(); latch.countDown(); latch.await(5, TimeUnit.SECONDS) } as Runnable,
+                b: { threads << Thread.currentThread(); latch.countDown(); latch.await(5, TimeUnit.SECONDS) } as Runnable
+        ], true)
+
+        then:
+        latch.count == 0
+        threads.size() == 2
+        !threads.contains(Thread.currentThread())
+    }
+
+    def "tasks run in the calling thread if concurrency is not allowed"() {
+        executor = createExecutor(2, 0)
+        def threads = ConcurrentHashMap.newKeySet()
+
+        when:
+        executor.execute([
+                a: { threads << Thread.currentThread() } as Runnable,
+                b: { threads << Thread.currentThread() } as Runnable
+        ], false)
+
+        then:
+        threads == [Thread.currentThread()] as Set
+    }
+
+    @Timeout(10)
+    def "nested A -> B -> C loads run inline in the worker thread"() {
+        executor = createExecutor(2, 1)
+        def loaded = ConcurrentHashMap.newKeySet()
+
+        when: "the load of store A loads references in stores A and B, and the load of B loads references in C"
+        executor.execute([
+                a: {
+                    loaded << 'a'
+                    def workerThread = Thread.currentThread()
+                    executor.execute([
+                            a: { assert Thread.currentThread() == workerThread; loaded << 'a.a' } as Runnable,
+                            b: {
+                                assert Thread.currentThread() == workerThread
+                                loaded << 'a.b'
+                                executor.execute([
+                                        b: { loaded << 'a.b.b' } as Runnable,
+                                        c: { loaded << 'a.b.c' } as Runnable
+                                ], true)
+                            } as Runnable
+                    ], true)
+                } as Runnable,
+                c: { loaded << 'c' } as Runnable
+        ], true)
+
+        then: "nested loads neither wait for the pool nor for the store permits held by the outer load"
+        loaded == ['a', 'a.a', 'a.b', 'a.b.b', 'a.b.c', 'c'] as Set
+    }
+
+    def "exception of a task is rethrown in the calling thread"() {
+        executor = createExecutor(2, 0)
+
+        when:
+        executor.execute([
+                a: { throw new IllegalStateException('load failed') } as Runnable,
+                b: {} as Runnable
+        ], true)
+
+        then:
+        def e = thrown(IllegalStateException)
+        e.message == 'load failed'
+    }
+
+    private static CrossDataStoreReferenceLoadingExecutor createExecutor(int parallelism, int storeConcurrency) {
+        def properties = TestCoreProperties.builder()
+                .setCrossDataStoreReferenceLoadingParallelism(parallelism)
+                .setCrossDataStoreReferenceLoadingStoreConcurrency(storeConcurrency)
+                .build()
+        return new CrossDataStoreReferenceLoadingExecutor(properties, new SimpleMeterRegistry())
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package entity_accessors
+
+import io.jmix.core.CoreConfiguration
+import io.jmix.core.Metadata
+import io.jmix.core.entity.BaseEntityEntry
+import io.jmix.core.entity.EntityValues
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.test.context.ContextConfiguration
+import spock.lang.Specification
+import test_support.app.TestAppConfiguration
+import test_support.app.entity.accessors.AccessorsEntity
+import test_support.base.TestBaseConfiguration
+
+@ContextConfiguration(classes = [CoreConfiguration, TestAppConfiguration, TestBaseConfiguration])
+class GeneratedAttributeAccessorsTest extends Specification {
+
+    @Autowired
+    Metadata metadata
+
+    def "enhanced entity entry declares generated accessors"() {
+        def entity = metadata.create(AccessorsEntity)
+        def entryClass = entity.__getEntityEntry().getClass()
+
+        expect:
+        entryClass.getDeclaredMethod('getSourceAttributeValue', String) != null
+        entryClass.getDeclaredMethod('setSourceAttributeValue', String, Object) != null
+    }
+
+    def "attributes with plain accessors are read and written by generated switch"() {
+        def entity = metadata.create(AccessorsEntity)
+        BaseEntityEntry entry = (BaseEntityEntry) entity.__getEntityEntry()
+
+        when:
+        def nameSet = entry.setSourceAttributeValue('name', 'entity-1')
+        def countSet = entry.setSourceAttributeValue('count', 5)
+        def activeSet = entry.setSourceAttributeValue('active', true)
+
+        then:
+        nameSet && countSet && activeSet
+        entity.name == 'entity-1'
+        entity.count == 5
+        entity.active
+
+        entry.getSourceAttributeValue('name') == 'entity-1'
+        entry.getSourceAttributeValue('count') == 5
+        entry.getSourceAttributeValue('active') == true
+    }
+
+    def "other attributes fall back to reflection"() {
+        def entity = metadata.create(AccessorsEntity)
+        entity.name = 'entity-1'
+        entity.count = 2
+        BaseEntityEntry entry = (BaseEntityEntry) entity.__getEntityEntry()
+
+        expect: "overloaded setter and method-based attribute have no generated accessors"
+        !entry.setSourceAttributeValue('code', 'code-1')
+        entry.getSourceAttributeValue('description').is(BaseEntityEntry.NO_GENERATED_ACCESSOR)
+        entry.getSourceAttributeValue('unknown').is(BaseEntityEntry.NO_GENERATED_ACCESSOR)
+
+        and: "they are still accessible by name"
+        EntityValues.getValue(entity, 'description') == 'entity-1: 2'
+    }
+
+    def "attribute access by name goes through generated accessors"() {
+        def entity = metadata.create(AccessorsEntity)
+
+        when:
+        EntityValues.setValue(entity, 'count', 7)
+        EntityValues.setValue(entity, 'active', true)
+
+        then:
+        entity.count == 7
+        entity.active
+        EntityValues.getValue(entity, 'count') == 7
+        EntityValues.getValue(entity, 'active') == true
+    }
+}
@@ -58,4 +58,21 @@ class EntitiesScannerTest extends Specification {
             entity == 'test_support.base.entity.BaseUuidEntity'
         }
     }
+
+    def "reading package by classpath roots finds the same classes as scanning"() {
+
+        def scanner = context.getBean(JmixModulesClasspathScanner)
+
+        when:
+
+        def readClasses = scanner.readPackage('test_support.base')
+                .collect { it.classMetadata.className } as Set
+        def scannedClasses = scanner.scanPackage('test_support.base')
+                .collect { it.classMetadata.className } as Set
+
+        then:
+
+        !readClasses.isEmpty()
+        readClasses == scannedClasses
+    }
 }
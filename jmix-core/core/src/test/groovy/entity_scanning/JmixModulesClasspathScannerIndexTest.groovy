@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package entity_scanning
+
+import io.jmix.core.impl.scanning.JmixModulesClasspathScanner
+import org.springframework.context.support.GenericApplicationContext
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory
+import spock.lang.Specification
+import test_support.TestCoreProperties
+
+class JmixModulesClasspathScannerIndexTest extends Specification {
+
+    static final String PACKAGE_PATH = 'test_support/app/entity'
+
+    File javaOutputDir
+    File groovyOutputDir
+    GenericApplicationContext context
+
+    void setup() {
+        // emulate Java and Groovy class output directories of a module, the index is written to the Java one
+        javaOutputDir = File.createTempDir()
+        groovyOutputDir = File.createTempDir()
+        copyClass('Pet', javaOutputDir)
+        copyClass('Owner', groovyOutputDir)
+        copyClass('PetType', groovyOutputDir)
+
+        context = new GenericApplicationContext()
+        context.setClassLoader(new URLClassLoader(
+                [javaOutputDir.toURI().toURL(), groovyOutputDir.toURI().toURL()] as URL[], (ClassLoader) null))
+        context.refresh()
+    }
+
+    void cleanup() {
+        context.close()
+        javaOutputDir.deleteDir()
+        groovyOutputDir.deleteDir()
+    }
+
+    def "classes listed in index are read from all output directories"() {
+        new File(javaOutputDir, "$PACKAGE_PATH/$JmixModulesClasspathScanner.CLASS_INDEX_FILE_NAME").text = '''
+            test_support.app.entity.Owner
+            test_support.app.entity.Pet
+            test_support.app.entity.Removed
+            '''.stripIndent()
+
+        def scanner = createScanner(true)
+
+        when:
+        def classNames = scanner.readPackage('test_support.app.entity')
+                .map { it.classMetadata.className }
+                .toList()
+
+        then: "Owner is listed in the index of the Java directory but compiled to the Groovy one"
+        classNames.sort() == ['test_support.app.entity.Owner', 'test_support.app.entity.Pet', 'test_support.app.entity.PetType']
+        scanner.indexedClassesCount == 2
+
+        and: "the Groovy directory is scanned without reading indexed classes again"
+        scanner.scannedClassesCount == 1
+    }
+
+    def "classes missing in index are scanned"() {
+        new File(javaOutputDir, "$PACKAGE_PATH/$JmixModulesClasspathScanner.CLASS_INDEX_FILE_NAME").text = 'test_support.app.entity.Owner'
+
+        def scanner = createScanner(true)
+
+        when:
+        def classNames = scanner.readPackage('test_support.app.entity')
+                .map { it.classMetadata.className }
+                .toList()
+
+        then: "Pet is compiled to the root of the index but not listed in it"
+        classNames.sort() == ['test_support.app.entity.Owner', 'test_support.app.entity.Pet', 'test_support.app.entity.PetType']
+        scanner.indexedClassesCount == 1
+        scanner.scannedClassesCount == 2
+    }
+
+    def "all classes are scanned if index is disabled"() {
+        new File(javaOutputDir, "$PACKAGE_PATH/$JmixModulesClasspathScanner.CLASS_INDEX_FILE_NAME").text = 'test_support.app.entity.Pet'
+
+        def scanner = createScanner(false)
+
+        when:
+        def classNames = scanner.readPackage('test_support.app.entity')
+                .map { it.classMetadata.className }
+                .toList()
+
+        then:
+        classNames.sort() == ['test_support.app.entity.Owner', 'test_support.app.entity.Pet', 'test_support.app.entity.PetType']
+        scanner.indexedClassesCount == 0
+    }
+
+    private JmixModulesClasspathScanner createScanner(boolean classIndexEnabled) {
+        def scanner = new JmixModulesClasspathScanner()
+        scanner.metadataReaderFactory = new SimpleMetadataReaderFactory(context.getClassLoader())
+        scanner.coreProperties = TestCoreProperties.builder().setClassIndexEnabled(classIndexEnabled).build()
+        scanner.applicationContext = context
+        return scanner
+    }
+
+    private void copyClass(String simpleName, File outputDir) {
+        File file = new File(outputDir, "$PACKAGE_PATH/${simpleName}.class")
+        file.parentFile.mkdirs()
+        getClass().getResourceAsStream("/$PACKAGE_PATH/${simpleName}.class").withCloseable { file.bytes = it.bytes }
+    }
+}
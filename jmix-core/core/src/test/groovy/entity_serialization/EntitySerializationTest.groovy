@@ -69,4 +69,41 @@ class EntitySerializationTest extends Specification {
         jsonFields['regularField'] == 'regular'
         jsonFields['secretField'] == 'secret'
     }
+
+    def "should write entities to writer as the same JSON array as collection serialization"() {
+
+        TestSecretFieldEntity entity1 = metadata.create(TestSecretFieldEntity.class)
+        entity1.regularField = 'regular1'
+        TestSecretFieldEntity entity2 = metadata.create(TestSecretFieldEntity.class)
+        entity2.regularField = 'regular2'
+
+        def writer = new StringWriter()
+
+        when:
+
+        entitySerialization.toJson([entity1, entity2], writer, null, EntitySerializationOption.SERIALIZE_INSTANCE_NAME)
+
+        then:
+        writer.toString() == entitySerialization.toJson([entity1, entity2], null, EntitySerializationOption.SERIALIZE_INSTANCE_NAME)
+    }
+
+    def "should restore entities of the same class from JSON array"() {
+
+        def entities = (1..3).collect {
+            TestSecretFieldEntity entity = metadata.create(TestSecretFieldEntity.class)
+            entity.regularField = "regular$it".toString()
+            entity.secretField = "secret$it".toString()
+            entity
+        }
+
+        when:
+
+        def json = entitySerialization.toJson(entities, null, EntitySerializationOption.SERIALIZE_SECRET_FIELDS)
+        Collection<TestSecretFieldEntity> restored = entitySerialization.entitiesCollectionFromJson(json, null)
+
+        then:
+        restored*.id == entities*.id
+        restored*.regularField == ['regular1', 'regular2', 'regular3']
+        restored*.secretField == ['secret1', 'secret2', 'secret3']
+    }
 }
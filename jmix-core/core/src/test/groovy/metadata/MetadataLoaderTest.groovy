@@ -17,13 +17,27 @@
 package metadata
 
 import io.jmix.core.CoreConfiguration
+import io.jmix.core.Messages
+import io.jmix.core.Stores
+import io.jmix.core.impl.MetaModelLoader
 import io.jmix.core.impl.MetadataLoader
+import io.jmix.core.impl.scanning.EntityDetector
+import io.jmix.core.impl.scanning.JmixModulesClasspathScanner
+import io.jmix.core.metamodel.datatype.DatatypeRegistry
+import io.jmix.core.metamodel.datatype.FormatStringsRegistry
+import io.jmix.core.metamodel.model.MetaClass
+import io.jmix.core.metamodel.model.MetaProperty
+import io.jmix.core.metamodel.model.Session
+import io.jmix.core.metamodel.model.impl.SessionImpl
 import org.springframework.test.context.ContextConfiguration
 import spock.lang.Specification
 
 import test_support.addon1.TestAddon1Configuration
 import test_support.addon1.entity.TestAddon1Entity
+import test_support.app.entity.redefined_properties.BaseRedefinedEntity
+import test_support.app.entity.redefined_properties.ChildRedefinedEntity
 import test_support.base.TestBaseConfiguration
+import test_support.TestCoreProperties
 import test_support.base.entity.BaseUuidEntity
 
 import org.springframework.beans.factory.annotation.Autowired
@@ -34,6 +48,21 @@ class MetadataLoaderTest extends Specification {
     @Autowired
     MetadataLoader metadataLoader
 
+    @Autowired
+    JmixModulesClasspathScanner classpathScanner
+
+    @Autowired
+    DatatypeRegistry datatypeRegistry
+
+    @Autowired
+    Stores stores
+
+    @Autowired
+    FormatStringsRegistry formatStringsRegistry
+
+    @Autowired
+    Messages messages
+
     def "loads metadata from core and add-on"() {
 
         given:
@@ -45,4 +74,73 @@ class MetadataLoaderTest extends Specification {
         session.findClass(BaseUuidEntity)
         session.findClass(TestAddon1Entity)
     }
+
+    def "parallel loading creates the same meta-model as sequential loading"() {
+
+        given:
+
+        def classNames = classpathScanner.getClassNames(EntityDetector)
+
+        when:
+
+        def sequentialSession = loadModel(classNames, 1)
+        def parallelSession = loadModel(classNames, 4)
+
+        then:
+
+        describe(parallelSession) == describe(sequentialSession)
+    }
+
+    def "parallel loading keeps ancestor property redefined in descendant"() {
+
+        given:
+
+        def classNames = new LinkedHashSet([BaseRedefinedEntity.name, ChildRedefinedEntity.name])
+
+        when:
+
+        def sequentialSession = loadModel(classNames, 1)
+        def parallelSession = loadModel(classNames, 2)
+
+        then:
+
+        describe(parallelSession) == describe(sequentialSession)
+
+        def property = parallelSession.getClass(ChildRedefinedEntity).getProperty('code')
+        property.javaType == String
+        property.domain.javaClass == ChildRedefinedEntity
+        parallelSession.getClass(ChildRedefinedEntity).ownProperties.empty
+    }
+
+    private Session loadModel(Set<String> classNames, int parallelism) {
+        def loader = new MetaModelLoader(datatypeRegistry, stores, formatStringsRegistry, messages)
+        loader.coreProperties = TestCoreProperties.builder().setMetadataLoadingParallelism(parallelism).build()
+
+        def session = new SessionImpl()
+        loader.loadModel(session, classNames)
+        return session
+    }
+
+    private static Map<String, Object> describe(Session session) {
+        session.classes.collectEntries { MetaClass metaClass ->
+            [(metaClass.name): [
+                    ancestors  : metaClass.ancestors*.name,
+                    descendants: metaClass.descendants*.name.toSorted(),
+                    store      : metaClass.store.name,
+                    annotations: metaClass.annotations.keySet().toSorted(),
+                    properties : metaClass.properties.collectEntries { MetaProperty property ->
+                        [(property.name): [
+                                domain     : property.domain.name,
+                                type       : property.type,
+                                range      : "${property.range.class.simpleName}:${property.range.cardinality}".toString(),
+                                mandatory  : property.mandatory,
+                                readOnly   : property.readOnly,
+                                inverse    : property.inverse?.toString(),
+                                store      : property.store?.name,
+                                annotations: property.annotations.keySet().toSorted()
+                        ]]
+                    }
+            ]]
+        }
+    }
 }
@@ -42,13 +42,20 @@ public class TestCoreProperties extends CoreProperties {
                               boolean triggerFilesEnabled,
                               Duration triggerFilesProcessInterval,
                               boolean roundDecimalValueByFormat,
-                              boolean skipNullOrEmptyConditionsByDefault) {
+                              boolean skipNullOrEmptyConditionsByDefault,
+                              boolean classIndexEnabled,
+                              int metadataLoadingParallelism,
+                              int crossDataStoreReferenceLoadingParallelism,
+                              int crossDataStoreReferenceLoadingStoreConcurrency,
+                              int concurrentLoadParallelism) {
         super(webHostName, webPort, confDir, workDir, tempDir, dbDir, availableLocales,
                 crossDataStoreReferenceLoadingBatchSize, idGenerationForEntitiesInAdditionalDataStoresEnabled,
                 dom4jMaxPoolSize, dom4jMaxBorrowWaitMillis, anonymousAuthenticationTokenKey, defaultFileStorage,
                 entitySerializationTokenRequired, entitySerializationTokenEncryptionKey,
                 legacyFetchPlanSerializationAttributeName, triggerFilesEnabled, triggerFilesProcessInterval,
-                roundDecimalValueByFormat, skipNullOrEmptyConditionsByDefault);
+                roundDecimalValueByFormat, skipNullOrEmptyConditionsByDefault, classIndexEnabled,
+                metadataLoadingParallelism, crossDataStoreReferenceLoadingParallelism,
+                crossDataStoreReferenceLoadingStoreConcurrency, concurrentLoadParallelism);
     }
 
     public static Builder builder() {
@@ -76,6 +83,11 @@ public class TestCoreProperties extends CoreProperties {
         Duration triggerFilesProcessInterval = Duration.ofSeconds(5000);
         boolean roundDecimalValueByFormat = true;
         boolean skipNullOrEmptyConditionsByDefault = false;
+        boolean classIndexEnabled = true;
+        int metadataLoadingParallelism = 1;
+        int crossDataStoreReferenceLoadingParallelism = 1;
+        int crossDataStoreReferenceLoadingStoreConcurrency = 0;
+        int concurrentLoadParallelism = 1;
 
         public Builder setWebHostName(String webHostName) {
             this.webHostName = webHostName;
@@ -177,6 +189,31 @@ public class TestCoreProperties extends CoreProperties {
             return this;
         }
 
+        public Builder setClassIndexEnabled(boolean classIndexEnabled) {
+            this.classIndexEnabled = classIndexEnabled;
+            return this;
+        }
+
+        public Builder setMetadataLoadingParallelism(int metadataLoadingParallelism) {
+            this.metadataLoadingParallelism = metadataLoadingParallelism;
+            return this;
+        }
+
+        public Builder setCrossDataStoreReferenceLoadingParallelism(int crossDataStoreReferenceLoadingParallelism) {
+            this.crossDataStoreReferenceLoadingParallelism = crossDataStoreReferenceLoadingParallelism;
+            return this;
+        }
+
+        public Builder setCrossDataStoreReferenceLoadingStoreConcurrency(int crossDataStoreReferenceLoadingStoreConcurrency) {
+            this.crossDataStoreReferenceLoadingStoreConcurrency = crossDataStoreReferenceLoadingStoreConcurrency;
+            return this;
+        }
+
+        public Builder setConcurrentLoadParallelism(int concurrentLoadParallelism) {
+            this.concurrentLoadParallelism = concurrentLoadParallelism;
+            return this;
+        }
+
         public TestCoreProperties build() {
             return new TestCoreProperties(
                     this.webHostName,
@@ -198,7 +235,12 @@ public class TestCoreProperties extends CoreProperties {
                     this.triggerFilesEnabled,
                     this.triggerFilesProcessInterval,
                     this.roundDecimalValueByFormat,
-                    this.skipNullOrEmptyConditionsByDefault);
+                    this.skipNullOrEmptyConditionsByDefault,
+                    this.classIndexEnabled,
+                    this.metadataLoadingParallelism,
+                    this.crossDataStoreReferenceLoadingParallelism,
+                    this.crossDataStoreReferenceLoadingStoreConcurrency,
+                    this.concurrentLoadParallelism);
         }
     }
 }
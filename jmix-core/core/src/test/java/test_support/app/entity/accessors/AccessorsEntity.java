@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test_support.app.entity.accessors;
+
+import io.jmix.core.entity.annotation.JmixGeneratedValue;
+import io.jmix.core.entity.annotation.JmixId;
+import io.jmix.core.metamodel.annotation.DependsOnProperties;
+import io.jmix.core.metamodel.annotation.JmixEntity;
+import io.jmix.core.metamodel.annotation.JmixProperty;
+
+import java.util.UUID;
+
+@JmixEntity(name = "test_AccessorsEntity", annotatedPropertiesOnly = true)
+public class AccessorsEntity {
+
+    @JmixId
+    @JmixGeneratedValue
+    private UUID id;
+
+    @JmixProperty
+    private String name;
+
+    @JmixProperty
+    private int count;
+
+    @JmixProperty
+    private boolean active;
+
+    @JmixProperty
+    private String code;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public void setCode(Integer code) {
+        this.code = code == null ? null : code.toString();
+    }
+
+    @JmixProperty
+    @DependsOnProperties({"name", "count"})
+    public String getDescription() {
+        return name + ": " + count;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test_support.app.entity.redefined_properties;
+
+import io.jmix.core.metamodel.annotation.JmixEntity;
+
+@JmixEntity
+public class ChildRedefinedEntity extends BaseRedefinedEntity {
+
+    private Integer code;
+
+    public Integer getChildCode() {
+        return code;
+    }
+
+    public void setChildCode(Integer code) {
+        this.code = code;
+    }
+}
@@ -33,17 +33,40 @@ public class DataProperties {
     String uniqueConstraintViolationPattern;
     boolean useUserLocaleForRelativeDateTimeMoments;
 
+    /**
+     * Maximum number of parsed JPQL query trees kept in memory. Zero disables caching of parsed queries.
+     */
+    int jpqlParseCacheSize;
+
+    /**
+     * Maximum number of JPQL transformation results kept in memory. Zero disables caching of transformations.
+     */
+    int jpqlTransformationCacheSize;
+
+    /**
+     * Percentage of the number id cache block remaining at which the next block is requested from the sequence in
+     * background. Zero disables prefetching, so the next block is requested by the thread that exhausts the current
+     * one.
+     */
+    int numberIdPrefetchThreshold;
+
     public DataProperties(
             @DefaultValue("true") boolean useReadOnlyTransactionForLoad,
             @DefaultValue("100") int numberIdCacheSize,
             boolean useEntityDataStoreForIdSequence,
             @Nullable String uniqueConstraintViolationPattern,
-            @DefaultValue("true") boolean useUserLocaleForRelativeDateTimeMoments) {
+            @DefaultValue("true") boolean useUserLocaleForRelativeDateTimeMoments,
+            @DefaultValue("1000") int jpqlParseCacheSize,
+            @DefaultValue("5000") int jpqlTransformationCacheSize,
+            @DefaultValue("20") int numberIdPrefetchThreshold) {
         this.useReadOnlyTransactionForLoad = useReadOnlyTransactionForLoad;
         this.numberIdCacheSize = numberIdCacheSize;
         this.useEntityDataStoreForIdSequence = useEntityDataStoreForIdSequence;
         this.uniqueConstraintViolationPattern = uniqueConstraintViolationPattern;
         this.useUserLocaleForRelativeDateTimeMoments = useUserLocaleForRelativeDateTimeMoments;
+        this.jpqlParseCacheSize = jpqlParseCacheSize;
+        this.jpqlTransformationCacheSize = jpqlTransformationCacheSize;
+        this.numberIdPrefetchThreshold = numberIdPrefetchThreshold;
     }
 
     public boolean isUseReadOnlyTransactionForLoad() {
@@ -69,4 +92,25 @@ public class DataProperties {
     public boolean isUseUserLocaleForRelativeDateTimeMoments() {
         return useUserLocaleForRelativeDateTimeMoments;
     }
+
+    /**
+     * @see #jpqlParseCacheSize
+     */
+    public int getJpqlParseCacheSize() {
+        return jpqlParseCacheSize;
+    }
+
+    /**
+     * @see #jpqlTransformationCacheSize
+     */
+    public int getJpqlTransformationCacheSize() {
+        return jpqlTransformationCacheSize;
+    }
+
+    /**
+     * @see #numberIdPrefetchThreshold
+     */
+    public int getNumberIdPrefetchThreshold() {
+        return numberIdPrefetchThreshold;
+    }
 }
@@ -17,6 +17,8 @@ package io.jmix.data;
 
 import io.jmix.data.impl.jpql.DomainModel;
 import io.jmix.data.impl.jpql.DomainModelBuilder;
+import io.jmix.data.impl.jpql.JpqlParseCache;
+import io.jmix.data.impl.jpql.transform.CachingQueryTransformer;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,11 +43,26 @@ public class QueryTransformerFactory {
     @Autowired
     protected ObjectProvider<QueryParser> queryParserProvider;
 
+    @Autowired
+    protected JpqlParseCache parseCache;
+
+    @Autowired
+    protected DataProperties dataProperties;
+
+    /**
+     * Returns a transformer of the given query. If caching of transformations is enabled, the query is parsed only
+     * when the same sequence of transformations has not been applied to it before.
+     */
     public QueryTransformer transformer(String query) {
         if (domainModel == null) {
             domainModel = domainModelBuilder.produce();
         }
-        return beanFactory.getBean(QueryTransformer.class, domainModel, query);
+        DomainModel model = domainModel;
+        if (dataProperties.getJpqlTransformationCacheSize() > 0) {
+            return new CachingQueryTransformer(model, query, parseCache,
+                    () -> beanFactory.getBean(QueryTransformer.class, model, query));
+        }
+        return beanFactory.getBean(QueryTransformer.class, model, query);
     }
 
     public QueryParser parser(String query) {
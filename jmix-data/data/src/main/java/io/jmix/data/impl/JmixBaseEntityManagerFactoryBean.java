@@ -23,11 +23,13 @@ import io.jmix.core.Stores;
 import io.jmix.data.persistence.DbmsSpecifics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 
 import java.util.List;
 
-public class JmixBaseEntityManagerFactoryBean extends LocalContainerEntityManagerFactoryBean {
+public class JmixBaseEntityManagerFactoryBean extends LocalContainerEntityManagerFactoryBean implements EnvironmentAware {
     protected String storeName;
     protected DbmsSpecifics dbmsSpecifics;
     protected JmixModules jmixModules;
@@ -65,4 +67,29 @@ public class JmixBaseEntityManagerFactoryBean extends LocalContainerEntityManage
 
         getJpaPropertyMap().putAll(dbmsSpecifics.getDbmsFeatures(storeName).getJpaParameters());
     }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        setupBatchWriting(environment);
+    }
+
+    protected void setupBatchWriting(Environment environment) {
+        Integer batchSize = environment.getProperty(getStorePropertyName(
+                PersistenceUnitProperties.BATCH_WRITING_SIZE_PROPERTY), Integer.class);
+        if (batchSize != null && batchSize > 0) {
+            log.info("Using JDBC batch writing of size {} for '{}' store", batchSize, storeName);
+            getJpaPropertyMap().put("eclipselink.jdbc.batch-writing", "JDBC");
+            getJpaPropertyMap().put("eclipselink.jdbc.batch-writing.size", batchSize.toString());
+        }
+
+        Boolean orderWrites = environment.getProperty(getStorePropertyName(
+                PersistenceUnitProperties.ORDER_WRITES_PROPERTY), Boolean.class);
+        if (orderWrites != null) {
+            getJpaPropertyMap().put("eclipselink.persistence-context.commit-order", orderWrites ? "Id" : "None");
+        }
+    }
+
+    protected String getStorePropertyName(String propertyName) {
+        return Stores.isMain(storeName) ? propertyName : propertyName + "-" + storeName;
+    }
 }
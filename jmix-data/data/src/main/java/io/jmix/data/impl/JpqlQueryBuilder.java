@@ -35,6 +35,7 @@ import io.jmix.data.impl.jpql.generator.ConditionGenerationContext;
 import io.jmix.data.impl.jpql.generator.ConditionJpqlGenerator;
 import io.jmix.data.impl.jpql.generator.ParameterJpqlGenerator;
 import io.jmix.data.impl.jpql.generator.SortJpqlGenerator;
+import io.jmix.data.persistence.JpqlSortExpressionProvider;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.Query;
@@ -45,6 +46,8 @@ import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -77,6 +80,13 @@ public class JpqlQueryBuilder<Q extends JmixQuery> {
 
     protected boolean distinct;
 
+    protected List<Object> afterKey;
+
+    protected static final String KEYSET_PARAMETER_PREFIX = "_keyset";
+    protected static final Pattern ORDER_BY_PATTERN = Pattern.compile("\\border\\s+by\\b", Pattern.CASE_INSENSITIVE);
+    protected static final Pattern KEYSET_ORDER_MODIFIERS_PATTERN =
+            Pattern.compile("(?i)(\\s+(asc|desc))?(\\s+nulls\\s+(first|last))?\\s*$");
+
     @Autowired
     protected Metadata metadata;
 
@@ -89,6 +99,9 @@ public class JpqlQueryBuilder<Q extends JmixQuery> {
     @Autowired
     protected SortJpqlGenerator sortJpqlGenerator;
 
+    @Autowired
+    protected JpqlSortExpressionProvider jpqlSortExpressionProvider;
+
     @Autowired
     protected QueryTransformerFactory queryTransformerFactory;
 
@@ -166,6 +179,43 @@ public class JpqlQueryBuilder<Q extends JmixQuery> {
         return this;
     }
 
+    /**
+     * Sets the sort key of the entity after which the results start.
+     *
+     * @see io.jmix.core.LoadContext.Query#setAfterKey(List)
+     */
+    public JpqlQueryBuilder setAfterKey(@Nullable List<Object> afterKey) {
+        this.afterKey = afterKey;
+        return this;
+    }
+
+    /**
+     * Returns true if the sort key set by {@link #setAfterKey(List)} can be applied to the query: it's an entity query
+     * without its own order by clause, the entity has a simple primary key, and the query is sorted only by the
+     * primary key or mandatory persistent datatype attributes. Rows having null in a sort attribute could not be
+     * compared with the key.
+     */
+    public boolean isKeysetApplicable() {
+        if (entityName == null
+                || queryString != null && ORDER_BY_PATTERN.matcher(queryString).find()) {
+            return false;
+        }
+        MetaClass metaClass = metadata.getClass(entityName);
+        if (metadataTools.hasCompositePrimaryKey(metaClass)) {
+            return false;
+        }
+        String pkName = getPrimaryKeyProperty().getName();
+        if (sort != null) {
+            for (Sort.Order order : sort.getOrders()) {
+                MetaPropertyPath propertyPath = metaClass.getPropertyPath(order.getProperty());
+                if (propertyPath == null || !isKeysetProperty(propertyPath, pkName)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     public String getResultQueryString() {
         if (resultQuery == null) {
             buildResultQuery();
@@ -231,7 +281,11 @@ public class JpqlQueryBuilder<Q extends JmixQuery> {
             }
         }
         applyFiltering();
-        applySorting();
+        if (afterKey != null) {
+            applyKeyset();
+        } else {
+            applySorting();
+        }
         applyDistinct();
         applyCount();
         restrictByPreviousResults();
@@ -243,6 +297,133 @@ public class JpqlQueryBuilder<Q extends JmixQuery> {
         }
     }
 
+    /**
+     * Adds the seek predicate selecting rows following {@link #afterKey} and sorts by the same expressions:
+     * <pre>
+     * where ({E}.a > :_keyset0) or ({E}.a = :_keyset0 and {E}.id > :_keyset1)
+     * order by {E}.a, {E}.id
+     * </pre>
+     * Expressions are obtained from {@link JpqlSortExpressionProvider} as in {@link SortJpqlGenerator}, and the key
+     * values are passed through the same expressions, e.g. {@code upper({E}.a) > upper(:_keyset0)}, so that all
+     * pages follow the same order. An empty key selects the first page without the predicate.
+     */
+    protected void applyKeyset() {
+        if (entityName == null) {
+            throw new IllegalStateException("Keyset pagination is supported for entity queries only");
+        }
+        MetaClass metaClass = metadata.getClass(entityName);
+        if (metadataTools.hasCompositePrimaryKey(metaClass)) {
+            throw new IllegalStateException(
+                    String.format("Keyset pagination is not supported for %s with composite primary key", entityName));
+        }
+        if (queryString != null && ORDER_BY_PATTERN.matcher(queryString).find()) {
+            throw new IllegalStateException("Keyset pagination is not supported for queries with order by clause, " +
+                    "use sort instead");
+        }
+        String pkName = getPrimaryKeyProperty().getName();
+
+        List<Sort.Order> orders = sort == null ? Collections.emptyList() : sort.getOrders();
+        if (!afterKey.isEmpty() && afterKey.size() != orders.size() + 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Keyset pagination requires %d key values (sort properties and id), got %s",
+                    orders.size() + 1, afterKey));
+        }
+
+        List<String> expressions = new ArrayList<>(orders.size() + 1);
+        List<String> keyExpressions = new ArrayList<>(orders.size() + 1);
+        List<String> operators = new ArrayList<>(orders.size() + 1);
+        Map<String, Sort.Direction> sortExpressions = new LinkedHashMap<>();
+        for (Sort.Order order : orders) {
+            MetaPropertyPath propertyPath = checkKeysetProperty(metaClass, order.getProperty(), pkName);
+            addKeysetExpression(propertyPath, order.getDirection(), expressions, keyExpressions, operators,
+                    sortExpressions);
+        }
+        addKeysetExpression(Objects.requireNonNull(metaClass.getPropertyPath(pkName)), Sort.Direction.ASC,
+                expressions, keyExpressions, operators, sortExpressions);
+
+        QueryTransformer transformer = queryTransformerFactory.transformer(resultQuery);
+        if (!afterKey.isEmpty()) {
+            Map<String, Object> parameters = resultParameters == null ? new HashMap<>() : new HashMap<>(resultParameters);
+            StringBuilder predicate = new StringBuilder();
+            for (int i = 0; i < expressions.size(); i++) {
+                Object value = afterKey.get(i);
+                if (value == null) {
+                    throw new IllegalArgumentException(String.format(
+                            "Keyset pagination does not support null key values, got %s", afterKey));
+                }
+                parameters.put(KEYSET_PARAMETER_PREFIX + i, value);
+
+                if (i > 0) {
+                    predicate.append(" or ");
+                }
+                predicate.append("(");
+                for (int j = 0; j < i; j++) {
+                    predicate.append(expressions.get(j)).append(" = ").append(keyExpressions.get(j)).append(" and ");
+                }
+                predicate.append(expressions.get(i)).append(" ").append(operators.get(i)).append(" ")
+                        .append(keyExpressions.get(i));
+                predicate.append(")");
+            }
+            transformer.addWhere("(" + predicate + ")");
+            resultParameters = parameters;
+        }
+        transformer.replaceOrderByExpressions(sortExpressions);
+        resultQuery = transformer.getResult();
+    }
+
+    protected void addKeysetExpression(MetaPropertyPath propertyPath, Sort.Direction direction,
+                                       List<String> expressions, List<String> keyExpressions, List<String> operators,
+                                       Map<String, Sort.Direction> sortExpressions) {
+        String sortExpression = jpqlSortExpressionProvider.getDatatypeSortExpression(propertyPath,
+                direction == Sort.Direction.ASC);
+        String expression = KEYSET_ORDER_MODIFIERS_PATTERN.matcher(sortExpression).replaceFirst("");
+
+        Matcher matcher = Pattern.compile(Pattern.quote("{E}." + propertyPath.toPathString()) + "(?![\\w.$])")
+                .matcher(expression);
+        if (!matcher.find()) {
+            throw new IllegalArgumentException(String.format(
+                    "Keyset pagination does not support sort expression '%s' of '%s'", sortExpression, propertyPath));
+        }
+        String keyExpression = matcher.replaceAll(":" + KEYSET_PARAMETER_PREFIX + expressions.size());
+
+        expressions.add(expression);
+        keyExpressions.add(keyExpression);
+        operators.add(direction == Sort.Direction.DESC ? "<" : ">");
+        sortExpressions.putIfAbsent(sortExpression, direction);
+    }
+
+    protected MetaPropertyPath checkKeysetProperty(MetaClass metaClass, String property, String pkName) {
+        MetaPropertyPath propertyPath = metaClass.getPropertyPath(property);
+        if (propertyPath == null) {
+            throw new IllegalArgumentException(
+                    String.format("Could not resolve property path '%s' in '%s'", property, metaClass));
+        }
+        if (!isKeysetProperty(propertyPath, pkName)) {
+            throw new IllegalArgumentException(String.format(
+                    "Keyset pagination does not support sorting by '%s' in '%s': only mandatory persistent " +
+                            "datatype attributes can be used", property, metaClass));
+        }
+        return propertyPath;
+    }
+
+    protected boolean isKeysetProperty(MetaPropertyPath propertyPath, String pkName) {
+        if (propertyPath.toPathString().equals(pkName)) {
+            return true;
+        }
+        MetaProperty[] metaProperties = propertyPath.getMetaProperties();
+        for (int i = 0; i < metaProperties.length; i++) {
+            MetaProperty metaProperty = metaProperties[i];
+            boolean last = i == metaProperties.length - 1;
+            if (!metadataTools.isJpa(metaProperty)
+                    || !metaProperty.isMandatory()
+                    || (last ? metaProperty.getRange().isClass() || metadataTools.isLob(metaProperty)
+                    : !metadataTools.isEmbedded(metaProperty))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected void applyFiltering() {
         if (condition != null) {
             Set<String> nonNullParamNames = queryParameters.entrySet().stream()
@@ -17,6 +17,7 @@
 package io.jmix.data.impl;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.jmix.core.Metadata;
 import io.jmix.core.MetadataTools;
 import io.jmix.core.annotation.Internal;
@@ -24,22 +25,30 @@ import io.jmix.core.entity.annotation.JmixGeneratedValue;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.data.DataProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import org.springframework.lang.Nullable;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Intermediate cache for generated ids of entities with long/integer PK.
  * The cache size is determined by the {@code jmix.data.numberIdCacheSize} property.
+ * The next block of ids is prefetched according to the {@code jmix.data.numberIdPrefetchThreshold} property.
  */
 @Component("data_NumberIdCache")
 public class NumberIdCache {
 
+    private static final Logger log = LoggerFactory.getLogger(NumberIdCache.class);
+
     @Autowired
     protected Metadata metadata;
     @Autowired
@@ -51,9 +60,54 @@ public class NumberIdCache {
 
     protected ConcurrentMap<String, Generator> cache = new ConcurrentHashMap<>();
 
+    protected ExecutorService prefetchExecutor;
+
+    @PostConstruct
+    protected void init() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1,
+                1L, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder()
+                        .setNameFormat("jmix-number-id-prefetch-%d")
+                        .setDaemon(true)
+                        .build());
+        executor.allowCoreThreadTimeOut(true);
+        prefetchExecutor = executor;
+    }
+
+    @PreDestroy
+    protected void destroy() {
+        prefetchExecutor.shutdownNow();
+    }
+
+    /**
+     * Range of ids reserved by one call of the cached sequence: {@code (sequenceValue, sequenceValue + size]}.
+     */
+    protected static class Block {
+        protected final long sequenceValue;
+        protected final long last;
+        protected final long prefetchMark;
+        protected final AtomicLong counter;
+
+        protected Block(long sequenceValue, int size, int prefetchThreshold) {
+            this.sequenceValue = sequenceValue;
+            this.last = sequenceValue + size;
+            long remaining = (long) size * prefetchThreshold / 100;
+            // the mark is never reached if the block is too small for prefetching
+            this.prefetchMark = remaining > 0 ? last - remaining : Long.MAX_VALUE;
+            this.counter = new AtomicLong(sequenceValue);
+        }
+    }
+
+    /**
+     * Hands out ids of the current block without locking. When the number of remaining ids reaches
+     * {@code jmix.data.numberIdPrefetchThreshold} percent of the block, the next block is requested from the sequence
+     * in background, so the thread exhausting the current block does not wait for the database in most cases.
+     */
     protected class Generator {
-        protected long counter;
-        protected long sequenceValue;
+        protected final AtomicReference<Block> current = new AtomicReference<>();
+        protected final AtomicReference<CompletableFuture<Block>> prefetched = new AtomicReference<>();
+        protected final Object switchLock = new Object();
         protected String entityName;
         protected String sequenceName;
         protected boolean cached;
@@ -65,7 +119,7 @@ public class NumberIdCache {
             this.sequenceName = sequenceName;
             this.cached = cached;
             if (useIdCache()) {
-                createCachedCounter();
+                current.set(createBlock());
             }
         }
 
@@ -73,21 +127,70 @@ public class NumberIdCache {
             return dataProperties.getNumberIdCacheSize() != 0 && cached;
         }
 
-        protected void createCachedCounter() {
-            sequenceValue = numberIdWorker.createCachedLongId(entityName, sequenceName);
-            counter = sequenceValue;
+        protected Block createBlock() {
+            int size = dataProperties.getNumberIdCacheSize();
+            long sequenceValue = numberIdWorker.createCachedLongId(entityName, sequenceName);
+            return new Block(sequenceValue, size, dataProperties.getNumberIdPrefetchThreshold());
         }
 
-        public synchronized long getNext() {
+        public long getNext() {
             if (!useIdCache()) {
                 return numberIdWorker.createLongId(entityName, sequenceName);
-            } else {
-                long next = ++counter;
-                if (next > sequenceValue + dataProperties.getNumberIdCacheSize()) {
-                    createCachedCounter();
-                    next = ++counter;
+            }
+            while (true) {
+                Block block = current.get();
+                if (block != null) {
+                    long next = block.counter.incrementAndGet();
+                    if (next <= block.last) {
+                        if (next == block.prefetchMark) {
+                            prefetchBlock();
+                        }
+                        return next;
+                    }
+                }
+                switchBlock(block);
+            }
+        }
+
+        protected void prefetchBlock() {
+            CompletableFuture<Block> future = new CompletableFuture<>();
+            if (prefetched.compareAndSet(null, future)) {
+                try {
+                    prefetchExecutor.execute(() -> {
+                        try {
+                            future.complete(createBlock());
+                        } catch (Throwable e) {
+                            future.completeExceptionally(e);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    prefetched.compareAndSet(future, null);
+                }
+            }
+        }
+
+        /**
+         * Replaces the exhausted block by the prefetched one or by a block requested synchronously. Only one thread
+         * switches the block, others wait for it and continue with the new block.
+         */
+        protected void switchBlock(@Nullable Block exhausted) {
+            synchronized (switchLock) {
+                if (current.get() != exhausted) {
+                    return;
+                }
+                Block next = null;
+                CompletableFuture<Block> future = prefetched.getAndSet(null);
+                if (future != null) {
+                    try {
+                        next = future.join();
+                    } catch (CompletionException | CancellationException e) {
+                        log.warn("Unable to prefetch ids for {}, requesting them again", entityName, e);
+                    }
+                }
+                if (next == null) {
+                    next = createBlock();
                 }
-                return next;
+                current.set(next);
             }
         }
     }
@@ -18,4 +18,19 @@ package io.jmix.data.impl;
 
 public interface PersistenceUnitProperties {
     String STORE_NAME_PROPERTY = "jmix.storeName";
+
+    /**
+     * Application property defining the number of statements sent to the database in one JDBC batch when a
+     * transaction is flushed. Zero or absent value disables batch writing. For an additional store, the property
+     * name is suffixed with the store name, e.g. {@code jmix.data.batch-writing-size-db1}.
+     */
+    String BATCH_WRITING_SIZE_PROPERTY = "jmix.data.batch-writing-size";
+
+    /**
+     * Application property defining whether changes of the same entity are written in the order of ids, which keeps
+     * statements of one entity adjacent so they can be batched and avoids deadlocks between concurrent transactions.
+     * If absent, the persistence provider default is used. For an additional store, the property name is suffixed
+     * with the store name.
+     */
+    String ORDER_WRITES_PROPERTY = "jmix.data.order-writes";
 }
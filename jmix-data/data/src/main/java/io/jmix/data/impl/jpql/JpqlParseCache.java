@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.data.impl.jpql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.jmix.data.DataProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+/**
+ * Caches parsed JPQL query trees and results of query transformations, so repeatedly executed queries are not
+ * processed by the JPQL lexer and parser again.
+ * <p>
+ * Cached {@link QueryTree}s are shared between threads and must be used for reading only. Transformations always work
+ * on their own tree and only their string results are cached.
+ * <p>
+ * Cache statistics are exposed as {@code jmix.data.jpql.parse}, {@code jmix.data.jpql.transformation} and
+ * {@code jmix.data.jpql.operation} cache meters.
+ */
+@Component("data_JpqlParseCache")
+public class JpqlParseCache {
+
+    protected final Cache<TreeKey, QueryTree> trees;
+    protected final Cache<TransformationKey, String> transformations;
+    protected final Cache<TransformationKey, Boolean> operationResults;
+
+    public JpqlParseCache(DataProperties dataProperties, @Nullable MeterRegistry meterRegistry) {
+        trees = createCache(dataProperties.getJpqlParseCacheSize());
+        transformations = createCache(dataProperties.getJpqlTransformationCacheSize());
+        operationResults = createCache(dataProperties.getJpqlTransformationCacheSize());
+        if (meterRegistry != null) {
+            GuavaCacheMetrics.monitor(meterRegistry, trees, "jmix.data.jpql.parse");
+            GuavaCacheMetrics.monitor(meterRegistry, transformations, "jmix.data.jpql.transformation");
+            GuavaCacheMetrics.monitor(meterRegistry, operationResults, "jmix.data.jpql.operation");
+        }
+    }
+
+    protected <K, V> Cache<K, V> createCache(int maximumSize) {
+        return CacheBuilder.newBuilder()
+                .maximumSize(Math.max(maximumSize, 0))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns a validated query tree of the given query. The returned tree is shared and must not be modified.
+     *
+     * @throws JpqlSyntaxException if the query is invalid
+     */
+    public QueryTree getTree(DomainModel model, String query) {
+        try {
+            return trees.get(new TreeKey(model, normalize(query)), () -> parseTree(model, query));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns the cached result of a transformation or computes it using the supplied function.
+     *
+     * @param query      source query
+     * @param operations list of operations applied to the source query, elements must implement {@code equals()}
+     * @param resultSupplier computes the transformation result if it is not cached yet
+     */
+    public String getTransformationResult(DomainModel model, String query, List<?> operations,
+                                          Supplier<String> resultSupplier) {
+        TransformationKey key = new TransformationKey(model, normalize(query), operations);
+        String result = transformations.getIfPresent(key);
+        if (result == null) {
+            result = resultSupplier.get();
+            transformations.put(new TransformationKey(model, key.query, new ArrayList<>(operations)), result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the cached value returned by the last of the given operations, e.g.
+     * {@link io.jmix.data.QueryTransformer#replaceIsNullStatements(String, boolean)}, or computes it using the
+     * supplied function.
+     *
+     * @param query          source query
+     * @param operations     list of operations applied to the source query including the last one, elements must
+     *                       implement {@code equals()}
+     * @param resultSupplier applies the operations and returns the value of the last one if it is not cached yet
+     */
+    public boolean getOperationResult(DomainModel model, String query, List<?> operations,
+                                      Supplier<Boolean> resultSupplier) {
+        TransformationKey key = new TransformationKey(model, normalize(query), operations);
+        Boolean result = operationResults.getIfPresent(key);
+        if (result == null) {
+            result = resultSupplier.get();
+            operationResults.put(new TransformationKey(model, key.query, new ArrayList<>(operations)), result);
+        }
+        return result;
+    }
+
+    /**
+     * Removes all cached trees and transformation results.
+     */
+    public void invalidateAll() {
+        trees.invalidateAll();
+        transformations.invalidateAll();
+        operationResults.invalidateAll();
+    }
+
+    /**
+     * Parses and validates the query the same way as {@code QueryParserAstBased} and {@code QueryTransformerAstBased}
+     * do it.
+     */
+    public static QueryTree parseTree(DomainModel model, String query) {
+        QueryTree queryTree;
+        try {
+            queryTree = new QueryTree(model, query);
+        } catch (JPA2RecognitionException e) {
+            throw new JpqlSyntaxException(format("Errors found for input JPQL:[%s]\n%s", StringUtils.strip(query), e.getMessage()));
+        }
+        List<ErrorRec> errors = new ArrayList<>(queryTree.getInvalidIdVarNodes());
+        if (!errors.isEmpty()) {
+            throw new JpqlSyntaxException(format("Errors found for input JPQL:[%s]", StringUtils.strip(query)), errors);
+        }
+        return queryTree;
+    }
+
+    /**
+     * Replaces line breaks and tabs with spaces outside string literals, so that queries differing only in
+     * formatting share cache entries while literal values are kept intact.
+     */
+    protected String normalize(String query) {
+        if (StringUtils.containsNone(query, '\n', '\r', '\t')) {
+            return query.trim();
+        }
+        StringBuilder sb = new StringBuilder(query.length());
+        boolean inLiteral = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c == '\'') {
+                // an escaped quote '' toggles the state twice
+                inLiteral = !inLiteral;
+            } else if (!inLiteral && (c == '\n' || c == '\r' || c == '\t')) {
+                c = ' ';
+            }
+            sb.append(c);
+        }
+        return sb.toString().trim();
+    }
+
+    protected static class TreeKey {
+
+        protected final DomainModel model;
+        protected final String query;
+
+        protected TreeKey(DomainModel model, String query) {
+            this.model = model;
+            this.query = query;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            TreeKey that = (TreeKey) o;
+            return model == that.model && query.equals(that.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(model) + query.hashCode();
+        }
+    }
+
+    protected static class TransformationKey extends TreeKey {
+
+        protected final List<?> operations;
+
+        protected TransformationKey(DomainModel model, String query, List<?> operations) {
+            super(model, query);
+            this.operations = operations;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return super.equals(o) && operations.equals(((TransformationKey) o).operations);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * super.hashCode() + Objects.hashCode(operations);
+        }
+    }
+}
@@ -24,6 +24,7 @@ import io.jmix.data.impl.jpql.tree.PathNode;
 import io.jmix.data.impl.jpql.tree.SimpleConditionNode;
 import org.antlr.runtime.tree.TreeVisitor;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
@@ -44,6 +45,9 @@ public class QueryParserAstBased implements QueryParser {
     protected QueryTree queryTree;
     protected QueryTreeAnalyzer queryAnalyzer;
 
+    @Autowired(required = false)
+    protected JpqlParseCache parseCache;
+
     protected boolean originalEntityChecked;
     protected EntityNameAndPath originalEntityNameAndPath;
 
@@ -68,17 +72,15 @@ public class QueryParserAstBased implements QueryParser {
         this.query = query;
     }
 
+    /**
+     * Returns the query tree. If the parser is created by the container, the tree is taken from
+     * {@link JpqlParseCache} and shared with other parsers of the same query, so it must not be modified.
+     */
     protected QueryTree getTree() {
         if (queryTree == null) {
-            try {
-                queryTree = new QueryTree(model, query);
-            } catch (JPA2RecognitionException e) {
-                throw new JpqlSyntaxException(format("Errors found for input JPQL:[%s]\n%s", StringUtils.strip(query), e.getMessage()));
-            }
-            List<ErrorRec> errors = new ArrayList<>(queryTree.getInvalidIdVarNodes());
-            if (!errors.isEmpty()) {
-                throw new JpqlSyntaxException(format("Errors found for input JPQL:[%s]", StringUtils.strip(query)), errors);
-            }
+            queryTree = parseCache != null
+                    ? parseCache.getTree(model, query)
+                    : JpqlParseCache.parseTree(model, query);
         }
         return queryTree;
     }
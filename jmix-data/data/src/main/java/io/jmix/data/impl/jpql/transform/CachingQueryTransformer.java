@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.data.impl.jpql.transform;
+
+import io.jmix.core.Sort;
+import io.jmix.data.QueryTransformer;
+import io.jmix.data.impl.jpql.DomainModel;
+import io.jmix.data.impl.jpql.JpqlParseCache;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * {@link QueryTransformer} that records applied operations and takes the result from {@link JpqlParseCache} if the
+ * same sequence of operations has already been applied to the same query. The actual transformer is created and the
+ * query is parsed only on a cache miss, including values returned by operations like
+ * {@link #replaceIsNullStatements(String, boolean)}, or when {@link #getAddedParams()} is invoked.
+ */
+public class CachingQueryTransformer implements QueryTransformer {
+
+    protected final DomainModel model;
+    protected final String query;
+    protected final JpqlParseCache parseCache;
+    protected final Supplier<QueryTransformer> delegateSupplier;
+
+    protected final List<List<Object>> operations = new ArrayList<>();
+    protected final List<Consumer<QueryTransformer>> pendingActions = new ArrayList<>();
+
+    protected QueryTransformer delegate;
+
+    public CachingQueryTransformer(DomainModel model, String query, JpqlParseCache parseCache,
+                                   Supplier<QueryTransformer> delegateSupplier) {
+        this.model = model;
+        this.query = query;
+        this.parseCache = parseCache;
+        this.delegateSupplier = delegateSupplier;
+    }
+
+    @Override
+    public void addWhere(String where) {
+        record(t -> t.addWhere(where), "addWhere", where);
+    }
+
+    @Override
+    public void addWhereAsIs(String where) {
+        record(t -> t.addWhereAsIs(where), "addWhereAsIs", where);
+    }
+
+    @Override
+    public void addJoinAndWhere(String join, String where) {
+        record(t -> t.addJoinAndWhere(join, where), "addJoinAndWhere", join, where);
+    }
+
+    @Override
+    public void addJoin(String join) {
+        record(t -> t.addJoin(join), "addJoin", join);
+    }
+
+    @Override
+    public void replaceOrderByExpressions(Map<String, Sort.Direction> sortExpressions) {
+        Map<String, Sort.Direction> expressions = new LinkedHashMap<>(sortExpressions);
+        // keep the order of expressions in the key, map equality ignores it
+        List<Object> orderedEntries = new ArrayList<>(expressions.size() * 2);
+        expressions.forEach((expression, direction) -> {
+            orderedEntries.add(expression);
+            orderedEntries.add(direction);
+        });
+        record(t -> t.replaceOrderByExpressions(expressions), "replaceOrderByExpressions", orderedEntries);
+    }
+
+    @Override
+    public void addFirstSelectionSource(String selection) {
+        record(t -> t.addFirstSelectionSource(selection), "addFirstSelectionSource", selection);
+    }
+
+    @Override
+    public void replaceWithCount() {
+        record(QueryTransformer::replaceWithCount, "replaceWithCount");
+    }
+
+    @Override
+    public void replaceWithSelectId(String pkName) {
+        record(t -> t.replaceWithSelectId(pkName), "replaceWithSelectId", pkName);
+    }
+
+    @Override
+    public void replaceWithSelectEntityVariable(String selectEntityVariable) {
+        record(t -> t.replaceWithSelectEntityVariable(selectEntityVariable),
+                "replaceWithSelectEntityVariable", selectEntityVariable);
+    }
+
+    @Override
+    public boolean removeDistinct() {
+        return recordReturning(QueryTransformer::removeDistinct, "removeDistinct");
+    }
+
+    @Override
+    public void addDistinct() {
+        record(QueryTransformer::addDistinct, "addDistinct");
+    }
+
+    @Override
+    public void addOrderByIdIfNotExists(String idProperty) {
+        record(t -> t.addOrderByIdIfNotExists(idProperty), "addOrderByIdIfNotExists", idProperty);
+    }
+
+    @Override
+    public void addEntityInGroupBy(String entityAlias) {
+        record(t -> t.addEntityInGroupBy(entityAlias), "addEntityInGroupBy", entityAlias);
+    }
+
+    @Override
+    public void removeOrderBy() {
+        record(QueryTransformer::removeOrderBy, "removeOrderBy");
+    }
+
+    @Override
+    public void replaceEntityName(String newName) {
+        record(t -> t.replaceEntityName(newName), "replaceEntityName", newName);
+    }
+
+    @Override
+    public void handleCaseInsensitiveParam(String paramName) {
+        record(t -> t.handleCaseInsensitiveParam(paramName), "handleCaseInsensitiveParam", paramName);
+    }
+
+    @Override
+    public void replaceInCondition(String paramName) {
+        record(t -> t.replaceInCondition(paramName), "replaceInCondition", paramName);
+    }
+
+    @Override
+    public boolean replaceIsNullStatements(String paramName, boolean isNullValue) {
+        return recordReturning(t -> t.replaceIsNullStatements(paramName, isNullValue),
+                "replaceIsNullStatements", paramName, isNullValue);
+    }
+
+    @Override
+    public void reset() {
+        operations.clear();
+        pendingActions.clear();
+        if (delegate != null) {
+            delegate.reset();
+        }
+    }
+
+    @Override
+    public String getResult() {
+        return parseCache.getTransformationResult(model, query, operations, () -> getDelegate().getResult());
+    }
+
+    @Override
+    public Set<String> getAddedParams() {
+        return getDelegate().getAddedParams();
+    }
+
+    protected void record(Consumer<QueryTransformer> action, Object... operation) {
+        List<Object> key = new ArrayList<>(operation.length);
+        Collections.addAll(key, operation);
+        operations.add(key);
+        if (delegate != null) {
+            action.accept(delegate);
+        } else {
+            pendingActions.add(action);
+        }
+    }
+
+    /**
+     * Records an operation returning a value. The value is taken from {@link JpqlParseCache} if the same sequence of
+     * operations has already been applied to the same query, otherwise the operation is applied to the actual
+     * transformer immediately.
+     */
+    protected boolean recordReturning(Predicate<QueryTransformer> action, Object... operation) {
+        List<Object> key = new ArrayList<>(operation.length + 1);
+        Collections.addAll(key, operation);
+        List<List<Object>> keyOperations = new ArrayList<>(operations);
+        keyOperations.add(new ArrayList<>(key));
+
+        boolean[] applied = new boolean[1];
+        boolean result = parseCache.getOperationResult(model, query, keyOperations, () -> {
+            applied[0] = true;
+            return action.test(getDelegate());
+        });
+        if (!applied[0]) {
+            if (delegate != null) {
+                action.test(delegate);
+            } else {
+                pendingActions.add(action::test);
+            }
+        }
+
+        key.add(result);
+        operations.add(key);
+        return result;
+    }
+
+    /**
+     * Creates the actual transformer if needed and applies all operations recorded so far.
+     */
+    protected QueryTransformer getDelegate() {
+        if (delegate == null) {
+            delegate = delegateSupplier.get();
+        }
+        if (!pendingActions.isEmpty()) {
+            for (Consumer<QueryTransformer> action : pendingActions) {
+                action.accept(delegate);
+            }
+            pendingActions.clear();
+        }
+        return delegate;
+    }
+}
@@ -81,6 +81,13 @@ public interface DbmsFeatures {
         return null;
     }
 
+    /**
+     * @return true if the DBMS supports subqueries selecting from the table modified by an update or delete statement
+     */
+    default boolean supportsSubqueryOnModifiedTable() {
+        return true;
+    }
+
 
     /**
      * Provides information about {@code jmix.data.dbmsType} and {@code jmix.data.dbmsVersion} this bean designed for. Version can be empty.
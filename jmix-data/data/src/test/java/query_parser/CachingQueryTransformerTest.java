@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package query_parser;
+
+import io.jmix.core.Sort;
+import io.jmix.data.DataProperties;
+import io.jmix.data.QueryTransformer;
+import io.jmix.data.impl.jpql.DomainModel;
+import io.jmix.data.impl.jpql.JpqlParseCache;
+import io.jmix.data.impl.jpql.QueryTree;
+import io.jmix.data.impl.jpql.model.EntityBuilder;
+import io.jmix.data.impl.jpql.model.JpqlEntityModel;
+import io.jmix.data.impl.jpql.transform.CachingQueryTransformer;
+import io.jmix.data.impl.jpql.transform.QueryTransformerAstBased;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingQueryTransformerTest {
+
+    private static final String QUERY = "select u from sec_User u where u.login = :login";
+
+    @Test
+    public void testTransformationResultIsCached() {
+        DomainModel model = prepareDomainModel();
+        JpqlParseCache cache = createCache();
+        AtomicInteger delegates = new AtomicInteger();
+
+        String first = transform(model, cache, delegates, "u.login", "u.int1");
+        String second = transform(model, cache, delegates, "u.login", "u.int1");
+
+        QueryTransformerAstBased plain = new QueryTransformerAstBased(model, QUERY);
+        plain.addWhere("{E}.int1 > 0");
+        plain.replaceOrderByExpressions(sortExpressions("u.login", "u.int1"));
+
+        assertEquals(plain.getResult(), first);
+        assertEquals(first, second);
+        assertEquals(1, delegates.get());
+    }
+
+    @Test
+    public void testOrderOfSortExpressionsIsPartOfKey() {
+        DomainModel model = prepareDomainModel();
+        JpqlParseCache cache = createCache();
+        AtomicInteger delegates = new AtomicInteger();
+
+        String first = transform(model, cache, delegates, "u.login", "u.int1");
+        String second = transform(model, cache, delegates, "u.int1", "u.login");
+
+        assertNotEquals(first, second);
+        assertEquals(2, delegates.get());
+    }
+
+    @Test
+    public void testIntermediateResults() {
+        DomainModel model = prepareDomainModel();
+        JpqlParseCache cache = createCache();
+
+        QueryTransformer transformer = new CachingQueryTransformer(model, QUERY, cache,
+                () -> new QueryTransformerAstBased(model, QUERY));
+        transformer.addWhere("{E}.int1 > 0");
+        String withWhere = transformer.getResult();
+        transformer.replaceWithCount();
+        String count = transformer.getResult();
+
+        QueryTransformerAstBased plain = new QueryTransformerAstBased(model, QUERY);
+        plain.addWhere("{E}.int1 > 0");
+        assertEquals(plain.getResult(), withWhere);
+        plain.replaceWithCount();
+        assertEquals(plain.getResult(), count);
+        assertNotEquals(withWhere, count);
+    }
+
+    @Test
+    public void testParsedTreeIsShared() {
+        DomainModel model = prepareDomainModel();
+        JpqlParseCache cache = createCache();
+
+        QueryTree tree1 = cache.getTree(model, QUERY);
+        QueryTree tree2 = cache.getTree(model, QUERY + "\n");
+
+        assertSame(tree1, tree2);
+    }
+
+    @Test
+    public void testReturningOperationResultIsCached() {
+        DomainModel model = prepareDomainModel();
+        JpqlParseCache cache = createCache();
+        AtomicInteger delegates = new AtomicInteger();
+        String query = "select u from sec_User u where (:login is null or u.login = :login)";
+
+        String[] results = new String[2];
+        for (int i = 0; i < results.length; i++) {
+            QueryTransformer transformer = new CachingQueryTransformer(model, query, cache, () -> {
+                delegates.incrementAndGet();
+                return new QueryTransformerAstBased(model, query);
+            });
+            assertTrue(transformer.replaceIsNullStatements("login", true));
+            assertFalse(transformer.removeDistinct());
+            results[i] = transformer.getResult();
+        }
+
+        QueryTransformerAstBased plain = new QueryTransformerAstBased(model, query);
+        plain.replaceIsNullStatements("login", true);
+        assertEquals(plain.getResult(), results[0]);
+        assertEquals(results[0], results[1]);
+        assertEquals(1, delegates.get());
+    }
+
+    @Test
+    public void testStringLiteralsAreNotNormalized() {
+        DomainModel model = prepareDomainModel();
+        JpqlParseCache cache = createCache();
+
+        QueryTree tree1 = cache.getTree(model, "select u from sec_User u where u.login = 'a\tb'");
+        QueryTree tree2 = cache.getTree(model, "select u from sec_User u where u.login = 'a b'");
+        QueryTree tree3 = cache.getTree(model, "select u from sec_User u\nwhere u.login = 'a b'");
+
+        assertNotSame(tree1, tree2);
+        assertSame(tree2, tree3);
+    }
+
+    private String transform(DomainModel model, JpqlParseCache cache, AtomicInteger delegates, String... sortProperties) {
+        QueryTransformer transformer = new CachingQueryTransformer(model, QUERY, cache, () -> {
+            delegates.incrementAndGet();
+            return new QueryTransformerAstBased(model, QUERY);
+        });
+        transformer.addWhere("{E}.int1 > 0");
+        transformer.replaceOrderByExpressions(sortExpressions(sortProperties));
+        return transformer.getResult();
+    }
+
+    private Map<String, Sort.Direction> sortExpressions(String... properties) {
+        Map<String, Sort.Direction> result = new LinkedHashMap<>();
+        for (String property : properties) {
+            result.put(property, Sort.Direction.ASC);
+        }
+        return result;
+    }
+
+    private JpqlParseCache createCache() {
+        MapConfigurationPropertySource source = new MapConfigurationPropertySource(Map.of(
+                "jmix.data.jpql-parse-cache-size", "100",
+                "jmix.data.jpql-transformation-cache-size", "100"));
+        DataProperties properties = new Binder(source).bindOrCreate("jmix.data", DataProperties.class);
+        return new JpqlParseCache(properties, null);
+    }
+
+    private DomainModel prepareDomainModel() {
+        EntityBuilder builder = EntityBuilder.create();
+        builder.startNewEntity("sec_User");
+        builder.addStringAttribute("login");
+        builder.addSingleValueAttribute(Integer.class, "int1");
+        JpqlEntityModel userEntity = builder.produce();
+
+        return new DomainModel(userEntity);
+    }
+}
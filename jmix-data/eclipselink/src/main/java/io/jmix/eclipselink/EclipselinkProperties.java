@@ -19,15 +19,64 @@ package io.jmix.eclipselink;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "jmix.eclipselink")
 public class EclipselinkProperties {
     boolean queryCacheEnabled;
 
-    public EclipselinkProperties(@DefaultValue("true") boolean queryCacheEnabled) {
+    /**
+     * Maximum number of fetch group descriptions calculated for combinations of query and fetch plan that are kept
+     * in memory. Zero disables caching.
+     */
+    int fetchGroupCacheSize;
+
+    /**
+     * Maximum number of sibling entities for which a lazily loaded reference or collection is loaded by one query
+     * when the property is accessed on one of them. Siblings are entities loaded by the same operation. Values less
+     * than 2 disable batch lazy loading.
+     */
+    int lazyLoadingBatchSize;
+
+    /**
+     * Minimal interval between sweeps of the query cache. A sweep removes query results outdated by invalidation of
+     * their entity types and versions of entity types not related to any cached result. Sweeps are performed on
+     * invalidation and only for iterable caches. Zero disables sweeping.
+     */
+    Duration queryCacheSweepInterval;
+
+    public EclipselinkProperties(@DefaultValue("true") boolean queryCacheEnabled,
+                                 @DefaultValue("1000") int fetchGroupCacheSize,
+                                 @DefaultValue("0") int lazyLoadingBatchSize,
+                                 @DefaultValue("5m") Duration queryCacheSweepInterval) {
         this.queryCacheEnabled = queryCacheEnabled;
+        this.fetchGroupCacheSize = fetchGroupCacheSize;
+        this.lazyLoadingBatchSize = lazyLoadingBatchSize;
+        this.queryCacheSweepInterval = queryCacheSweepInterval;
     }
 
     public boolean isQueryCacheEnabled() {
         return queryCacheEnabled;
     }
+
+    /**
+     * @see #fetchGroupCacheSize
+     */
+    public int getFetchGroupCacheSize() {
+        return fetchGroupCacheSize;
+    }
+
+    /**
+     * @see #lazyLoadingBatchSize
+     */
+    public int getLazyLoadingBatchSize() {
+        return lazyLoadingBatchSize;
+    }
+
+    /**
+     * @see #queryCacheSweepInterval
+     */
+    public Duration getQueryCacheSweepInterval() {
+        return queryCacheSweepInterval;
+    }
 }
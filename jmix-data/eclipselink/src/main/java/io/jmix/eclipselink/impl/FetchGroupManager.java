@@ -16,6 +16,8 @@
 
 package io.jmix.eclipselink.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.jmix.core.*;
 import io.jmix.core.common.util.Preconditions;
 import io.jmix.core.metamodel.model.MetaClass;
@@ -24,6 +26,10 @@ import io.jmix.core.metamodel.model.MetaPropertyPath;
 import io.jmix.core.metamodel.model.Range;
 import io.jmix.data.QueryParser;
 import io.jmix.data.QueryTransformerFactory;
+import io.jmix.eclipselink.EclipselinkProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.persistence.config.QueryHints;
 import org.eclipse.persistence.jpa.JpaQuery;
@@ -33,6 +39,8 @@ import org.eclipse.persistence.queries.LoadGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ClassUtils;
 
@@ -64,6 +72,36 @@ public class FetchGroupManager {
     @Autowired
     private FetchPlans fetchPlans;
 
+    @Autowired
+    private EclipselinkProperties properties;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private Cache<FetchGroupKey, FetchGroupDescription> fetchGroupCache;
+
+    @PostConstruct
+    protected void init() {
+        fetchGroupCache = CacheBuilder.newBuilder()
+                .maximumSize(Math.max(properties.getFetchGroupCacheSize(), 0))
+                .recordStats()
+                .build();
+        if (meterRegistry != null) {
+            GuavaCacheMetrics.monitor(meterRegistry, fetchGroupCache, "jmix.eclipselink.fetchGroup");
+        }
+    }
+
+    /**
+     * Drops cached fetch group descriptions. Invoked when the application context is refreshed, i.e. when fetch plan
+     * repository is reloaded.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void invalidateCache() {
+        if (fetchGroupCache != null) {
+            fetchGroupCache.invalidateAll();
+        }
+    }
+
     public void setFetchPlan(JpaQuery query, String queryString, @Nullable FetchPlan fetchPlan, boolean singleResultExpected) {
         Preconditions.checkNotNullArgument(query, "query is null");
         if (fetchPlan != null) {
@@ -100,7 +138,7 @@ public class FetchGroupManager {
 
         boolean useFetchGroup = attrGroup instanceof FetchGroup;
 
-        FetchGroupDescription description = calculateFetchGroup(queryString, fetchPlan, singleResultExpected, useFetchGroup);
+        FetchGroupDescription description = getFetchGroup(queryString, fetchPlan, singleResultExpected, useFetchGroup);
 
 //        ToDo: magical flag?
 //        if (attrGroup instanceof FetchGroup)
@@ -133,6 +171,26 @@ public class FetchGroupManager {
         }
     }
 
+    /**
+     * Returns a fetch group description for the given query and fetch plan. Descriptions are cached by the query
+     * string, the structure of the fetch plan and flags, so the returned instance is shared and must not be modified.
+     */
+    public FetchGroupDescription getFetchGroup(String queryString,
+                                               FetchPlan fetchPlan,
+                                               boolean singleResultExpected,
+                                               boolean useFetchGroup) {
+        if (properties.getFetchGroupCacheSize() <= 0) {
+            return calculateFetchGroup(queryString, fetchPlan, singleResultExpected, useFetchGroup);
+        }
+        FetchGroupKey key = new FetchGroupKey(queryString, fetchPlan, singleResultExpected, useFetchGroup);
+        FetchGroupDescription description = fetchGroupCache.getIfPresent(key);
+        if (description == null) {
+            description = calculateFetchGroup(queryString, fetchPlan, singleResultExpected, useFetchGroup);
+            fetchGroupCache.put(key, description);
+        }
+        return description;
+    }
+
     public FetchGroupDescription calculateFetchGroup(String queryString,
                                                      FetchPlan fetchPlan,
                                                      boolean singleResultExpected,
@@ -608,6 +666,60 @@ public class FetchGroupManager {
         return metadataTools.isCacheable(metaClass) ? FetchMode.UNDEFINED : fetchMode;
     }
 
+    protected static class FetchGroupKey {
+        private final String queryString;
+        private final FetchPlan fetchPlan;
+        private final boolean singleResultExpected;
+        private final boolean useFetchGroup;
+        private final int hash;
+
+        public FetchGroupKey(String queryString, FetchPlan fetchPlan, boolean singleResultExpected, boolean useFetchGroup) {
+            this.queryString = queryString;
+            this.fetchPlan = fetchPlan;
+            this.singleResultExpected = singleResultExpected;
+            this.useFetchGroup = useFetchGroup;
+
+            int result = queryString.hashCode();
+            result = 31 * result + contentHash(fetchPlan);
+            result = 31 * result + (singleResultExpected ? 1 : 0);
+            result = 31 * result + (useFetchGroup ? 1 : 0);
+            this.hash = result;
+        }
+
+        /**
+         * {@link FetchPlan#hashCode()} takes into account only entity class and name, which is the same for
+         * all ad-hoc plans of an entity. Include the nested structure to avoid collisions in the cache.
+         */
+        private static int contentHash(FetchPlan fetchPlan) {
+            int result = fetchPlan.hashCode();
+            for (FetchPlanProperty property : fetchPlan.getProperties()) {
+                result = 31 * result + property.getName().hashCode();
+                result = 31 * result + Objects.hashCode(property.getFetchMode());
+                if (property.getFetchPlan() != null) {
+                    result = 31 * result + contentHash(property.getFetchPlan());
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            FetchGroupKey that = (FetchGroupKey) o;
+            return hash == that.hash
+                    && singleResultExpected == that.singleResultExpected
+                    && useFetchGroup == that.useFetchGroup
+                    && queryString.equals(that.queryString)
+                    && fetchPlan.equals(that.fetchPlan);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
     protected static class FetchGroupField {
         private final MetaClass metaClass;
         private FetchMode fetchMode;
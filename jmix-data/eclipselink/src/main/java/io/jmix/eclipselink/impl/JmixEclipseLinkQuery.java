@@ -53,6 +53,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.core.env.Environment;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.ZoneId;
 import java.util.*;
@@ -293,6 +295,21 @@ public class JmixEclipseLinkQuery<E> implements JmixQuery<E> {
         // In some cache configurations (in particular, when shared cache is on, but for some entities cache is set to ISOLATED),
         // EclipseLink does not evict updated entities from cache automatically.
         Cache cache = jpaQuery.getEntityManager().getEntityManagerFactory().getCache();
+        evictCaches(cache, referenceClass);
+        // Concurrent transactions can put old state to the caches until the update is committed, so evict them again
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictCaches(cache, referenceClass);
+                }
+            });
+        }
+        preExecute(jpaQuery);
+        return jpaQuery.executeUpdate();
+    }
+
+    protected void evictCaches(Cache cache, @Nullable Class referenceClass) {
         if (referenceClass != null) {
             cache.evict(referenceClass);
             queryCacheMgr.invalidate(referenceClass);
@@ -300,8 +317,6 @@ public class JmixEclipseLinkQuery<E> implements JmixQuery<E> {
             cache.evictAll();
             queryCacheMgr.invalidateAll();
         }
-        preExecute(jpaQuery);
-        return jpaQuery.executeUpdate();
     }
 
     @Override
@@ -541,7 +556,7 @@ public class JmixEclipseLinkQuery<E> implements JmixQuery<E> {
         if (fetchPlan != null) {
             boolean useFetchGroup = fetchPlan.loadPartialEntities();
             for (FetchPlan it : fetchPlans) {
-                FetchGroupDescription description = fetchGroupMgr.calculateFetchGroup(queryString, it, singleResultExpected, useFetchGroup);
+                FetchGroupDescription description = fetchGroupMgr.getFetchGroup(queryString, it, singleResultExpected, useFetchGroup);
                 if (description.hasBatches()) {
                     useJPQLCache = false;
                     break;
@@ -814,6 +829,7 @@ public class JmixEclipseLinkQuery<E> implements JmixQuery<E> {
             String entityName = parser.getEntityName();
             useQueryCache = parser.isEntitySelect(entityName);
             QueryKey queryKey = null;
+            Map<String, Long> typeVersions = null;
             if (useQueryCache) {
                 queryKey = QueryKey.create(
                         transformedQueryString,
@@ -826,12 +842,13 @@ public class JmixEclipseLinkQuery<E> implements JmixQuery<E> {
                 if (result != null) {
                     return result;
                 }
+                typeVersions = queryCacheMgr.getTypeVersions(parser.getAllEntityNames());
             }
             try {
                 result = singleResult ? jpaQuery.getSingleResult() : jpaQuery.getResultList();
             } catch (NoResultException | NonUniqueResultException ex) {
                 if (useQueryCache && singleResult) {
-                    queryCacheMgr.putResultToCache(queryKey, null, entityName, parser.getAllEntityNames(), ex);
+                    queryCacheMgr.putResultToCache(queryKey, null, entityName, parser.getAllEntityNames(), ex, typeVersions);
                 }
                 throw ex;
             }
@@ -839,7 +856,7 @@ public class JmixEclipseLinkQuery<E> implements JmixQuery<E> {
             if (useQueryCache) {
                 queryCacheMgr.putResultToCache(queryKey,
                         singleResult ? Collections.singletonList(result) : (List) result,
-                        entityName, parser.getAllEntityNames());
+                        entityName, parser.getAllEntityNames(), typeVersions);
             }
         } else {
             result = singleResult ? jpaQuery.getSingleResult() : jpaQuery.getResultList();
@@ -20,13 +20,23 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import io.jmix.core.Id;
 import io.jmix.core.*;
+import io.jmix.core.accesscontext.CrudEntityContext;
+import io.jmix.core.accesscontext.EntityAttributeContext;
+import io.jmix.core.accesscontext.InMemoryCrudEntityContext;
+import io.jmix.core.annotation.DeletedBy;
+import io.jmix.core.annotation.DeletedDate;
 import io.jmix.core.datastore.AbstractDataStore;
 import io.jmix.core.entity.EntityValues;
+import io.jmix.core.event.BulkEntityChangedEvent;
 import io.jmix.core.event.EntityChangedEvent;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.metamodel.model.MetaPropertyPath;
+import io.jmix.core.security.AccessDeniedException;
+import io.jmix.data.AuditInfoProvider;
 import io.jmix.data.DataProperties;
 import io.jmix.data.PersistenceHints;
+import io.jmix.data.QueryTransformer;
 import io.jmix.data.QueryTransformerFactory;
 import io.jmix.data.StoreAwareLocator;
 import io.jmix.data.accesscontext.ReadEntityQueryContext;
@@ -34,6 +44,8 @@ import io.jmix.data.exception.UniqueConstraintViolationException;
 import io.jmix.data.impl.EntityChangedEventInfo;
 import io.jmix.data.impl.EntityEventManager;
 import io.jmix.data.impl.JpqlQueryBuilder;
+import io.jmix.data.impl.converters.AuditConversionService;
+import io.jmix.data.persistence.DbmsFeatures;
 import io.jmix.data.persistence.DbmsSpecifics;
 import io.jmix.eclipselink.impl.lazyloading.LazyLoadingContext;
 import jakarta.persistence.NoResultException;
@@ -47,6 +59,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Scope;
+import org.springframework.data.annotation.LastModifiedBy;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -54,6 +68,8 @@ import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
@@ -119,10 +135,23 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
     @Autowired
     protected FetchPlanRepository fetchPlanRepository;
 
+    @Autowired
+    protected TimeSource timeSource;
+
+    @Autowired
+    protected AuditInfoProvider auditInfoProvider;
+
+    @Autowired
+    protected AuditConversionService auditConverter;
+
     protected String storeName;
 
     protected static final AtomicLong txCount = new AtomicLong();
 
+    protected static final Pattern SIMPLE_SELECT_PATTERN =
+            Pattern.compile("\\s*select\\s+s\\s+from\\s+\\S+\\s+s(?:\\s+where\\s+(.+?))?\\s*",
+                    Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
     @Override
     public String getName() {
         return storeName;
@@ -524,7 +553,8 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
                     .setDistinct(contextQuery.isDistinct())
                     .setQueryParameters(contextQuery.getParameters());
             if (!countQuery) {
-                queryBuilder.setSort(contextQuery.getSort());
+                queryBuilder.setSort(contextQuery.getSort())
+                        .setAfterKey(contextQuery.getAfterKey());
             }
         }
 
@@ -566,6 +596,263 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
         return query;
     }
 
+    @Override
+    public boolean supportsKeysetPagination(LoadContext<?> context) {
+        LoadContext.Query contextQuery = context.getQuery();
+        if (contextQuery == null) {
+            return false;
+        }
+        MetaClass metaClass = extendedEntities.getEffectiveMetaClass(context.getEntityMetaClass());
+        //noinspection unchecked
+        JpqlQueryBuilder<JmixEclipseLinkQuery<?>> queryBuilder = jpqlQueryBuilderProvider.getObject();
+        queryBuilder.setEntityName(metaClass.getName())
+                .setQueryString(contextQuery.getQueryString())
+                .setSort(contextQuery.getSort());
+        return queryBuilder.isKeysetApplicable();
+    }
+
+    @Override
+    protected boolean isReloadRequired(LoadContext<?> loadContext) {
+        // row-level read policies are applied to the query, so the instance must be reloaded to be checked
+        return loadContext.getAccessConstraints().stream()
+                .anyMatch(constraint -> constraint.getContextType().isAssignableFrom(ReadEntityQueryContext.class));
+    }
+
+    @Override
+    public int execute(BulkOperationContext context) {
+        MetaClass metaClass = extendedEntities.getEffectiveMetaClass(context.getEntityMetaClass());
+        boolean softDelete = context.getType() == BulkOperationContext.Type.DELETE
+                && context.isSoftDeletion()
+                && metadataTools.isSoftDeletable(metaClass.getJavaClass());
+
+        checkBulkOperationPermitted(metaClass, context);
+
+        Map<String, Object> values = new LinkedHashMap<>(context.getValues());
+        if (context.getType() == BulkOperationContext.Type.UPDATE) {
+            if (values.isEmpty()) {
+                throw new IllegalArgumentException("No values to set in bulk update of " + metaClass.getName());
+            }
+            addAuditValues(metaClass, values, LastModifiedDate.class, LastModifiedBy.class);
+        } else if (softDelete) {
+            addAuditValues(metaClass, values, DeletedDate.class, DeletedBy.class);
+        }
+
+        TransactionStatus transaction = (TransactionStatus) beginSaveTransaction(context.isJoinTransaction());
+        try {
+            EntityManager em = storeAwareLocator.getEntityManager(storeName);
+            boolean softDeletionBefore = PersistenceHints.isSoftDeletion(em);
+            int count;
+            try {
+                em.setProperty(PersistenceHints.SOFT_DELETION, context.isSoftDeletion());
+
+                count = 0;
+                for (Query query : createBulkQueries(em, metaClass, context, values, softDelete)) {
+                    count += query.executeUpdate();
+                }
+            } finally {
+                em.setProperty(PersistenceHints.SOFT_DELETION, softDeletionBefore);
+            }
+            log.debug("Bulk {} of {} affected {} instances", context.getType(), metaClass.getName(), count);
+
+            // JmixEclipseLinkQuery.executeUpdate() has already evicted the entity from JPA and query caches
+            EntityChangedEvent.Type eventType = context.getType() == BulkOperationContext.Type.DELETE ?
+                    EntityChangedEvent.Type.DELETED : EntityChangedEvent.Type.UPDATED;
+            applicationContext.publishEvent(new BulkEntityChangedEvent<>(this, eventType,
+                    Collections.unmodifiableMap(values), context.getCondition(), count,
+                    extendedEntities.getOriginalOrThisMetaClass(metaClass)));
+
+            commitTransaction(transaction);
+            return count;
+        } finally {
+            rollbackTransaction(transaction);
+        }
+    }
+
+    protected void checkBulkOperationPermitted(MetaClass metaClass, BulkOperationContext context) {
+        boolean update = context.getType() == BulkOperationContext.Type.UPDATE;
+
+        CrudEntityContext entityContext = new CrudEntityContext(metaClass);
+        accessManager.applyConstraints(entityContext, context.getAccessConstraints());
+        if (update ? !entityContext.isUpdatePermitted() : !entityContext.isDeletePermitted()) {
+            throw new AccessDeniedException("entity", metaClass.getName(), update ? "update" : "delete");
+        }
+
+        // predicates of in-memory constraints cannot be evaluated without loading instances
+        InMemoryCrudEntityContext inMemoryContext = new InMemoryCrudEntityContext(metaClass, applicationContext);
+        accessManager.applyConstraints(inMemoryContext, context.getAccessConstraints());
+        if (inMemoryContext.readPredicate() != null
+                || (update ? inMemoryContext.updatePredicate() : inMemoryContext.deletePredicate()) != null) {
+            log.debug("Bulk {} of {} is not permitted because of in-memory constraints",
+                    context.getType(), metaClass.getName());
+            throw new AccessDeniedException("entity", metaClass.getName(), update ? "update" : "delete");
+        }
+
+        for (String property : context.getValues().keySet()) {
+            EntityAttributeContext attributeContext = new EntityAttributeContext(metaClass, property);
+            accessManager.applyConstraints(attributeContext, context.getAccessConstraints());
+            if (!attributeContext.canModify()) {
+                throw new AccessDeniedException("entityAttribute", metaClass.getName() + "." + property, "modify");
+            }
+        }
+    }
+
+    protected void addAuditValues(MetaClass metaClass, Map<String, Object> values,
+                                  Class<? extends Annotation> dateAnnotation,
+                                  Class<? extends Annotation> userAnnotation) {
+        for (MetaProperty property : metaClass.getProperties()) {
+            AnnotatedElement element = property.getAnnotatedElement();
+            if (element == null || values.containsKey(property.getName())) {
+                continue;
+            }
+            if (element.isAnnotationPresent(dateAnnotation)) {
+                values.put(property.getName(),
+                        auditConverter.convert(timeSource.currentTimestamp(), property.getJavaType()));
+            } else if (element.isAnnotationPresent(userAnnotation)) {
+                values.put(property.getName(),
+                        auditConverter.convert(auditInfoProvider.getCurrentUser(), property.getJavaType()));
+            }
+        }
+    }
+
+    /**
+     * Creates the bulk statements. The condition and row-level constraints are applied to a select query first, which
+     * is then turned into the update or delete statement with the same where clause. If the select query contains
+     * joins, the statement selects affected instances by a subquery on ids. If the DBMS doesn't support subqueries
+     * on the modified table, ids are selected beforehand and a statement is created for each batch of them.
+     */
+    protected List<Query> createBulkQueries(EntityManager em, MetaClass metaClass, BulkOperationContext context,
+                                            Map<String, Object> values, boolean softDelete) {
+        String entityName = metaClass.getName();
+        String pkName = metadataTools.getPrimaryKeyName(metaClass);
+        if (pkName == null) {
+            throw new IllegalStateException(String.format("Entity %s has no primary key", entityName));
+        }
+
+        //noinspection unchecked
+        JpqlQueryBuilder<JmixEclipseLinkQuery<?>> queryBuilder = jpqlQueryBuilderProvider.getObject();
+        queryBuilder.setEntityName(entityName)
+                .setQueryString(String.format("select s from %s s", entityName))
+                .setCondition(context.getCondition())
+                .setQueryParameters(new HashMap<>(context.getParameters()));
+
+        JmixEclipseLinkQuery<?> query = queryBuilder.getQuery(em);
+
+        ReadEntityQueryContext queryContext = new ReadEntityQueryContext(query, metaClass, queryTransformerFactory);
+        accessManager.applyConstraints(queryContext, context.getAccessConstraints());
+        query = (JmixEclipseLinkQuery<?>) queryContext.getResultQuery();
+
+        String alias;
+        String whereClause;
+        List<List<Object>> idBatches = null;
+        Matcher matcher = SIMPLE_SELECT_PATTERN.matcher(query.getQueryString());
+        if (matcher.matches()) {
+            alias = "s";
+            whereClause = matcher.group(1);
+        } else {
+            QueryTransformer transformer = queryTransformerFactory.transformer(query.getQueryString());
+            transformer.replaceWithSelectId(pkName);
+            alias = "e";
+            DbmsFeatures dbmsFeatures = dbmsSpecifics.getDbmsFeatures(storeName);
+            if (dbmsFeatures.supportsSubqueryOnModifiedTable()) {
+                whereClause = String.format("e.%s in (%s)", pkName, transformer.getResult());
+            } else {
+                query.setQueryString(transformer.getResult());
+                List<Object> ids = new ArrayList<>(new LinkedHashSet<>(query.getResultList()));
+                if (ids.isEmpty()) {
+                    return Collections.emptyList();
+                }
+                Integer batchSize = dbmsFeatures.getMaxIdsBatchSize();
+                idBatches = Lists.partition(ids, batchSize == null ? Integer.MAX_VALUE : batchSize);
+                whereClause = String.format("e.%s in :_bulkIds", pkName);
+            }
+        }
+        if (context.isSoftDeletion() && metadataTools.isSoftDeletable(metaClass.getJavaClass())) {
+            String deletedDateProperty = metadataTools.findDeletedDateProperty(metaClass.getJavaClass());
+            if (deletedDateProperty != null) {
+                String notDeleted = String.format("%s.%s is null", alias, deletedDateProperty);
+                whereClause = whereClause == null ? notDeleted : String.format("(%s) and %s", whereClause, notDeleted);
+            }
+        }
+
+        Map<String, Object> statementParameters = new HashMap<>();
+        StringBuilder statement = new StringBuilder();
+        if (context.getType() == BulkOperationContext.Type.DELETE && !softDelete) {
+            // OnDelete policies and composition cascades are not applied, see UnconstrainedDataManager.delete(Class)
+            statement.append("delete from ").append(entityName).append(" ").append(alias);
+        } else {
+            statement.append("update ").append(entityName).append(" ").append(alias).append(" set ");
+            int i = 0;
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                checkBulkUpdateProperty(metaClass, entry.getKey());
+                if (i > 0) {
+                    statement.append(", ");
+                }
+                statement.append(alias).append(".").append(entry.getKey()).append(" = ");
+                if (entry.getValue() == null) {
+                    statement.append("null");
+                } else {
+                    statement.append(":_bulk").append(i);
+                    statementParameters.put("_bulk" + i, entry.getValue());
+                }
+                i++;
+            }
+            MetaProperty versionProperty = findVersionProperty(metaClass);
+            if (versionProperty != null && !values.containsKey(versionProperty.getName())) {
+                statement.append(", ").append(alias).append(".").append(versionProperty.getName())
+                        .append(" = ").append(alias).append(".").append(versionProperty.getName()).append(" + 1");
+            }
+        }
+        if (whereClause != null) {
+            statement.append(" where ").append(whereClause);
+        }
+
+        if (idBatches == null) {
+            query.setQueryString(statement.toString());
+            statementParameters.forEach(query::setParameter);
+            return Collections.singletonList(query);
+        }
+
+        List<Query> queries = new ArrayList<>(idBatches.size());
+        for (List<Object> idBatch : idBatches) {
+            Query batchQuery = em.createQuery(statement.toString());
+            statementParameters.forEach(batchQuery::setParameter);
+            batchQuery.setParameter("_bulkIds", idBatch);
+            queries.add(batchQuery);
+        }
+        return queries;
+    }
+
+    protected void checkBulkUpdateProperty(MetaClass metaClass, String property) {
+        MetaPropertyPath propertyPath = metaClass.getPropertyPath(property);
+        if (propertyPath == null) {
+            throw new IllegalArgumentException(
+                    String.format("Could not resolve property path '%s' in '%s'", property, metaClass));
+        }
+        MetaProperty[] metaProperties = propertyPath.getMetaProperties();
+        for (int i = 0; i < metaProperties.length; i++) {
+            MetaProperty metaProperty = metaProperties[i];
+            boolean last = i == metaProperties.length - 1;
+            if (!metadataTools.isJpa(metaProperty)
+                    || metaProperty.getAnnotations().containsKey(MetadataTools.PRIMARY_KEY_ANN_NAME)
+                    || metaProperty.getRange().getCardinality().isMany()
+                    || metadataTools.isEmbedded(metaProperty) == last) {
+                throw new IllegalArgumentException(String.format(
+                        "Property '%s' of '%s' cannot be assigned by bulk update", property, metaClass));
+            }
+        }
+    }
+
+    @Nullable
+    protected MetaProperty findVersionProperty(MetaClass metaClass) {
+        for (MetaProperty property : metaClass.getProperties()) {
+            AnnotatedElement element = property.getAnnotatedElement();
+            if (element != null && element.isAnnotationPresent(Version.class)) {
+                return property;
+            }
+        }
+        return null;
+    }
+
     protected Query createLoadQuery(EntityManager em, ValueLoadContext context, boolean count) {
         //noinspection unchecked
         JpqlQueryBuilder<JmixEclipseLinkQuery<?>> queryBuilder = jpqlQueryBuilderProvider.getObject();
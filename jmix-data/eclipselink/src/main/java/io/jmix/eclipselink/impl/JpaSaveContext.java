@@ -20,6 +20,7 @@ public class JpaSaveContext extends SaveContext {
 
         this.fetchPlans = context.getFetchPlans();
         this.discardSaved = context.isDiscardSaved();
+        this.skipReload = context.isSkipReload();
         this.joinTransaction = context.isJoinTransaction();
         this.accessConstraints = context.getAccessConstraints();
         this.hints = context.getHints();
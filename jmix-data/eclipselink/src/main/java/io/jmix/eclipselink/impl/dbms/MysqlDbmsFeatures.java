@@ -65,6 +65,11 @@ public class MysqlDbmsFeatures implements DbmsFeatures {
         return true;
     }
 
+    @Override
+    public boolean supportsSubqueryOnModifiedTable() {
+        return false;
+    }
+
     @Override
     public String getTypeAndVersion() {
         return "mysql";
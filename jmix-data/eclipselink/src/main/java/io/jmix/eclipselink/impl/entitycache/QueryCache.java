@@ -17,6 +17,7 @@
 package io.jmix.eclipselink.impl.entitycache;
 
 
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -30,9 +31,16 @@ public interface QueryCache {
     QueryResult get(QueryKey queryKey);
 
     /**
-     * Associates {@code queryResult} with {@code queryKey} in this cache
+     * Returns current versions of types {@code typeNames}. They must be obtained before the query is executed and
+     * passed to {@link #put(QueryKey, QueryResult, Map)}.
      */
-    void put(QueryKey queryKey, QueryResult queryResult);
+    Map<String, Long> getTypeVersions(Set<String> typeNames);
+
+    /**
+     * Associates {@code queryResult} with {@code queryKey} in this cache, unless some of the result related types
+     * has been invalidated since {@code typeVersions} were obtained.
+     */
+    void put(QueryKey queryKey, QueryResult queryResult, Map<String, Long> typeVersions);
 
     /**
      * Discards cached query results for metaClass name {@code typeName}.
@@ -205,9 +205,11 @@ public class QueryCacheManager {
      *
      * @param type         - result entity type (metaClass name)
      * @param relatedTypes - query dependent types (metaClass names). It's a list of entity types used in query
+     * @param typeVersions - versions of related types obtained by {@link #getTypeVersions(Set)} before executing the query
      */
     @SuppressWarnings("unchecked")
-    public void putResultToCache(QueryKey queryKey, List resultList, String type, Set<String> relatedTypes) {
+    public void putResultToCache(QueryKey queryKey, List resultList, String type, Set<String> relatedTypes,
+                                 Map<String, Long> typeVersions) {
         QueryResult queryResult;
         if (resultList.size() > 0) {
             List idList = (List) resultList.stream()
@@ -219,7 +221,7 @@ public class QueryCacheManager {
             queryResult = new QueryResult(Collections.emptyList(), type, getDescendants(relatedTypes));
         }
         log.debug("Put results into cache for query: {}, relatedTypes: {}", queryKey.printDescription(), relatedTypes);
-        queryCache.put(queryKey, queryResult);
+        queryCache.put(queryKey, queryResult, typeVersions);
     }
 
     /**
@@ -229,9 +231,11 @@ public class QueryCacheManager {
      * @param type         - result entity type (metaClass name)
      * @param relatedTypes - query dependent types (metaClass names). It's a list of entity types used in query
      * @param exception    - store exception in the query cache if {@link TypedQuery#getSingleResult()} throws exception
+     * @param typeVersions - versions of related types obtained by {@link #getTypeVersions(Set)} before executing the query
      */
     @SuppressWarnings("unchecked")
-    public <T> void putResultToCache(QueryKey queryKey, T result, String type, Set<String> relatedTypes, RuntimeException exception) {
+    public <T> void putResultToCache(QueryKey queryKey, T result, String type, Set<String> relatedTypes, RuntimeException exception,
+                                     Map<String, Long> typeVersions) {
         QueryResult queryResult;
         if (exception == null) {
             queryResult = new QueryResult(Collections.singletonList(EntityValues.getId(((Entity) result))), type, relatedTypes);
@@ -239,7 +243,16 @@ public class QueryCacheManager {
             queryResult = new QueryResult(Collections.emptyList(), type, relatedTypes, exception);
         }
         log.debug("Put results into cache for query: {}, relatedTypes: {}", queryKey.printDescription(), relatedTypes);
-        queryCache.put(queryKey, queryResult);
+        queryCache.put(queryKey, queryResult, typeVersions);
+    }
+
+    /**
+     * Returns current versions of query dependent types {@code relatedTypes} and their descendants. Must be called
+     * before executing the query, which results are put into cache.
+     */
+    public Map<String, Long> getTypeVersions(Set<String> relatedTypes) {
+        Set<String> types = getDescendants(relatedTypes);
+        return types == null ? Collections.emptyMap() : queryCache.getTypeVersions(types);
     }
 
     /**
@@ -19,6 +19,7 @@ package io.jmix.eclipselink.impl.entitycache;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class QueryResult implements Serializable {
@@ -28,16 +29,30 @@ public class QueryResult implements Serializable {
     protected final String type;
     protected final Set<String> relatedTypes;
     protected final RuntimeException exception;
+    protected final Map<String, Long> typeVersions;
 
     public QueryResult(List<?> result, String type, Set<String> relatedTypes) {
         this(result, type, relatedTypes, null);
     }
 
     public QueryResult(List<?> result, String type, Set<String> relatedTypes, RuntimeException exception) {
+        this(result, type, relatedTypes, exception, null);
+    }
+
+    public QueryResult(List<?> result, String type, Set<String> relatedTypes, RuntimeException exception,
+                       Map<String, Long> typeVersions) {
         this.result = Collections.unmodifiableList(result);
         this.type = type;
         this.relatedTypes = relatedTypes;
         this.exception = exception;
+        this.typeVersions = typeVersions;
+    }
+
+    /**
+     * Returns a copy of this result stamped with versions of related types.
+     */
+    public QueryResult withTypeVersions(Map<String, Long> typeVersions) {
+        return new QueryResult(result, type, relatedTypes, exception, typeVersions);
     }
 
     public List getResult() {
@@ -55,4 +70,11 @@ public class QueryResult implements Serializable {
     public RuntimeException getException() {
         return exception;
     }
+
+    /**
+     * @return versions of related types at the moment the result has been put into the cache
+     */
+    public Map<String, Long> getTypeVersions() {
+        return typeVersions;
+    }
 }
@@ -18,7 +18,8 @@ package io.jmix.eclipselink.impl.entitycache;
 
 import com.google.common.collect.Sets;
 import io.jmix.core.CacheOperations;
-import org.apache.commons.collections4.CollectionUtils;
+import io.jmix.eclipselink.EclipselinkProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,10 +28,33 @@ import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Query cache based on the {@value #QUERY_CACHE_NAME} Spring cache.
+ * <p>
+ * Invalidation by entity types does not scan the cache. Instead, each entity type has a version stored in the same
+ * cache, and cached results are stamped with versions of their related types obtained before the query is executed.
+ * Invalidation of a type replaces its version, so results of queries executed concurrently with invalidation are not
+ * cached, and results with outdated stamps are evicted when they are requested. This works the same way for local,
+ * non-iterable and distributed caches.
+ * <p>
+ * Outdated results which are not requested anymore and versions of types not related to any result are removed by
+ * a sweep performed on invalidation not more often than {@link EclipselinkProperties#getQueryCacheSweepInterval()}.
+ * Only iterable caches are swept, non-iterable ones are expected to be bounded by their own configuration.
+ * <p>
+ * If a {@link MeterRegistry} is available, hits, misses and evictions of outdated results are counted per result
+ * entity type by the {@code jmix.eclipselink.queryCache.gets} and {@code jmix.eclipselink.queryCache.evictions}
+ * meters. Misses are counted when results of an executed query are put into the cache.
+ */
 @Component("eclipselink_QueryCache")
 public class StandardQueryCache implements QueryCache {
 
@@ -40,6 +64,12 @@ public class StandardQueryCache implements QueryCache {
     protected CacheManager cacheManager;
     @Autowired
     protected CacheOperations cacheOperations;
+    @Autowired(required = false)
+    protected MeterRegistry meterRegistry;
+    @Autowired
+    protected EclipselinkProperties properties;
+
+    protected final AtomicLong lastSweepTime = new AtomicLong(System.currentTimeMillis());
 
     public static final String QUERY_CACHE_NAME = "jmix-eclipselink-query-cache";
 
@@ -55,11 +85,45 @@ public class StandardQueryCache implements QueryCache {
 
     @Override
     public QueryResult get(QueryKey queryKey) {
-        return queries.get(queryKey, QueryResult.class);
+        QueryResult queryResult = queries.get(queryKey, QueryResult.class);
+        if (queryResult == null) {
+            return null;
+        }
+        if (!isActual(queryResult)) {
+            log.debug("Evict outdated results of query: {}", queryKey.printDescription());
+            queries.evictIfPresent(queryKey);
+            countEviction(queryResult.getType());
+            return null;
+        }
+        countGet(queryResult.getType(), "hit");
+        return queryResult;
     }
 
     @Override
-    public void put(QueryKey queryKey, QueryResult queryResult) {
+    public Map<String, Long> getTypeVersions(Set<String> typeNames) {
+        Map<String, Long> typeVersions = new HashMap<>(typeNames.size());
+        for (String typeName : typeNames) {
+            typeVersions.put(typeName, getOrCreateVersion(typeName));
+        }
+        return typeVersions;
+    }
+
+    @Override
+    public void put(QueryKey queryKey, QueryResult queryResult, Map<String, Long> typeVersions) {
+        countGet(queryResult.getType(), "miss");
+        Set<String> relatedTypes = queryResult.getRelatedTypes();
+        if (relatedTypes != null && !relatedTypes.isEmpty()) {
+            for (String typeName : relatedTypes) {
+                // the query could read the state before invalidation, so its result must not be used as actual
+                Long version = queries.get(new TypeVersionKey(typeName), Long.class);
+                if (version == null || !version.equals(typeVersions.get(typeName))) {
+                    log.debug("Type {} has been invalidated while executing query, results are not cached: {}",
+                            typeName, queryKey.printDescription());
+                    return;
+                }
+            }
+            queryResult = queryResult.withTypeVersions(typeVersions);
+        }
         queries.put(queryKey, queryResult);
     }
 
@@ -76,21 +140,109 @@ public class StandardQueryCache implements QueryCache {
     }
 
     protected void invalidateByTypes(Set<String> typeNames) {
-        if (cacheOperations.isIterableCache(queries)) {
-            Set<QueryKey> evicted = new HashSet<>();
+        for (String typeName : typeNames) {
+            queries.put(new TypeVersionKey(typeName), createVersion());
+        }
+        sweepIfNeeded();
+    }
 
-            cacheOperations.<QueryKey, QueryResult>forEach(queries, (queryKey, queryResult) -> {
-                if (CollectionUtils.containsAny(queryResult.getRelatedTypes(), typeNames)) {
-                    evicted.add(queryKey);
+    protected void sweepIfNeeded() {
+        long interval = properties.getQueryCacheSweepInterval().toMillis();
+        if (interval <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long lastSweep = lastSweepTime.get();
+        if (now - lastSweep >= interval && lastSweepTime.compareAndSet(lastSweep, now)) {
+            sweep();
+        }
+    }
+
+    /**
+     * Removes outdated results and versions of types not related to any actual result. A version removed
+     * concurrently with putting a result related to the type makes the result outdated, so it's just not reused.
+     */
+    public void sweep() {
+        if (!cacheOperations.isIterableCache(queries)) {
+            return;
+        }
+        List<Object> outdatedKeys = new ArrayList<>();
+        List<QueryResult> outdatedResults = new ArrayList<>();
+        List<TypeVersionKey> versionKeys = new ArrayList<>();
+        Set<String> relatedTypes = new HashSet<>();
+        cacheOperations.forEach(queries, (key, value) -> {
+            if (key instanceof TypeVersionKey) {
+                versionKeys.add((TypeVersionKey) key);
+            } else if (value instanceof QueryResult) {
+                QueryResult queryResult = (QueryResult) value;
+                if (isActual(queryResult)) {
+                    if (queryResult.getRelatedTypes() != null) {
+                        relatedTypes.addAll(queryResult.getRelatedTypes());
+                    }
+                } else {
+                    outdatedKeys.add(key);
+                    outdatedResults.add(queryResult);
                 }
-            });
+            }
+        });
 
-            for (QueryKey queryKey : evicted) {
-                queries.evictIfPresent(queryKey);
+        outdatedKeys.forEach(queries::evictIfPresent);
+        outdatedResults.forEach(queryResult -> countEviction(queryResult.getType()));
 
+        int evictedVersions = 0;
+        for (TypeVersionKey versionKey : versionKeys) {
+            if (!relatedTypes.contains(versionKey.typeName)) {
+                queries.evictIfPresent(versionKey);
+                evictedVersions++;
             }
-        } else {
-            queries.invalidate();
+        }
+        log.debug("Query cache sweep evicted {} outdated results and {} type versions", outdatedKeys.size(), evictedVersions);
+    }
+
+    /**
+     * Returns true if none of the result related types has been invalidated after the result was put into the cache.
+     */
+    protected boolean isActual(QueryResult queryResult) {
+        Set<String> relatedTypes = queryResult.getRelatedTypes();
+        if (relatedTypes == null || relatedTypes.isEmpty()) {
+            return true;
+        }
+        Map<String, Long> typeVersions = queryResult.getTypeVersions();
+        if (typeVersions == null) {
+            return false;
+        }
+        for (String typeName : relatedTypes) {
+            // a missing version means the version entry has been evicted, so the result can be outdated
+            Long version = queries.get(new TypeVersionKey(typeName), Long.class);
+            if (version == null || !version.equals(typeVersions.get(typeName))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected Long getOrCreateVersion(String typeName) {
+        Long version = createVersion();
+        Cache.ValueWrapper existing = queries.putIfAbsent(new TypeVersionKey(typeName), version);
+        return existing != null && existing.get() instanceof Long ? (Long) existing.get() : version;
+    }
+
+    /**
+     * Versions are random to stay unique when the cache is shared by several application instances.
+     */
+    protected Long createVersion() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    protected void countGet(String typeName, String result) {
+        if (meterRegistry != null) {
+            meterRegistry.counter("jmix.eclipselink.queryCache.gets", "entity", typeName, "result", result).increment();
+        }
+    }
+
+    protected void countEviction(String typeName) {
+        if (meterRegistry != null) {
+            meterRegistry.counter("jmix.eclipselink.queryCache.evictions", "entity", typeName).increment();
         }
     }
 
@@ -104,10 +256,44 @@ public class StandardQueryCache implements QueryCache {
     public long size() {
         if (cacheOperations.isIterableCache(queries)) {
             AtomicLong count = new AtomicLong();
-            cacheOperations.forEach(queries, (queryKey, queryResult) -> count.incrementAndGet());
+            cacheOperations.forEach(queries, (key, value) -> {
+                if (key instanceof QueryKey) {
+                    count.incrementAndGet();
+                }
+            });
             return count.get();
         } else {
             return 0;
         }
     }
+
+    /**
+     * Key of an entity type version entry in the query cache.
+     */
+    protected static final class TypeVersionKey implements Serializable {
+        private static final long serialVersionUID = 2938162406517340372L;
+
+        private final String typeName;
+
+        private TypeVersionKey(String typeName) {
+            this.typeName = typeName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            return typeName.equals(((TypeVersionKey) o).typeName);
+        }
+
+        @Override
+        public int hashCode() {
+            return typeName.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "TypeVersionKey{" + typeName + "}";
+        }
+    }
 }
@@ -49,6 +49,7 @@ public abstract class AbstractValueHolder extends UnitOfWorkValueHolder implemen
     private volatile boolean isInstantiated;
     private volatile Object value;
     private LoadOptions loadOptions;
+    private transient LazyLoadingGroup lazyLoadingGroup;
 
     public AbstractValueHolder(BeanFactory beanFactory,
                                ValueHolderInterface originalValueHolder,
@@ -274,20 +275,45 @@ public abstract class AbstractValueHolder extends UnitOfWorkValueHolder implemen
         if (!isInstantiated) {
             if (LazyLoadingContext.isDisabled()) {
                 value = originalValueHolder.getValue();
+                isInstantiated = true;
             } else {
                 synchronized (this) {
-                    value = loadValue();
-                    afterLoadValue(value);
-                    registerLoadedProperty(getOwner(), getPropertyInfo().getName());
+                    // the value could be set by a batch loading of a sibling holder
+                    if (!isInstantiated) {
+                        value = loadValue();
+                        afterLoadValue(value);
+                        registerLoadedProperty(getOwner(), getPropertyInfo().getName());
+                        isInstantiated = true;
+                    }
                 }
             }
-            isInstantiated = true;
         }
         return value;
     }
 
     protected abstract Object loadValue();
 
+    /**
+     * Sets the value loaded for this holder by a batch loading initiated by a sibling holder of the same
+     * {@link LazyLoadingGroup}. Does nothing if the value is already loaded.
+     */
+    protected void setLoadedValue(Object value) {
+        if (!isInstantiated) {
+            synchronized (this) {
+                if (!isInstantiated) {
+                    this.value = value;
+                    afterLoadValue(value);
+                    registerLoadedProperty(getOwner(), getPropertyInfo().getName());
+                    isInstantiated = true;
+                }
+            }
+        }
+    }
+
+    protected boolean isValueLoaded() {
+        return isInstantiated;
+    }
+
     protected abstract void afterLoadValue(Object value);
 
     protected void registerLoadedProperty(Object entity, String property) {
@@ -314,6 +340,18 @@ public abstract class AbstractValueHolder extends UnitOfWorkValueHolder implemen
         return loadOptions;
     }
 
+    public void setLazyLoadingGroup(LazyLoadingGroup lazyLoadingGroup) {
+        this.lazyLoadingGroup = lazyLoadingGroup;
+    }
+
+    /**
+     * @return group of sibling holders loaded together, or null if batch lazy loading is disabled or the holder
+     * has been deserialized
+     */
+    public LazyLoadingGroup getLazyLoadingGroup() {
+        return lazyLoadingGroup;
+    }
+
     public Object getOwner() {
         return owner;
     }
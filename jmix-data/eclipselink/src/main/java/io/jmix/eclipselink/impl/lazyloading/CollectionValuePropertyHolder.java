@@ -56,9 +56,57 @@ public class CollectionValuePropertyHolder extends AbstractValueHolder {
     protected Object loadValue() {
         MetaClass metaClass = getMetadata().getClass(getOwner());
 
+        LazyLoadingGroup group = getLazyLoadingGroup();
+        if (group != null && group.getBatchSize() > 1 && !getMetadataTools().hasCompositePrimaryKey(metaClass)) {
+            Object reloadedOwner = loadBatch(metaClass, group).get(EntityValues.getId(getOwner()));
+            if (reloadedOwner != null) {
+                return extractValue(reloadedOwner);
+            }
+        }
+
         LoadContext<?> loadContext = createLoadContextByOwner(metaClass);
 
         Object reloadedOwner = getDataManager().load(loadContext);
+        return extractValue(reloadedOwner);
+    }
+
+    /**
+     * Reloads owners of this holder and its not yet loaded siblings with the collection property by one query and
+     * sets values of the siblings. Siblings whose owners are not returned stay unloaded and are loaded one by one
+     * on access.
+     *
+     * @return reloaded owners by their ids
+     */
+    protected Map<Object, Object> loadBatch(MetaClass metaClass, LazyLoadingGroup group) {
+        List<CollectionValuePropertyHolder> holders =
+                group.getPendingHolders(this, CollectionValuePropertyHolder.class);
+
+        Set<Object> ids = new LinkedHashSet<>();
+        for (CollectionValuePropertyHolder holder : holders) {
+            ids.add(Objects.requireNonNull(EntityValues.getId(holder.getOwner())));
+        }
+
+        LoadContext<?> loadContext = createLoadContext(metaClass)
+                .setIds(ids);
+
+        Map<Object, Object> reloadedOwners = new HashMap<>();
+        for (Object entity : getDataManager().loadList(loadContext)) {
+            reloadedOwners.put(EntityValues.getId(entity), entity);
+        }
+        group.onBatchLoaded(holders.size());
+
+        for (CollectionValuePropertyHolder holder : holders) {
+            if (holder != this) {
+                Object reloadedOwner = reloadedOwners.get(EntityValues.getId(holder.getOwner()));
+                if (reloadedOwner != null) {
+                    holder.setLoadedValue(holder.extractValue(reloadedOwner));
+                }
+            }
+        }
+        return reloadedOwners;
+    }
+
+    protected Collection<Object> extractValue(Object reloadedOwner) {
         Collection<Object> value = EntityValues.getValue(reloadedOwner, getPropertyInfo().getName());
 
         getSecurityState(getOwner()).addErasedIds(getPropertyInfo().getName(),
@@ -80,8 +128,12 @@ public class CollectionValuePropertyHolder extends AbstractValueHolder {
     }
 
     protected LoadContext<?> createLoadContextByOwner(MetaClass metaClass) {
+        return createLoadContext(metaClass)
+                .setId(Objects.requireNonNull(EntityValues.getId(getOwner())));
+    }
+
+    protected LoadContext<?> createLoadContext(MetaClass metaClass) {
         return new LoadContext<>(metaClass)
-                .setId(Objects.requireNonNull(EntityValues.getId(getOwner())))
                 .setFetchPlan(
                         getFetchPlans().builder(metaClass.getJavaClass())
                                 .add(getPropertyInfo().getName(), builder -> builder.addFetchPlan(FetchPlan.BASE))
@@ -25,6 +25,8 @@ import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.core.metamodel.model.Range;
 import io.jmix.data.PersistenceHints;
+import io.jmix.eclipselink.EclipselinkProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.Basic;
 import jakarta.persistence.FetchType;
 import org.eclipse.persistence.expressions.Expression;
@@ -36,6 +38,7 @@ import org.eclipse.persistence.internal.expressions.RelationExpression;
 import org.eclipse.persistence.internal.indirection.QueryBasedValueHolder;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.io.Serializable;
@@ -66,6 +69,10 @@ public class JpaLazyLoadingListener implements DataStoreEventListener {
     protected ExtendedEntities extendedEntities;
     @Autowired
     protected FetchPlans fetchPlans;
+    @Autowired
+    protected EclipselinkProperties properties;
+    @Autowired(required = false)
+    protected MeterRegistry meterRegistry;
 
     @Override
     public void afterEntityLoad(DataStoreAfterEntityLoadEvent event) {
@@ -77,12 +84,25 @@ public class JpaLazyLoadingListener implements DataStoreEventListener {
         if (fetchPlan == null) {
             fetchPlan = fetchPlanRepository.getFetchPlan(metaClass, FetchPlan.LOCAL);
         }
+        Map<String, LazyLoadingGroup> lazyLoadingGroups =
+                properties.getLazyLoadingBatchSize() > 1 && event.getResultEntities().size() > 1 ? new HashMap<>() : null;
         for (Object entity : event.getResultEntities()) {
-            processValueHolders(entity, context, fetchPlan);
+            processValueHolders(entity, context, fetchPlan, lazyLoadingGroups);
         }
     }
 
     public void processValueHolders(Object entity, LoadContext<?> loadContext, FetchPlan fetchPlan) {
+        processValueHolders(entity, loadContext, fetchPlan, null);
+    }
+
+    /**
+     * Creates lazy loading value holders for not loaded reference properties of the entity and its loaded graph.
+     *
+     * @param lazyLoadingGroups groups of sibling holders by entity and property names, shared between all entities
+     *                          loaded by the same operation, or null if batch lazy loading is not used
+     */
+    protected void processValueHolders(Object entity, LoadContext<?> loadContext, FetchPlan fetchPlan,
+                                       @Nullable Map<String, LazyLoadingGroup> lazyLoadingGroups) {
         Map<Object, Set<FetchPlan>> collectedFetchPlans = new HashMap<>();
 
         if (fetchPlan != null) {
@@ -113,12 +133,16 @@ public class JpaLazyLoadingListener implements DataStoreEventListener {
                         !isPropertyContainedInFetchPlans(property, entry.getValue()) &&
                         metadataTools.getCrossDataStoreReferenceIdProperty(property.getStore().getName(), property) == null) {
                     if (!entityStates.isLoaded(entry.getKey(), property.getName())) {
+                        AbstractValueHolder valueHolder = null;
                         if (property.getRange().getCardinality().isMany()) {
-                            processCollectionValueHolder(entry.getKey(), property, loadOptions);
+                            valueHolder = processCollectionValueHolder(entry.getKey(), property, loadOptions);
                         } else if (property.getRange().getCardinality() == Range.Cardinality.ONE_TO_ONE) {
-                            processOneToOneValueHolder(entry.getKey(), property, loadOptions);
+                            valueHolder = processOneToOneValueHolder(entry.getKey(), property, loadOptions);
                         } else if (property.getRange().getCardinality() == Range.Cardinality.MANY_TO_ONE) {
-                            processManyToOneValueHolder(entry.getKey(), property, loadOptions);
+                            valueHolder = processManyToOneValueHolder(entry.getKey(), property, loadOptions);
+                        }
+                        if (valueHolder != null && lazyLoadingGroups != null) {
+                            addToLazyLoadingGroup(valueHolder, metaClass, property, lazyLoadingGroups);
                         }
                     }
                 }
@@ -140,7 +164,8 @@ public class JpaLazyLoadingListener implements DataStoreEventListener {
         }
     }
 
-    protected void processCollectionValueHolder(Object owner, MetaProperty property, LoadOptions loadOptions) {
+    @Nullable
+    protected AbstractValueHolder processCollectionValueHolder(Object owner, MetaProperty property, LoadOptions loadOptions) {
         Object valueHolder = getCollectionValueHolder(owner, property.getName());
         if (valueHolder != null && !(valueHolder instanceof AbstractValueHolder)) {
             AbstractValueHolder wrappedValueHolder =
@@ -149,10 +174,13 @@ public class JpaLazyLoadingListener implements DataStoreEventListener {
             wrappedValueHolder.setLoadOptions(LoadOptions.with(loadOptions));
 
             setCollectionValueHolder(owner, property.getName(), wrappedValueHolder);
+            return wrappedValueHolder;
         }
+        return null;
     }
 
-    protected void processOneToOneValueHolder(Object owner, MetaProperty property, LoadOptions loadOptions) {
+    @Nullable
+    protected AbstractValueHolder processOneToOneValueHolder(Object owner, MetaProperty property, LoadOptions loadOptions) {
         Object originalValueHolder = getSingleValueHolder(owner, property.getName());
 
         if (originalValueHolder != null && !(originalValueHolder instanceof AbstractValueHolder)) {
@@ -185,10 +213,13 @@ public class JpaLazyLoadingListener implements DataStoreEventListener {
             }
 
             setSingleValueHolder(owner, property.getName(), wrappedValueHolder);
+            return wrappedValueHolder;
         }
+        return null;
     }
 
-    protected void processManyToOneValueHolder(Object owner, MetaProperty property, LoadOptions loadOptions) {
+    @Nullable
+    protected AbstractValueHolder processManyToOneValueHolder(Object owner, MetaProperty property, LoadOptions loadOptions) {
         Object originalValueHolder = getSingleValueHolder(owner, property.getName());
 
         if (originalValueHolder != null && !(originalValueHolder instanceof AbstractValueHolder)) {
@@ -209,8 +240,34 @@ public class JpaLazyLoadingListener implements DataStoreEventListener {
                 wrappedValueHolder.setLoadOptions(LoadOptions.with(loadOptions));
 
                 setSingleValueHolder(owner, property.getName(), wrappedValueHolder);
+                return wrappedValueHolder;
             }
         }
+        return null;
+    }
+
+    /**
+     * Adds the holder to the group of holders created for the same property of other entities of the same class.
+     * Only holders able to load values of several owners by one query are grouped.
+     */
+    protected void addToLazyLoadingGroup(AbstractValueHolder valueHolder, MetaClass metaClass, MetaProperty property,
+                                         Map<String, LazyLoadingGroup> lazyLoadingGroups) {
+        if (valueHolder instanceof SingleValueOwningPropertyHolder
+                || valueHolder instanceof CollectionValuePropertyHolder) {
+            LazyLoadingGroup group = lazyLoadingGroups.computeIfAbsent(metaClass.getName() + "." + property.getName(),
+                    key -> createLazyLoadingGroup());
+            group.add(valueHolder);
+            valueHolder.setLazyLoadingGroup(group);
+        }
+    }
+
+    protected LazyLoadingGroup createLazyLoadingGroup() {
+        if (meterRegistry == null) {
+            return new LazyLoadingGroup(properties.getLazyLoadingBatchSize(), null, null);
+        }
+        return new LazyLoadingGroup(properties.getLazyLoadingBatchSize(),
+                meterRegistry.counter("jmix.eclipselink.lazyLoading.batchQueries"),
+                meterRegistry.counter("jmix.eclipselink.lazyLoading.avoidedQueries"));
     }
 
     protected void collectFetchPlans(Object instance, FetchPlan fetchPlan, Map<Object, Set<FetchPlan>> collectedFetchPlans) {
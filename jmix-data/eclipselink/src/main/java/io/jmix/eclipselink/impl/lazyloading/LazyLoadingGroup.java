@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.eclipselink.impl.lazyloading;
+
+import io.micrometer.core.instrument.Counter;
+import org.springframework.lang.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Group of value holders created for the same property of sibling entities loaded by one operation. When batch
+ * lazy loading is enabled, the first access to a holder of the group loads the property for up to
+ * {@link #getBatchSize()} not yet loaded siblings in one query.
+ * <p>
+ * Holders are referenced weakly, so the group does not prevent garbage collection of loaded entities.
+ *
+ * @see io.jmix.eclipselink.EclipselinkProperties#getLazyLoadingBatchSize()
+ */
+public class LazyLoadingGroup {
+
+    protected final int batchSize;
+    protected final List<WeakReference<AbstractValueHolder>> holders = new ArrayList<>();
+
+    protected final Counter batchQueriesCounter;
+    protected final Counter avoidedQueriesCounter;
+
+    public LazyLoadingGroup(int batchSize, @Nullable Counter batchQueriesCounter, @Nullable Counter avoidedQueriesCounter) {
+        this.batchSize = batchSize;
+        this.batchQueriesCounter = batchQueriesCounter;
+        this.avoidedQueriesCounter = avoidedQueriesCounter;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public synchronized void add(AbstractValueHolder holder) {
+        holders.add(new WeakReference<>(holder));
+    }
+
+    /**
+     * Returns the given holder and not yet loaded siblings of the same type and with the same load options, at most
+     * {@link #getBatchSize()} holders in total. Siblings following the given holder are preferred, as entities are
+     * usually iterated in the order they were loaded.
+     */
+    public synchronized <T extends AbstractValueHolder> List<T> getPendingHolders(T holder, Class<T> holderClass) {
+        List<T> result = new ArrayList<>(Math.min(batchSize, holders.size()));
+        result.add(holder);
+
+        int start = 0;
+        for (int i = 0; i < holders.size(); i++) {
+            if (holders.get(i).get() == holder) {
+                start = i;
+                break;
+            }
+        }
+
+        for (int n = 1; n < holders.size() && result.size() < batchSize; n++) {
+            AbstractValueHolder sibling = holders.get((start + n) % holders.size()).get();
+            if (holderClass.isInstance(sibling)
+                    && sibling != holder
+                    && !sibling.isValueLoaded()
+                    && hasSameLoadOptions(holder, sibling)) {
+                result.add(holderClass.cast(sibling));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Registers a query that loaded values for the given number of holders.
+     */
+    public void onBatchLoaded(int loadedHolders) {
+        if (batchQueriesCounter != null) {
+            batchQueriesCounter.increment();
+        }
+        if (avoidedQueriesCounter != null && loadedHolders > 1) {
+            avoidedQueriesCounter.increment(loadedHolders - 1);
+        }
+    }
+
+    protected boolean hasSameLoadOptions(AbstractValueHolder holder, AbstractValueHolder sibling) {
+        LoadOptions options = holder.getLoadOptions();
+        LoadOptions siblingOptions = sibling.getLoadOptions();
+        return options == siblingOptions
+                || options != null && siblingOptions != null
+                && Objects.equals(options.getHints(), siblingOptions.getHints())
+                && Objects.equals(options.getAccessConstraints(), siblingOptions.getAccessConstraints());
+    }
+}
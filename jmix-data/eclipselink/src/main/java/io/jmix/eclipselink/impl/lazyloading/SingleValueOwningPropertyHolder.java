@@ -18,6 +18,7 @@ package io.jmix.eclipselink.impl.lazyloading;
 
 import io.jmix.core.LoadContext;
 import io.jmix.core.UuidProvider;
+import io.jmix.core.entity.EntityValues;
 import io.jmix.core.impl.SerializationContext;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
@@ -26,7 +27,7 @@ import org.eclipse.persistence.indirection.ValueHolderInterface;
 import org.springframework.beans.factory.BeanFactory;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.util.*;
 
 import static io.jmix.core.entity.EntitySystemAccess.getSecurityState;
 
@@ -50,15 +51,18 @@ public class SingleValueOwningPropertyHolder extends AbstractSingleValueHolder {
 
     protected Object loadValue() {
         MetaClass metaClass = getMetadata().getClass(getPropertyInfo().getJavaType());
-        LoadOptions loadOptions = getLoadOptions();
 
-        LoadContext<?> loadContext = new LoadContext<>(metaClass)
-                .setId(getEntityId())
-                .setHints(loadOptions.getHintsCopy())
-                .setHint(PREV_SOFT_DELETION,
-                        getLoadOptions().getHints().getOrDefault(PersistenceHints.SOFT_DELETION, SOFT_DELETION_ABSENT))
-                .setHint(PersistenceHints.SOFT_DELETION, false)
-                .setAccessConstraints(loadOptions.getAccessConstraints());
+        LazyLoadingGroup group = getLazyLoadingGroup();
+        if (group != null && group.getBatchSize() > 1 && !getMetadataTools().hasCompositePrimaryKey(metaClass)) {
+            Map<Object, Object> loadedValues = loadBatch(metaClass, group);
+            Object value = loadedValues.get(getEntityId());
+            if (value != null) {
+                return value;
+            }
+        }
+
+        LoadContext<?> loadContext = createLoadContext(metaClass)
+                .setId(getEntityId());
 
         Object value = getDataManager().load(loadContext);
 
@@ -69,6 +73,73 @@ public class SingleValueOwningPropertyHolder extends AbstractSingleValueHolder {
         return value;
     }
 
+    protected LoadContext<?> createLoadContext(MetaClass metaClass) {
+        LoadOptions loadOptions = getLoadOptions();
+        return new LoadContext<>(metaClass)
+                .setHints(loadOptions.getHintsCopy())
+                .setHint(PREV_SOFT_DELETION,
+                        loadOptions.getHints().getOrDefault(PersistenceHints.SOFT_DELETION, SOFT_DELETION_ABSENT))
+                .setHint(PersistenceHints.SOFT_DELETION, false)
+                .setAccessConstraints(loadOptions.getAccessConstraints());
+    }
+
+    /**
+     * Loads referenced entities of this holder and its not yet loaded siblings by one query and sets values of the
+     * siblings. Siblings referencing the same entity receive the same instance, unless the entity has references
+     * to the owner type: such references are bound to the owner after loading, so only the first owner receives
+     * the instance and the others load their own instances on access. Siblings whose entities are not returned
+     * (e.g. filtered out by constraints) stay unloaded and are loaded one by one on access.
+     *
+     * @return loaded entities by their ids
+     */
+    protected Map<Object, Object> loadBatch(MetaClass metaClass, LazyLoadingGroup group) {
+        List<SingleValueOwningPropertyHolder> holders =
+                group.getPendingHolders(this, SingleValueOwningPropertyHolder.class);
+
+        Set<Object> ids = new LinkedHashSet<>();
+        for (SingleValueOwningPropertyHolder holder : holders) {
+            ids.add(holder.getEntityId());
+        }
+
+        LoadContext<?> loadContext = createLoadContext(metaClass)
+                .setIds(ids);
+
+        Map<Object, Object> loadedValues = new HashMap<>();
+        for (Object entity : getDataManager().loadList(loadContext)) {
+            loadedValues.put(EntityValues.getId(entity), entity);
+        }
+        group.onBatchLoaded(holders.size());
+
+        Set<Object> assignedIds = new HashSet<>();
+        assignedIds.add(getEntityId());
+        for (SingleValueOwningPropertyHolder holder : holders) {
+            if (holder != this) {
+                Object entityId = holder.getEntityId();
+                Object value = loadedValues.get(entityId);
+                if (value != null && (assignedIds.add(entityId) || !hasReferencesToOwner(metaClass, holder.getOwner()))) {
+                    holder.setLoadedValue(value);
+                }
+            }
+        }
+        return loadedValues;
+    }
+
+    /**
+     * @return whether entities of the given class have references that are bound to the owner after loading,
+     * see {@link #replaceToExistingReferences(Object, MetaProperty, Object)}
+     */
+    protected boolean hasReferencesToOwner(MetaClass metaClass, Object owner) {
+        for (MetaProperty property : metaClass.getProperties()) {
+            if (property.getRange().isClass()
+                    && getMetadataTools().isJpa(property)
+                    && !getMetadataTools().isEmbedded(property)
+                    && property.getRange().asClass().getJavaClass().isAssignableFrom(owner.getClass())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected Object convertId(Object entityId, MetaClass metaClass) {
         MetaProperty primaryKeyProperty = getMetadataTools().getPrimaryKeyProperty(metaClass);
         if (primaryKeyProperty != null && UUID.class.equals(primaryKeyProperty.getJavaType())) {
@@ -17,6 +17,10 @@
 package cache
 
 import io.jmix.core.DataManager
+import io.jmix.eclipselink.impl.entitycache.QueryCache
+import io.jmix.eclipselink.impl.entitycache.QueryKey
+import io.jmix.eclipselink.impl.entitycache.QueryResult
+import io.jmix.eclipselink.impl.entitycache.StandardQueryCache
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.transaction.support.TransactionTemplate
 import test_support.DataSpec
@@ -30,6 +34,9 @@ class CachedQueryTest extends DataSpec {
     @Autowired
     DataManager dataManager
 
+    @Autowired
+    QueryCache queryCache
+
     def "test query with null param"() {
         setup:
         generateEntities(10)
@@ -48,6 +55,103 @@ class CachedQueryTest extends DataSpec {
         dropAllEntities()
     }
 
+    def "cached query results are discarded when entity type is changed"() {
+        setup:
+        queryCache.invalidateAll()
+        generateEntities(3)
+
+        when:
+        def entities = dataManager.load(CacheableEntity)
+                .query('e.name like :name')
+                .parameter('name', 'test_%')
+                .cacheable(true)
+                .list()
+
+        then:
+        entities.size() == 3
+        queryCache.size() == 1
+
+        when:
+        def entity = dataManager.create(CacheableEntity)
+        entity.name = 'test_new'
+        dataManager.save(entity)
+
+        entities = dataManager.load(CacheableEntity)
+                .query('e.name like :name')
+                .parameter('name', 'test_%')
+                .cacheable(true)
+                .list()
+
+        then:
+        entities.size() == 4
+
+        cleanup:
+        queryCache.invalidateAll()
+        dropAllEntities()
+    }
+
+    def "sweep removes outdated results and unused type versions"() {
+        setup:
+        queryCache.invalidateAll()
+        generateEntities(3)
+        def cache = (StandardQueryCache) queryCache
+
+        when:
+        dataManager.load(CacheableEntity)
+                .query('e.name like :name')
+                .parameter('name', 'test_%')
+                .cacheable(true)
+                .list()
+
+        then:
+        queryCache.size() == 1
+        countTypeVersions(cache) > 0
+
+        when: "the entity type is changed and the result is not requested anymore"
+        def entity = dataManager.create(CacheableEntity)
+        entity.name = 'test_new'
+        dataManager.save(entity)
+        cache.sweep()
+
+        then:
+        queryCache.size() == 0
+        countTypeVersions(cache) == 0
+
+        cleanup:
+        queryCache.invalidateAll()
+        dropAllEntities()
+    }
+
+    def "results are not cached if related type is invalidated while query is executed"() {
+        setup:
+        queryCache.invalidateAll()
+        def queryKey = new QueryKey('select e from test_CacheableEntity e', 0, 0, true, false, null, null, [:])
+        def queryResult = new QueryResult([], 'test_CacheableEntity', ['test_CacheableEntity'] as Set)
+
+        when:
+        def typeVersions = queryCache.getTypeVersions(['test_CacheableEntity'] as Set)
+        queryCache.invalidate('test_CacheableEntity')
+        queryCache.put(queryKey, queryResult, typeVersions)
+
+        then:
+        queryCache.size() == 0
+
+        when:
+        typeVersions = queryCache.getTypeVersions(['test_CacheableEntity'] as Set)
+        queryCache.put(queryKey, queryResult, typeVersions)
+
+        then:
+        queryCache.size() == 1
+        queryCache.get(queryKey) != null
+
+        cleanup:
+        queryCache.invalidateAll()
+    }
+
+    def countTypeVersions(StandardQueryCache cache) {
+        cache.cacheOperations.getKeys(cache.queries).count { it.class.simpleName == 'TypeVersionKey' }
+    }
+
     def generateEntities(int count) {
         for (int i = 0; i < count; i++) {
             jdbc.update(String.format(
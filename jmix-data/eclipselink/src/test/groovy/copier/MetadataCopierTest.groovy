@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package copier
+
+import io.jmix.core.Copier
+import io.jmix.core.DataManager
+import io.jmix.core.EntityStates
+import io.jmix.core.entity.EntitySystemAccess
+import io.jmix.core.impl.MetadataCopier
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.DataSpec
+import test_support.entity.dto.TestAccessorDto
+import test_support.entity.sales.Customer
+import test_support.entity.sales.Order
+import test_support.entity.sales.OrderLineA
+import test_support.entity.sales.Product
+
+class MetadataCopierTest extends DataSpec {
+
+    @Autowired
+    Copier copier
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    EntityStates entityStates
+
+    def "metadata copier is used by default"() {
+        expect:
+        copier instanceof MetadataCopier
+    }
+
+    def "copies entity graph preserving references"() {
+        def customer = new Customer(name: 'cust-1')
+        def product = new Product(name: 'prod-1')
+
+        def order1 = new Order(customer: customer, number: '1', date: new Date())
+        def order2 = new Order(customer: customer, number: '2')
+
+        def orderLine1 = new OrderLineA(order: order1, product: product, quantity: 10)
+        def orderLine2 = new OrderLineA(order: order2, product: product, quantity: 20)
+
+        order1.orderLines = [orderLine1]
+        order2.orderLines = [orderLine2]
+
+        when:
+        // call the metadata-based copying directly to make sure no fallback to serialization happens
+        List<Order> copies = ((MetadataCopier) copier).copyObject([order1, order2], new IdentityHashMap<>())
+
+        then:
+        copies == [order1, order2]
+        !copies[0].is(order1)
+        !copies[1].is(order2)
+
+        copies[0].number == '1'
+        copies[0].date == order1.date
+        !copies[0].date.is(order1.date)
+
+        copies[0].customer == customer
+        !copies[0].customer.is(customer)
+        copies[0].customer.is(copies[1].customer)
+
+        copies[0].orderLines[0] == orderLine1
+        copies[0].orderLines[0].order.is(copies[0])
+        copies[0].orderLines[0].product.is(copies[1].orderLines[0].product)
+        copies[1].orderLines[0].quantity == 20
+    }
+
+    def "copies entity state"() {
+        def customer = new Customer(name: 'cust-1')
+        def entry = EntitySystemAccess.getEntityEntry(customer)
+        entry.setNew(false)
+        entry.setDetached(true)
+        entry.securityState.addErasedId('orders', UUID.randomUUID())
+
+        when:
+        Customer copy = copier.copy(customer)
+        def copyEntry = EntitySystemAccess.getEntityEntry(copy)
+
+        then:
+        !copyEntry.isNew()
+        copyEntry.isDetached()
+        copy.name == 'cust-1'
+
+        !copyEntry.securityState.is(entry.securityState)
+        copyEntry.securityState.getErasedIds('orders') == entry.securityState.getErasedIds('orders')
+    }
+
+    def "copies fields without invoking accessors"() {
+        def dto = new TestAccessorDto()
+        dto.name = 'dto-1'
+        def sourceCalls = dto.accessorCalls
+
+        when:
+        TestAccessorDto copy = ((MetadataCopier) copier).copyObject(dto, new IdentityHashMap<>())
+
+        then:
+        copy.accessorCalls == 0
+        dto.accessorCalls == sourceCalls
+        copy.name == 'dto-1'
+    }
+
+    def "copies entity loaded with partial fetch plan keeping not loaded attributes"() {
+        def customer = dataManager.save(new Customer(name: 'cust-1'))
+        def order = dataManager.save(new Order(customer: customer, number: '1', date: new Date()))
+
+        def loadedOrder = dataManager.load(Order).id(order.id).fetchPlanProperties('number').one()
+
+        when:
+        Order copy = ((MetadataCopier) copier).copyObject(loadedOrder, new IdentityHashMap<>())
+
+        then:
+        !copy.is(loadedOrder)
+        copy == order
+        copy.number == '1'
+        entityStates.isDetached(copy)
+
+        !entityStates.isLoaded(copy, 'date')
+        !entityStates.isLoaded(copy, 'customer')
+        !entityStates.isLoaded(copy, 'orderLines')
+    }
+
+    def "copies by serialization if graph contains objects not supported by metadata"() {
+        def customer = new Customer(name: 'cust-1')
+        def value = new StringBuilder('value')
+
+        when:
+        ((MetadataCopier) copier).copyObject([customer, value], new IdentityHashMap<>())
+
+        then:
+        thrown(MetadataCopier.NotCopyableException)
+
+        when:
+        List<Object> copy = copier.copy([customer, value])
+
+        then:
+        copy[0] == customer
+        !copy[0].is(customer)
+        copy[1].toString() == 'value'
+        !copy[1].is(value)
+    }
+}
@@ -16,7 +16,7 @@
 
 package copier
 
-import io.jmix.core.Copier
+import io.jmix.core.impl.SerializingCopier
 import org.springframework.beans.factory.annotation.Autowired
 import test_support.DataSpec
 import test_support.entity.sales.Customer
@@ -28,7 +28,7 @@ import test_support.entity.sales.Product
 class SerializingCopierTest extends DataSpec {
 
     @Autowired
-    Copier copier
+    SerializingCopier copier
 
     def "test equality and identity"() {
         def customer = new Customer(name: 'cust-1')
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_manager
+
+import io.jmix.core.DataManager
+import io.jmix.core.Id
+import io.jmix.core.event.BulkEntityChangedEvent
+import io.jmix.core.event.EntityChangedEvent
+import io.jmix.core.querycondition.PropertyCondition
+import io.jmix.data.PersistenceHints
+import io.jmix.eclipselink.impl.lazyloading.LazyLoadingContext
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.context.ApplicationListener
+import org.springframework.context.ConfigurableApplicationContext
+import test_support.DataSpec
+import test_support.entity.sales.Customer
+
+class DataManagerBulkOperationTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    ConfigurableApplicationContext applicationContext
+
+    List<BulkEntityChangedEvent> events = []
+
+    void setup() {
+        applicationContext.addApplicationListener({ event ->
+            if (event instanceof BulkEntityChangedEvent) {
+                events << event
+            }
+        } as ApplicationListener)
+    }
+
+    void cleanup() {
+        dataManager.delete(Customer)
+                .condition(PropertyCondition.startsWith('name', 'bulk-'))
+                .softDeletion(false)
+                .execute()
+    }
+
+    def "bulk update"() {
+        def customers = (1..3).collect {
+            def c = dataManager.create(Customer)
+            c.name = "bulk-$it"
+            c
+        }
+        def saved = dataManager.save(customers.toArray())
+        def customer1 = saved.get(customers[0])
+
+        when:
+
+        int count = dataManager.update(Customer)
+                .set('name', 'bulk-updated')
+                .condition(PropertyCondition.inList('name', ['bulk-1', 'bulk-2']))
+                .execute()
+
+        then:
+
+        count == 2
+
+        def reloaded = dataManager.load(Id.of(customer1)).one()
+        reloaded.name == 'bulk-updated'
+        reloaded.version == customer1.version + 1
+        reloaded.lastModifiedDate != null
+
+        dataManager.load(Customer)
+                .condition(PropertyCondition.equal('name', 'bulk-3'))
+                .list().size() == 1
+
+        def event = events.find { it.metaClass.javaClass == Customer }
+        event.type == EntityChangedEvent.Type.UPDATED
+        event.affectedCount == 2
+        event.values['name'] == 'bulk-updated'
+    }
+
+    def "bulk delete honors soft deletion"() {
+        def customers = (1..3).collect {
+            def c = dataManager.create(Customer)
+            c.name = "bulk-$it"
+            c
+        }
+        dataManager.save(customers.toArray())
+
+        when:
+
+        int count = dataManager.delete(Customer)
+                .condition(PropertyCondition.notEqual('name', 'bulk-3'))
+                .execute()
+
+        then:
+
+        count >= 2
+
+        def remaining = dataManager.load(Customer)
+                .condition(PropertyCondition.startsWith('name', 'bulk-'))
+                .list()
+        remaining*.name == ['bulk-3']
+
+        def deleted = dataManager.load(Customer)
+                .condition(PropertyCondition.equal('name', 'bulk-1'))
+                .hint(PersistenceHints.SOFT_DELETION, false)
+                .one()
+        deleted.deletedDate != null
+
+        events.find { it.metaClass.javaClass == Customer }.type == EntityChangedEvent.Type.DELETED
+
+        when:
+
+        count = dataManager.delete(Customer)
+                .condition(PropertyCondition.startsWith('name', 'bulk-'))
+                .softDeletion(false)
+                .execute()
+
+        then:
+
+        count == 3
+
+        dataManager.load(Customer)
+                .condition(PropertyCondition.startsWith('name', 'bulk-'))
+                .hint(PersistenceHints.SOFT_DELETION, false)
+                .list()
+                .isEmpty()
+    }
+
+    def "bulk operation keeps lazy loading disabled by caller"() {
+        LazyLoadingContext.setDisabled()
+
+        when:
+
+        dataManager.update(Customer)
+                .set('name', 'bulk-updated')
+                .condition(PropertyCondition.equal('name', 'bulk-none'))
+                .execute()
+
+        then:
+
+        LazyLoadingContext.isDisabled()
+
+        cleanup:
+
+        LazyLoadingContext.setEnabled()
+    }
+}
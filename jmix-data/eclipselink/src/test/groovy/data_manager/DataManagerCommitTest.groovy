@@ -17,7 +17,13 @@
 package data_manager
 
 import io.jmix.core.*
+import io.jmix.core.constraint.RowLevelConstraint
+import io.jmix.core.datastore.DataStoreEntityReloadEvent
+import io.jmix.core.datastore.DataStoreEventListener
+import io.jmix.core.impl.DataStoreFactory
 import io.jmix.data.PersistenceHints
+import io.jmix.data.accesscontext.ReadEntityQueryContext
+import io.jmix.eclipselink.impl.JpaDataStore
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.jdbc.core.JdbcTemplate
 import test_support.DataSpec
@@ -49,6 +55,9 @@ class DataManagerCommitTest extends DataSpec {
     @Autowired
     FetchPlans fetchPlans
 
+    @Autowired
+    DataStoreFactory dataStoreFactory
+
     TestAppEntity appEntity
     TestAppEntityItem appEntityItem
 
@@ -237,4 +246,69 @@ class DataManagerCommitTest extends DataSpec {
         cleanup:
         jdbc.update('delete from DTOE_TEST_ENTITY')
     }
+
+    def "save with skipReload returns saved instances without reloading"() {
+        def customer = dataManager.create(Customer)
+        customer.name = 'c1'
+        customer = dataManager.save(customer)
+
+        def order = dataManager.create(Order)
+        order.number = '1'
+        order.customer = customer
+
+        when:
+        def saved = dataManager.save(new SaveContext().saving(order).setSkipReload(true))
+        def savedOrder = saved.get(order)
+
+        then:
+        savedOrder.number == '1'
+        savedOrder.customer == customer
+        savedOrder.version == 1
+        !entityStates.isNew(savedOrder)
+        entityStates.isDetached(savedOrder)
+
+        when:
+        savedOrder.number = '2'
+        def savedAgain = dataManager.save(new SaveContext().saving(savedOrder).setSkipReload(true)).get(savedOrder)
+
+        then:
+        savedAgain.number == '2'
+        savedAgain.version == 2
+        dataManager.load(Id.of(order)).one().number == '2'
+    }
+
+    def "save with skipReload reloads instances if read query constraints are set"() {
+        def customer = dataManager.create(Customer)
+        customer.name = 'hidden'
+
+        def constraint = new RowLevelConstraint<ReadEntityQueryContext>() {
+            @Override
+            Class<ReadEntityQueryContext> getContextType() {
+                ReadEntityQueryContext
+            }
+
+            @Override
+            void applyTo(ReadEntityQueryContext context) {
+                context.addJoinAndWhere(null, "{E}.name <> 'hidden'")
+            }
+        }
+        def listener = new DataStoreEventListener() {
+            @Override
+            void entityReload(DataStoreEntityReloadEvent event) {
+                event.loadContext.setAccessConstraints([constraint])
+            }
+        }
+        JpaDataStore dataStore = dataStoreFactory.get(Stores.MAIN) as JpaDataStore
+        dataStore.registerInterceptor(listener)
+
+        when:
+        def saved = dataManager.save(new SaveContext().saving(customer).setSkipReload(true))
+
+        then:
+        saved.isEmpty()
+        dataManager.load(Id.of(customer)).optional().isPresent()
+
+        cleanup:
+        dataStore.listeners.remove(listener)
+    }
 }
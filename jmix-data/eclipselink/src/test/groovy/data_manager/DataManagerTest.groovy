@@ -35,6 +35,9 @@ class DataManagerTest extends DataSpec {
     @Autowired
     EntityStates entityStates
 
+    @Autowired
+    Metadata metadata
+
     def "create commit load"() {
         when:
 
@@ -174,6 +177,47 @@ class DataManagerTest extends DataSpec {
         users.isEmpty()
     }
 
+    def "load several independent contexts"() {
+
+        def product1 = dataManager.create(Product)
+        product1.name = 'p1'
+        product1.quantity = 100
+
+        def product2 = dataManager.create(Product)
+        product2.name = 'p2'
+        product2.quantity = 200
+
+        dataManager.save(product1, product2)
+
+        when:
+
+        def results = dataManager.loadAll([
+                new LoadContext<>(metadata.getClass(Product)).setQuery(new LoadContext.Query('select e from sales_Product e where e.name = :name')
+                        .setParameter('name', 'p2')),
+                new LoadContext<>(metadata.getClass(Product)).setIds([product1.id]),
+                new LoadContext<>(metadata.getClass(Product)).setQuery(new LoadContext.Query('select e from sales_Product e where e.name = :name')
+                        .setParameter('name', 'none'))
+        ])
+
+        then:
+
+        results == [[product2], [product1], []]
+
+        when:
+
+        def valueContext = ValueLoadContext.create()
+                .setQuery(new ValueLoadContext.Query('select e.quantity from sales_Product e where e.id = :id')
+                        .setParameter('id', product1.id))
+        valueContext.setProperties(['quantity'])
+
+        def valueResults = dataManager.loadValuesAll([valueContext])
+
+        then:
+
+        valueResults.size() == 1
+        valueResults[0][0].getValue('quantity') == 100
+    }
+
     def "load key-value entity with sort by property"() {
         setup:
 
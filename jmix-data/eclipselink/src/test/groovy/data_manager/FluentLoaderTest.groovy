@@ -23,6 +23,7 @@ import io.jmix.data.PersistenceHints
 import org.springframework.beans.factory.annotation.Autowired
 import test_support.DataSpec
 import test_support.entity.sales.Customer
+import test_support.entity.sales.SalesRegion
 import test_support.entity.sales.Status
 
 import jakarta.persistence.TemporalType
@@ -427,4 +428,203 @@ class FluentLoaderTest extends DataSpec {
         loadContext.query.parameters['_p10'] == 'v10'
         loadContext.query.parameters['_p11'] == 'v11'
     }
+
+    def "test loading by batches"() {
+        setup:
+
+        def customers = (1..5).collect {
+            def c = metadata.create(Customer)
+            c.name = "batch-$it"
+            c
+        }
+        def saved = dataManager.save(customers.toArray())
+
+        when:
+
+        def names = dataManager.load(Customer)
+                .query('select c from sales_Customer c where c.name like :name')
+                .parameter('name', 'batch-%')
+                .sort(Sort.by('name'))
+                .stream(2)
+                .map { it.name }
+                .toList()
+
+        then:
+
+        names == ['batch-1', 'batch-2', 'batch-3', 'batch-4', 'batch-5']
+
+        when:
+
+        names = dataManager.load(Customer)
+                .query('select c from sales_Customer c where c.name like :name order by c.name')
+                .parameter('name', 'batch-%')
+                .firstResult(1)
+                .maxResults(3)
+                .stream(2)
+                .map { it.name }
+                .toList()
+
+        then:
+
+        names == ['batch-2', 'batch-3', 'batch-4']
+
+        when:
+
+        def loaded = []
+        dataManager.load(Customer)
+                .condition(PropertyCondition.startsWith('name', 'batch-'))
+                .forEach(2) { loaded << it }
+
+        then:
+
+        loaded*.name.toSorted() == ['batch-1', 'batch-2', 'batch-3', 'batch-4', 'batch-5']
+
+        cleanup:
+
+        dataManager.remove(saved.toArray())
+    }
+
+    def "test loading by batches with non-unique sort"() {
+        setup:
+
+        def regions = (1..5).collect {
+            def r = metadata.create(SalesRegion)
+            r.name = "dup-$it"
+            r.description = 'same'
+            r
+        }
+        def saved = dataManager.save(regions.toArray())
+
+        when: "batches are loaded by offset and sorted by an attribute having equal values"
+
+        def names = dataManager.load(SalesRegion)
+                .condition(PropertyCondition.startsWith('name', 'dup-'))
+                .sort(Sort.by('description'))
+                .stream(2)
+                .map { it.name }
+                .toList()
+
+        then: "the primary key breaks ties, so no rows are repeated or skipped"
+
+        names.size() == 5
+        names.toSet() == ['dup-1', 'dup-2', 'dup-3', 'dup-4', 'dup-5'].toSet()
+
+        cleanup:
+
+        dataManager.remove(saved.toArray())
+    }
+
+    def "test keyset pagination"() {
+        setup:
+
+        def regions = ['seek-1', 'seek-2', 'seek-2', 'seek-3', 'seek-4'].collect { name ->
+            def r = metadata.create(SalesRegion)
+            r.name = name
+            r
+        }
+        def saved = dataManager.save(regions.toArray())
+
+        def expected = dataManager.load(SalesRegion)
+                .condition(PropertyCondition.startsWith('name', 'seek-'))
+                .sort(Sort.by(Sort.Direction.DESC, 'name'))
+                .list()
+
+        when:
+
+        def loaded = []
+        def page = dataManager.load(SalesRegion)
+                .condition(PropertyCondition.startsWith('name', 'seek-'))
+                .sort(Sort.by(Sort.Direction.DESC, 'name'))
+                .maxResults(2)
+                .list()
+        while (!page.isEmpty()) {
+            loaded.addAll(page)
+            page = dataManager.load(SalesRegion)
+                    .condition(PropertyCondition.startsWith('name', 'seek-'))
+                    .sort(Sort.by(Sort.Direction.DESC, 'name'))
+                    .after(page.last())
+                    .maxResults(2)
+                    .list()
+        }
+
+        then:
+
+        loaded*.id == expected*.id
+        loaded*.name == ['seek-4', 'seek-3', 'seek-2', 'seek-2', 'seek-1']
+
+        when:
+
+        def names = dataManager.load(SalesRegion)
+                .query('select r from sales_Region r where r.name like :name')
+                .parameter('name', 'seek-%')
+                .sort(Sort.by('name'))
+                .afterKey(LoadContext.Query.getAfterKey(Sort.by('name'), expected[1]))
+                .list()*.name
+
+        then:
+
+        names == ['seek-4']
+
+        when:
+
+        names = dataManager.load(SalesRegion)
+                .query('select r from sales_Region r where r.name like :name')
+                .parameter('name', 'seek-%')
+                .sort(Sort.by('name'))
+                .stream(2)
+                .map { it.name }
+                .toList()
+
+        then:
+
+        names == ['seek-1', 'seek-2', 'seek-2', 'seek-3', 'seek-4']
+
+        cleanup:
+
+        dataManager.remove(saved.toArray())
+    }
+
+    def "test keyset pagination is not used for nullable sort attributes"() {
+        setup:
+
+        def regions = [['seek-a', 'b'], ['seek-b', null], ['seek-c', 'a'], ['seek-d', null], ['seek-e', 'c']].collect { pair ->
+            def r = metadata.create(SalesRegion)
+            r.name = pair[0]
+            r.description = pair[1]
+            r
+        }
+        def saved = dataManager.save(regions.toArray())
+
+        when: "stream is sorted by a nullable attribute"
+
+        def names = dataManager.load(SalesRegion)
+                .query('select r from sales_Region r where r.name like :name')
+                .parameter('name', 'seek-%')
+                .sort(Sort.by('description', 'name'))
+                .stream(2)
+                .map { it.name }
+                .toList()
+
+        then: "rows with null values are not lost"
+
+        names.toSet() == ['seek-a', 'seek-b', 'seek-c', 'seek-d', 'seek-e'].toSet()
+        names.size() == 5
+
+        when: "key of a nullable attribute is passed explicitly"
+
+        dataManager.load(SalesRegion)
+                .query('select r from sales_Region r where r.name like :name')
+                .parameter('name', 'seek-%')
+                .sort(Sort.by('description'))
+                .afterKey(['a', saved.get(regions[2]).id])
+                .list()
+
+        then:
+
+        thrown(IllegalStateException)
+
+        cleanup:
+
+        dataManager.remove(saved.toArray())
+    }
 }
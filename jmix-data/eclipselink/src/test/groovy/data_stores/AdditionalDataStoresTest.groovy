@@ -19,6 +19,7 @@ package data_stores
 import io.jmix.core.DataManager
 import io.jmix.core.Id
 import io.jmix.core.Metadata
+import io.jmix.core.Sort
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.beans.factory.annotation.Qualifier
 import org.springframework.jdbc.core.JdbcTemplate
@@ -76,4 +77,16 @@ class AdditionalDataStoresTest extends DataSpec {
         cleanup:
         db1Jdbc.update('delete from CUSTOMER where ID = ?', customer.getId())
     }
+
+    def "keyset pagination is rejected by store that can't apply it"() {
+        when:
+        dataManager.load(Mem1Customer)
+                .all()
+                .sort(Sort.by('name'))
+                .afterKey(['cust1', UUID.randomUUID()])
+                .list()
+
+        then:
+        thrown(IllegalStateException)
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_stores
+
+import io.jmix.core.DataManager
+import io.jmix.core.Metadata
+import io.jmix.core.impl.DataStoreFactory
+import io.jmix.data.StoreAwareLocator
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.test.context.TestPropertySource
+import spock.lang.Timeout
+import test_support.DataSpec
+import test_support.TestInMemoryDataStore
+import test_support.entity.multidb.Db1Order
+import test_support.entity.multidb.MainOrderHolder
+import test_support.entity.multidb.Mem1Customer
+
+@TestPropertySource(properties = [
+        "jmix.core.cross-data-store-reference-loading-batch-size=2",
+        "jmix.core.cross-data-store-reference-loading-parallelism=2",
+        "jmix.core.cross-data-store-reference-loading-store-concurrency=1"
+])
+class CrossDataStoreReferenceLoadingTest extends DataSpec {
+
+    @Autowired
+    Metadata metadata
+    @Autowired
+    DataManager dataManager
+    @Autowired
+    StoreAwareLocator storeAwareLocator
+    @Autowired
+    JdbcTemplate jdbcTemplate
+    @Autowired
+    DataStoreFactory dataStoreFactory
+
+    def setup() {
+        ((TestInMemoryDataStore) dataStoreFactory.get("mem1")).clear()
+    }
+
+    def cleanup() {
+        jdbcTemplate.update("delete from TEST_MAIN_ORDER_HOLDER")
+        storeAwareLocator.getJdbcTemplate("db1").update("delete from ORDER_")
+    }
+
+    @Timeout(30)
+    def "references of several stores are loaded by batches, including nested main -> db1 -> mem1 references"() {
+        List<MainOrderHolder> holders = []
+        5.times { i ->
+            Mem1Customer orderCustomer = dataManager.save(metadata.create(Mem1Customer).tap { name = "order-customer-$i" })
+            Db1Order order = dataManager.save(metadata.create(Db1Order).tap {
+                orderDate = new Date()
+                mem1Customer = orderCustomer
+            })
+            Mem1Customer holderCustomer = dataManager.save(metadata.create(Mem1Customer).tap { name = "holder-customer-$i" })
+            holders << dataManager.save(metadata.create(MainOrderHolder).tap {
+                name = "holder-$i"
+                db1Order = order
+                mem1Customer = holderCustomer
+            })
+        }
+
+        when:
+        List<MainOrderHolder> loaded = dataManager.load(MainOrderHolder)
+                .all()
+                .fetchPlan({ builder ->
+                    builder.addFetchPlan('_base')
+                            .add('db1Order', { b -> b.add('orderDate').add('mem1Customer', { c -> c.add('name') }) })
+                            .add('mem1Customer', { b -> b.add('name') })
+                })
+                .list()
+
+        then:
+        loaded.size() == 5
+        loaded.every { holder ->
+            def index = holder.name.substring('holder-'.length())
+            holder.mem1Customer?.name == "holder-customer-$index" as String &&
+                    holder.db1Order?.id == holders.find { it.name == holder.name }.db1Order.id &&
+                    holder.db1Order.mem1Customer?.name == "order-customer-$index" as String
+        }
+    }
+}
@@ -212,4 +212,27 @@ class FetchGroupManagerTest extends DataSpec {
         entityStates.isLoaded(order.orderLines[0], 'product')
         entityStates.isLoaded(order.orderLines[0].product, 'quantity')
     }
+
+    def "fetch group descriptions are cached by fetch plan structure"() {
+        def createPlan = {
+            fetchPlans.builder(Order)
+                    .addFetchPlan(FetchPlan.BASE)
+                    .add('customer', { it.addFetchPlan(FetchPlan.BASE) }, FetchMode.JOIN)
+                    .add('orderLines', { it.addFetchPlan(FetchPlan.BASE) }, FetchMode.BATCH)
+                    .build()
+        }
+
+        when:
+        def description1 = fetchGroupManager.getFetchGroup('select o from sales_Order o', createPlan(), false, true)
+        def description2 = fetchGroupManager.getFetchGroup('select o from sales_Order o', createPlan(), false, true)
+        def otherQuery = fetchGroupManager.getFetchGroup('select e from sales_Order e', createPlan(), false, true)
+        def calculated = fetchGroupManager.calculateFetchGroup('select o from sales_Order o', createPlan(), false, true)
+
+        then:
+        description1.is(description2)
+        !description1.is(otherQuery)
+        otherQuery.hints['e.customer'] == QueryHints.LEFT_FETCH
+        description1.hints == calculated.hints
+        description1.attributes == calculated.attributes
+    }
 }
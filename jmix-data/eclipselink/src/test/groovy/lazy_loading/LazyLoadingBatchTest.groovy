@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package lazy_loading
+
+import io.jmix.core.DataManager
+import io.jmix.core.FetchPlan
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.test.context.TestPropertySource
+import test_support.DataSpec
+import test_support.entity.lazyloading.ManyToOneEntity
+import test_support.entity.lazyloading.OneToManyEntity
+
+@TestPropertySource(properties = ["jmix.eclipselink.lazy-loading-batch-size=3"])
+class LazyLoadingBatchTest extends DataSpec {
+
+    @Autowired
+    DataManager dataManager
+    @Autowired
+    MeterRegistry meterRegistry
+
+    List<OneToManyEntity> parents = []
+    List<ManyToOneEntity> children = []
+
+    void setup() {
+        4.times { i ->
+            OneToManyEntity parent = dataManager.create(OneToManyEntity)
+            parent.name = "batch-parent-$i"
+            parents << dataManager.save(parent)
+
+            ManyToOneEntity child = dataManager.create(ManyToOneEntity)
+            child.name = "batch-child-$i"
+            child.oneToManyEntity = parents[i]
+            children << dataManager.save(child)
+        }
+    }
+
+    void cleanup() {
+        dataManager.remove(children)
+        dataManager.remove(parents)
+    }
+
+    def "references of sibling entities are loaded by batches"() {
+        double avoidedBefore = avoidedQueries()
+
+        when:
+        List<ManyToOneEntity> loaded = dataManager.load(ManyToOneEntity)
+                .query('e.name like :name').parameter('name', 'batch-child-%')
+                .fetchPlan(FetchPlan.BASE)
+                .list()
+                .sort { it.name }
+
+        then:
+        loaded*.oneToManyEntity*.name == ['batch-parent-0', 'batch-parent-1', 'batch-parent-2', 'batch-parent-3']
+        // 4 references are loaded by 2 queries with batch size 3
+        avoidedQueries() - avoidedBefore == 2
+    }
+
+    def "collections of sibling entities are loaded by batches"() {
+        double avoidedBefore = avoidedQueries()
+
+        when:
+        List<OneToManyEntity> loaded = dataManager.load(OneToManyEntity)
+                .query('e.name like :name').parameter('name', 'batch-parent-%')
+                .fetchPlan(FetchPlan.BASE)
+                .list()
+                .sort { it.name }
+
+        then:
+        loaded.collect { it.manyToOneEntities*.name } == [['batch-child-0'], ['batch-child-1'], ['batch-child-2'], ['batch-child-3']]
+        avoidedQueries() - avoidedBefore == 2
+    }
+
+    def "owners referencing the same entity with back references receive their own instances"() {
+        ManyToOneEntity sibling = dataManager.create(ManyToOneEntity)
+        sibling.name = "batch-child-0-sibling"
+        sibling.oneToManyEntity = parents[0]
+        children << dataManager.save(sibling)
+
+        when:
+        List<ManyToOneEntity> loaded = dataManager.load(ManyToOneEntity)
+                .query('e.name like :name').parameter('name', 'batch-child-0%')
+                .fetchPlan(FetchPlan.BASE)
+                .list()
+
+        then:
+        loaded.size() == 2
+        loaded*.oneToManyEntity*.name == ['batch-parent-0', 'batch-parent-0']
+        !loaded[0].oneToManyEntity.is(loaded[1].oneToManyEntity)
+        loaded.every { child -> child.oneToManyEntity.manyToOneEntities*.name.sort() == ['batch-child-0', 'batch-child-0-sibling'] }
+    }
+
+    private double avoidedQueries() {
+        meterRegistry.counter("jmix.eclipselink.lazyLoading.avoidedQueries").count()
+    }
+}
@@ -33,6 +33,7 @@ import test_support.DataSpec
 import test_support.entity.number_id_generation.NumberIdSingleTableRoot
 
 import javax.sql.DataSource
+import java.util.concurrent.ConcurrentHashMap
 import java.util.concurrent.ExecutorService
 import java.util.concurrent.Executors
 import java.util.concurrent.TimeUnit
@@ -147,6 +148,32 @@ class NumberIdConcurrencyTest extends DataSpec {
         DataConfigPropertiesAccess.setNumberIdCacheSize(dataProperties, 100)
     }
 
+    def "ids are unique when blocks are prefetched concurrently"() {
+        DataConfigPropertiesAccess.setNumberIdCacheSize(dataProperties, 10)
+
+        when:
+
+        Set<Long> ids = ConcurrentHashMap.newKeySet()
+        ExecutorService executorService = Executors.newFixedThreadPool(10)
+        for (i in 1..1000) {
+            executorService.submit({
+                ids.add(numberIdCache.createLongId('test$NumberIdSingleTableRoot'))
+            })
+        }
+        executorService.shutdown()
+        executorService.awaitTermination(10, TimeUnit.SECONDS)
+
+        then:
+
+        ids.size() == 1000
+        ids.min() == 1
+        ids.max() <= 1000 + 2 * 10
+
+        cleanup:
+
+        DataConfigPropertiesAccess.setNumberIdCacheSize(dataProperties, 100)
+    }
+
     private void generateSomeEntities(int count) {
         long start = System.currentTimeMillis()
         ExecutorService executorService = Executors.newFixedThreadPool(10)
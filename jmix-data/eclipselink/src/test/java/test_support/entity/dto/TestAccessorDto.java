@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package test_support.entity.dto;
+
+import io.jmix.core.entity.annotation.JmixGeneratedValue;
+import io.jmix.core.entity.annotation.JmixId;
+import io.jmix.core.metamodel.annotation.JmixEntity;
+import io.jmix.core.metamodel.annotation.JmixProperty;
+
+import java.util.UUID;
+
+/**
+ * Counts invocations of accessors with custom logic.
+ */
+@JmixEntity(annotatedPropertiesOnly = true)
+public class TestAccessorDto {
+
+    @JmixId
+    @JmixGeneratedValue
+    protected UUID id;
+
+    @JmixProperty
+    private String name;
+
+    private transient int accessorCalls;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        accessorCalls++;
+        return name;
+    }
+
+    public void setName(String name) {
+        accessorCalls++;
+        this.name = name;
+    }
+
+    public int getAccessorCalls() {
+        return accessorCalls;
+    }
+}
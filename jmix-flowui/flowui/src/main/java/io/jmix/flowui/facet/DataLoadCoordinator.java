@@ -40,6 +40,20 @@ public interface DataLoadCoordinator extends Facet {
      */
     void setComponentPrefix(String value);
 
+    /**
+     * Sets whether loaders triggered by the same view event are loaded together, so that independent queries of
+     * collection loaders can be executed concurrently by {@link io.jmix.core.DataManager#loadAll(List)}.
+     * Loaders having a load delegate, {@code PreLoadEvent} listeners or query parameters are not loaded
+     * concurrently: they are loaded one by one before the others.
+     * Must be set before adding triggers.
+     */
+    void setConcurrentLoading(boolean concurrentLoading);
+
+    /**
+     * @return whether loaders triggered by the same view event are loaded together
+     */
+    boolean isConcurrentLoading();
+
     /**
      * Adds trigger on view event.
      *
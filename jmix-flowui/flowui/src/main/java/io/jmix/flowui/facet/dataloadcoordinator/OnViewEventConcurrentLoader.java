@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.flowui.facet.dataloadcoordinator;
+
+import com.vaadin.flow.component.ComponentEventListener;
+import io.jmix.core.DataManager;
+import io.jmix.core.LoadContext;
+import io.jmix.flowui.model.DataLoader;
+import io.jmix.flowui.model.impl.CollectionLoaderImpl;
+import io.jmix.flowui.monitoring.UiMonitoring;
+import io.jmix.flowui.sys.autowire.ReflectionCacheManager;
+import io.jmix.flowui.view.View;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads all loaders triggered by the same view event together. Data of collection loaders supporting concurrent
+ * loading (see {@link CollectionLoaderImpl#isConcurrentLoadingSupported()}) is loaded by one
+ * {@link DataManager#loadAll(List)} call, so independent queries can be executed concurrently. Other loaders, for
+ * example having a load delegate, {@code PreLoadEvent} listeners or query parameters, are loaded one by one before
+ * them, in the order of registration.
+ */
+public class OnViewEventConcurrentLoader {
+
+    protected final DataManager dataManager;
+    protected final MeterRegistry meterRegistry;
+    protected final List<DataLoader> loaders = new ArrayList<>();
+
+    public OnViewEventConcurrentLoader(View<?> view, ReflectionCacheManager reflectionCacheManager,
+                                       Class<?> eventClass, DataManager dataManager, MeterRegistry meterRegistry) {
+        MethodHandle addListenerMethod = reflectionCacheManager.getTargetAddListenerMethod(
+                view.getClass(), eventClass, null
+        );
+        if (addListenerMethod == null) {
+            throw new IllegalStateException("Cannot find addListener method for " + eventClass);
+        }
+
+        try {
+            addListenerMethod.invoke(view, (ComponentEventListener<?>) event -> load());
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException("Unable to add listener for " + eventClass, e);
+        }
+
+        this.dataManager = dataManager;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void addLoader(DataLoader loader) {
+        loaders.add(loader);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected void load() {
+        List<CollectionLoaderImpl> preparedLoaders = new ArrayList<>();
+        List<LoadContext<?>> loadContexts = new ArrayList<>();
+        for (DataLoader loader : loaders) {
+            if (loader instanceof CollectionLoaderImpl<?> collectionLoader
+                    && collectionLoader.isConcurrentLoadingSupported()) {
+                LoadContext<?> loadContext = collectionLoader.prepareLoad();
+                if (loadContext != null) {
+                    preparedLoaders.add(collectionLoader);
+                    loadContexts.add(loadContext);
+                }
+            } else {
+                loader.load();
+            }
+        }
+        if (loadContexts.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = UiMonitoring.startTimerSample(meterRegistry);
+        List<List<?>> results = dataManager.loadAll(loadContexts);
+        for (int i = 0; i < preparedLoaders.size(); i++) {
+            preparedLoaders.get(i).completeLoad((List) results.get(i), sample);
+        }
+    }
+}
@@ -48,6 +48,14 @@ public class OnViewEventLoadTrigger implements DataLoadCoordinator.Trigger {
         this.loader = loader;
     }
 
+    /**
+     * Creates a trigger loading the loader together with other loaders triggered by the same view event.
+     */
+    public OnViewEventLoadTrigger(DataLoader loader, OnViewEventConcurrentLoader concurrentLoader) {
+        concurrentLoader.addLoader(loader);
+        this.loader = loader;
+    }
+
     protected void load() {
         loader.load();
     }
@@ -18,6 +18,7 @@ package io.jmix.flowui.facet.impl;
 
 import com.google.common.base.Strings;
 import com.vaadin.flow.component.Component;
+import io.jmix.core.DataManager;
 import io.jmix.core.DevelopmentException;
 import io.jmix.core.impl.QueryParamValuesManager;
 import io.jmix.core.querycondition.Condition;
@@ -27,6 +28,7 @@ import io.jmix.flowui.component.UiComponentUtils;
 import io.jmix.flowui.facet.DataLoadCoordinator;
 import io.jmix.flowui.facet.dataloadcoordinator.OnComponentValueChangedLoadTrigger;
 import io.jmix.flowui.facet.dataloadcoordinator.OnContainerItemChangedLoadTrigger;
+import io.jmix.flowui.facet.dataloadcoordinator.OnViewEventConcurrentLoader;
 import io.jmix.flowui.facet.dataloadcoordinator.OnViewEventLoadTrigger;
 import io.jmix.flowui.model.DataLoader;
 import io.jmix.flowui.model.InstanceContainer;
@@ -36,11 +38,14 @@ import io.jmix.flowui.sys.autowire.ReflectionCacheManager;
 import io.jmix.flowui.view.View;
 import io.jmix.flowui.view.View.BeforeShowEvent;
 import io.jmix.flowui.view.ViewControllerUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.lang.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -52,15 +57,24 @@ public class DataLoadCoordinatorImpl extends AbstractFacet implements DataLoadCo
     protected String containerPrefix = DEFAULT_CONTAINER_PREFIX;
     protected String componentPrefix = DEFAULT_COMPONENT_PREFIX;
 
+    protected boolean concurrentLoading;
+
     protected List<Trigger> triggers = new ArrayList<>();
+    protected Map<Class<?>, OnViewEventConcurrentLoader> concurrentLoaders = new HashMap<>();
 
     protected ReflectionCacheManager reflectionCacheManager;
     private final QueryParamValuesManager queryParamValuesManager;
+    protected DataManager dataManager;
+    protected MeterRegistry meterRegistry;
 
     public DataLoadCoordinatorImpl(ReflectionCacheManager reflectionCacheManager,
-                                   QueryParamValuesManager queryParamValuesManager) {
+                                   QueryParamValuesManager queryParamValuesManager,
+                                   DataManager dataManager,
+                                   MeterRegistry meterRegistry) {
         this.reflectionCacheManager = reflectionCacheManager;
         this.queryParamValuesManager = queryParamValuesManager;
+        this.dataManager = dataManager;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -78,8 +92,24 @@ public class DataLoadCoordinatorImpl extends AbstractFacet implements DataLoadCo
         return Collections.unmodifiableList(triggers);
     }
 
+    @Override
+    public void setConcurrentLoading(boolean concurrentLoading) {
+        this.concurrentLoading = concurrentLoading;
+    }
+
+    @Override
+    public boolean isConcurrentLoading() {
+        return concurrentLoading;
+    }
+
     @Override
     public void addOnViewEventLoadTrigger(DataLoader loader, Class<?> eventClass) {
+        if (concurrentLoading) {
+            OnViewEventConcurrentLoader concurrentLoader = concurrentLoaders.computeIfAbsent(eventClass, aClass ->
+                    new OnViewEventConcurrentLoader(getOwnerNN(), reflectionCacheManager, aClass, dataManager, meterRegistry));
+            triggers.add(new OnViewEventLoadTrigger(loader, concurrentLoader));
+            return;
+        }
         triggers.add(new OnViewEventLoadTrigger(getOwnerNN(), reflectionCacheManager, loader, eventClass));
     }
 
@@ -17,6 +17,7 @@
 package io.jmix.flowui.model.impl;
 
 import io.jmix.core.*;
+import io.jmix.core.annotation.Internal;
 import io.jmix.core.common.event.EventHub;
 import io.jmix.core.common.event.Subscription;
 import io.jmix.core.common.util.Preconditions;
@@ -101,12 +102,8 @@ public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
     }
 
     protected boolean _load() {
-        if (container == null)
-            throw new IllegalStateException("container is null");
-
-        LoadContext<E> loadContext = createLoadContext();
-
-        if (!sendPreLoadEvent(loadContext)) {
+        LoadContext<E> loadContext = prepareLoad();
+        if (loadContext == null) {
             return false;
         }
 
@@ -126,6 +123,57 @@ public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
         DataLoaderMonitoringInfo info = monitoringInfoProvider.apply(this);
         stopDataLoaderTimerSample(sample, meterRegistry, DataLoaderLifeCycle.LOAD, info);
 
+        completeLoad(list);
+
+        return true;
+    }
+
+    /**
+     * INTERNAL.
+     * Returns true if data of the loader can be loaded by {@link DataManager#loadAll(List)} together with other
+     * loaders, i.e. the loader has no load delegate and no {@link PreLoadEvent} listeners, and its query and
+     * condition have no parameters that could be bound to the results of other loaders.
+     */
+    @Internal
+    public boolean isConcurrentLoadingSupported() {
+        return delegate == null
+                && !events.hasSubscriptions(PreLoadEvent.class)
+                && DataLoadersHelper.getQueryParameters(this).isEmpty()
+                && (condition == null || condition.getParameters().isEmpty());
+    }
+
+    /**
+     * INTERNAL.
+     * Creates a load context and sends {@link PreLoadEvent}. Together with {@link #completeLoad(List, Timer.Sample)}
+     * allows loading data of several loaders by one {@link DataManager#loadAll(List)} call.
+     *
+     * @return load context, or null if loading is prevented by a {@link PreLoadEvent} listener
+     */
+    @Internal
+    @Nullable
+    public LoadContext<E> prepareLoad() {
+        if (container == null)
+            throw new IllegalStateException("container is null");
+
+        LoadContext<E> loadContext = createLoadContext();
+
+        return sendPreLoadEvent(loadContext) ? loadContext : null;
+    }
+
+    /**
+     * INTERNAL.
+     * Records the {@link DataLoaderLifeCycle#LOAD} timer sample started before loading the data, sets entities
+     * loaded by the context returned from {@link #prepareLoad()} to the container and sends {@link PostLoadEvent}.
+     */
+    @Internal
+    public void completeLoad(List<E> list, Timer.Sample loadSample) {
+        DataLoaderMonitoringInfo info = monitoringInfoProvider.apply(this);
+        stopDataLoaderTimerSample(loadSample, meterRegistry, DataLoaderLifeCycle.LOAD, info);
+
+        completeLoad(list);
+    }
+
+    protected void completeLoad(List<E> list) {
         if (dataContext != null) {
             List<E> mergedList = new ArrayList<>(list.size());
             for (E entity : list) {
@@ -137,8 +185,6 @@ public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
         }
 
         sendPostLoadEvent(list);
-
-        return true;
     }
 
     @Override
@@ -17,6 +17,7 @@
 package io.jmix.flowui.xml.facet;
 
 import com.vaadin.flow.component.Component;
+import io.jmix.core.DataManager;
 import io.jmix.core.common.util.Preconditions;
 import io.jmix.core.impl.QueryParamValuesManager;
 import io.jmix.flowui.component.UiComponentUtils;
@@ -33,6 +34,7 @@ import io.jmix.flowui.view.ViewControllerUtils;
 import io.jmix.flowui.xml.layout.ComponentLoader;
 import io.jmix.flowui.xml.layout.ComponentLoader.ComponentContext;
 import io.jmix.flowui.xml.layout.support.LoaderSupport;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.dom4j.Element;
 import org.springframework.lang.Nullable;
 
@@ -42,13 +44,19 @@ public class DataLoadCoordinatorFacetProvider implements FacetProvider<DataLoadC
     protected LoaderSupport loaderSupport;
     protected ReflectionCacheManager reflectionCacheManager;
     protected QueryParamValuesManager queryParamValuesManager;
+    protected DataManager dataManager;
+    protected MeterRegistry meterRegistry;
 
     public DataLoadCoordinatorFacetProvider(LoaderSupport loaderSupport,
                                             ReflectionCacheManager reflectionCacheManager,
-                                            QueryParamValuesManager queryParamValuesManager) {
+                                            QueryParamValuesManager queryParamValuesManager,
+                                            DataManager dataManager,
+                                            MeterRegistry meterRegistry) {
         this.loaderSupport = loaderSupport;
         this.reflectionCacheManager = reflectionCacheManager;
         this.queryParamValuesManager = queryParamValuesManager;
+        this.dataManager = dataManager;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -58,7 +66,7 @@ public class DataLoadCoordinatorFacetProvider implements FacetProvider<DataLoadC
 
     @Override
     public DataLoadCoordinator create() {
-        return new DataLoadCoordinatorImpl(reflectionCacheManager, queryParamValuesManager);
+        return new DataLoadCoordinatorImpl(reflectionCacheManager, queryParamValuesManager, dataManager, meterRegistry);
     }
 
     @Override
@@ -73,6 +81,7 @@ public class DataLoadCoordinatorFacetProvider implements FacetProvider<DataLoadC
         loaderSupport.loadString(element, "id", facet::setId);
         loaderSupport.loadString(element, "containerPrefix", facet::setContainerPrefix);
         loaderSupport.loadString(element, "componentPrefix", facet::setComponentPrefix);
+        loaderSupport.loadBoolean(element, "concurrentLoading", facet::setConcurrentLoading);
 
         for (Element loaderEl : element.elements("refresh")) {
             loadRefresh(facet, context, loaderEl);
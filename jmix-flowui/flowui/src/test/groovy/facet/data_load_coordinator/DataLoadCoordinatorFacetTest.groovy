@@ -18,11 +18,14 @@ package facet.data_load_coordinator
 
 import facet.data_load_coordinator.screen.DlcAutoProvidedParamTestScreen
 import facet.data_load_coordinator.screen.DlcAutoTestScreen
+import facet.data_load_coordinator.screen.DlcConcurrentTestScreen
 import facet.data_load_coordinator.screen.DlcManualNoParamTestScreen
 import facet.data_load_coordinator.screen.DlcManualTestScreen
 import io.jmix.core.Metadata
 import io.jmix.flowui.facet.DataLoadCoordinator
+import io.jmix.flowui.monitoring.DataLoaderLifeCycle
 import io.jmix.flowui.view.ViewControllerUtils
+import io.micrometer.core.instrument.MeterRegistry
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.context.SpringBootTest
 import spock.lang.Unroll
@@ -35,6 +38,9 @@ class DataLoadCoordinatorFacetTest extends FlowuiTestSpecification {
     @Autowired
     Metadata metadata
 
+    @Autowired
+    MeterRegistry meterRegistry
+
     @Override
     void setup() {
         registerViewBasePackages("facet.data_load_coordinator")
@@ -157,4 +163,35 @@ class DataLoadCoordinatorFacetTest extends FlowuiTestSpecification {
 
         screenClass << [DlcAutoTestScreen, DlcAutoProvidedParamTestScreen]
     }
+
+    def "concurrent loading"() {
+        def ownersLoadCount = loadTimerCount('ownersDl')
+        def petsLoadCount = loadTimerCount('petsDl')
+        def categoriesLoadCount = loadTimerCount('categoriesDl')
+
+        when: "show screen"
+
+        def screen = navigateToView(DlcConcurrentTestScreen)
+
+        then: "concurrent loading is enabled"
+
+        screen.dlc.isConcurrentLoading()
+
+        and: "loader with PreLoadEvent listener is loaded by itself before the loaders loaded together"
+
+        screen.events == ['categoriesDl:preLoad', 'categoriesDl:postLoad', 'ownersDl:postLoad', 'petsDl:postLoad']
+
+        and: "load duration is recorded for each loader"
+
+        loadTimerCount('ownersDl') == ownersLoadCount + 1
+        loadTimerCount('petsDl') == petsLoadCount + 1
+        loadTimerCount('categoriesDl') == categoriesLoadCount + 1
+    }
+
+    private long loadTimerCount(String loaderId) {
+        def timer = meterRegistry.find('jmix.ui.data')
+                .tags('dataLoader', loaderId, 'lifeCycle', DataLoaderLifeCycle.LOAD.getName())
+                .timer()
+        return timer == null ? 0 : timer.count()
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facet.data_load_coordinator.screen;
+
+import com.vaadin.flow.router.Route;
+import io.jmix.flowui.facet.DataLoadCoordinator;
+import io.jmix.flowui.model.CollectionLoader;
+import io.jmix.flowui.view.*;
+import test_support.entity.petclinic.Owner;
+import test_support.entity.petclinic.OwnerCategory;
+import test_support.entity.petclinic.Pet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Route(value = "facet/dlc/dlc-concurrent")
+@ViewController
+@ViewDescriptor("dlc-concurrent-test-screen.xml")
+public class DlcConcurrentTestScreen extends StandardView {
+
+    public List<String> events = new ArrayList<>();
+
+    @ViewComponent
+    public DataLoadCoordinator dlc;
+
+    @Subscribe(id = "categoriesDl", target = Target.DATA_LOADER)
+    protected void onCategoriesDlPreLoad(CollectionLoader.PreLoadEvent<OwnerCategory> event) {
+        events.add("categoriesDl:preLoad");
+    }
+
+    @Subscribe(id = "categoriesDl", target = Target.DATA_LOADER)
+    protected void onCategoriesDlPostLoad(CollectionLoader.PostLoadEvent<OwnerCategory> event) {
+        events.add("categoriesDl:postLoad");
+    }
+
+    @Subscribe(id = "ownersDl", target = Target.DATA_LOADER)
+    protected void onOwnersDlPostLoad(CollectionLoader.PostLoadEvent<Owner> event) {
+        events.add("ownersDl:postLoad");
+    }
+
+    @Subscribe(id = "petsDl", target = Target.DATA_LOADER)
+    protected void onPetsDlPostLoad(CollectionLoader.PostLoadEvent<Pet> event) {
+        events.add("petsDl:postLoad");
+    }
+}
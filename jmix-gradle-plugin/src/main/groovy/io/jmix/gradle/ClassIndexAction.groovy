@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.gradle
+
+import javassist.ClassPool
+import javassist.CtClass
+import org.gradle.api.Action
+import org.gradle.api.Project
+import org.gradle.api.Task
+import org.gradle.api.tasks.SourceSet
+
+import java.nio.charset.StandardCharsets
+
+import static io.jmix.gradle.MetaModelUtil.isModuleConfig
+
+/**
+ * Writes names of all compiled classes located in the base package of each Jmix module to the
+ * {@code jmix-classes.idx} file in this package. {@code JmixModulesClasspathScanner} reads classes listed in the
+ * index at application startup instead of parsing each class file of the package.
+ * <p>
+ * The action is executed by a separate task of the source set which runs after all compile tasks (Java, Groovy,
+ * Kotlin) and reads their final output directories. The index is written to its own output directory of the source
+ * set, so it is rebuilt whenever any class output directory changes and is packed into the jar with the classes.
+ */
+class ClassIndexAction implements Action<Task> {
+
+    static final String CLASS_INDEX_FILE_NAME = "jmix-classes.idx"
+
+    private String sourceSetName
+
+    ClassIndexAction(String sourceSetName) {
+        this.sourceSetName = sourceSetName
+    }
+
+    static File getIndexDir(Project project, String sourceSetName) {
+        return project.file("$project.buildDir/tmp/classIndex/$sourceSetName")
+    }
+
+    @Override
+    void execute(Task task) {
+        Project project = task.getProject()
+        SourceSet sourceSet = project.sourceSets.findByName(sourceSetName)
+
+        File indexDir = getIndexDir(project, sourceSetName)
+        project.delete(indexDir)
+
+        Collection<File> outputDirs = getOutputDirs(sourceSet)
+        List<String> modulePaths = findModulePaths(project, outputDirs)
+        if (modulePaths.isEmpty() && sourceSetName == EnhancingAction.TEST_SET_NAME) {
+            // test classes without own configuration are located in the base package of the main module
+            modulePaths = findModulePaths(project, getOutputDirs(project.sourceSets.findByName(EnhancingAction.MAIN_SET_NAME)))
+        }
+
+        for (String modulePath : modulePaths) {
+            Set<String> classNames = new TreeSet<>()
+            for (File outputDir : outputDirs) {
+                File moduleDir = new File(outputDir, modulePath)
+                if (!moduleDir.isDirectory()) {
+                    continue
+                }
+                project.fileTree(moduleDir).matching { include '**/*.class' }.each { File file ->
+                    String pathStr = outputDir.toPath().relativize(file.toPath()).join('.')
+                    classNames.add(pathStr.substring(0, pathStr.length() - '.class'.length()))
+                }
+            }
+            if (classNames.isEmpty()) {
+                continue
+            }
+
+            File indexFile = new File(indexDir, "$modulePath/$CLASS_INDEX_FILE_NAME")
+            indexFile.parentFile.mkdirs()
+            indexFile.setText(classNames.join('\n'), StandardCharsets.UTF_8.name())
+            project.logger.info "Class index with ${classNames.size()} classes written to $indexFile"
+        }
+    }
+
+    protected static Collection<File> getOutputDirs(SourceSet sourceSet) {
+        return sourceSet.output.classesDirs.files.findAll { it.isDirectory() }
+    }
+
+    protected List<String> findModulePaths(Project project, Collection<File> outputDirs) {
+        ClassPool classPool = new ClassPool(null)
+        List<String> modulePaths = []
+        for (File outputDir : outputDirs) {
+            project.fileTree(outputDir).matching { include '**/*.class' }.each { File file ->
+                CtClass ctClass = file.withInputStream { classPool.makeClass(it) }
+                if (isModuleConfig(ctClass)) {
+                    String modulePath = ctClass.getPackageName().replace('.', '/')
+                    if (!modulePaths.contains(modulePath)) {
+                        modulePaths.add(modulePath)
+                    }
+                }
+                ctClass.detach()
+            }
+        }
+        return modulePaths
+    }
+}
@@ -19,9 +19,11 @@ package io.jmix.gradle
 
 import org.gradle.api.Plugin
 import org.gradle.api.Project
+import org.gradle.api.Task
 import org.gradle.api.UnknownTaskException
 import org.gradle.api.plugins.JavaPlugin
 import org.gradle.api.tasks.Delete
+import org.gradle.api.tasks.SourceSet
 
 import java.util.jar.Manifest
 
@@ -84,6 +86,11 @@ class JmixPlugin implements Plugin<Project> {
 
                 project.tasks.findByName('classes').doLast({ EnhancingAction.copyGeneratedFiles(project, 'main') })
                 project.tasks.findByName('testClasses').doLast({ EnhancingAction.copyGeneratedFiles(project, 'test') })
+
+                if (javaPlugin) {
+                    registerClassIndexTask(project, 'main')
+                    registerClassIndexTask(project, 'test')
+                }
             }
 
             if (isJmixApp(project)) {
@@ -102,6 +109,24 @@ class JmixPlugin implements Plugin<Project> {
         registerCleanConfTask(project)
     }
 
+    /**
+     * Registers a task building the class index of the source set after all its compile tasks. The index is written
+     * to a separate output directory of the source set, which makes the {@code classes} task depend on it.
+     */
+    private static void registerClassIndexTask(Project project, String sourceSetName) {
+        SourceSet sourceSet = project.sourceSets.findByName(sourceSetName)
+        if (sourceSet == null) {
+            return
+        }
+        File indexDir = ClassIndexAction.getIndexDir(project, sourceSetName)
+        def indexTask = project.tasks.register(sourceSet.getTaskName('jmix', 'classIndex')) { Task task ->
+            task.inputs.files(sourceSet.output.classesDirs).withPropertyName('classesDirs')
+            task.outputs.dir(indexDir).withPropertyName('indexDir')
+            task.doLast(new ClassIndexAction(sourceSetName))
+        }
+        sourceSet.output.dir([builtBy: indexTask], indexDir)
+    }
+
     /**
      * Kotlin classes output dir should be the same as java output dir.
      * Otherwise the current implementation of entities enhancing doesn't work properly
@@ -18,14 +18,13 @@ package io.jmix.gradle;
 
 import jakarta.annotation.Nullable;
 import javassist.*;
+import javassist.bytecode.AccessFlag;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
-import java.util.List;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static io.jmix.gradle.AnnotationsInfo.ClassAnnotation.*;
@@ -143,6 +142,7 @@ public class EntityEntryEnhancingStep extends BaseEnhancingStep {
         setupSoftDelete(nestedCtClass, ctClass, info);
         setupHasUuid(nestedCtClass, ctClass, info);
         setupVersion(nestedCtClass, ctClass, info);
+        setupAttributeAccessors(nestedCtClass, ctClass);
 
 
         nestedCtClass.writeFile(outputDir);
@@ -281,6 +281,149 @@ public class EntityEntryEnhancingStep extends BaseEnhancingStep {
         }
     }
 
+    /**
+     * Generates {@code getSourceAttributeValue(String)} and {@code setSourceAttributeValue(String, Object)} methods
+     * which call getters and setters of the entity directly, so that access by attribute name does not go through
+     * the reflection-based {@code MethodsCache}. Methods are selected by the hash code of the attribute name.
+     * Only attributes backed by fields declared in the entity class and having exactly one getter and one setter
+     * are included, other attributes are handled by {@code MethodsCache} at runtime. Nothing is generated if
+     * the entity entry base class of the classpath doesn't support generated accessors.
+     */
+    protected void setupAttributeAccessors(CtClass nestedClass, CtClass ctClass)
+            throws NotFoundException, CannotCompileException {
+        if (!isGeneratedAccessorsSupported(nestedClass)) {
+            logger.debug(String.format("Entity entry of %s doesn't support generated accessors", ctClass.getSimpleName()));
+            return;
+        }
+
+        Map<String, List<CtMethod>> publicMethods = new HashMap<>();
+        for (CtMethod method : ctClass.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers())
+                    || (method.getMethodInfo().getAccessFlags() & AccessFlag.BRIDGE) != 0) {
+                continue;
+            }
+            publicMethods.computeIfAbsent(method.getName(), name -> new ArrayList<>()).add(method);
+        }
+
+        Map<String, CtMethod> getters = new LinkedHashMap<>();
+        Map<String, CtMethod> setters = new LinkedHashMap<>();
+        for (String fieldName : collectFieldNames(ctClass)) {
+            String capitalizedName = StringUtils.capitalize(fieldName);
+
+            CtMethod getter = findSingleMethod(publicMethods, "get" + capitalizedName, 0);
+            CtMethod isGetter = findSingleMethod(publicMethods, "is" + capitalizedName, 0);
+            if (getter != null && isGetter == null) {
+                getters.put(fieldName, getter);
+            } else if (getter == null && isGetter != null) {
+                getters.put(fieldName, isGetter);
+            }
+
+            CtMethod setter = findSingleMethod(publicMethods, "set" + capitalizedName, 1);
+            if (setter != null) {
+                setters.put(fieldName, setter);
+            }
+        }
+
+        if (!getters.isEmpty()) {
+            nestedClass.addMethod(CtNewMethod.make(classPool.get(Object.class.getName()), "getSourceAttributeValue",
+                    new CtClass[]{classPool.get(String.class.getName())}, null,
+                    makeAccessorBody(ctClass, getters, false), nestedClass));
+        }
+        if (!setters.isEmpty()) {
+            nestedClass.addMethod(CtNewMethod.make(CtClass.booleanType, "setSourceAttributeValue",
+                    new CtClass[]{classPool.get(String.class.getName()), classPool.get(Object.class.getName())}, null,
+                    makeAccessorBody(ctClass, setters, true), nestedClass));
+        }
+
+        logger.debug(String.format("Entity %s has generated accessors for %d getters and %d setters",
+                ctClass.getSimpleName(), getters.size(), setters.size()));
+    }
+
+    protected boolean isGeneratedAccessorsSupported(CtClass nestedClass) throws NotFoundException {
+        CtClass baseEntityEntryClass = classPool.get(BASE_ENTITY_ENTRY_TYPE);
+        if (!nestedClass.subclassOf(baseEntityEntryClass)) {
+            return false;
+        }
+        try {
+            baseEntityEntryClass.getDeclaredField(NO_GENERATED_ACCESSOR_FIELD);
+            return true;
+        } catch (NotFoundException e) {
+            return false;
+        }
+    }
+
+    protected Set<String> collectFieldNames(CtClass ctClass) {
+        Set<String> fieldNames = new LinkedHashSet<>();
+        for (CtField field : ctClass.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                fieldNames.add(field.getName());
+            }
+        }
+        return fieldNames;
+    }
+
+    @Nullable
+    protected CtMethod findSingleMethod(Map<String, List<CtMethod>> methods, String name, int parametersCount)
+            throws NotFoundException {
+        CtMethod result = null;
+        for (CtMethod method : methods.getOrDefault(name, Collections.emptyList())) {
+            if (method.getParameterTypes().length == parametersCount) {
+                if (result != null) {
+                    return null;
+                }
+                result = method;
+            }
+        }
+        return result;
+    }
+
+    protected String makeAccessorBody(CtClass ctClass, Map<String, CtMethod> accessors, boolean setter)
+            throws NotFoundException {
+        Map<Integer, List<String>> namesByHash = new LinkedHashMap<>();
+        for (String name : accessors.keySet()) {
+            namesByHash.computeIfAbsent(name.hashCode(), hash -> new ArrayList<>()).add(name);
+        }
+
+        StringBuilder body = new StringBuilder("{ ");
+        body.append(String.format("%s entity = (%s) getSource(); ", ctClass.getName(), ctClass.getName()));
+        body.append("switch ($1.hashCode()) { ");
+        for (Map.Entry<Integer, List<String>> entry : namesByHash.entrySet()) {
+            body.append(String.format("case %d: ", entry.getKey()));
+            for (String name : entry.getValue()) {
+                CtMethod method = accessors.get(name);
+                body.append(String.format("if (\"%s\".equals($1)) { ", name));
+                if (setter) {
+                    body.append(String.format("entity.%s(%s); return true; ",
+                            method.getName(), makeUnboxingExpression(method.getParameterTypes()[0], "$2")));
+                } else {
+                    body.append(String.format("return %s; ",
+                            makeBoxingExpression(method.getReturnType(), "entity." + method.getName() + "()")));
+                }
+                body.append("} ");
+            }
+            body.append("break; ");
+        }
+        body.append("} ");
+        body.append(setter ? "return false; }" : "return " + BASE_ENTITY_ENTRY_TYPE + "." + NO_GENERATED_ACCESSOR_FIELD + "; }");
+        return body.toString();
+    }
+
+    protected String makeBoxingExpression(CtClass type, String expression) {
+        if (type.isPrimitive()) {
+            return String.format("%s.valueOf(%s)", ((CtPrimitiveType) type).getWrapperName(), expression);
+        }
+        return expression;
+    }
+
+    protected String makeUnboxingExpression(CtClass type, String expression) {
+        if (type.isPrimitive()) {
+            CtPrimitiveType primitiveType = (CtPrimitiveType) type;
+            return String.format("((%s) %s).%s()",
+                    primitiveType.getWrapperName(), expression, primitiveType.getGetMethodName());
+        }
+        return String.format("(%s) %s", type.getName(), expression);
+    }
+
     protected void setupHasUuidForField(CtClass nestedClass, CtClass ctClass, String uuidFieldName)
             throws NotFoundException, CannotCompileException {
         CtClass uuidClass = classPool.get(UUID.class.getName());
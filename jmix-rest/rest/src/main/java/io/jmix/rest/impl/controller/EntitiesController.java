@@ -20,9 +20,10 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import io.jmix.rest.impl.service.EntitiesControllerManager;
-import io.jmix.rest.impl.service.filter.data.EntitiesSearchResult;
+import io.jmix.rest.impl.service.filter.data.EntitiesStreamResult;
 import io.jmix.rest.impl.service.filter.data.ResponseInfo;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,6 +33,10 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Controller that performs CRUD entity operations
  */
@@ -54,42 +59,36 @@ public class EntitiesController {
     }
 
     @GetMapping("/{entityName}")
-    public ResponseEntity<String> loadEntitiesList(@PathVariable String entityName,
-                                                   @RequestParam(required = false) String fetchPlan,
-                                                   @RequestParam(required = false) Integer limit,
-                                                   @RequestParam(required = false) Integer offset,
-                                                   @RequestParam(required = false) String sort,
-                                                   @RequestParam(required = false) Boolean returnNulls,
-                                                   @RequestParam(required = false) Boolean returnCount,
-                                                   @RequestParam(required = false) Boolean dynamicAttributes,
-                                                   @RequestParam(required = false) String modelVersion) {
-        EntitiesSearchResult entitiesSearchResult = entitiesControllerManager.loadEntitiesList(entityName, fetchPlan,
+    public void loadEntitiesList(@PathVariable String entityName,
+                                 @RequestParam(required = false) String fetchPlan,
+                                 @RequestParam(required = false) Integer limit,
+                                 @RequestParam(required = false) Integer offset,
+                                 @RequestParam(required = false) String sort,
+                                 @RequestParam(required = false) Boolean returnNulls,
+                                 @RequestParam(required = false) Boolean returnCount,
+                                 @RequestParam(required = false) Boolean dynamicAttributes,
+                                 @RequestParam(required = false) String modelVersion,
+                                 HttpServletResponse response) throws IOException {
+        EntitiesStreamResult result = entitiesControllerManager.loadEntitiesListStream(entityName, fetchPlan,
                 limit, offset, sort, returnNulls, returnCount, dynamicAttributes, modelVersion);
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(HttpStatus.OK);
-        if (BooleanUtils.isTrue(returnCount)) {
-            responseBuilder.header("X-Total-Count", entitiesSearchResult.getCount().toString());
-        }
-        return responseBuilder.body(entitiesSearchResult.getJson());
+        writeEntitiesResponse(result, BooleanUtils.isTrue(returnCount), response);
     }
 
     @GetMapping("/{entityName}/search")
-    public ResponseEntity<String> searchEntitiesListGet(@PathVariable String entityName,
-                                                        @RequestParam String filter,
-                                                        @RequestParam(required = false) String fetchPlan,
-                                                        @RequestParam(required = false) Integer limit,
-                                                        @RequestParam(required = false) Integer offset,
-                                                        @RequestParam(required = false) String sort,
-                                                        @RequestParam(required = false) Boolean returnNulls,
-                                                        @RequestParam(required = false) Boolean returnCount,
-                                                        @RequestParam(required = false) Boolean dynamicAttributes,
-                                                        @RequestParam(required = false) String modelVersion) {
-        EntitiesSearchResult entitiesSearchResult = entitiesControllerManager.searchEntities(entityName, filter,
+    public void searchEntitiesListGet(@PathVariable String entityName,
+                                      @RequestParam String filter,
+                                      @RequestParam(required = false) String fetchPlan,
+                                      @RequestParam(required = false) Integer limit,
+                                      @RequestParam(required = false) Integer offset,
+                                      @RequestParam(required = false) String sort,
+                                      @RequestParam(required = false) Boolean returnNulls,
+                                      @RequestParam(required = false) Boolean returnCount,
+                                      @RequestParam(required = false) Boolean dynamicAttributes,
+                                      @RequestParam(required = false) String modelVersion,
+                                      HttpServletResponse response) throws IOException {
+        EntitiesStreamResult result = entitiesControllerManager.searchEntitiesStream(entityName, filter,
                 fetchPlan, limit, offset, sort, returnNulls, returnCount, dynamicAttributes, modelVersion);
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(HttpStatus.OK);
-        if (BooleanUtils.isTrue(returnCount)) {
-            responseBuilder.header("X-Total-Count", entitiesSearchResult.getCount().toString());
-        }
-        return responseBuilder.body(entitiesSearchResult.getJson());
+        writeEntitiesResponse(result, BooleanUtils.isTrue(returnCount), response);
     }
 
     @GetMapping("/{entityName}/search/count")
@@ -100,16 +99,13 @@ public class EntitiesController {
     }
 
     @PostMapping("/{entityName}/search")
-    public ResponseEntity<String> searchEntitiesListPost(@PathVariable String entityName,
-                                                         @RequestBody String requestBodyJson) {
-        EntitiesSearchResult entitiesSearchResult = entitiesControllerManager.searchEntities(entityName, requestBodyJson);
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(HttpStatus.OK);
+    public void searchEntitiesListPost(@PathVariable String entityName,
+                                       @RequestBody String requestBodyJson,
+                                       HttpServletResponse response) throws IOException {
+        EntitiesStreamResult result = entitiesControllerManager.searchEntitiesStream(entityName, requestBodyJson);
         JsonObject requestJsonObject = new JsonParser().parse(requestBodyJson).getAsJsonObject();
         JsonPrimitive returnCount = requestJsonObject.getAsJsonPrimitive("returnCount");
-        if (returnCount != null && returnCount.getAsBoolean()) {
-            responseBuilder.header("X-Total-Count", entitiesSearchResult.getCount().toString());
-        }
-        return responseBuilder.body(entitiesSearchResult.getJson());
+        writeEntitiesResponse(result, returnCount != null && returnCount.getAsBoolean(), response);
     }
 
     @PostMapping("/{entityName}/search/count")
@@ -168,4 +164,21 @@ public class EntitiesController {
         entitiesControllerManager.deleteEntities(entityName, entitiesIdJson, modelVersion);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Writes entities JSON directly to the response in the request thread, so the security context and the
+     * transaction state stay the same as for the loading.
+     */
+    protected void writeEntitiesResponse(EntitiesStreamResult result, boolean returnCount,
+                                         HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        if (returnCount) {
+            response.setHeader("X-Total-Count", String.valueOf(result.getCount()));
+        }
+        Writer writer = response.getWriter();
+        result.writeJson(writer);
+        writer.flush();
+    }
 }
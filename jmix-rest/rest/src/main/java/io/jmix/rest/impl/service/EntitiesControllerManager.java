@@ -41,6 +41,7 @@ import io.jmix.rest.impl.controller.EntitiesController;
 import io.jmix.rest.impl.service.filter.RestFilterParseException;
 import io.jmix.rest.impl.service.filter.RestFilterParser;
 import io.jmix.rest.impl.service.filter.data.EntitiesSearchResult;
+import io.jmix.rest.impl.service.filter.data.EntitiesStreamResult;
 import io.jmix.rest.impl.service.filter.data.ResponseInfo;
 import io.jmix.rest.transform.JsonTransformationDirection;
 import jakarta.servlet.http.HttpServletRequest;
@@ -245,6 +246,119 @@ public class EntitiesControllerManager {
         return new EntitiesSearchResult(json, count);
     }
 
+    /**
+     * Same as {@link #loadEntitiesList(String, String, Integer, Integer, String, Boolean, Boolean, Boolean, String)},
+     * but the JSON is written by the returned result directly to the response.
+     */
+    public EntitiesStreamResult loadEntitiesListStream(String entityName,
+                                                       @Nullable String fetchPlanNameOrJson,
+                                                       @Nullable Integer limit,
+                                                       @Nullable Integer offset,
+                                                       @Nullable String sort,
+                                                       @Nullable Boolean returnNulls,
+                                                       @Nullable Boolean returnCount,
+                                                       @Nullable Boolean dynamicAttributes,
+                                                       @Nullable String modelVersion) {
+        MetaClass metaClass = getMetaClass(entityName, modelVersion);
+        checkCanReadEntity(metaClass);
+
+        FetchPlan fetchPlan = restControllerUtils.getFetchPlanByNameOrJson(metaClass, fetchPlanNameOrJson);
+
+        List<Object> entities = loadEntities(LogicalCondition.and(), fetchPlan, limit, offset, sort,
+                dynamicAttributes, metaClass);
+
+        Long count = null;
+        if (BooleanUtils.isTrue(returnCount)) {
+            count = countEntities(metaClass, LogicalCondition.and());
+        }
+        return createStreamResult(entities, fetchPlan, returnNulls, modelVersion, metaClass, count);
+    }
+
+    /**
+     * Same as {@link #searchEntities(String, String, String, Integer, Integer, String, Boolean, Boolean, Boolean, String)},
+     * but the JSON is written by the returned result directly to the response.
+     */
+    public EntitiesStreamResult searchEntitiesStream(String entityName,
+                                                     String filterJson,
+                                                     @Nullable String fetchPlanNameOrJson,
+                                                     @Nullable Integer limit,
+                                                     @Nullable Integer offset,
+                                                     @Nullable String sort,
+                                                     @Nullable Boolean returnNulls,
+                                                     @Nullable Boolean returnCount,
+                                                     @Nullable Boolean dynamicAttributes,
+                                                     @Nullable String modelVersion) {
+        MetaClass metaClass = getMetaClass(entityName, modelVersion);
+        FetchPlan fetchPlan = restControllerUtils.getFetchPlanByNameOrJson(metaClass, fetchPlanNameOrJson);
+        return searchEntitiesStream(entityName,
+                filterJson,
+                fetchPlan,
+                limit,
+                offset,
+                sort,
+                returnNulls,
+                returnCount,
+                dynamicAttributes,
+                modelVersion);
+    }
+
+    /**
+     * Same as {@link #searchEntities(String, String, FetchPlan, Integer, Integer, String, Boolean, Boolean, Boolean, String)},
+     * but the JSON is written by the returned result directly to the response.
+     */
+    public EntitiesStreamResult searchEntitiesStream(String entityName,
+                                                     String filterJson,
+                                                     @Nullable FetchPlan fetchPlan,
+                                                     @Nullable Integer limit,
+                                                     @Nullable Integer offset,
+                                                     @Nullable String sort,
+                                                     @Nullable Boolean returnNulls,
+                                                     @Nullable Boolean returnCount,
+                                                     @Nullable Boolean dynamicAttributes,
+                                                     @Nullable String modelVersion) {
+        if (filterJson == null) {
+            throw new RestAPIException("Cannot parse entities filter", "Entities filter cannot be null", HttpStatus.BAD_REQUEST);
+        }
+
+        MetaClass metaClass = getMetaClass(entityName, modelVersion);
+        checkCanReadEntity(metaClass);
+
+        Condition jmixCondition = parseFilter(filterJson, metaClass);
+
+        List<Object> entities = loadEntities(jmixCondition, fetchPlan, limit, offset, sort, dynamicAttributes, metaClass);
+        Long count = BooleanUtils.isTrue(returnCount) ?
+                countEntities(metaClass, jmixCondition)
+                : null;
+        return createStreamResult(entities, fetchPlan, returnNulls, modelVersion, metaClass, count);
+    }
+
+    /**
+     * Same as {@link #searchEntities(String, String)}, but the JSON is written by the returned result directly to
+     * the response.
+     */
+    public EntitiesStreamResult searchEntitiesStream(String entityName, String searchRequestBody) {
+        SearchEntitiesRequestDTO searchEntitiesRequest = parseSearchRequest(searchRequestBody);
+        return searchEntitiesStream(entityName,
+                searchEntitiesRequest.getFilter().toString(),
+                getSearchRequestFetchPlan(entityName, searchEntitiesRequest),
+                searchEntitiesRequest.getLimit(),
+                searchEntitiesRequest.getOffset(),
+                searchEntitiesRequest.getSort(),
+                searchEntitiesRequest.getReturnNulls(),
+                searchEntitiesRequest.getReturnCount(),
+                searchEntitiesRequest.getDynamicAttributes(),
+                searchEntitiesRequest.getModelVersion()
+        );
+    }
+
+    protected Condition parseFilter(String filterJson, MetaClass metaClass) {
+        try {
+            return restFilterParser.parse(filterJson, metaClass);
+        } catch (RestFilterParseException e) {
+            throw new RestAPIException("Cannot parse entities filter", e.getMessage(), HttpStatus.BAD_REQUEST, e);
+        }
+    }
+
     protected MetaClass getMetaClass(String entityName, @Nullable String modelVersion) {
         entityName = restControllerUtils.transformEntityNameIfRequired(entityName, modelVersion, JsonTransformationDirection.FROM_VERSION);
         return restControllerUtils.getMetaClass(entityName);
@@ -287,13 +401,32 @@ public class EntitiesControllerManager {
     }
 
     public EntitiesSearchResult searchEntities(String entityName, String searchRequestBody) {
+        SearchEntitiesRequestDTO searchEntitiesRequest = parseSearchRequest(searchRequestBody);
+        return searchEntities(entityName,
+                searchEntitiesRequest.getFilter().toString(),
+                getSearchRequestFetchPlan(entityName, searchEntitiesRequest),
+                searchEntitiesRequest.getLimit(),
+                searchEntitiesRequest.getOffset(),
+                searchEntitiesRequest.getSort(),
+                searchEntitiesRequest.getReturnNulls(),
+                searchEntitiesRequest.getReturnCount(),
+                searchEntitiesRequest.getDynamicAttributes(),
+                searchEntitiesRequest.getModelVersion()
+        );
+    }
+
+    protected SearchEntitiesRequestDTO parseSearchRequest(String searchRequestBody) {
         SearchEntitiesRequestDTO searchEntitiesRequest = new Gson()
                 .fromJson(searchRequestBody, SearchEntitiesRequestDTO.class);
 
         if (searchEntitiesRequest.getFilter() == null) {
             throw new RestAPIException("Cannot parse entities filter", "Entities filter cannot be null", HttpStatus.BAD_REQUEST);
         }
+        return searchEntitiesRequest;
+    }
 
+    @Nullable
+    protected FetchPlan getSearchRequestFetchPlan(String entityName, SearchEntitiesRequestDTO searchEntitiesRequest) {
         FetchPlan fetchPlan = null;
         if (searchEntitiesRequest.getFetchPlan() != null) {
             JsonElement jsonElement = searchEntitiesRequest.getFetchPlan();
@@ -305,19 +438,7 @@ public class EntitiesControllerManager {
             } else
                 throw new RestAPIException("Invalid FetchPlan definition", jsonElement.toString(), HttpStatus.BAD_REQUEST);
         }
-
-
-        return searchEntities(entityName,
-                searchEntitiesRequest.getFilter().toString(),
-                fetchPlan,
-                searchEntitiesRequest.getLimit(),
-                searchEntitiesRequest.getOffset(),
-                searchEntitiesRequest.getSort(),
-                searchEntitiesRequest.getReturnNulls(),
-                searchEntitiesRequest.getReturnCount(),
-                searchEntitiesRequest.getDynamicAttributes(),
-                searchEntitiesRequest.getModelVersion()
-        );
+        return fetchPlan;
     }
 
     public Long countSearchEntities(String entityName, String searchRequestBody) {
@@ -339,6 +460,20 @@ public class EntitiesControllerManager {
                                       @Nullable Boolean dynamicAttributes,
                                       @Nullable String modelVersion,
                                       MetaClass metaClass) {
+        List<Object> entities = loadEntities(condition, fetchPlan, limit, offset, sort, dynamicAttributes, metaClass);
+
+        String json = entitySerialization.toJson(entities, fetchPlan, getListSerializationOptions(returnNulls));
+        json = restControllerUtils.transformJsonIfRequired(metaClass.getName(), modelVersion, JsonTransformationDirection.TO_VERSION, json);
+        return json;
+    }
+
+    protected List<Object> loadEntities(Condition condition,
+                                        @Nullable FetchPlan fetchPlan,
+                                        @Nullable Integer limit,
+                                        @Nullable Integer offset,
+                                        @Nullable String sort,
+                                        @Nullable Boolean dynamicAttributes,
+                                        MetaClass metaClass) {
         LoadContext<Object> ctx = new LoadContext<>(metaClass);
 
         String queryString = createSimpleSelect(metaClass);
@@ -371,16 +506,45 @@ public class EntitiesControllerManager {
 
         ctx.setHint("jmix.dynattr", BooleanUtils.isTrue(dynamicAttributes));
 
-        List<Object> entities = dataManager.loadList(ctx);
+        return dataManager.loadList(ctx);
+    }
 
+    protected EntitySerializationOption[] getListSerializationOptions(@Nullable Boolean returnNulls) {
         List<EntitySerializationOption> serializationOptions = new ArrayList<>();
         serializationOptions.add(SERIALIZE_INSTANCE_NAME);
         serializationOptions.add(DO_NOT_SERIALIZE_DENIED_PROPERTY);
         if (BooleanUtils.isTrue(returnNulls)) serializationOptions.add(SERIALIZE_NULLS);
+        return serializationOptions.toArray(new EntitySerializationOption[0]);
+    }
 
-        String json = entitySerialization.toJson(entities, fetchPlan, serializationOptions.toArray(new EntitySerializationOption[0]));
-        json = restControllerUtils.transformJsonIfRequired(metaClass.getName(), modelVersion, JsonTransformationDirection.TO_VERSION, json);
-        return json;
+    /**
+     * Creates a result which writes JSON of the given entities without building it in memory. If the model version
+     * is specified, entities are serialized and transformed one by one, so only JSON of one entity is kept in memory.
+     */
+    protected EntitiesStreamResult createStreamResult(List<Object> entities,
+                                                      @Nullable FetchPlan fetchPlan,
+                                                      @Nullable Boolean returnNulls,
+                                                      @Nullable String modelVersion,
+                                                      MetaClass metaClass,
+                                                      @Nullable Long count) {
+        EntitySerializationOption[] options = getListSerializationOptions(returnNulls);
+        if (Strings.isNullOrEmpty(modelVersion)) {
+            return new EntitiesStreamResult(writer -> entitySerialization.toJson(entities, writer, fetchPlan, options), count);
+        }
+        return new EntitiesStreamResult(writer -> {
+            writer.write('[');
+            boolean first = true;
+            for (Object entity : entities) {
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                String json = entitySerialization.toJson(entity, fetchPlan, options);
+                writer.write(restControllerUtils.transformJsonIfRequired(metaClass.getName(), modelVersion,
+                        JsonTransformationDirection.TO_VERSION, json));
+            }
+            writer.write(']');
+        }, count);
     }
 
     protected String addOrderBy(String queryString, @Nullable String sort, MetaClass metaClass) {
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.rest.impl.service.filter.data;
+
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Result of loading a list of entities which JSON is written directly to the response instead of being built
+ * as a string.
+ */
+public class EntitiesStreamResult {
+    protected JsonContent content;
+    protected Long count;
+
+    public EntitiesStreamResult(JsonContent content, @Nullable Long count) {
+        this.content = content;
+        this.count = count;
+    }
+
+    /**
+     * Writes JSON array of loaded entities to the given writer.
+     */
+    public void writeJson(Writer writer) throws IOException {
+        content.write(writer);
+    }
+
+    @Nullable
+    public Long getCount() {
+        return count;
+    }
+
+    @FunctionalInterface
+    public interface JsonContent {
+
+        void write(Writer writer) throws IOException;
+    }
+}
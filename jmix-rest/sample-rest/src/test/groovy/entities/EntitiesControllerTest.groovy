@@ -79,6 +79,73 @@ class EntitiesControllerTest extends RestSpec {
         response.body.as(Integer) == 1
     }
 
+    def "GET-request for list of entities streams JSON array with total count"() {
+        when:
+        def request = createRequest(userToken).param("returnCount", true).param("sort", "login")
+        def response = request.with().get(baseUrl + "/entities/sec\$User")
+
+        then:
+        response.statusCode() == 200
+        response.contentType().startsWith("application/json")
+        def logins = response.jsonPath().getList("login")
+        logins.size() == Integer.parseInt(response.header("X-Total-Count"))
+        logins.containsAll(["login1", "login2"])
+        logins == logins.toSorted()
+    }
+
+    def "GET-request for list of unknown entity returns error status"() {
+        when:
+        def request = createRequest(userToken)
+        def response = request.with().get(baseUrl + "/entities/sec\$Unknown")
+
+        then:
+        response.statusCode() == 404
+        response.jsonPath().getString("error") == "Entity not found"
+    }
+
+    def "GET-request with invalid filter returns error status"() {
+        def param = [
+                'conditions': [
+                        [
+                                'property': 'unknownProperty',
+                                'operator': '=',
+                                'value'   : 'admin'
+                        ]
+                ]
+        ]
+
+        when:
+        def request = createRequest(userToken).param("filter", param)
+        def response = request.with().get(baseUrl + "/entities/sec\$User/search")
+
+        then:
+        response.statusCode() == 400
+    }
+
+    def "POST-request with filter streams matching entities"() {
+        def body = [
+                'filter'     : [
+                        'conditions': [
+                                [
+                                        'property': 'login',
+                                        'operator': '=',
+                                        'value'   : "admin"
+                                ]
+                        ]
+                ],
+                'returnCount': true
+        ]
+
+        when:
+        def request = createRequest(userToken).body(body)
+        def response = request.with().post(baseUrl + "/entities/sec\$User/search")
+
+        then:
+        response.statusCode() == 200
+        response.header("X-Total-Count") == "1"
+        response.jsonPath().getList("login") == ["admin"]
+    }
+
     def "PUT-request to bulk update (handling case of body containing one object instead of array)"() {
         def body =
                 [
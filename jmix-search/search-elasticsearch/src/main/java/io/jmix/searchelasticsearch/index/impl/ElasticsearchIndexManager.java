@@ -19,6 +19,7 @@ package io.jmix.searchelasticsearch.index.impl;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.mapping.TypeMapping;
 import co.elastic.clients.elasticsearch.indices.*;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
 import co.elastic.clients.json.JsonpMapper;
 import co.elastic.clients.json.JsonpSerializable;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
@@ -38,6 +39,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Implementation for Elasticsearch
@@ -73,7 +78,16 @@ public class ElasticsearchIndexManager extends BaseIndexManager<IndexState, Inde
     public boolean createIndex(IndexConfiguration indexConfiguration) {
         Preconditions.checkNotNullArgument(indexConfiguration);
 
-        String indexName = indexConfiguration.getIndexName();
+        boolean acknowledged = createIndex(indexConfiguration, indexConfiguration.getIndexName());
+        //TODO consider the possibility of this marking removing
+        if (acknowledged) {
+            indexStateRegistry.markIndexAsAvailable(indexConfiguration.getEntityName());
+        }
+        return acknowledged;
+    }
+
+    @Override
+    protected boolean createIndex(IndexConfiguration indexConfiguration, String indexName) {
         TypeMapping mapping = buildMapping(indexConfiguration);
         IndexSettings settings = buildSettings(indexConfiguration);
 
@@ -81,7 +95,7 @@ public class ElasticsearchIndexManager extends BaseIndexManager<IndexState, Inde
                 builder -> builder.index(indexName).mappings(mapping).settings(settings)
         );
 
-        log.info("Create index '{}' with mapping {}", indexConfiguration.getIndexName(), mapping);
+        log.info("Create index '{}' with mapping {}", indexName, mapping);
 
         CreateIndexResponse response;
         try {
@@ -89,25 +103,47 @@ public class ElasticsearchIndexManager extends BaseIndexManager<IndexState, Inde
         } catch (IOException e) {
             throw new RuntimeException("Failed to create index '" + indexName + "'", e);
         }
+        return Boolean.TRUE.equals(response.acknowledged());
+    }
 
-        boolean acknowledged = Boolean.TRUE.equals(response.acknowledged());
-        //TODO consider the possibility of this marking removing
-        if (acknowledged) {
-            indexStateRegistry.markIndexAsAvailable(indexConfiguration.getEntityName());
+    @Override
+    public boolean switchIndexVersion(IndexConfiguration indexConfiguration, String indexVersionName) {
+        Preconditions.checkNotNullArgument(indexConfiguration);
+        Preconditions.checkNotNullArgument(indexVersionName);
+
+        String alias = indexConfiguration.getIndexName();
+        List<String> previousIndexNames;
+        UpdateAliasesResponse response;
+        try {
+            previousIndexNames = isIndexExist(alias) ? resolveIndexNames(alias) : Collections.emptyList();
+
+            List<Action> actions = new ArrayList<>();
+            actions.add(Action.of(builder -> builder.add(addBuilder -> addBuilder.index(indexVersionName).alias(alias))));
+            previousIndexNames.forEach(previousIndexName ->
+                    actions.add(Action.of(builder -> builder.removeIndex(removeBuilder -> removeBuilder.index(previousIndexName)))));
+
+            response = client.indices().updateAliases(builder -> builder.actions(actions));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to switch alias '" + alias + "' to index '" + indexVersionName + "'", e);
         }
-        return acknowledged;
+        log.info("Result of switching alias '{}' to index '{}' (dropped indexes: {}): {}",
+                alias, indexVersionName, previousIndexNames, response.acknowledged() ? "Success" : "Failure");
+        return response.acknowledged();
     }
 
     @Override
     public boolean dropIndex(String indexName) {
         Preconditions.checkNotNullArgument(indexName);
 
-        IndexConfiguration indexConfiguration = indexConfigurationManager.getIndexConfigurationByIndexName(indexName);
+        // index versions created by direct reindex don't have own configuration
+        Optional<IndexConfiguration> indexConfigurationOpt = indexConfigurationManager.getIndexConfigurationByIndexNameOpt(indexName);
 
         DeleteIndexResponse response;
         try {
-            indexStateRegistry.markIndexAsUnavailable(indexConfiguration.getEntityName());
-            response = client.indices().delete(builder -> builder.index(indexName));
+            indexConfigurationOpt.ifPresent(indexConfiguration ->
+                    indexStateRegistry.markIndexAsUnavailable(indexConfiguration.getEntityName()));
+            List<String> indexNames = resolveIndexNames(indexName);
+            response = client.indices().delete(builder -> builder.index(indexNames));
         } catch (IOException e) {
             throw new RuntimeException("Failed to delete index '" + indexName + "'", e);
         }
@@ -142,6 +178,16 @@ public class ElasticsearchIndexManager extends BaseIndexManager<IndexState, Inde
         }
     }
 
+    /**
+     * Returns names of the indexes accessible by the provided name: indexes of the alias or the name itself.
+     */
+    protected List<String> resolveIndexNames(String indexName) throws IOException {
+        if (client.indices().existsAlias(builder -> builder.name(indexName)).value()) {
+            return new ArrayList<>(client.indices().getAlias(builder -> builder.name(indexName)).result().keySet());
+        }
+        return Collections.singletonList(indexName);
+    }
+
     protected TypeMapping buildMapping(IndexConfiguration indexConfiguration) {
         String mappingBody;
         try {
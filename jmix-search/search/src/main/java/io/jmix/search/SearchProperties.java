@@ -59,11 +59,59 @@ public class SearchProperties {
      */
     protected final int reindexEntityEnqueueBatchSize;
 
+    /**
+     * Whether Indexing Queue items are coalesced: enqueueing an operation for an entity instance replaces pending items
+     * with the same operation for this instance, and items enqueued twice in one transaction are stored once.
+     * Pending items are replaced in a separate transaction after commit, and pending items of processed instances are
+     * processed together with them. Both are not performed on MySQL and MariaDB, because the queue table has no index
+     * on the entity id column there.
+     */
+    protected final boolean indexingQueueCoalescingEnabled;
+
+    /**
+     * Number of partitions of Indexing Queue. Items of an entity instance always belong to the same partition.
+     * If greater than 1, every node processes only items of partitions leased by it, so several nodes of a cluster
+     * process the queue concurrently. Partitions are distributed evenly among active nodes.
+     * All nodes must use the same value. Stored partitions of pending items are not recalculated when the value
+     * changes, so the queue should be processed entirely before changing it.
+     */
+    protected final int indexingQueuePartitionCount;
+
+    /**
+     * Time in seconds after which a partition of Indexing Queue not renewed by its owner can be leased by another node.
+     * Must be greater than the time of processing of a queue batch.
+     */
+    protected final int indexingQueuePartitionLeaseTimeoutSec;
+
+    /**
+     * Amount of entity instances loaded and sent to the search server in single bulk request during direct reindex.
+     */
+    protected final int directReindexBatchSize;
+
+    /**
+     * Number of worker threads building documents and sending bulk requests during direct reindex. It is also the
+     * maximum number of bulk requests in flight.
+     */
+    protected final int directReindexParallelism;
+
+    /**
+     * Max amount of threads building index documents of single batch of entity instances. Documents are built
+     * in the calling thread if it's 1.
+     */
+    protected final int documentBuildingParallelism;
+
     /**
      * Whether automatic indexing of changed entities is enabled.
      */
     protected final boolean changedEntitiesIndexingEnabled;
 
+    /**
+     * Max amount of ids of changed entity instances used in single query loading dependent indexed entities.
+     * Ids of instances changed within a transaction are accumulated and dependent entities are loaded before commit,
+     * or earlier when the amount of accumulated ids reaches this value.
+     */
+    protected final int dependentEntitiesLoadingBatchSize;
+
     /**
      * Whether the default Indexing Queue processing quartz scheduling configuration is used.
      */
@@ -142,9 +190,16 @@ public class SearchProperties {
             @DefaultValue("100") int searchReloadEntitiesBatchSize,
             @DefaultValue("100") int processQueueBatchSize,
             @DefaultValue("100") int reindexEntityEnqueueBatchSize,
+            @DefaultValue("1000") int directReindexBatchSize,
+            @DefaultValue("4") int directReindexParallelism,
+            @DefaultValue("1") int documentBuildingParallelism,
             @DefaultValue("3") int minPrefixLength,
             @DefaultValue("8") int maxPrefixLength,
             @DefaultValue("true") boolean changedEntitiesIndexingEnabled,
+            @DefaultValue("500") int dependentEntitiesLoadingBatchSize,
+            @DefaultValue("true") boolean indexingQueueCoalescingEnabled,
+            @DefaultValue("1") int indexingQueuePartitionCount,
+            @DefaultValue("60") int indexingQueuePartitionLeaseTimeoutSec,
             @DefaultValue("true") boolean useDefaultIndexingQueueProcessingQuartzConfiguration,
             @DefaultValue("true") boolean useDefaultEnqueueingSessionProcessingQuartzConfiguration,
             @DefaultValue("true") boolean enqueueIndexAllOnStartupIndexRecreationEnabled,
@@ -161,7 +216,14 @@ public class SearchProperties {
         this.searchReloadEntitiesBatchSize = searchReloadEntitiesBatchSize;
         this.processQueueBatchSize = processQueueBatchSize;
         this.reindexEntityEnqueueBatchSize = reindexEntityEnqueueBatchSize;
+        this.directReindexBatchSize = directReindexBatchSize;
+        this.directReindexParallelism = directReindexParallelism;
+        this.documentBuildingParallelism = documentBuildingParallelism;
         this.changedEntitiesIndexingEnabled = changedEntitiesIndexingEnabled;
+        this.dependentEntitiesLoadingBatchSize = dependentEntitiesLoadingBatchSize;
+        this.indexingQueueCoalescingEnabled = indexingQueueCoalescingEnabled;
+        this.indexingQueuePartitionCount = indexingQueuePartitionCount;
+        this.indexingQueuePartitionLeaseTimeoutSec = indexingQueuePartitionLeaseTimeoutSec;
         this.useDefaultIndexingQueueProcessingQuartzConfiguration = useDefaultIndexingQueueProcessingQuartzConfiguration;
         this.useDefaultEnqueueingSessionProcessingQuartzConfiguration = useDefaultEnqueueingSessionProcessingQuartzConfiguration;
         this.indexingQueueProcessingCron = indexingQueueProcessingCron;
@@ -212,6 +274,48 @@ public class SearchProperties {
         return reindexEntityEnqueueBatchSize;
     }
 
+    /**
+     * @see #indexingQueueCoalescingEnabled
+     */
+    public boolean isIndexingQueueCoalescingEnabled() {
+        return indexingQueueCoalescingEnabled;
+    }
+
+    /**
+     * @see #indexingQueuePartitionCount
+     */
+    public int getIndexingQueuePartitionCount() {
+        return indexingQueuePartitionCount;
+    }
+
+    /**
+     * @see #indexingQueuePartitionLeaseTimeoutSec
+     */
+    public int getIndexingQueuePartitionLeaseTimeoutSec() {
+        return indexingQueuePartitionLeaseTimeoutSec;
+    }
+
+    /**
+     * @see #directReindexBatchSize
+     */
+    public int getDirectReindexBatchSize() {
+        return directReindexBatchSize;
+    }
+
+    /**
+     * @see #directReindexParallelism
+     */
+    public int getDirectReindexParallelism() {
+        return directReindexParallelism;
+    }
+
+    /**
+     * @see #documentBuildingParallelism
+     */
+    public int getDocumentBuildingParallelism() {
+        return documentBuildingParallelism;
+    }
+
     public int getMinPrefixLength() {
         return minPrefixLength;
     }
@@ -231,6 +335,13 @@ public class SearchProperties {
         return changedEntitiesIndexingEnabled;
     }
 
+    /**
+     * @see #dependentEntitiesLoadingBatchSize
+     */
+    public int getDependentEntitiesLoadingBatchSize() {
+        return dependentEntitiesLoadingBatchSize;
+    }
+
     /**
      * @see #useDefaultIndexingQueueProcessingQuartzConfiguration
      */
@@ -57,6 +57,19 @@ public interface EntityIndexer {
      */
     IndexResult indexCollectionByEntityIds(Collection<Id<?>> entityIds);
 
+    /**
+     * Stores entity instances to the provided index by IDs.
+     * <p>
+     * Unlike {@link #indexCollectionByEntityIds(Collection)}, documents are written to {@code targetIndexName}
+     * instead of the index configured for the entity, even if the latter is unavailable. It is used to fill a new
+     * version of an index during direct reindex.
+     *
+     * @param entityIds       IDs of entity instances
+     * @param targetIndexName name of the index to store documents to
+     * @return {@link IndexResult}
+     */
+    IndexResult indexCollectionByEntityIds(Collection<Id<?>> entityIds, String targetIndexName);
+
     /**
      * Deletes provided entity instance from index.
      *
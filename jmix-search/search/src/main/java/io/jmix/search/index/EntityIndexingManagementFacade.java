@@ -22,6 +22,8 @@ import io.jmix.core.security.Authenticated;
 import io.jmix.search.SearchProperties;
 import io.jmix.search.index.mapping.IndexConfigurationManager;
 import io.jmix.search.index.queue.IndexingQueueManager;
+import io.jmix.search.index.reindex.DirectReindexManager;
+import io.jmix.search.index.reindex.DirectReindexProgress;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jmx.export.annotation.*;
@@ -29,6 +31,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @ManagedResource(description = "Manages entity indexing for full text search", objectName = "jmix.search:type=EntityIndexing")
 @Component("search_EntityIndexingManagementFacade")
@@ -46,6 +49,8 @@ public class EntityIndexingManagementFacade {
     protected IndexConfigurationManager indexConfigurationManager;
     @Autowired
     protected SearchProperties searchProperties;
+    @Autowired
+    protected DirectReindexManager directReindexManager;
 
     @ManagedAttribute(description = "Strategy of index synchronization")
     public String getIndexSchemaManagementStrategy() {
@@ -57,6 +62,13 @@ public class EntityIndexingManagementFacade {
         return indexingQueueManager.getEntityNamesOfEnqueueingSessions();
     }
 
+    @ManagedAttribute(description = "Progress of active and last finished direct reindexes")
+    public List<String> getDirectReindexProgress() {
+        return directReindexManager.getProgress().stream()
+                .map(DirectReindexProgress::toString)
+                .collect(Collectors.toList());
+    }
+
     @Authenticated
     @ManagedOperation(description = "Synchronously enqueues all instances of all indexed entities. Don't use it on a huge amount of data")
     public String enqueueIndexAll() {
@@ -80,6 +92,39 @@ public class EntityIndexingManagementFacade {
         return String.format("%d instances of entity '%s' have been enqueued", amount, entityName);
     }
 
+    @Authenticated
+    @ManagedOperation(description = "Starts direct reindex of all instances of provided entity into a new version " +
+            "of its index bypassing Indexing Queue. The index is switched to the new version when all instances are processed")
+    @ManagedOperationParameters({
+            @ManagedOperationParameter(name = "entityName", description = "Name of entity configured for indexing, e.g. demo_Order")
+    })
+    public String directReindex(String entityName) {
+        InputValidationResult inputValidationResult = validateInputEntity(entityName);
+        if (!inputValidationResult.isValid()) {
+            return inputValidationResult.getMessage();
+        }
+
+        directReindexManager.reindexAsync(entityName);
+        return String.format("Direct reindex of entity '%s' has been started. See DirectReindexProgress attribute", entityName);
+    }
+
+    @Authenticated
+    @ManagedOperation(description = "Shows progress and estimated time left of direct reindex of provided entity")
+    @ManagedOperationParameters({
+            @ManagedOperationParameter(name = "entityName", description = "Name of entity configured for indexing, e.g. demo_Order")
+    })
+    public String showDirectReindexProgress(String entityName) {
+        InputValidationResult inputValidationResult = validateInputEntity(entityName);
+        if (!inputValidationResult.isValid()) {
+            return inputValidationResult.getMessage();
+        }
+
+        DirectReindexProgress progress = directReindexManager.getProgress(entityName);
+        return progress == null
+                ? String.format("Entity '%s' hasn't been reindexed directly", entityName)
+                : progress.toString();
+    }
+
     @Authenticated
     @ManagedOperation(description = "Init async enqueueing process for all indexed entities")
     public String initAsyncEnqueueing() {
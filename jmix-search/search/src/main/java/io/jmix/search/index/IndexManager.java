@@ -35,7 +35,27 @@ public interface IndexManager {
     boolean createIndex(IndexConfiguration indexConfiguration);
 
     /**
-     * Drops index by name.
+     * Creates a new version of the index for provided {@link IndexConfiguration}: an index with the actual mapping and
+     * settings named after the configured index name with a unique suffix. The new version is not accessible by the
+     * configured index name until {@link #switchIndexVersion(IndexConfiguration, String)} is called.
+     *
+     * @param indexConfiguration index configuration
+     * @return name of the created index
+     */
+    String createIndexVersion(IndexConfiguration indexConfiguration);
+
+    /**
+     * Atomically makes the configured index name an alias of the provided index version and drops the indexes
+     * previously accessible by this name, including an index created with the configured name itself.
+     *
+     * @param indexConfiguration index configuration
+     * @param indexVersionName   name of the index returned by {@link #createIndexVersion(IndexConfiguration)}
+     * @return true if the alias was successfully switched, false otherwise
+     */
+    boolean switchIndexVersion(IndexConfiguration indexConfiguration, String indexVersionName);
+
+    /**
+     * Drops index by name. If the name is an alias of index versions, these indexes are dropped.
      *
      * @param indexName index name
      * @return true if index was successfully dropped, false otherwise
@@ -19,6 +19,8 @@ package io.jmix.search.index.impl;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.*;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.jmix.core.*;
 import io.jmix.core.entity.EntityValues;
 import io.jmix.core.metamodel.model.MetaClass;
@@ -26,20 +28,26 @@ import io.jmix.search.SearchProperties;
 import io.jmix.search.index.EntityIndexer;
 import io.jmix.search.index.IndexConfiguration;
 import io.jmix.search.index.IndexResult;
-import io.jmix.search.index.mapping.DisplayedNameDescriptor;
 import io.jmix.search.index.mapping.IndexConfigurationManager;
 import io.jmix.search.index.mapping.IndexMappingConfiguration;
 import io.jmix.search.index.mapping.MappingFieldDescriptor;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
  * Provides non-platform-specific functionality.
  * Interaction with indexes is performed in platform-specific implementations.
+ * <p>
+ * Index documents are built by {@link DocumentBuildingPlan}s compiled once per index mapping. Documents of a batch
+ * are built concurrently if {@link SearchProperties#getDocumentBuildingParallelism()} is greater than 1.
  */
 public abstract class BaseEntityIndexer implements EntityIndexer {
 
@@ -56,6 +64,9 @@ public abstract class BaseEntityIndexer implements EntityIndexer {
 
     protected final ObjectMapper objectMapper;
 
+    protected final ConcurrentMap<String, DocumentBuildingPlan> documentBuildingPlans = new ConcurrentHashMap<>();
+    protected final ExecutorService documentBuildingExecutor;
+
     public BaseEntityIndexer(UnconstrainedDataManager dataManager,
                              FetchPlans fetchPlans,
                              IndexConfigurationManager indexConfigurationManager,
@@ -73,6 +84,28 @@ public abstract class BaseEntityIndexer implements EntityIndexer {
         this.metadataTools = metadataTools;
         this.searchProperties = searchProperties;
         this.objectMapper = new ObjectMapper();
+
+        int parallelism = searchProperties.getDocumentBuildingParallelism();
+        if (parallelism > 1) {
+            ThreadPoolExecutor threadPool = new ThreadPoolExecutor(parallelism, parallelism,
+                    1L, TimeUnit.MINUTES,
+                    new LinkedBlockingQueue<>(),
+                    new ThreadFactoryBuilder()
+                            .setNameFormat("jmix-search-document-building-%d")
+                            .setDaemon(true)
+                            .build());
+            threadPool.allowCoreThreadTimeOut(true);
+            documentBuildingExecutor = threadPool;
+        } else {
+            documentBuildingExecutor = null;
+        }
+    }
+
+    @PreDestroy
+    protected void shutdownDocumentBuilding() {
+        if (documentBuildingExecutor != null) {
+            documentBuildingExecutor.shutdownNow();
+        }
     }
 
     @Override
@@ -97,6 +130,18 @@ public abstract class BaseEntityIndexer implements EntityIndexer {
         return indexGroupedInstances(groupedInstances);
     }
 
+    @Override
+    public IndexResult indexCollectionByEntityIds(Collection<Id<?>> entityIds, String targetIndexName) {
+        Map<IndexConfiguration, Collection<Object>> groupedInstances = prepareInstancesForIndexingByIds(entityIds);
+        List<IndexDocumentData> documents = new ArrayList<>();
+        for (Map.Entry<IndexConfiguration, Collection<Object>> entry : groupedInstances.entrySet()) {
+            generateIndexDocuments(entry.getKey(), entry.getValue()).forEach(document ->
+                    documents.add(new IndexDocumentData(targetIndexName, document.id(), document.source())));
+        }
+        log.debug("[INDEX] Prepared {} documents for index '{}'", documents.size(), targetIndexName);
+        return indexDocuments(documents);
+    }
+
     @Override
     public IndexResult delete(Object entityInstance) {
         return deleteCollection(Collections.singletonList(entityInstance));
@@ -136,12 +181,7 @@ public abstract class BaseEntityIndexer implements EntityIndexer {
         for (Map.Entry<IndexConfiguration, Collection<Object>> entry : groupedInstances.entrySet()) {
             IndexConfiguration indexConfiguration = entry.getKey();
             if (indexStateRegistry.isIndexAvailable(indexConfiguration.getEntityName())) {
-                Predicate<Object> indexablePredicate = indexConfiguration.getIndexablePredicate();
-                for (Object instance : entry.getValue()) {
-                    if (indexablePredicate.test(instance)) {
-                        documents.add(generateIndexDocument(indexConfiguration, instance));
-                    }
-                }
+                documents.addAll(generateIndexDocuments(indexConfiguration, entry.getValue()));
             }
         }
 
@@ -278,25 +318,72 @@ public abstract class BaseEntityIndexer implements EntityIndexer {
     }
 
     // document generation
+
+    /**
+     * Generates documents of indexable instances, concurrently if the document building executor is configured.
+     * The order of documents corresponds to the order of instances.
+     */
+    protected List<IndexDocumentData> generateIndexDocuments(IndexConfiguration indexConfiguration,
+                                                             Collection<Object> instances) {
+        Predicate<Object> indexablePredicate = indexConfiguration.getIndexablePredicate();
+        List<Object> indexableInstances = instances.stream()
+                .filter(indexablePredicate)
+                .collect(Collectors.toList());
+        if (documentBuildingExecutor == null || indexableInstances.size() < 2) {
+            return indexableInstances.stream()
+                    .map(instance -> generateIndexDocument(indexConfiguration, instance))
+                    .collect(Collectors.toList());
+        }
+
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        List<Future<IndexDocumentData>> futures = new ArrayList<>(indexableInstances.size());
+        for (Object instance : indexableInstances) {
+            futures.add(documentBuildingExecutor.submit(() -> {
+                SecurityContext previousContext = SecurityContextHolder.getContext();
+                SecurityContextHolder.setContext(securityContext);
+                try {
+                    return generateIndexDocument(indexConfiguration, instance);
+                } finally {
+                    SecurityContextHolder.setContext(previousContext);
+                }
+            }));
+        }
+        List<IndexDocumentData> documents = new ArrayList<>(futures.size());
+        try {
+            for (Future<IndexDocumentData> future : futures) {
+                documents.add(future.get());
+            }
+            return documents;
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while building index documents", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new RuntimeException("Error building index documents", e.getCause());
+        }
+    }
+
     protected IndexDocumentData generateIndexDocument(IndexConfiguration indexConfiguration,
                                                       Object instance) {
-        ObjectNode sourceObject = JsonNodeFactory.instance.objectNode();
-        IndexMappingConfiguration indexMappingConfiguration = indexConfiguration.getMapping();
-        indexMappingConfiguration.getFields()
-                .values()
-                .stream()
-                .filter(field -> !field.isStandalone())
-                .forEach(field -> addFieldValueToEntityIndexContent(sourceObject, field, instance));
-
-        DisplayedNameDescriptor displayedNameDescriptor = indexMappingConfiguration.getDisplayedNameDescriptor();
-        JsonNode displayedName = displayedNameDescriptor.getValue(instance);
-        sourceObject.set(displayedNameDescriptor.getIndexPropertyFullName(), displayedName);
+        ObjectNode sourceObject = getDocumentBuildingPlan(indexConfiguration).buildDocument(instance);
 
         log.debug("Source object: {}", sourceObject);
         String serializedEntityId = idSerialization.idToString(Id.of(instance));
         return new IndexDocumentData(indexConfiguration.getIndexName(), serializedEntityId, sourceObject);
     }
 
+    /**
+     * Returns the plan compiled for the current mapping of the index. The plan is recompiled if the index
+     * configuration has been reloaded.
+     */
+    protected DocumentBuildingPlan getDocumentBuildingPlan(IndexConfiguration indexConfiguration) {
+        IndexMappingConfiguration mapping = indexConfiguration.getMapping();
+        return documentBuildingPlans.compute(indexConfiguration.getEntityName(), (entityName, plan) ->
+                plan != null && plan.isCompiledFor(mapping) ? plan : DocumentBuildingPlan.compile(mapping));
+    }
+
     protected void addFieldValueToEntityIndexContent(ObjectNode entityIndexContent, MappingFieldDescriptor field, Object entity) {
         log.trace("Extract value of property '{}' from entity {}", field.getMetaPropertyPath(), entity);
         JsonNode propertyValue = field.getValue(entity);
@@ -9,6 +9,8 @@ import io.jmix.search.index.mapping.IndexMappingConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -21,6 +23,8 @@ public abstract class BaseIndexManager<TState, TSettings, TJsonp> implements Ind
 
     private static final Logger log = LoggerFactory.getLogger(BaseIndexManager.class);
 
+    protected static final DateTimeFormatter INDEX_VERSION_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+
     protected final IndexConfigurationManager indexConfigurationManager;
     protected final IndexStateRegistry indexStateRegistry;
     protected final SearchProperties searchProperties;
@@ -43,6 +47,17 @@ public abstract class BaseIndexManager<TState, TSettings, TJsonp> implements Ind
         this.objectMapper = new ObjectMapper();
     }
 
+    @Override
+    public String createIndexVersion(IndexConfiguration indexConfiguration) {
+        Preconditions.checkNotNullArgument(indexConfiguration);
+
+        String indexVersionName = indexConfiguration.getIndexName() + "_v" + LocalDateTime.now().format(INDEX_VERSION_FORMATTER);
+        if (!createIndex(indexConfiguration, indexVersionName)) {
+            throw new IllegalStateException("Failed to create index '" + indexVersionName + "'");
+        }
+        return indexVersionName;
+    }
+
     @Override
     public Map<IndexConfiguration, Boolean> recreateIndexes() {
         Collection<IndexConfiguration> indexConfigurations = indexConfigurationManager.getAllIndexConfigurations();
@@ -245,4 +260,10 @@ public abstract class BaseIndexManager<TState, TSettings, TJsonp> implements Ind
     }
 
     protected abstract boolean putMapping(String indexName, IndexMappingConfiguration mapping);
+
+    /**
+     * Creates index with the provided name using mapping and settings of provided {@link IndexConfiguration}.
+     * Doesn't change availability of the configured index.
+     */
+    protected abstract boolean createIndex(IndexConfiguration indexConfiguration, String indexName);
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.search.index.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.jmix.search.index.mapping.DisplayedNameDescriptor;
+import io.jmix.search.index.mapping.IndexMappingConfiguration;
+import io.jmix.search.index.mapping.MappingFieldDescriptor;
+
+import java.util.*;
+
+/**
+ * Plan of building of index documents compiled once for an {@link IndexMappingConfiguration}.
+ * <p>
+ * Index property names of fields are split into paths and intermediate objects of the document are numbered when the
+ * plan is compiled, so building of a document writes extracted values directly into the document tree: it doesn't
+ * create a separate tree for every field and doesn't merge it into the document.
+ * <p>
+ * The plan is immutable and can be used by several threads at once.
+ */
+public class DocumentBuildingPlan {
+
+    protected final IndexMappingConfiguration mapping;
+    protected final List<FieldStep> fieldSteps;
+    protected final String[] objectNames;
+    protected final int[] objectParents;
+
+    protected DocumentBuildingPlan(IndexMappingConfiguration mapping,
+                                   List<FieldStep> fieldSteps,
+                                   String[] objectNames,
+                                   int[] objectParents) {
+        this.mapping = mapping;
+        this.fieldSteps = fieldSteps;
+        this.objectNames = objectNames;
+        this.objectParents = objectParents;
+    }
+
+    /**
+     * Compiles the plan of building of documents for the provided mapping.
+     *
+     * @param mapping mapping of an index
+     * @return compiled plan
+     */
+    public static DocumentBuildingPlan compile(IndexMappingConfiguration mapping) {
+        List<FieldStep> fieldSteps = new ArrayList<>();
+        List<String> objectNames = new ArrayList<>();
+        List<Integer> objectParents = new ArrayList<>();
+        Map<String, Integer> objectIndexes = new HashMap<>();
+        // the root object of the document
+        objectNames.add(null);
+        objectParents.add(-1);
+        objectIndexes.put("", 0);
+
+        for (MappingFieldDescriptor field : mapping.getFields().values()) {
+            if (field.isStandalone()) {
+                continue;
+            }
+            String[] names = field.getIndexPropertyFullName().split("\\.");
+            int objectIndex = 0;
+            StringBuilder path = new StringBuilder();
+            for (int i = 0; i < names.length - 1; i++) {
+                path.append('.').append(names[i]);
+                int parentIndex = objectIndex;
+                String name = names[i];
+                objectIndex = objectIndexes.computeIfAbsent(path.toString(), key -> {
+                    objectNames.add(name);
+                    objectParents.add(parentIndex);
+                    return objectNames.size() - 1;
+                });
+            }
+            fieldSteps.add(new FieldStep(field, objectIndex, names[names.length - 1]));
+        }
+
+        return new DocumentBuildingPlan(mapping,
+                Collections.unmodifiableList(fieldSteps),
+                objectNames.toArray(new String[0]),
+                objectParents.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * @param mapping mapping of an index
+     * @return whether the plan has been compiled for the provided mapping
+     */
+    public boolean isCompiledFor(IndexMappingConfiguration mapping) {
+        return this.mapping == mapping;
+    }
+
+    /**
+     * Builds index document for the provided entity instance.
+     *
+     * @param instance entity instance
+     * @return document source
+     */
+    public ObjectNode buildDocument(Object instance) {
+        ObjectNode[] objects = new ObjectNode[objectNames.length];
+        objects[0] = JsonNodeFactory.instance.objectNode();
+
+        for (FieldStep fieldStep : fieldSteps) {
+            JsonNode value = fieldStep.field().getValue(instance);
+            if (value.isNull()) {
+                continue;
+            }
+            ObjectNode parent = getObject(objects, fieldStep.objectIndex());
+            JsonNode existingValue = parent.get(fieldStep.name());
+            if (existingValue instanceof ObjectNode && value instanceof ObjectNode) {
+                mergeObjects((ObjectNode) value, (ObjectNode) existingValue);
+            } else {
+                parent.set(fieldStep.name(), value);
+            }
+        }
+
+        DisplayedNameDescriptor displayedNameDescriptor = mapping.getDisplayedNameDescriptor();
+        objects[0].set(displayedNameDescriptor.getIndexPropertyFullName(), displayedNameDescriptor.getValue(instance));
+        return objects[0];
+    }
+
+    protected ObjectNode getObject(ObjectNode[] objects, int objectIndex) {
+        ObjectNode object = objects[objectIndex];
+        if (object == null) {
+            ObjectNode parent = getObject(objects, objectParents[objectIndex]);
+            JsonNode existingValue = parent.get(objectNames[objectIndex]);
+            object = existingValue instanceof ObjectNode
+                    ? (ObjectNode) existingValue
+                    : parent.putObject(objectNames[objectIndex]);
+            objects[objectIndex] = object;
+        }
+        return object;
+    }
+
+    protected void mergeObjects(ObjectNode source, ObjectNode target) {
+        source.fields().forEachRemaining(entry -> {
+            JsonNode existingValue = target.get(entry.getKey());
+            if (existingValue instanceof ObjectNode && entry.getValue() instanceof ObjectNode) {
+                mergeObjects((ObjectNode) entry.getValue(), (ObjectNode) existingValue);
+            } else {
+                target.set(entry.getKey(), entry.getValue());
+            }
+        });
+    }
+
+    /**
+     * Writes value of the field into the object with the index into the property with the name.
+     */
+    protected record FieldStep(MappingFieldDescriptor field, int objectIndex, String name) {
+    }
+}
@@ -49,7 +49,13 @@ public abstract class IndexStateResolver<TState, TJsonp> {
 
     @Nullable
     public TState getState(String indexName) {
-        return getIndexMetadataMapInternal(indexName).get(indexName);
+        Map<String, TState> indexMetadataMap = getIndexMetadataMapInternal(indexName);
+        TState indexState = indexMetadataMap.get(indexName);
+        if (indexState == null && indexMetadataMap.size() == 1) {
+            // the name is an alias of the single index version
+            indexState = indexMetadataMap.values().iterator().next();
+        }
+        return indexState;
     }
 
     protected abstract Map<String, TState> getIndexMetadataMapInternal(String indexName);
@@ -31,7 +31,9 @@ import java.util.UUID;
 
 @JmixEntity
 @Table(name = "SEARCH_INDEXING_QUEUE", indexes = {
-        @Index(name = "IDX_SEARCH_IDXNG_QUEUE_E_NAME", columnList = "ENTITY_NAME")
+        @Index(name = "IDX_SEARCH_IDXNG_QUEUE_E_NAME", columnList = "ENTITY_NAME"),
+        @Index(name = "IDX_SEARCH_IDXNG_QUEUE_E_ID", columnList = "ENTITY_ID"),
+        @Index(name = "IDX_SEARCH_IDXNG_QUEUE_PART", columnList = "PARTITION_NUMBER")
 })
 @Entity(name = "search_IndexingQueue")
 public class IndexingQueueItem {
@@ -52,6 +54,9 @@ public class IndexingQueueItem {
     @Column(name = "ENTITY_NAME")
     private String entityName;
 
+    @Column(name = "PARTITION_NUMBER")
+    private Integer partitionNumber;
+
     @CreatedBy
     @Column(name = "CREATED_BY")
     private String createdBy;
@@ -84,6 +89,14 @@ public class IndexingQueueItem {
         this.operation = operation.getId();
     }
 
+    public Integer getPartitionNumber() {
+        return partitionNumber;
+    }
+
+    public void setPartitionNumber(Integer partitionNumber) {
+        this.partitionNumber = partitionNumber;
+    }
+
     public Date getCreatedDate() {
         return createdDate;
     }
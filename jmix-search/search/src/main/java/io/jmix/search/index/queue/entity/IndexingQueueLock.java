@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.search.index.queue.entity;
+
+import io.jmix.core.metamodel.annotation.InstanceName;
+import io.jmix.core.metamodel.annotation.JmixEntity;
+
+import jakarta.persistence.*;
+import java.util.Date;
+
+/**
+ * Lease that suspends processing of Indexing Queue items of an entity on all nodes of a cluster, e.g. while the entity
+ * is being reindexed into a new index version.
+ */
+@JmixEntity
+@Table(name = "SEARCH_INDEXING_QUEUE_LOCK")
+@Entity(name = "search_IndexingQueueLock")
+public class IndexingQueueLock {
+
+    @InstanceName
+    @Id
+    @Column(name = "ENTITY_NAME", nullable = false)
+    private String entityName;
+
+    @Column(name = "OWNER")
+    private String owner;
+
+    @Column(name = "EXPIRES_AT")
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date expiresAt;
+
+    public String getEntityName() {
+        return entityName;
+    }
+
+    public void setEntityName(String entityName) {
+        this.entityName = entityName;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public Date getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Date expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.search.index.queue.entity;
+
+import io.jmix.core.metamodel.annotation.InstanceName;
+import io.jmix.core.metamodel.annotation.JmixEntity;
+
+import jakarta.persistence.*;
+import java.util.Date;
+
+/**
+ * Node of a cluster taking part in processing of Indexing Queue partitions.
+ */
+@JmixEntity
+@Table(name = "SEARCH_INDEXING_QUEUE_NODE")
+@Entity(name = "search_IndexingQueueNode")
+public class IndexingQueueNode {
+
+    @InstanceName
+    @Id
+    @Column(name = "NODE_ID", nullable = false)
+    private String nodeId;
+
+    @Column(name = "HEARTBEAT_EXPIRES_AT")
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date heartbeatExpiresAt;
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public Date getHeartbeatExpiresAt() {
+        return heartbeatExpiresAt;
+    }
+
+    public void setHeartbeatExpiresAt(Date heartbeatExpiresAt) {
+        this.heartbeatExpiresAt = heartbeatExpiresAt;
+    }
+}
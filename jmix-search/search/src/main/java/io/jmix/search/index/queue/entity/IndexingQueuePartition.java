@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.search.index.queue.entity;
+
+import io.jmix.core.metamodel.annotation.InstanceName;
+import io.jmix.core.metamodel.annotation.JmixEntity;
+
+import jakarta.persistence.*;
+import java.util.Date;
+
+/**
+ * Lease of a partition of Indexing Queue by a node of a cluster.
+ */
+@JmixEntity
+@Table(name = "SEARCH_INDEXING_QUEUE_PARTITION")
+@Entity(name = "search_IndexingQueuePartition")
+public class IndexingQueuePartition {
+
+    @InstanceName
+    @Id
+    @Column(name = "PARTITION_NUMBER", nullable = false)
+    private Integer number;
+
+    @Column(name = "OWNER")
+    private String owner;
+
+    @Column(name = "LEASE_EXPIRES_AT")
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date leaseExpiresAt;
+
+    public Integer getNumber() {
+        return number;
+    }
+
+    public void setNumber(Integer number) {
+        this.number = number;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public Date getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(Date leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+}
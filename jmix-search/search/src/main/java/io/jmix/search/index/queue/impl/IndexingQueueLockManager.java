@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.search.index.queue.impl;
+
+import io.jmix.core.Metadata;
+import io.jmix.core.Stores;
+import io.jmix.core.TimeSource;
+import io.jmix.data.StoreAwareLocator;
+import io.jmix.search.SearchProperties;
+import io.jmix.search.index.queue.entity.IndexingQueueLock;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+
+/**
+ * Suspends processing of Indexing Queue items of an entity on all nodes of a cluster.
+ * <p>
+ * Locks are stored in the main data store as {@link IndexingQueueLock} leases owned by
+ * {@link IndexingQueuePartitionManager#getNodeId()}. Items of a locked entity are skipped by dequeueing on every node,
+ * see {@link JpaIndexingQueueManager#createDequeueLoadContext}. The owner must renew a lock within
+ * {@link SearchProperties#getIndexingQueuePartitionLeaseTimeoutSec()}, otherwise the lock expires and the queue
+ * is processed again.
+ */
+@Component("search_IndexingQueueLockManager")
+public class IndexingQueueLockManager {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexingQueueLockManager.class);
+
+    @Autowired
+    protected SearchProperties searchProperties;
+    @Autowired
+    protected Metadata metadata;
+    @Autowired
+    protected StoreAwareLocator storeAwareLocator;
+    @Autowired
+    protected TimeSource timeSource;
+    @Autowired
+    protected IndexingQueuePartitionManager partitionManager;
+
+    /**
+     * Locks processing of queue items of the entity if it's not locked by another node.
+     *
+     * @param entityName entity name
+     * @return true if the lock has been acquired
+     */
+    public boolean tryLock(String entityName) {
+        String owner = partitionManager.getNodeId();
+        try {
+            Boolean locked = getTransactionTemplate().execute(status -> {
+                EntityManager entityManager = storeAwareLocator.getEntityManager(Stores.MAIN);
+                Date now = timeSource.currentTimestamp();
+                Query query = entityManager.createQuery("update search_IndexingQueueLock l " +
+                        "set l.owner = :owner, l.expiresAt = :expiresAt " +
+                        "where l.entityName = :entityName and (l.owner is null or l.expiresAt is null or l.expiresAt <= :now)");
+                query.setParameter("owner", owner);
+                query.setParameter("expiresAt", getExpiresAt(now));
+                query.setParameter("entityName", entityName);
+                query.setParameter("now", now);
+                if (query.executeUpdate() == 1) {
+                    return true;
+                }
+                if (entityManager.find(IndexingQueueLock.class, entityName) != null) {
+                    return false;
+                }
+                IndexingQueueLock lock = metadata.create(IndexingQueueLock.class);
+                lock.setEntityName(entityName);
+                lock.setOwner(owner);
+                lock.setExpiresAt(getExpiresAt(now));
+                entityManager.persist(lock);
+                return true;
+            });
+            return Boolean.TRUE.equals(locked);
+        } catch (RuntimeException e) {
+            // the lock has been created by another node concurrently
+            log.debug("Unable to lock queue processing of entity '{}': {}", entityName, e.toString());
+            return false;
+        }
+    }
+
+    /**
+     * Prolongs the lock held by the current node.
+     *
+     * @param entityName entity name
+     * @return false if the lock is not held by the current node anymore
+     */
+    public boolean renew(String entityName) {
+        Integer updated = getTransactionTemplate().execute(status -> {
+            EntityManager entityManager = storeAwareLocator.getEntityManager(Stores.MAIN);
+            Query query = entityManager.createQuery("update search_IndexingQueueLock l " +
+                    "set l.expiresAt = :expiresAt where l.entityName = :entityName and l.owner = :owner");
+            query.setParameter("expiresAt", getExpiresAt(timeSource.currentTimestamp()));
+            query.setParameter("entityName", entityName);
+            query.setParameter("owner", partitionManager.getNodeId());
+            return query.executeUpdate();
+        });
+        return updated != null && updated == 1;
+    }
+
+    /**
+     * Releases the lock held by the current node.
+     *
+     * @param entityName entity name
+     */
+    public void unlock(String entityName) {
+        try {
+            getTransactionTemplate().executeWithoutResult(status -> {
+                EntityManager entityManager = storeAwareLocator.getEntityManager(Stores.MAIN);
+                Query query = entityManager.createQuery("delete from search_IndexingQueueLock l " +
+                        "where l.entityName = :entityName and l.owner = :owner");
+                query.setParameter("entityName", entityName);
+                query.setParameter("owner", partitionManager.getNodeId());
+                query.executeUpdate();
+            });
+        } catch (RuntimeException e) {
+            log.warn("Unable to unlock queue processing of entity '{}', the lock will expire", entityName, e);
+        }
+    }
+
+    /**
+     * @return lock lease duration in milliseconds
+     */
+    public long getLeaseTimeoutMillis() {
+        return searchProperties.getIndexingQueuePartitionLeaseTimeoutSec() * 1000L;
+    }
+
+    protected Date getExpiresAt(Date now) {
+        return new Date(now.getTime() + getLeaseTimeoutMillis());
+    }
+
+    protected TransactionTemplate getTransactionTemplate() {
+        TransactionTemplate transactionTemplate = storeAwareLocator.getTransactionTemplate(Stores.MAIN);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate;
+    }
+}
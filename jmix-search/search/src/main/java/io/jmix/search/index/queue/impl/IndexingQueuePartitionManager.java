@@ -0,0 +1,315 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.search.index.queue.impl;
+
+import io.jmix.core.Metadata;
+import io.jmix.core.Stores;
+import io.jmix.core.TimeSource;
+import io.jmix.data.StoreAwareLocator;
+import io.jmix.search.SearchProperties;
+import io.jmix.search.index.queue.entity.IndexingQueueNode;
+import io.jmix.search.index.queue.entity.IndexingQueuePartition;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Distributes partitions of Indexing Queue among nodes of a cluster.
+ * <p>
+ * A queue item belongs to the partition determined by the hash of its entity name and entity id, so all items of an
+ * entity instance are processed by one node in the order of their creation. A node processes only partitions leased
+ * by it. Leases are stored in the main data store and are acquired and renewed by conditional updates, so the same
+ * partition can't be leased by two nodes at once. Every node acquiring partitions registers a heartbeat, and partitions
+ * are distributed evenly among nodes with an actual heartbeat: a node exceeding its share releases extra partitions,
+ * and partitions of a node that stopped renewing its leases become available after
+ * {@link SearchProperties#getIndexingQueuePartitionLeaseTimeoutSec()}.
+ * <p>
+ * Partitioning is enabled if {@link SearchProperties#getIndexingQueuePartitionCount()} is greater than 1.
+ * <p>
+ * A partition of a queue item is stored on enqueueing and is not recalculated if the partition count changes: items
+ * with a partition beyond the new count are processed by the owner of partition 0, the others by the owner of their
+ * stored partition. Until such items are processed, items of the same instance may be processed by different nodes,
+ * so the queue should be processed entirely before the partition count is changed. All nodes must use the same count.
+ */
+@Component("search_IndexingQueuePartitionManager")
+public class IndexingQueuePartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexingQueuePartitionManager.class);
+
+    @Autowired
+    protected SearchProperties searchProperties;
+    @Autowired
+    protected Metadata metadata;
+    @Autowired
+    protected StoreAwareLocator storeAwareLocator;
+    @Autowired
+    protected TimeSource timeSource;
+
+    protected final String nodeId = createNodeId();
+
+    /**
+     * @return whether queue items are processed only by owners of their partitions
+     */
+    public boolean isPartitioningEnabled() {
+        return getPartitionCount() > 1;
+    }
+
+    public int getPartitionCount() {
+        return searchProperties.getIndexingQueuePartitionCount();
+    }
+
+    /**
+     * @return identifier of the current node used as an owner of leased partitions
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Resolves partition of queue items of the provided entity instance.
+     *
+     * @param entityName entity name
+     * @param entityId   serialized entity id
+     * @return partition number
+     */
+    public int getPartitionNumber(String entityName, String entityId) {
+        int partitionCount = getPartitionCount();
+        return partitionCount > 1 ? Math.floorMod(Objects.hash(entityName, entityId), partitionCount) : 0;
+    }
+
+    /**
+     * Renews leases of the current node, releases partitions exceeding its share and leases free or expired
+     * partitions up to its share.
+     *
+     * @return numbers of partitions leased by the current node
+     */
+    public Set<Integer> acquirePartitions() {
+        int partitionCount = getPartitionCount();
+        createMissingPartitions(partitionCount);
+
+        TransactionTemplate transactionTemplate = storeAwareLocator.getTransactionTemplate(Stores.MAIN);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Set<Integer> result = transactionTemplate.execute(status -> {
+            EntityManager entityManager = storeAwareLocator.getEntityManager(Stores.MAIN);
+            Date now = timeSource.currentTimestamp();
+            Date leaseExpiresAt = new Date(now.getTime() + searchProperties.getIndexingQueuePartitionLeaseTimeoutSec() * 1000L);
+
+            Query renewQuery = entityManager.createQuery("update search_IndexingQueuePartition p " +
+                    "set p.leaseExpiresAt = :leaseExpiresAt where p.owner = :owner and p.number < :partitionCount");
+            renewQuery.setParameter("leaseExpiresAt", leaseExpiresAt);
+            renewQuery.setParameter("owner", nodeId);
+            renewQuery.setParameter("partitionCount", partitionCount);
+            renewQuery.executeUpdate();
+
+            int activeNodes = registerHeartbeat(entityManager, now, leaseExpiresAt);
+
+            List<IndexingQueuePartition> partitions = entityManager.createQuery(
+                            "select p from search_IndexingQueuePartition p where p.number < :partitionCount order by p.number",
+                            IndexingQueuePartition.class)
+                    .setParameter("partitionCount", partitionCount)
+                    .getResultList();
+
+            Set<Integer> leased = partitions.stream()
+                    .filter(partition -> nodeId.equals(partition.getOwner()))
+                    .map(IndexingQueuePartition::getNumber)
+                    .collect(Collectors.toCollection(TreeSet::new));
+            int share = (partitionCount + activeNodes - 1) / activeNodes;
+
+            if (leased.size() > share) {
+                List<Integer> extraPartitions = leased.stream()
+                        .skip(share)
+                        .collect(Collectors.toList());
+                Query releaseQuery = entityManager.createQuery("update search_IndexingQueuePartition p " +
+                        "set p.owner = null, p.leaseExpiresAt = null where p.owner = :owner and p.number in :numbers");
+                releaseQuery.setParameter("owner", nodeId);
+                releaseQuery.setParameter("numbers", extraPartitions);
+                releaseQuery.executeUpdate();
+                extraPartitions.forEach(leased::remove);
+                log.debug("Released queue partitions {} exceeding share {}", extraPartitions, share);
+            } else {
+                for (IndexingQueuePartition partition : partitions) {
+                    if (leased.size() >= share) {
+                        break;
+                    }
+                    if (!leased.contains(partition.getNumber()) && isFree(partition, now)) {
+                        Query leaseQuery = entityManager.createQuery("update search_IndexingQueuePartition p " +
+                                "set p.owner = :owner, p.leaseExpiresAt = :leaseExpiresAt " +
+                                "where p.number = :number and (p.owner is null or p.leaseExpiresAt is null or p.leaseExpiresAt <= :now)");
+                        leaseQuery.setParameter("owner", nodeId);
+                        leaseQuery.setParameter("leaseExpiresAt", leaseExpiresAt);
+                        leaseQuery.setParameter("number", partition.getNumber());
+                        leaseQuery.setParameter("now", now);
+                        if (leaseQuery.executeUpdate() == 1) {
+                            leased.add(partition.getNumber());
+                        }
+                    }
+                }
+            }
+            log.debug("Queue partitions leased by node '{}': {}", nodeId, leased);
+            return leased;
+        });
+        return result == null ? Collections.emptySet() : result;
+    }
+
+    /**
+     * Prolongs leases of the provided partitions if all of them are still leased by the current node. The partitions
+     * stay locked until the end of the current transaction, so another node can't lease them meanwhile.
+     *
+     * @param partitions partitions leased by {@link #acquirePartitions()}
+     * @return false if any partition has been lost, e.g. its lease expired and it was leased by another node
+     */
+    public boolean renewPartitions(Set<Integer> partitions) {
+        if (partitions.isEmpty()) {
+            return true;
+        }
+        TransactionTemplate transactionTemplate = storeAwareLocator.getTransactionTemplate(Stores.MAIN);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+        Integer renewed = transactionTemplate.execute(status -> {
+            EntityManager entityManager = storeAwareLocator.getEntityManager(Stores.MAIN);
+            Date now = timeSource.currentTimestamp();
+            Query query = entityManager.createQuery("update search_IndexingQueuePartition p " +
+                    "set p.leaseExpiresAt = :leaseExpiresAt " +
+                    "where p.owner = :owner and p.number in :numbers and p.leaseExpiresAt > :now");
+            query.setParameter("leaseExpiresAt", new Date(now.getTime() + searchProperties.getIndexingQueuePartitionLeaseTimeoutSec() * 1000L));
+            query.setParameter("owner", nodeId);
+            query.setParameter("numbers", partitions);
+            query.setParameter("now", now);
+            return query.executeUpdate();
+        });
+        boolean valid = renewed != null && renewed == partitions.size();
+        if (!valid) {
+            log.warn("Queue partitions {} are no longer leased by node '{}'", partitions, nodeId);
+        }
+        return valid;
+    }
+
+    /**
+     * Releases all partitions leased by the current node.
+     */
+    @PreDestroy
+    public void releasePartitions() {
+        if (!isPartitioningEnabled()) {
+            return;
+        }
+        try {
+            TransactionTemplate transactionTemplate = storeAwareLocator.getTransactionTemplate(Stores.MAIN);
+            transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            transactionTemplate.executeWithoutResult(status -> {
+                EntityManager entityManager = storeAwareLocator.getEntityManager(Stores.MAIN);
+                Query query = entityManager.createQuery("update search_IndexingQueuePartition p " +
+                        "set p.owner = null, p.leaseExpiresAt = null where p.owner = :owner");
+                query.setParameter("owner", nodeId);
+                int released = query.executeUpdate();
+
+                Query nodeQuery = entityManager.createQuery("delete from search_IndexingQueueNode n where n.nodeId = :nodeId");
+                nodeQuery.setParameter("nodeId", nodeId);
+                nodeQuery.executeUpdate();
+                log.debug("Released {} queue partitions leased by node '{}'", released, nodeId);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Unable to release queue partitions leased by node '{}'", nodeId, e);
+        }
+    }
+
+    /**
+     * Prolongs heartbeat of the current node and removes nodes with expired heartbeats.
+     *
+     * @return number of nodes with an actual heartbeat including the current one
+     */
+    protected int registerHeartbeat(EntityManager entityManager, Date now, Date heartbeatExpiresAt) {
+        Query deleteQuery = entityManager.createQuery("delete from search_IndexingQueueNode n " +
+                "where n.heartbeatExpiresAt <= :now and n.nodeId <> :nodeId");
+        deleteQuery.setParameter("now", now);
+        deleteQuery.setParameter("nodeId", nodeId);
+        deleteQuery.executeUpdate();
+
+        Query updateQuery = entityManager.createQuery("update search_IndexingQueueNode n " +
+                "set n.heartbeatExpiresAt = :heartbeatExpiresAt where n.nodeId = :nodeId");
+        updateQuery.setParameter("heartbeatExpiresAt", heartbeatExpiresAt);
+        updateQuery.setParameter("nodeId", nodeId);
+        if (updateQuery.executeUpdate() == 0) {
+            IndexingQueueNode node = metadata.create(IndexingQueueNode.class);
+            node.setNodeId(nodeId);
+            node.setHeartbeatExpiresAt(heartbeatExpiresAt);
+            entityManager.persist(node);
+        }
+
+        Long otherNodes = entityManager.createQuery("select count(n) from search_IndexingQueueNode n " +
+                        "where n.nodeId <> :nodeId and n.heartbeatExpiresAt > :now", Long.class)
+                .setParameter("nodeId", nodeId)
+                .setParameter("now", now)
+                .getSingleResult();
+        return otherNodes.intValue() + 1;
+    }
+
+    protected boolean isFree(IndexingQueuePartition partition, Date now) {
+        return partition.getOwner() == null
+                || partition.getLeaseExpiresAt() == null
+                || !partition.getLeaseExpiresAt().after(now);
+    }
+
+    protected void createMissingPartitions(int partitionCount) {
+        TransactionTemplate transactionTemplate = storeAwareLocator.getTransactionTemplate(Stores.MAIN);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Long existing = transactionTemplate.execute(status -> storeAwareLocator.getEntityManager(Stores.MAIN)
+                .createQuery("select count(p) from search_IndexingQueuePartition p where p.number < :partitionCount", Long.class)
+                .setParameter("partitionCount", partitionCount)
+                .getSingleResult());
+        if (existing != null && existing >= partitionCount) {
+            return;
+        }
+
+        for (int number = 0; number < partitionCount; number++) {
+            int partitionNumber = number;
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    EntityManager entityManager = storeAwareLocator.getEntityManager(Stores.MAIN);
+                    if (entityManager.find(IndexingQueuePartition.class, partitionNumber) == null) {
+                        IndexingQueuePartition partition = metadata.create(IndexingQueuePartition.class);
+                        partition.setNumber(partitionNumber);
+                        entityManager.persist(partition);
+                    }
+                });
+            } catch (RuntimeException e) {
+                // the partition has been created by another node concurrently
+                log.debug("Unable to create queue partition {}: {}", partitionNumber, e.toString());
+            }
+        }
+    }
+
+    protected String createNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "/" + UUID.randomUUID();
+    }
+}
@@ -16,11 +16,13 @@
 
 package io.jmix.search.index.queue.impl;
 
+import com.google.common.collect.Lists;
 import io.jmix.core.*;
 import io.jmix.core.common.util.Preconditions;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.security.SystemAuthenticator;
 import io.jmix.data.StoreAwareLocator;
+import io.jmix.data.persistence.DbmsType;
 import io.jmix.search.SearchProperties;
 import io.jmix.search.index.EntityIndexer;
 import io.jmix.search.index.IndexConfiguration;
@@ -33,12 +35,18 @@ import io.jmix.search.index.queue.EntityIdsLoader.ResultHolder;
 import io.jmix.search.index.queue.IndexingQueueManager;
 import io.jmix.search.index.queue.entity.EnqueueingSession;
 import io.jmix.search.index.queue.entity.IndexingQueueItem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.apache.commons.collections4.MapUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import jakarta.persistence.EntityManager;
@@ -49,11 +57,28 @@ import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 
+/**
+ * Stores Indexing Queue in the main data store.
+ * <p>
+ * If {@link SearchProperties#isIndexingQueueCoalescingEnabled()} is true, the queue keeps at most one pending item per
+ * entity instance and operation, and processing of a batch also removes pending items of the same instances beyond
+ * the batch. Effect of coalescing is reported by the {@code jmix.search.IndexingQueue.items} counter tagged by
+ * outcome ({@code requested}, {@code coalesced}, {@code collapsed}) and the {@code jmix.search.IndexingQueue.dedupRatio}
+ * gauge.
+ * <p>
+ * If {@link SearchProperties#getIndexingQueuePartitionCount()} is greater than 1, the queue is processed concurrently
+ * by nodes of a cluster: each node processes only items of partitions leased by it,
+ * see {@link IndexingQueuePartitionManager}.
+ */
 @Component("search_JpaIndexingQueueManager")
 public class JpaIndexingQueueManager implements IndexingQueueManager {
 
     private static final Logger log = LoggerFactory.getLogger(JpaIndexingQueueManager.class);
 
+    protected static final String ITEMS_COUNTER_NAME = "jmix.search.IndexingQueue.items";
+    protected static final String DEDUP_RATIO_GAUGE_NAME = "jmix.search.IndexingQueue.dedupRatio";
+    protected static final int COALESCING_IDS_CHUNK_SIZE = 500;
+
     @Autowired
     protected UnconstrainedDataManager dataManager;
     @Autowired
@@ -80,6 +105,29 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
     protected EnqueueingSessionManager enqueueingSessionManager;
     @Autowired
     protected EntityIdsLoaderProvider entityIdsLoaderProvider;
+    @Autowired
+    protected MeterRegistry meterRegistry;
+    @Autowired
+    protected IndexingQueuePartitionManager partitionManager;
+    @Autowired
+    protected TimeSource timeSource;
+    @Autowired
+    protected DbmsType dbmsType;
+
+    protected Counter requestedItemsCounter;
+    protected Counter coalescedItemsCounter;
+    protected Counter collapsedItemsCounter;
+
+    @PostConstruct
+    protected void initMetrics() {
+        requestedItemsCounter = meterRegistry.counter(ITEMS_COUNTER_NAME, "outcome", "requested");
+        coalescedItemsCounter = meterRegistry.counter(ITEMS_COUNTER_NAME, "outcome", "coalesced");
+        collapsedItemsCounter = meterRegistry.counter(ITEMS_COUNTER_NAME, "outcome", "collapsed");
+        meterRegistry.gauge(DEDUP_RATIO_GAUGE_NAME, this, manager -> {
+            double requested = manager.requestedItemsCounter.count();
+            return requested == 0 ? 0 : (manager.coalescedItemsCounter.count() + manager.collapsedItemsCounter.count()) / requested;
+        });
+    }
 
     @Override
     public int emptyQueue() {
@@ -446,8 +494,16 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
 
             List<IndexingQueueItem> queueItems;
             do {
+                Set<Integer> partitions = null;
+                if (partitionManager.isPartitioningEnabled()) {
+                    partitions = partitionManager.acquirePartitions();
+                    if (partitions.isEmpty()) {
+                        log.debug("Unable to process queue: no partitions are leased by the node");
+                        break;
+                    }
+                }
                 List<String> unavailableEntities = indexStateRegistry.getAllUnavailableIndexedEntities();
-                LoadContext<IndexingQueueItem> loadContext = createDequeueLoadContext(unavailableEntities, batchSize);
+                LoadContext<IndexingQueueItem> loadContext = createDequeueLoadContext(unavailableEntities, partitions, batchSize);
                 log.trace("Dequeue items by load context: {}", loadContext);
                 queueItems = dataManager.loadList(loadContext);
                 log.debug("Dequeued {} items: {}", queueItems.size(), queueItems);
@@ -455,11 +511,20 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
                 if (queueItems.isEmpty()) {
                     break;
                 }
-                List<IndexingQueueItem> successfullyProcessedQueueItems = processQueueItems(queueItems);
-
-                SaveContext saveContext = new SaveContext();
-                saveContext.removing(successfullyProcessedQueueItems);
-                dataManager.save(saveContext);
+                if (partitions != null && !partitionManager.renewPartitions(partitions)) {
+                    log.info("Abort processing queue: partitions have been lost before processing the batch");
+                    break;
+                }
+                List<IndexingQueueItem> itemsToProcess =
+                        searchProperties.isIndexingQueueCoalescingEnabled() && isPendingItemsReplacementSupported()
+                        ? addPendingItemsOfSameInstances(queueItems)
+                        : queueItems;
+                List<IndexingQueueItem> successfullyProcessedQueueItems = processQueueItems(itemsToProcess);
+
+                if (!removeProcessedItems(successfullyProcessedQueueItems, partitions)) {
+                    log.info("Abort processing queue: partitions have been lost during processing the batch");
+                    break;
+                }
 
                 count += successfullyProcessedQueueItems.size();
             } while (processEntireQueue && queueItems.size() == batchSize);
@@ -472,13 +537,70 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
         return count;
     }
 
+    /**
+     * Removes processed items if the partitions are still leased by the current node. The leases are checked in the
+     * same transaction, so items of a partition taken over by another node are left for it. Their instances are
+     * indexed once more by the new owner.
+     *
+     * @param partitions partitions leased by the node or null if partitioning is disabled
+     * @return false if the partitions have been lost and the items are not removed
+     */
+    protected boolean removeProcessedItems(List<IndexingQueueItem> processedItems, @Nullable Set<Integer> partitions) {
+        TransactionTemplate transactionTemplate = storeAwareLocator.getTransactionTemplate(Stores.MAIN);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Boolean removed = transactionTemplate.execute(status -> {
+            if (partitions != null && !partitionManager.renewPartitions(partitions)) {
+                return false;
+            }
+            SaveContext saveContext = new SaveContext();
+            saveContext.removing(processedItems);
+            dataManager.save(saveContext);
+            return true;
+        });
+        return Boolean.TRUE.equals(removed);
+    }
+
     protected LoadContext<IndexingQueueItem> createDequeueLoadContext(List<String> unavailableEntities, int batchSize) {
+        return createDequeueLoadContext(unavailableEntities, null, batchSize);
+    }
+
+    /**
+     * Creates load context of the next queue batch.
+     * <p>
+     * Owner of partition 0 also processes items without a partition or with a partition beyond the current
+     * partition count, i.e. items enqueued before partitioning has been enabled or reconfigured.
+     * <p>
+     * Items of entities locked cluster-wide by {@link IndexingQueueLockManager} are skipped. The lock is checked by
+     * a subquery, so an item is either dequeued before the lock is committed or stays in the queue until unlocking.
+     *
+     * @param unavailableEntities entities which items are skipped
+     * @param partitions          partitions leased by the node or null if partitioning is disabled
+     * @param batchSize           max amount of items
+     */
+    protected LoadContext<IndexingQueueItem> createDequeueLoadContext(List<String> unavailableEntities,
+                                                                      @Nullable Set<Integer> partitions,
+                                                                      int batchSize) {
         LoadContext.Query query = new LoadContext.Query("");
-        StringBuilder sb = new StringBuilder("select q from search_IndexingQueue q");
+        List<String> conditions = new ArrayList<>();
+        conditions.add("q.entityName not in (select l.entityName from search_IndexingQueueLock l where l.expiresAt > :now)");
+        query.setParameter("now", timeSource.currentTimestamp());
         if (!unavailableEntities.isEmpty()) {
-            sb.append(" where q.entityName not in :unavailableEntities");
+            conditions.add("q.entityName not in :unavailableEntities");
             query.setParameter("unavailableEntities", unavailableEntities);
         }
+        if (partitions != null) {
+            if (partitions.contains(0)) {
+                conditions.add("(q.partitionNumber in :partitions or q.partitionNumber is null or q.partitionNumber >= :partitionCount)");
+                query.setParameter("partitionCount", partitionManager.getPartitionCount());
+            } else {
+                conditions.add("q.partitionNumber in :partitions");
+            }
+            query.setParameter("partitions", partitions);
+        }
+        StringBuilder sb = new StringBuilder("select q from search_IndexingQueue q");
+        if (!conditions.isEmpty()) {
+            sb.append(" where ").append(String.join(" and ", conditions));
+        }
         sb.append(" order by q.createdDate asc");
         query.setQueryString(sb.toString());
         query.setMaxResults(batchSize);
@@ -486,11 +608,38 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
         return new LoadContext<IndexingQueueItem>(metadata.getClass(IndexingQueueItem.class)).setQuery(query);
     }
 
+    /**
+     * Adds pending items related to the same entity instances as the dequeued ones. They are processed and removed
+     * together with the dequeued items, because the instances are reloaded after the items have been read.
+     * It's skipped if {@link #isPendingItemsReplacementSupported()} is false.
+     */
+    protected List<IndexingQueueItem> addPendingItemsOfSameInstances(List<IndexingQueueItem> queueItems) {
+        Map<String, Set<String>> entityIdsByEntityName = new HashMap<>();
+        queueItems.forEach(item ->
+                entityIdsByEntityName.computeIfAbsent(item.getEntityName(), k -> new HashSet<>()).add(item.getEntityId()));
+
+        Map<UUID, IndexingQueueItem> result = new LinkedHashMap<>();
+        queueItems.forEach(item -> result.put(item.getId(), item));
+        entityIdsByEntityName.forEach((entityName, entityIds) -> {
+            for (List<String> entityIdsChunk : Lists.partition(new ArrayList<>(entityIds), COALESCING_IDS_CHUNK_SIZE)) {
+                dataManager.load(IndexingQueueItem.class)
+                        .query("select q from search_IndexingQueue q where q.entityName = :entityName and q.entityId in :entityIds")
+                        .parameter("entityName", entityName)
+                        .parameter("entityIds", entityIdsChunk)
+                        .list()
+                        .forEach(item -> result.putIfAbsent(item.getId(), item));
+            }
+        });
+        log.debug("Added {} pending items of the same instances", result.size() - queueItems.size());
+        return new ArrayList<>(result.values());
+    }
+
     protected List<IndexingQueueItem> processQueueItems(List<IndexingQueueItem> queueItems) {
         QueueItemsAggregator queueItemsAggregator = new QueueItemsAggregator(queueItems);
 
         Map<Id<?>, List<IndexingQueueItem>> itemsForIndex = queueItemsAggregator.getIndexItemsGroup();
         Map<Id<?>, List<IndexingQueueItem>> itemsForDelete = queueItemsAggregator.getDeleteItemsGroup();
+        collapsedItemsCounter.increment(queueItems.size() - itemsForIndex.size() - itemsForDelete.size());
 
         List<IndexingQueueItem> successfullyProcessedQueueItems = new ArrayList<>(queueItems.size());
         if (MapUtils.isNotEmpty(itemsForIndex)) {
@@ -562,15 +711,121 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
 
     protected int enqueue(Collection<IndexingQueueItem> queueItems) {
         log.trace("Enqueue items: {}", queueItems);
+        requestedItemsCounter.increment(queueItems.size());
         TransactionTemplate transactionTemplate = storeAwareLocator.getTransactionTemplate(Stores.MAIN);
         transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
         transactionTemplate.executeWithoutResult(status -> {
             EntityManager entityManager = storeAwareLocator.getEntityManager(Stores.MAIN);
-            queueItems.forEach(entityManager::persist);
+            Collection<IndexingQueueItem> itemsToPersist = searchProperties.isIndexingQueueCoalescingEnabled()
+                    ? coalesce(queueItems, entityManager)
+                    : queueItems;
+            itemsToPersist.forEach(entityManager::persist);
         });
         return queueItems.size();
     }
 
+    /**
+     * Skips items already enqueued in the current transaction and schedules removal of pending items with the same
+     * entity instance and operation enqueued by other transactions.
+     * <p>
+     * Pending items are replaced instead of being kept, because the queue processor might have already reloaded the
+     * instance for them: removal of the replaced item by the processor doesn't affect the new one. The replacement is
+     * performed in a separate transaction after the current one is committed, so the business transaction doesn't
+     * lock queue rows of other transactions. It's skipped if {@link #isPendingItemsReplacementSupported()} is false.
+     *
+     * @return items to persist
+     */
+    protected Collection<IndexingQueueItem> coalesce(Collection<IndexingQueueItem> queueItems, EntityManager entityManager) {
+        TransactionItemKeys transactionItemKeys = getTransactionItemKeys();
+        Map<List<String>, IndexingQueueItem> itemsToPersist = new LinkedHashMap<>();
+        for (IndexingQueueItem item : queueItems) {
+            List<String> key = Arrays.asList(item.getEntityName(), item.getEntityId(), item.getOperation().getId());
+            if (transactionItemKeys == null || transactionItemKeys.keys.add(key)) {
+                itemsToPersist.put(key, item);
+            }
+        }
+
+        int coalesced = queueItems.size() - itemsToPersist.size();
+        if (coalesced > 0) {
+            log.debug("Coalesced {} queue items enqueued in the same transaction", coalesced);
+            coalescedItemsCounter.increment(coalesced);
+        }
+        if (transactionItemKeys != null && isPendingItemsReplacementSupported()) {
+            transactionItemKeys.items.addAll(itemsToPersist.values());
+        }
+        return itemsToPersist.values();
+    }
+
+    /**
+     * Removes pending items with the same entity instances and operations as the given items, except the given items
+     * themselves. Invoked after the transaction which has enqueued the given items is committed.
+     */
+    protected void replacePendingItems(Collection<IndexingQueueItem> queueItems) {
+        Map<List<String>, List<IndexingQueueItem>> itemsByNameAndOperation = new HashMap<>();
+        queueItems.forEach(item ->
+                itemsByNameAndOperation.computeIfAbsent(
+                        Arrays.asList(item.getEntityName(), item.getOperation().getId()), k -> new ArrayList<>()).add(item));
+
+        TransactionTemplate transactionTemplate = storeAwareLocator.getTransactionTemplate(Stores.MAIN);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            Integer replaced = transactionTemplate.execute(status -> {
+                EntityManager entityManager = storeAwareLocator.getEntityManager(Stores.MAIN);
+                int result = 0;
+                for (Map.Entry<List<String>, List<IndexingQueueItem>> entry : itemsByNameAndOperation.entrySet()) {
+                    for (List<IndexingQueueItem> itemsChunk : Lists.partition(entry.getValue(), COALESCING_IDS_CHUNK_SIZE)) {
+                        Query query = entityManager.createQuery("delete from search_IndexingQueue q " +
+                                "where q.entityName = :entityName and q.operation = :operation " +
+                                "and q.entityId in :entityIds and q.id not in :ids");
+                        query.setParameter("entityName", entry.getKey().get(0));
+                        query.setParameter("operation", entry.getKey().get(1));
+                        query.setParameter("entityIds", itemsChunk.stream().map(IndexingQueueItem::getEntityId).collect(Collectors.toList()));
+                        query.setParameter("ids", itemsChunk.stream().map(IndexingQueueItem::getId).collect(Collectors.toList()));
+                        result += query.executeUpdate();
+                    }
+                }
+                return result;
+            });
+            if (replaced != null && replaced > 0) {
+                log.debug("Replaced {} pending queue items", replaced);
+                coalescedItemsCounter.increment(replaced);
+            }
+        } catch (RuntimeException e) {
+            // the replaced items are just processed once more
+            log.warn("Unable to replace pending queue items", e);
+        }
+    }
+
+    /**
+     * Returns whether pending items of the same instances are replaced when enqueuing and collapsed when processing.
+     * Both require an index on the entity id column, which is not created for MySQL and MariaDB, so they are disabled
+     * for them.
+     */
+    protected boolean isPendingItemsReplacementSupported() {
+        return !"MYSQL".equalsIgnoreCase(dbmsType.getType(Stores.MAIN));
+    }
+
+    /**
+     * Returns items enqueued in the current transaction. They are kept by a transaction synchronization, so they are
+     * not visible to nested transactions.
+     *
+     * @return enqueued items or null if transaction synchronization is not active
+     */
+    @Nullable
+    protected TransactionItemKeys getTransactionItemKeys() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof TransactionItemKeys transactionItemKeys) {
+                return transactionItemKeys;
+            }
+        }
+        TransactionItemKeys transactionItemKeys = new TransactionItemKeys();
+        TransactionSynchronizationManager.registerSynchronization(transactionItemKeys);
+        return transactionItemKeys;
+    }
+
     protected IndexingQueueItem createQueueItem(MetaClass metaClass, String entityId, IndexingOperation operation) {
         return createQueueItem(metaClass.getName(), entityId, operation);
     }
@@ -580,9 +835,25 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
         queueItem.setOperation(operation);
         queueItem.setEntityId(entityId);
         queueItem.setEntityName(entityName);
+        queueItem.setPartitionNumber(partitionManager.getPartitionNumber(entityName, entityId));
         return queueItem;
     }
 
+    /**
+     * Holds keys of items enqueued in a transaction and replaces pending items of other transactions after commit.
+     */
+    protected class TransactionItemKeys implements TransactionSynchronization {
+        protected final Set<List<String>> keys = new HashSet<>();
+        protected final List<IndexingQueueItem> items = new ArrayList<>();
+
+        @Override
+        public void afterCommit() {
+            if (!items.isEmpty()) {
+                replacePendingItems(items);
+            }
+        }
+    }
+
     /**
      * Analyzes collection of {@link IndexingQueueItem}, determines unique entity ids
      * and splits them among two disjoint groups: for index and for delete.
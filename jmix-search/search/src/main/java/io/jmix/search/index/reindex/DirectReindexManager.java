@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.search.index.reindex;
+
+import io.jmix.search.index.IndexManager;
+import io.jmix.search.index.queue.IndexingQueueManager;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Reindexes all instances of indexed entities without Indexing Queue.
+ * <p>
+ * Unlike {@link IndexingQueueManager#enqueueIndexAll(String)}, ids of entity instances are read page by page using
+ * keyset pagination and sent directly to worker threads that load instances, build documents and store them by bulk
+ * requests. Documents are stored to a new version of the index created by
+ * {@link IndexManager#createIndexVersion(io.jmix.search.index.IndexConfiguration)}, so searching keeps working with
+ * the previous index until all instances are processed and the index name is switched to the new version.
+ * <p>
+ * While reindex is in progress, the index of the entity is marked as unavailable and processing of its Indexing Queue
+ * items is locked on all nodes of a cluster: changes tracked by the queue stay in it and are applied to the new
+ * version after the switch. If the lock is lost, e.g. its lease is not renewed in time, reindex fails.
+ * <p>
+ * Entities with composite primary keys are not supported.
+ */
+public interface DirectReindexManager {
+
+    /**
+     * Reindexes all instances of provided entity and waits for completion.
+     *
+     * @param entityName name of entity configured for indexing
+     * @return progress of completed or failed reindex, or null if reindex or enqueueing of all instances of the
+     * entity is already in progress on this or another node
+     */
+    @Nullable
+    DirectReindexProgress reindex(String entityName);
+
+    /**
+     * Starts reindex of all instances of provided entity in background.
+     *
+     * @param entityName name of entity configured for indexing
+     */
+    void reindexAsync(String entityName);
+
+    /**
+     * Returns progress of active reindexes and the last finished reindex of each entity.
+     */
+    List<DirectReindexProgress> getProgress();
+
+    /**
+     * Returns progress of the active or last finished reindex of provided entity.
+     *
+     * @param entityName name of entity configured for indexing
+     * @return progress or null if the entity hasn't been reindexed directly
+     */
+    @Nullable
+    DirectReindexProgress getProgress(String entityName);
+}
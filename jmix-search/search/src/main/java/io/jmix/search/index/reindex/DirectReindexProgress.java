@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.search.index.reindex;
+
+import io.jmix.core.annotation.Internal;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of direct reindex of a single entity.
+ *
+ * @see DirectReindexManager
+ */
+public class DirectReindexProgress {
+
+    /**
+     * Status of direct reindex.
+     */
+    public enum Status {
+        IN_PROGRESS,
+        COMPLETED,
+        FAILED
+    }
+
+    protected final String entityName;
+    protected final String indexName;
+    protected final long totalCount;
+    protected final Instant startTime;
+
+    protected final AtomicLong processedCount = new AtomicLong();
+    protected final AtomicLong failedCount = new AtomicLong();
+
+    protected volatile Status status = Status.IN_PROGRESS;
+    protected volatile Instant endTime;
+    protected volatile String errorMessage;
+
+    /**
+     * INTERNAL.
+     */
+    @Internal
+    public DirectReindexProgress(String entityName, String indexName, long totalCount) {
+        this.entityName = entityName;
+        this.indexName = indexName;
+        this.totalCount = totalCount;
+        this.startTime = Instant.now();
+    }
+
+    public String getEntityName() {
+        return entityName;
+    }
+
+    /**
+     * Returns name of the index version being filled.
+     */
+    public String getIndexName() {
+        return indexName;
+    }
+
+    /**
+     * Returns amount of entity instances counted before reindex was started.
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns amount of entity instances sent to the index, including failed ones.
+     */
+    public long getProcessedCount() {
+        return processedCount.get();
+    }
+
+    /**
+     * Returns amount of documents rejected by the search server.
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    @Nullable
+    public Instant getEndTime() {
+        return endTime;
+    }
+
+    @Nullable
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * Returns estimated time left to process the rest of instances based on the average processing rate, or null
+     * if it can't be estimated yet.
+     */
+    @Nullable
+    public Duration getEstimatedTimeLeft() {
+        if (status != Status.IN_PROGRESS) {
+            return Duration.ZERO;
+        }
+        long processed = processedCount.get();
+        if (processed == 0) {
+            return null;
+        }
+        long elapsedMillis = Duration.between(startTime, Instant.now()).toMillis();
+        long left = Math.max(totalCount - processed, 0);
+        return Duration.ofMillis(elapsedMillis * left / processed);
+    }
+
+    /**
+     * INTERNAL.
+     */
+    @Internal
+    public void addProcessed(int processed, int failed) {
+        processedCount.addAndGet(processed);
+        failedCount.addAndGet(failed);
+    }
+
+    /**
+     * INTERNAL.
+     */
+    @Internal
+    public void complete() {
+        endTime = Instant.now();
+        status = Status.COMPLETED;
+    }
+
+    /**
+     * INTERNAL.
+     */
+    @Internal
+    public void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        endTime = Instant.now();
+        status = Status.FAILED;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder()
+                .append("Entity=").append(entityName)
+                .append(", Index=").append(indexName)
+                .append(", Status=").append(status)
+                .append(", Processed=").append(processedCount.get()).append("/").append(totalCount)
+                .append(", Failed=").append(failedCount.get());
+        if (status == Status.IN_PROGRESS) {
+            Duration estimatedTimeLeft = getEstimatedTimeLeft();
+            sb.append(", ETA=").append(estimatedTimeLeft == null ? "unknown" : estimatedTimeLeft.withNanos(0));
+        } else {
+            sb.append(", Duration=").append(Duration.between(startTime, endTime).withNanos(0));
+        }
+        if (errorMessage != null) {
+            sb.append(", Error=").append(errorMessage);
+        }
+        return sb.toString();
+    }
+}
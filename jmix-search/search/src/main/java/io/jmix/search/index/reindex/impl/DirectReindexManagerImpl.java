@@ -0,0 +1,343 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.search.index.reindex.impl;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.jmix.core.*;
+import io.jmix.core.entity.KeyValueEntity;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.security.SystemAuthenticator;
+import io.jmix.search.SearchProperties;
+import io.jmix.search.index.EntityIndexer;
+import io.jmix.search.index.IndexConfiguration;
+import io.jmix.search.index.IndexManager;
+import io.jmix.search.index.IndexResult;
+import io.jmix.search.index.impl.IndexStateRegistry;
+import io.jmix.search.index.impl.IndexingLocker;
+import io.jmix.search.index.mapping.IndexConfigurationManager;
+import io.jmix.search.index.queue.impl.IndexingQueueLockManager;
+import io.jmix.search.index.reindex.DirectReindexManager;
+import io.jmix.search.index.reindex.DirectReindexProgress;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component("search_DirectReindexManager")
+public class DirectReindexManagerImpl implements DirectReindexManager {
+
+    private static final Logger log = LoggerFactory.getLogger(DirectReindexManagerImpl.class);
+
+    protected final UnconstrainedDataManager dataManager;
+    protected final Metadata metadata;
+    protected final MetadataTools metadataTools;
+    protected final EntityIndexer entityIndexer;
+    protected final IndexManager indexManager;
+    protected final IndexConfigurationManager indexConfigurationManager;
+    protected final IndexStateRegistry indexStateRegistry;
+    protected final IndexingLocker locker;
+    protected final IndexingQueueLockManager queueLockManager;
+    protected final SystemAuthenticator authenticator;
+    protected final SearchProperties searchProperties;
+
+    protected final ExecutorService workerExecutor;
+    protected final ExecutorService backgroundExecutor;
+    protected final Map<String, DirectReindexProgress> progressByEntity = new ConcurrentHashMap<>();
+
+    public DirectReindexManagerImpl(UnconstrainedDataManager dataManager,
+                                    Metadata metadata,
+                                    MetadataTools metadataTools,
+                                    EntityIndexer entityIndexer,
+                                    IndexManager indexManager,
+                                    IndexConfigurationManager indexConfigurationManager,
+                                    IndexStateRegistry indexStateRegistry,
+                                    IndexingLocker locker,
+                                    IndexingQueueLockManager queueLockManager,
+                                    SystemAuthenticator authenticator,
+                                    SearchProperties searchProperties) {
+        this.dataManager = dataManager;
+        this.metadata = metadata;
+        this.metadataTools = metadataTools;
+        this.entityIndexer = entityIndexer;
+        this.indexManager = indexManager;
+        this.indexConfigurationManager = indexConfigurationManager;
+        this.indexStateRegistry = indexStateRegistry;
+        this.locker = locker;
+        this.queueLockManager = queueLockManager;
+        this.authenticator = authenticator;
+        this.searchProperties = searchProperties;
+
+        int parallelism = Math.max(searchProperties.getDirectReindexParallelism(), 1);
+        ThreadPoolExecutor workerThreadPool = new ThreadPoolExecutor(parallelism, parallelism,
+                1L, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder()
+                        .setNameFormat("jmix-search-reindex-%d")
+                        .setDaemon(true)
+                        .build());
+        workerThreadPool.allowCoreThreadTimeOut(true);
+        this.workerExecutor = workerThreadPool;
+
+        ThreadPoolExecutor backgroundThreadPool = new ThreadPoolExecutor(1, 1,
+                1L, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder()
+                        .setNameFormat("jmix-search-reindex-coordinator-%d")
+                        .setDaemon(true)
+                        .build());
+        backgroundThreadPool.allowCoreThreadTimeOut(true);
+        this.backgroundExecutor = backgroundThreadPool;
+    }
+
+    @PreDestroy
+    protected void destroy() {
+        backgroundExecutor.shutdownNow();
+        workerExecutor.shutdownNow();
+    }
+
+    @Nullable
+    @Override
+    public DirectReindexProgress reindex(String entityName) {
+        IndexConfiguration indexConfiguration = getIndexConfiguration(entityName);
+
+        if (!locker.tryLockEntityForEnqueueIndexAll(entityName)) {
+            log.info("Unable to reindex entity '{}': reindex or enqueueing of all instances is in progress", entityName);
+            return null;
+        }
+        try {
+            // keep changes in the queue on all nodes until the new version is available
+            if (!queueLockManager.tryLock(entityName)) {
+                log.info("Unable to reindex entity '{}': queue processing of the entity is locked by another node", entityName);
+                return null;
+            }
+            try {
+                authenticator.begin();
+                return reindexInternal(indexConfiguration);
+            } finally {
+                authenticator.end();
+                queueLockManager.unlock(entityName);
+            }
+        } finally {
+            locker.unlockEntityForEnqueueIndexAll(entityName);
+        }
+    }
+
+    @Override
+    public void reindexAsync(String entityName) {
+        getIndexConfiguration(entityName);
+        backgroundExecutor.execute(() -> {
+            try {
+                reindex(entityName);
+            } catch (RuntimeException e) {
+                log.error("Reindex of entity '{}' failed", entityName, e);
+            }
+        });
+    }
+
+    @Override
+    public List<DirectReindexProgress> getProgress() {
+        return new ArrayList<>(progressByEntity.values());
+    }
+
+    @Nullable
+    @Override
+    public DirectReindexProgress getProgress(String entityName) {
+        return progressByEntity.get(entityName);
+    }
+
+    protected IndexConfiguration getIndexConfiguration(String entityName) {
+        if (!indexConfigurationManager.isDirectlyIndexed(entityName)) {
+            throw new IllegalArgumentException(String.format("Unable to reindex entity '%s' - entity is not configured for indexing", entityName));
+        }
+        MetaClass metaClass = metadata.getClass(entityName);
+        if (metadataTools.hasCompositePrimaryKey(metaClass) || metadataTools.getPrimaryKeyName(metaClass) == null) {
+            throw new IllegalArgumentException(String.format("Unable to reindex entity '%s' directly - entity doesn't have simple primary key", entityName));
+        }
+        return indexConfigurationManager.getIndexConfigurationByEntityName(entityName);
+    }
+
+    protected DirectReindexProgress reindexInternal(IndexConfiguration indexConfiguration) {
+        String entityName = indexConfiguration.getEntityName();
+        MetaClass metaClass = metadata.getClass(entityName);
+
+        long totalCount = countInstances(metaClass);
+        String indexVersionName = indexManager.createIndexVersion(indexConfiguration);
+        DirectReindexProgress progress = new DirectReindexProgress(entityName, indexVersionName, totalCount);
+        progressByEntity.put(entityName, progress);
+        log.info("Start reindex of {} instances of entity '{}' into index '{}'", totalCount, entityName, indexVersionName);
+
+        boolean indexAvailable = indexStateRegistry.isIndexAvailable(entityName);
+        indexStateRegistry.markIndexAsUnavailable(entityName);
+        boolean switched = false;
+        try {
+            indexInstances(metaClass, indexVersionName, progress);
+            if (!queueLockManager.renew(entityName)) {
+                throw new IllegalStateException("Queue processing lock has been lost, queued changes may be applied to the old index");
+            }
+            switched = indexManager.switchIndexVersion(indexConfiguration, indexVersionName);
+            if (!switched) {
+                throw new IllegalStateException("Alias switching is not acknowledged");
+            }
+            progress.complete();
+            log.info("Reindex of entity '{}' completed: {}", entityName, progress);
+        } catch (RuntimeException e) {
+            progress.fail(e.getMessage());
+            log.error("Reindex of entity '{}' failed: {}", entityName, progress, e);
+            dropIndexVersion(indexVersionName);
+        } finally {
+            if (switched || indexAvailable) {
+                indexStateRegistry.markIndexAsAvailable(entityName);
+            }
+        }
+        return progress;
+    }
+
+    protected void indexInstances(MetaClass metaClass, String indexVersionName, DirectReindexProgress progress) {
+        int batchSize = searchProperties.getDirectReindexBatchSize();
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Size of direct reindex batch must be positive");
+        }
+        int parallelism = Math.max(searchProperties.getDirectReindexParallelism(), 1);
+        Semaphore inFlightBatches = new Semaphore(parallelism);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        long lockRenewedAt = System.currentTimeMillis();
+        Object lastId = null;
+        List<Object> ids;
+        try {
+            do {
+                lockRenewedAt = renewQueueLockIfNeeded(metaClass.getName(), lockRenewedAt);
+                ids = loadNextIds(metaClass, lastId, batchSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                lastId = ids.get(ids.size() - 1);
+
+                List<Id<?>> entityIds = new ArrayList<>(ids.size());
+                ids.forEach(id -> entityIds.add(Id.of(id, metaClass.getJavaClass())));
+
+                inFlightBatches.acquireUninterruptibly();
+                if (failure.get() != null) {
+                    inFlightBatches.release();
+                    break;
+                }
+                try {
+                    workerExecutor.execute(() -> {
+                        try {
+                            if (failure.get() != null) {
+                                return;
+                            }
+                            IndexResult indexResult = authenticator.withSystem(() ->
+                                    entityIndexer.indexCollectionByEntityIds(entityIds, indexVersionName));
+                            progress.addProcessed(entityIds.size(), indexResult.getFailures().size());
+                            log.debug("Reindexed next {} instances of entity '{}': {}", entityIds.size(), metaClass.getName(), progress);
+                        } catch (RuntimeException e) {
+                            failure.compareAndSet(null, e);
+                        } finally {
+                            inFlightBatches.release();
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    inFlightBatches.release();
+                    throw e;
+                }
+            } while (ids.size() == batchSize);
+        } catch (RuntimeException e) {
+            // prevents starting of batches that are not started yet
+            failure.compareAndSet(null, e);
+            throw e;
+        } finally {
+            // the index version must not be dropped and the queue lock must not be released while batches are written
+            inFlightBatches.acquireUninterruptibly(parallelism);
+            inFlightBatches.release(parallelism);
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    /**
+     * Renews the queue processing lock of the entity if half of its lease has passed since the previous renewal.
+     *
+     * @return time of the last renewal
+     */
+    protected long renewQueueLockIfNeeded(String entityName, long renewedAt) {
+        long now = System.currentTimeMillis();
+        if (now - renewedAt < queueLockManager.getLeaseTimeoutMillis() / 2) {
+            return renewedAt;
+        }
+        if (!queueLockManager.renew(entityName)) {
+            throw new IllegalStateException("Queue processing lock has been lost, queued changes may be applied to the old index");
+        }
+        return now;
+    }
+
+    protected List<Object> loadNextIds(MetaClass metaClass, @Nullable Object lastId, int batchSize) {
+        String entityName = metaClass.getName();
+        String primaryKeyName = metadataTools.getPrimaryKeyName(metaClass);
+
+        List<String> conditions = new ArrayList<>(2);
+        if (!metaClass.getDescendants().isEmpty()) {
+            conditions.add("TYPE(e) = " + entityName);
+        }
+        if (lastId != null) {
+            conditions.add("e." + primaryKeyName + " > :lastId");
+        }
+        String where = conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+        String queryString = String.format("select e.%s from %s e%s order by e.%s", primaryKeyName, entityName, where, primaryKeyName);
+
+        ValueLoadContext.Query query = ValueLoadContext.createQuery(queryString).setMaxResults(batchSize);
+        if (lastId != null) {
+            query.setParameter("lastId", lastId);
+        }
+        ValueLoadContext loadContext = ValueLoadContext.create()
+                .setStoreName(metaClass.getStore().getName())
+                .setQuery(query)
+                .addProperty("id");
+
+        List<KeyValueEntity> values = dataManager.loadValues(loadContext);
+        List<Object> ids = new ArrayList<>(values.size());
+        values.forEach(value -> ids.add(value.getValue("id")));
+        return ids;
+    }
+
+    protected long countInstances(MetaClass metaClass) {
+        String entityName = metaClass.getName();
+        String where = metaClass.getDescendants().isEmpty() ? "" : " where TYPE(e) = " + entityName;
+        LoadContext<?> loadContext = new LoadContext<>(metaClass)
+                .setQuery(new LoadContext.Query("select e from " + entityName + " e" + where));
+        return dataManager.getCount(loadContext);
+    }
+
+    protected void dropIndexVersion(String indexVersionName) {
+        try {
+            if (indexManager.isIndexExist(indexVersionName)) {
+                indexManager.dropIndex(indexVersionName);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Unable to drop index '{}' left by failed reindex", indexVersionName, e);
+        }
+    }
+}
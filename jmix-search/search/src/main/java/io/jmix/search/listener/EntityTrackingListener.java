@@ -18,6 +18,7 @@ package io.jmix.search.listener;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
 import io.jmix.core.*;
 import io.jmix.core.datastore.AbstractDataStore;
 import io.jmix.core.datastore.DataStoreBeforeEntitySaveEvent;
@@ -34,12 +35,18 @@ import io.jmix.search.SearchProperties;
 import io.jmix.search.index.mapping.IndexConfigurationManager;
 import io.jmix.search.index.queue.IndexingQueueManager;
 import io.jmix.search.index.queue.entity.IndexingQueueItem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import org.apache.commons.collections4.CollectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
@@ -48,11 +55,24 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/**
+ * Enqueues indexed entity instances affected by changes of entities.
+ * <p>
+ * Ids of updated instances are accumulated per transaction for every dependent entity and property path, and dependent
+ * entities are loaded by one query per path before commit, or earlier when
+ * {@link SearchProperties#getDependentEntitiesLoadingBatchSize()} ids are accumulated. Loading is reported by the
+ * {@code jmix.search.EntityTracking.changedIds} and {@code jmix.search.EntityTracking.dependentQueries} counters and
+ * the {@code jmix.search.EntityTracking.dependentLoading} timer.
+ */
 @Component("search_EntityTrackingListener")
 public class EntityTrackingListener implements DataStoreEventListener, DataStoreCustomizer {
 
     private static final Logger log = LoggerFactory.getLogger(EntityTrackingListener.class);
 
+    protected static final String CHANGED_IDS_COUNTER_NAME = "jmix.search.EntityTracking.changedIds";
+    protected static final String DEPENDENT_QUERIES_COUNTER_NAME = "jmix.search.EntityTracking.dependentQueries";
+    protected static final String DEPENDENT_LOADING_TIMER_NAME = "jmix.search.EntityTracking.dependentLoading";
+
     @Autowired
     protected Metadata metadata;
     @Autowired
@@ -67,6 +87,12 @@ public class EntityTrackingListener implements DataStoreEventListener, DataStore
     protected SearchProperties searchProperties;
     @Autowired
     protected MetadataTools metadataTools;
+    @Autowired
+    protected MeterRegistry meterRegistry;
+
+    protected Counter changedIdsCounter;
+    protected Counter dependentQueriesCounter;
+    protected Timer dependentLoadingTimer;
 
     protected Cache<Id<?>, Set<Id<?>>> removalDependencies = CacheBuilder.newBuilder()
             .expireAfterWrite(1, TimeUnit.MINUTES)
@@ -77,6 +103,13 @@ public class EntityTrackingListener implements DataStoreEventListener, DataStore
         NEW
     }
 
+    @PostConstruct
+    protected void initMetrics() {
+        changedIdsCounter = meterRegistry.counter(CHANGED_IDS_COUNTER_NAME);
+        dependentQueriesCounter = meterRegistry.counter(DEPENDENT_QUERIES_COUNTER_NAME);
+        dependentLoadingTimer = meterRegistry.timer(DEPENDENT_LOADING_TIMER_NAME);
+    }
+
     @Override
     public void customize(DataStore dataStore) {
         if (dataStore instanceof AbstractDataStore) {
@@ -164,10 +197,15 @@ public class EntityTrackingListener implements DataStoreEventListener, DataStore
         }
 
         if (EntityChangedEvent.Type.UPDATED.equals(eventType)) {
-            Set<Id<?>> dependentEntityIds = getEntityIdsDependentOnUpdatedEntity(entityId, metaClass, changes);
-
-            if (!dependentEntityIds.isEmpty()) {
-                indexingQueueManager.enqueueIndexCollectionByEntityIds(dependentEntityIds);
+            if (TransactionSynchronizationManager.isSynchronizationActive()
+                    && !metadataTools.hasCompositePrimaryKey(metaClass)) {
+                trackEntityDependentOnUpdatedEntity(entityId, metaClass, changes);
+            } else {
+                Set<Id<?>> dependentEntityIds = getEntityIdsDependentOnUpdatedEntity(entityId, metaClass, changes);
+
+                if (!dependentEntityIds.isEmpty()) {
+                    indexingQueueManager.enqueueIndexCollectionByEntityIds(dependentEntityIds);
+                }
             }
         } else if (EntityChangedEvent.Type.DELETED.equals(eventType)) {
             Set<Id<?>> dependentEntityIds = removalDependencies.getIfPresent(entityId);
@@ -217,6 +255,70 @@ public class EntityTrackingListener implements DataStoreEventListener, DataStore
         return loadDependentEntityIds(updatedEntityId, metaClass, dependenciesMetaData);
     }
 
+    /**
+     * Adds id of the updated instance to ids accumulated in the current transaction for dependent entities.
+     */
+    protected void trackEntityDependentOnUpdatedEntity(Id<?> updatedEntityId, MetaClass metaClass, AttributeChanges changes) {
+        Class<?> entityClass = updatedEntityId.getEntityClass();
+        Map<MetaClass, Set<MetaPropertyPath>> dependenciesMetaData;
+        dependenciesMetaData = indexConfigurationManager.getDependenciesMetaDataForUpdate(entityClass, changes.getAttributes());
+        if (dependenciesMetaData.values().stream().allMatch(Set::isEmpty)) {
+            return;
+        }
+
+        changedIdsCounter.increment();
+        PendingDependencies pendingDependencies = getPendingDependencies();
+        int batchSize = searchProperties.getDependentEntitiesLoadingBatchSize();
+        dependenciesMetaData.forEach((dependentMetaClass, properties) -> {
+            for (MetaPropertyPath propertyPath : properties) {
+                DependencyKey key = new DependencyKey(dependentMetaClass, propertyPath, metaClass);
+                Set<Id<?>> targetEntityIds = pendingDependencies.targetEntityIds.computeIfAbsent(key, k -> new LinkedHashSet<>());
+                targetEntityIds.add(updatedEntityId);
+                if (targetEntityIds.size() >= batchSize) {
+                    pendingDependencies.targetEntityIds.remove(key);
+                    Set<Id<?>> dependentEntityIds = loadDependentEntityIds(key, targetEntityIds);
+                    if (!dependentEntityIds.isEmpty()) {
+                        indexingQueueManager.enqueueIndexCollectionByEntityIds(dependentEntityIds);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns dependencies accumulated in the current transaction and not loaded yet.
+     */
+    protected PendingDependencies getPendingDependencies() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingDependencies pendingDependencies && !pendingDependencies.loaded) {
+                return pendingDependencies;
+            }
+        }
+        PendingDependencies pendingDependencies = new PendingDependencies();
+        TransactionSynchronizationManager.registerSynchronization(pendingDependencies);
+        return pendingDependencies;
+    }
+
+    protected void loadPendingDependencies(PendingDependencies pendingDependencies) {
+        pendingDependencies.loaded = true;
+        if (pendingDependencies.targetEntityIds.isEmpty()) {
+            return;
+        }
+
+        Set<Id<?>> dependentEntityIds = new LinkedHashSet<>();
+        int batchSize = searchProperties.getDependentEntitiesLoadingBatchSize();
+        pendingDependencies.targetEntityIds.forEach((key, targetEntityIds) -> {
+            for (List<Id<?>> targetEntityIdsBatch : Lists.partition(new ArrayList<>(targetEntityIds), batchSize)) {
+                dependentEntityIds.addAll(loadDependentEntityIds(key, targetEntityIdsBatch));
+            }
+        });
+        pendingDependencies.targetEntityIds.clear();
+
+        if (!dependentEntityIds.isEmpty()) {
+            indexingQueueManager.enqueueIndexCollectionByEntityIds(dependentEntityIds);
+        }
+    }
+
     protected Set<Id<?>> getEntityIdsDependentOnRemovedEntity(Id<?> removedEntityId, MetaClass metaClass) {
         Class<?> entityClass = removedEntityId.getEntityClass();
         Map<MetaClass, Set<MetaPropertyPath>> dependenciesMetaData;
@@ -237,26 +339,33 @@ public class EntityTrackingListener implements DataStoreEventListener, DataStore
             }
 
             MetaClass metaClass = entry.getKey();
-            String entityName = metaClass.getName();
             for (MetaPropertyPath propertyPath : properties) {
-                log.debug("Load entities '{}' dependent via property '{}'", entityName, propertyPath);
-
-                DependentEntitiesQuery dependentEntitiesQuery = new DependentEntitiesQueryBuilder()
-                        .loadEntity(entityName)
-                        .byProperty(propertyPath)
-                        .dependedOn(targetMetaClass, targetEntityId)
-                        .buildQuery();
-                log.debug("{}", dependentEntitiesQuery);
-
-                List<Id<?>> refObjectIds = performLoadingDependentEntityIds(metaClass, dependentEntitiesQuery);
-                log.debug("Loaded primary keys of dependent references ({}): {}", refObjectIds.size(), refObjectIds);
-                result.addAll(refObjectIds);
+                DependencyKey key = new DependencyKey(metaClass, propertyPath, targetMetaClass);
+                result.addAll(loadDependentEntityIds(key, Collections.singletonList(targetEntityId)));
             }
         }
 
         return result;
     }
 
+    protected Set<Id<?>> loadDependentEntityIds(DependencyKey key, Collection<Id<?>> targetEntityIds) {
+        String entityName = key.metaClass().getName();
+        log.debug("Load entities '{}' dependent via property '{}' on {} instances", entityName, key.propertyPath(), targetEntityIds.size());
+
+        DependentEntitiesQuery dependentEntitiesQuery = new DependentEntitiesQueryBuilder()
+                .loadEntity(entityName)
+                .byProperty(key.propertyPath())
+                .dependedOn(key.targetMetaClass(), targetEntityIds)
+                .buildQuery();
+        log.debug("{}", dependentEntitiesQuery);
+
+        dependentQueriesCounter.increment();
+        List<Id<?>> refObjectIds = dependentLoadingTimer.record(() ->
+                performLoadingDependentEntityIds(key.metaClass(), dependentEntitiesQuery));
+        log.debug("Loaded primary keys of dependent references ({}): {}", refObjectIds.size(), refObjectIds);
+        return new HashSet<>(refObjectIds);
+    }
+
     protected List<Id<?>> performLoadingDependentEntityIds(MetaClass metaClass, DependentEntitiesQuery dependentEntitiesQuery) {
         return dataManager.load(metaClass.getJavaClass())
                 .query(dependentEntitiesQuery.getQuery())
@@ -274,7 +383,7 @@ public class EntityTrackingListener implements DataStoreEventListener, DataStore
         private String entityName;
         private MetaPropertyPath propertyPath;
         private MetaClass targetMetaClass;
-        private Id<?> targetEntityId;
+        private Collection<Id<?>> targetEntityIds;
 
         private int currentEntityIndex;
         private String currentEntityAlias;
@@ -297,9 +406,9 @@ public class EntityTrackingListener implements DataStoreEventListener, DataStore
             return this;
         }
 
-        protected DependentEntitiesQueryBuilder dependedOn(MetaClass metaClass, Id<?> entityId) {
+        protected DependentEntitiesQueryBuilder dependedOn(MetaClass metaClass, Collection<Id<?>> entityIds) {
             this.targetMetaClass = metaClass;
-            this.targetEntityId = entityId;
+            this.targetEntityIds = entityIds;
             return this;
         }
 
@@ -370,8 +479,35 @@ public class EntityTrackingListener implements DataStoreEventListener, DataStore
         }
 
         private void appendWhereBlock() {
-            querySb.append(" where ").append(currentPropertyPathSb).append('.').append(targetPrimaryKeyName).append(" = :ref");
-            parameters.put("ref", targetEntityId.getValue());
+            querySb.append(" where ").append(currentPropertyPathSb).append('.').append(targetPrimaryKeyName);
+            if (targetEntityIds.size() == 1) {
+                querySb.append(" = :ref");
+                parameters.put("ref", targetEntityIds.iterator().next().getValue());
+            } else {
+                querySb.append(" in :refs");
+                parameters.put("refs", targetEntityIds.stream().map(Id::getValue).collect(Collectors.toList()));
+            }
+        }
+    }
+
+    /**
+     * Entity dependent via the property path on instances of the target entity.
+     */
+    protected record DependencyKey(MetaClass metaClass, MetaPropertyPath propertyPath, MetaClass targetMetaClass) {
+    }
+
+    /**
+     * Holds ids of instances updated in a transaction until dependent entities are loaded before commit.
+     * A failure of loading is propagated and rolls the transaction back, otherwise the dependent entities would stay
+     * stale in the index.
+     */
+    protected class PendingDependencies implements TransactionSynchronization {
+        protected final Map<DependencyKey, Set<Id<?>>> targetEntityIds = new LinkedHashMap<>();
+        protected boolean loaded;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            loadPendingDependencies(this);
         }
     }
 
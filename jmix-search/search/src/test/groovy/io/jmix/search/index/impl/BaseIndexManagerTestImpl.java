@@ -60,4 +60,14 @@ public class BaseIndexManagerTestImpl extends BaseIndexManager<Object, Object, O
     public boolean putMapping(@NonNull String indexName, @NonNull IndexMappingConfiguration mapping) {
         return false;
     }
+
+    @Override
+    public boolean switchIndexVersion(@NonNull IndexConfiguration indexConfiguration, @NonNull String indexVersionName) {
+        return false;
+    }
+
+    @Override
+    protected boolean createIndex(@NonNull IndexConfiguration indexConfiguration, @NonNull String indexName) {
+        return false;
+    }
 }
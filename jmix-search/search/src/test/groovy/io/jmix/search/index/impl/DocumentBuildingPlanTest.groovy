@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.search.index.impl
+
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.databind.node.JsonNodeFactory
+import com.fasterxml.jackson.databind.node.NullNode
+import com.fasterxml.jackson.databind.node.ObjectNode
+import com.fasterxml.jackson.databind.node.TextNode
+import io.jmix.search.SearchProperties
+import io.jmix.search.index.IndexConfiguration
+import io.jmix.search.index.IndexResult
+import io.jmix.search.index.mapping.DisplayedNameDescriptor
+import io.jmix.search.index.mapping.IndexMappingConfiguration
+import io.jmix.search.index.mapping.MappingFieldDescriptor
+import io.jmix.search.index.mapping.propertyvalue.PropertyValueExtractor
+import spock.lang.Specification
+
+class DocumentBuildingPlanTest extends Specification {
+
+    def "document built by the plan is equal to the document built by merging of field trees"() {
+        given:
+        IndexMappingConfiguration mapping = createMapping()
+        DocumentBuildingPlan plan = DocumentBuildingPlan.compile(mapping)
+
+        when:
+        ObjectNode document = plan.buildDocument(new Object())
+
+        then:
+        document == buildDocumentByMerging(mapping)
+        document.size() == 33
+        document.get("ref").get("_instance_name").textValue() == "Reference"
+        document.get("ref").get("name").textValue() == "Reference name"
+        document.get("ref").get("sub").size() == 10
+        document.get("tags").size() == 2
+        !document.has("empty")
+        !document.has("standalone")
+    }
+
+    def "plan is compiled for its mapping only"() {
+        given:
+        IndexMappingConfiguration mapping = createMapping()
+        DocumentBuildingPlan plan = DocumentBuildingPlan.compile(mapping)
+
+        expect:
+        plan.isCompiledFor(mapping)
+        !plan.isCompiledFor(createMapping())
+    }
+
+    protected IndexMappingConfiguration createMapping() {
+        Map<String, MappingFieldDescriptor> fields = new LinkedHashMap<>()
+        (0..29).each { addField(fields, "field$it", TextNode.valueOf("value $it")) }
+
+        ObjectNode referenceValue = JsonNodeFactory.instance.objectNode()
+        referenceValue.put("_instance_name", "Reference")
+        addField(fields, "ref", referenceValue)
+        addField(fields, "ref.name", TextNode.valueOf("Reference name"))
+        (0..9).each { addField(fields, "ref.sub.field$it", JsonNodeFactory.instance.numberNode(it)) }
+
+        addField(fields, "tags", JsonNodeFactory.instance.arrayNode().add("a").add("b"))
+        addField(fields, "empty.value", NullNode.getInstance())
+        addField(fields, "standalone", TextNode.valueOf("standalone")).setStandalone(true)
+
+        DisplayedNameDescriptor displayedNameDescriptor = Mock()
+        displayedNameDescriptor.getIndexPropertyFullName() >> "_instance_name"
+        displayedNameDescriptor.getValue(_) >> TextNode.valueOf("Instance")
+
+        return new IndexMappingConfiguration(null, fields, displayedNameDescriptor)
+    }
+
+    protected MappingFieldDescriptor addField(Map<String, MappingFieldDescriptor> fields, String name, JsonNode value) {
+        MappingFieldDescriptor field = new MappingFieldDescriptor()
+        field.setIndexPropertyFullName(name)
+        field.setPropertyValueExtractor({ entity, propertyPath, parameters -> value.deepCopy() } as PropertyValueExtractor)
+        fields.put(name, field)
+        return field
+    }
+
+    protected ObjectNode buildDocumentByMerging(IndexMappingConfiguration mapping) {
+        SearchProperties searchProperties = Mock()
+        BaseEntityIndexer indexer = new BaseEntityIndexer(null, null, null, null, null, null, null, searchProperties) {
+            @Override
+            protected IndexResult indexDocuments(List<IndexDocumentData> documents) {
+                return null
+            }
+
+            @Override
+            protected IndexResult deleteByGroupedDocIds(Map<IndexConfiguration, Collection<String>> groupedDocIds) {
+                return null
+            }
+        }
+
+        ObjectNode document = JsonNodeFactory.instance.objectNode()
+        mapping.getFields().values()
+                .findAll { !it.isStandalone() }
+                .each { indexer.addFieldValueToEntityIndexContent(document, it, new Object()) }
+        DisplayedNameDescriptor displayedNameDescriptor = mapping.getDisplayedNameDescriptor()
+        document.set(displayedNameDescriptor.getIndexPropertyFullName(), displayedNameDescriptor.getValue(null))
+        return document
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.search.index.reindex.impl
+
+import io.jmix.core.*
+import io.jmix.core.entity.KeyValueEntity
+import io.jmix.core.metamodel.model.MetaClass
+import io.jmix.core.metamodel.model.Store
+import io.jmix.core.security.SystemAuthenticator
+import io.jmix.search.SearchProperties
+import io.jmix.search.index.EntityIndexer
+import io.jmix.search.index.IndexConfiguration
+import io.jmix.search.index.IndexManager
+import io.jmix.search.index.IndexResult
+import io.jmix.search.index.impl.IndexStateRegistry
+import io.jmix.search.index.impl.IndexingLocker
+import io.jmix.search.index.mapping.IndexConfigurationManager
+import io.jmix.search.index.queue.impl.IndexingQueueLockManager
+import io.jmix.search.index.reindex.DirectReindexProgress
+import spock.lang.Specification
+
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.atomic.AtomicBoolean
+
+class DirectReindexManagerImplTest extends Specification {
+
+    public static final String ENTITY_NAME = "test_Entity"
+    public static final String INDEX_NAME = "search_index_test_entity"
+    public static final String INDEX_VERSION_NAME = "search_index_test_entity_v1"
+
+    UnconstrainedDataManager dataManager = Mock()
+    IndexManager indexManager = Mock()
+    IndexStateRegistry indexStateRegistry = Mock()
+    IndexingQueueLockManager queueLockManager = Mock()
+    EntityIndexer entityIndexer = Mock()
+    List<Collection<Id<?>>> indexedBatches = new CopyOnWriteArrayList<>()
+
+    DirectReindexManagerImpl reindexManager
+
+    void setup() {
+        Store store = Mock()
+        store.getName() >> Stores.MAIN
+
+        MetaClass metaClass = Mock()
+        metaClass.getName() >> ENTITY_NAME
+        metaClass.getJavaClass() >> Object
+        metaClass.getDescendants() >> []
+        metaClass.getStore() >> store
+
+        Metadata metadata = Mock()
+        metadata.getClass(ENTITY_NAME) >> metaClass
+
+        MetadataTools metadataTools = Mock()
+        metadataTools.hasCompositePrimaryKey(metaClass) >> false
+        metadataTools.getPrimaryKeyName(metaClass) >> "id"
+
+        IndexConfiguration indexConfiguration = Mock()
+        indexConfiguration.getEntityName() >> ENTITY_NAME
+        indexConfiguration.getIndexName() >> INDEX_NAME
+
+        IndexConfigurationManager indexConfigurationManager = Mock()
+        indexConfigurationManager.isDirectlyIndexed(ENTITY_NAME) >> true
+        indexConfigurationManager.getIndexConfigurationByEntityName(ENTITY_NAME) >> indexConfiguration
+
+        entityIndexer.indexCollectionByEntityIds(_ as Collection, INDEX_VERSION_NAME) >> { Collection<Id<?>> ids, String indexName ->
+            indexedBatches << ids
+            new IndexResult(ids.size(), [])
+        }
+
+        IndexingLocker locker = Mock()
+        locker.tryLockEntityForEnqueueIndexAll(ENTITY_NAME) >> true
+
+        queueLockManager.getLeaseTimeoutMillis() >> 60000L
+
+        SystemAuthenticator authenticator = Mock()
+        authenticator.withSystem(_) >> { SystemAuthenticator.AuthenticatedOperation operation -> operation.call() }
+
+        SearchProperties searchProperties = Mock()
+        searchProperties.getDirectReindexBatchSize() >> 2
+        searchProperties.getDirectReindexParallelism() >> 2
+
+        indexManager.createIndexVersion(indexConfiguration) >> INDEX_VERSION_NAME
+        indexStateRegistry.isIndexAvailable(ENTITY_NAME) >> true
+
+        dataManager.getCount(_ as LoadContext) >> 5L
+        dataManager.loadValues(_ as ValueLoadContext) >>> [idValues(1, 2), idValues(3, 4), idValues(5)]
+
+        reindexManager = new DirectReindexManagerImpl(dataManager, metadata, metadataTools, entityIndexer, indexManager,
+                indexConfigurationManager, indexStateRegistry, locker, queueLockManager, authenticator, searchProperties)
+    }
+
+    void cleanup() {
+        reindexManager.destroy()
+    }
+
+    def "all instances are indexed into new index version before switching"() {
+        when:
+        DirectReindexProgress progress = reindexManager.reindex(ENTITY_NAME)
+
+        then:
+        1 * queueLockManager.tryLock(ENTITY_NAME) >> true
+        1 * queueLockManager.renew(ENTITY_NAME) >> true
+        1 * indexManager.switchIndexVersion(_, INDEX_VERSION_NAME) >> true
+        1 * indexStateRegistry.markIndexAsUnavailable(ENTITY_NAME)
+        1 * indexStateRegistry.markIndexAsAvailable(ENTITY_NAME)
+        1 * queueLockManager.unlock(ENTITY_NAME)
+
+        and:
+        progress.status == DirectReindexProgress.Status.COMPLETED
+        progress.processedCount == 5
+        progress.totalCount == 5
+        indexedBatches.collectMany { it*.value }.sort() == [1, 2, 3, 4, 5]
+        reindexManager.getProgress(ENTITY_NAME).is(progress)
+    }
+
+    def "new index version is dropped if switching fails"() {
+        when:
+        DirectReindexProgress progress = reindexManager.reindex(ENTITY_NAME)
+
+        then:
+        1 * queueLockManager.tryLock(ENTITY_NAME) >> true
+        1 * queueLockManager.renew(ENTITY_NAME) >> true
+        1 * indexManager.switchIndexVersion(_, INDEX_VERSION_NAME) >> false
+        1 * indexManager.isIndexExist(INDEX_VERSION_NAME) >> true
+        1 * indexManager.dropIndex(INDEX_VERSION_NAME)
+
+        and:
+        progress.status == DirectReindexProgress.Status.FAILED
+    }
+
+    def "reindex is rejected if queue processing is locked by another node"() {
+        when:
+        DirectReindexProgress progress = reindexManager.reindex(ENTITY_NAME)
+
+        then:
+        1 * queueLockManager.tryLock(ENTITY_NAME) >> false
+        0 * indexManager.createIndexVersion(_)
+        0 * queueLockManager.unlock(_)
+
+        and:
+        progress == null
+    }
+
+    def "new index version is not switched if queue lock is lost"() {
+        when:
+        DirectReindexProgress progress = reindexManager.reindex(ENTITY_NAME)
+
+        then:
+        1 * queueLockManager.tryLock(ENTITY_NAME) >> true
+        1 * queueLockManager.renew(ENTITY_NAME) >> false
+        0 * indexManager.switchIndexVersion(_, _)
+        1 * indexManager.isIndexExist(INDEX_VERSION_NAME) >> true
+        1 * indexManager.dropIndex(INDEX_VERSION_NAME)
+
+        and:
+        progress.status == DirectReindexProgress.Status.FAILED
+    }
+
+    def "new index version is dropped only after in-flight batches are finished"() {
+        given:
+        AtomicBoolean batchFinished = new AtomicBoolean()
+        AtomicBoolean batchFinishedBeforeDrop = new AtomicBoolean()
+
+        when:
+        DirectReindexProgress progress = reindexManager.reindex(ENTITY_NAME)
+
+        then:
+        1 * queueLockManager.tryLock(ENTITY_NAME) >> true
+        2 * dataManager.loadValues(_ as ValueLoadContext) >> idValues(1, 2) >> { throw new IllegalStateException("Unable to load ids") }
+        1 * entityIndexer.indexCollectionByEntityIds(_ as Collection, INDEX_VERSION_NAME) >> { Collection<Id<?>> ids, String indexName ->
+            sleep(200)
+            batchFinished.set(true)
+            new IndexResult(ids.size(), [])
+        }
+        1 * indexManager.isIndexExist(INDEX_VERSION_NAME) >> {
+            batchFinishedBeforeDrop.set(batchFinished.get())
+            true
+        }
+        1 * indexManager.dropIndex(INDEX_VERSION_NAME)
+        1 * queueLockManager.unlock(ENTITY_NAME)
+
+        and:
+        progress.status == DirectReindexProgress.Status.FAILED
+        batchFinishedBeforeDrop.get()
+    }
+
+    protected static List<KeyValueEntity> idValues(Object... ids) {
+        ids.collect {
+            KeyValueEntity value = new KeyValueEntity()
+            value.setValue("id", it)
+            value
+        }
+    }
+}
@@ -18,8 +18,13 @@ package change_tracking;
 
 import io.jmix.core.DataManager;
 import io.jmix.core.Id;
+import io.jmix.core.IdSerialization;
 import io.jmix.core.Metadata;
+import io.jmix.core.SaveContext;
+import io.jmix.core.UnconstrainedDataManager;
+import io.jmix.search.index.queue.entity.IndexingQueueItem;
 import io.jmix.search.index.queue.impl.IndexingOperation;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.Assert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -50,6 +55,12 @@ public class EntityChangeTrackingTest {
     Metadata metadata;
     @Autowired
     DataManager dataManager;
+    @Autowired
+    UnconstrainedDataManager unconstrainedDataManager;
+    @Autowired
+    IdSerialization idSerialization;
+    @Autowired
+    MeterRegistry meterRegistry;
 
     @BeforeEach
     public void setUp() {
@@ -1363,4 +1374,51 @@ public class EntityChangeTrackingTest {
         boolean enqueued = indexingQueueItemsTracker.containsQueueItemsForEntityAndOperation(rootEntity, IndexingOperation.INDEX, 0);
         Assert.assertTrue(enqueued);
     }
+
+    @Test
+    @DisplayName("Repeated updates of indexed entity keep single pending queue item")
+    public void repeatedUpdatesAreCoalesced() {
+        TestRootEntityHD entityHD = ewm.createTestRootEntityHD().save();
+        ewm.wrap(entityHD).setTextValue("Value 1").save();
+        ewm.wrap(entityHD).setTextValue("Value 2").save();
+
+        boolean requested = indexingQueueItemsTracker.containsQueueItemsForEntityAndOperation(entityHD, IndexingOperation.INDEX, 3);
+        Assert.assertTrue(requested);
+
+        long pending = unconstrainedDataManager.load(IndexingQueueItem.class)
+                .query("select q from search_IndexingQueue q where q.entityId = :entityId")
+                .parameter("entityId", idSerialization.idToString(Id.of(entityHD)))
+                .list()
+                .size();
+        Assert.assertEquals(1, pending);
+    }
+
+    @Test
+    @DisplayName("Entities dependent on references updated in one transaction are loaded together")
+    public void updateIndexedLocalPropertyOfSeveralReferences() {
+        TestReferenceEntity reference = ewm.createTestReferenceEntity().save();
+        TestReferenceEntity reference1 = ewm.createTestReferenceEntity().save();
+        TestReferenceEntity reference2 = ewm.createTestReferenceEntity().save();
+        ewm.createTestRootEntity().setOneToOneAssociation(reference).save();
+        TestRootEntity rootEntity1 = ewm.createTestRootEntity().setOneToOneAssociation(reference1).save();
+        TestRootEntity rootEntity2 = ewm.createTestRootEntity().setOneToOneAssociation(reference2).save();
+
+        double queries = getDependentQueriesCount();
+        ewm.wrap(reference).setTextValue("Some text value").save();
+        double singleUpdateQueries = getDependentQueriesCount() - queries;
+        indexingQueueItemsTracker.clear();
+
+        queries = getDependentQueriesCount();
+        reference1.setTextValue("Some text value");
+        reference2.setTextValue("Some text value");
+        dataManager.save(new SaveContext().saving(reference1, reference2));
+        Assert.assertEquals(singleUpdateQueries, getDependentQueriesCount() - queries, 0);
+
+        Assert.assertTrue(indexingQueueItemsTracker.containsQueueItemsForEntityAndOperation(rootEntity1, IndexingOperation.INDEX, 1));
+        Assert.assertTrue(indexingQueueItemsTracker.containsQueueItemsForEntityAndOperation(rootEntity2, IndexingOperation.INDEX, 1));
+    }
+
+    private double getDependentQueriesCount() {
+        return meterRegistry.counter("jmix.search.EntityTracking.dependentQueries").count();
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package indexing_queue;
+
+import io.jmix.core.Id;
+import io.jmix.core.IdSerialization;
+import io.jmix.core.UnconstrainedDataManager;
+import io.jmix.search.index.impl.IndexStateRegistry;
+import io.jmix.search.index.queue.IndexingQueueManager;
+import io.jmix.search.index.queue.entity.IndexingQueueItem;
+import io.jmix.search.index.queue.impl.IndexingOperation;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import test_support.EntityChangeTrackingTestConfiguration;
+import test_support.TestCommonEntityWrapperManager;
+import test_support.entity.TestRootEntity;
+
+import java.util.List;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(
+        classes = {EntityChangeTrackingTestConfiguration.class}
+)
+public class IndexingQueueCoalescingTest {
+
+    @Autowired
+    IndexingQueueManager indexingQueueManager;
+    @Autowired
+    IndexStateRegistry indexStateRegistry;
+    @Autowired
+    TestCommonEntityWrapperManager ewm;
+    @Autowired
+    UnconstrainedDataManager unconstrainedDataManager;
+    @Autowired
+    IdSerialization idSerialization;
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        indexingQueueManager.emptyQueue();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        indexStateRegistry.markIndexAsUnavailable("test_RootEntity");
+        indexingQueueManager.emptyQueue();
+    }
+
+    @Test
+    @DisplayName("Item enqueued by another transaction is replaced after commit")
+    public void pendingItemIsReplaced() {
+        TestRootEntity entity = ewm.createTestRootEntity().save();
+        indexingQueueManager.emptyQueue();
+        double coalesced = getItemsCount("coalesced");
+
+        indexingQueueManager.enqueueIndex(entity);
+        indexingQueueManager.enqueueIndex(entity);
+
+        List<IndexingQueueItem> pending = loadPendingItems(entity);
+        Assert.assertEquals(1, pending.size());
+        Assert.assertEquals(IndexingOperation.INDEX, pending.get(0).getOperation());
+        Assert.assertEquals(1, getItemsCount("coalesced") - coalesced, 0);
+    }
+
+    @Test
+    @DisplayName("Pending items of dequeued instances are processed together with them")
+    public void pendingItemsOfSameInstancesAreProcessed() throws InterruptedException {
+        TestRootEntity entity1 = ewm.createTestRootEntity().save();
+        TestRootEntity entity2 = ewm.createTestRootEntity().save();
+        indexingQueueManager.emptyQueue();
+        indexStateRegistry.markIndexAsAvailable("test_RootEntity");
+        double collapsed = getItemsCount("collapsed");
+
+        indexingQueueManager.enqueueIndex(entity1);
+        Thread.sleep(10);
+        indexingQueueManager.enqueueIndex(entity2);
+        Thread.sleep(10);
+        indexingQueueManager.enqueueDelete(entity1);
+
+        int processed = indexingQueueManager.processNextBatch(1);
+
+        Assert.assertEquals(2, processed);
+        Assert.assertTrue(loadPendingItems(entity1).isEmpty());
+        Assert.assertEquals(1, loadPendingItems(entity2).size());
+        Assert.assertEquals(1, getItemsCount("collapsed") - collapsed, 0);
+    }
+
+    @Test
+    @DisplayName("Dedup ratio is a share of coalesced and collapsed items among requested ones")
+    public void dedupRatio() {
+        TestRootEntity entity = ewm.createTestRootEntity().save();
+        indexingQueueManager.enqueueIndex(entity);
+
+        double expected = (getItemsCount("coalesced") + getItemsCount("collapsed")) / getItemsCount("requested");
+        double dedupRatio = meterRegistry.get("jmix.search.IndexingQueue.dedupRatio").gauge().value();
+        Assert.assertTrue(dedupRatio > 0);
+        Assert.assertEquals(expected, dedupRatio, 0.0001);
+    }
+
+    private List<IndexingQueueItem> loadPendingItems(Object entity) {
+        return unconstrainedDataManager.load(IndexingQueueItem.class)
+                .query("select q from search_IndexingQueue q where q.entityId = :entityId")
+                .parameter("entityId", idSerialization.idToString(Id.of(entity)))
+                .list();
+    }
+
+    private double getItemsCount(String outcome) {
+        return meterRegistry.counter("jmix.search.IndexingQueue.items", "outcome", outcome).count();
+    }
+}
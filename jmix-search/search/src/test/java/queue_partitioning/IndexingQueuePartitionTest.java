@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package queue_partitioning;
+
+import io.jmix.core.Metadata;
+import io.jmix.core.UnconstrainedDataManager;
+import io.jmix.search.index.queue.entity.IndexingQueueItem;
+import io.jmix.search.index.queue.impl.IndexingOperation;
+import io.jmix.search.index.queue.impl.IndexingQueuePartitionManager;
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import test_support.EntityChangeTrackingTestConfiguration;
+import test_support.TestJpaIndexingQueueManager;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(
+        classes = {EntityChangeTrackingTestConfiguration.class}
+)
+@TestPropertySource(properties = "jmix.search.indexing-queue-partition-count=4")
+public class IndexingQueuePartitionTest {
+
+    @Autowired
+    AutowireCapableBeanFactory beanFactory;
+    @Autowired
+    TestJpaIndexingQueueManager indexingQueueManager;
+    @Autowired
+    UnconstrainedDataManager dataManager;
+    @Autowired
+    Metadata metadata;
+
+    IndexingQueuePartitionManager node1;
+    IndexingQueuePartitionManager node2;
+
+    @BeforeEach
+    public void setUp() {
+        node1 = beanFactory.createBean(IndexingQueuePartitionManager.class);
+        node2 = beanFactory.createBean(IndexingQueuePartitionManager.class);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        node1.releasePartitions();
+        node2.releasePartitions();
+        indexingQueueManager.emptyQueue();
+    }
+
+    @Test
+    @DisplayName("Items of an entity instance belong to the same partition")
+    public void partitionOfInstance() {
+        int partition = node1.getPartitionNumber("test_RootEntity", "id-1");
+        Assert.assertTrue(partition >= 0 && partition < 4);
+        Assert.assertEquals(partition, node1.getPartitionNumber("test_RootEntity", "id-1"));
+        Assert.assertEquals(partition, node2.getPartitionNumber("test_RootEntity", "id-1"));
+    }
+
+    @Test
+    @DisplayName("Partitions are distributed evenly among nodes")
+    public void distributePartitions() {
+        Assert.assertTrue(node1.isPartitioningEnabled());
+        Assert.assertEquals(Set.of(0, 1, 2, 3), node1.acquirePartitions());
+
+        // all partitions are leased by the first node, the second one only registers its heartbeat
+        Assert.assertTrue(node2.acquirePartitions().isEmpty());
+
+        Set<Integer> partitions1 = node1.acquirePartitions();
+        Set<Integer> partitions2 = node2.acquirePartitions();
+        Assert.assertEquals(2, partitions1.size());
+        Assert.assertEquals(2, partitions2.size());
+
+        Set<Integer> allPartitions = new HashSet<>(partitions1);
+        allPartitions.addAll(partitions2);
+        Assert.assertEquals(Set.of(0, 1, 2, 3), allPartitions);
+
+        node2.releasePartitions();
+        Assert.assertEquals(Set.of(0, 1, 2, 3), node1.acquirePartitions());
+    }
+
+    @Test
+    @DisplayName("Leases are renewed only by the owner of partitions")
+    public void renewPartitions() {
+        Set<Integer> partitions = node1.acquirePartitions();
+        Assert.assertTrue(node1.renewPartitions(partitions));
+        Assert.assertFalse(node2.renewPartitions(partitions));
+
+        node1.releasePartitions();
+        Assert.assertFalse(node1.renewPartitions(partitions));
+    }
+
+    @Test
+    @DisplayName("Only items of leased partitions are dequeued")
+    public void dequeueItemsOfPartitions() {
+        indexingQueueManager.emptyQueue();
+        saveQueueItem("id-0", 0);
+        saveQueueItem("id-1", 1);
+        saveQueueItem("id-3", 3);
+        saveQueueItem("id-null", null);
+        saveQueueItem("id-7", 7);
+
+        Assert.assertEquals(Set.of("id-1", "id-3"), dequeueEntityIds(Set.of(1, 3)));
+        // owner of partition 0 also takes items without a partition or beyond the partition count
+        Assert.assertEquals(Set.of("id-0", "id-null", "id-7"), dequeueEntityIds(Set.of(0)));
+        Assert.assertEquals(Set.of("id-0", "id-1", "id-3", "id-null", "id-7"), dequeueEntityIds(null));
+    }
+
+    private void saveQueueItem(String entityId, Integer partitionNumber) {
+        IndexingQueueItem item = metadata.create(IndexingQueueItem.class);
+        item.setEntityName("test_RootEntity");
+        item.setEntityId(entityId);
+        item.setOperation(IndexingOperation.INDEX);
+        item.setPartitionNumber(partitionNumber);
+        dataManager.save(item);
+    }
+
+    private Set<String> dequeueEntityIds(Set<Integer> partitions) {
+        return dataManager.loadList(indexingQueueManager.createDequeueLoadContext(Collections.emptyList(), partitions, 100))
+                .stream()
+                .map(IndexingQueueItem::getEntityId)
+                .collect(Collectors.toSet());
+    }
+}
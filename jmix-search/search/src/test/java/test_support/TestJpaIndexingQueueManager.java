@@ -16,13 +16,16 @@
 
 package test_support;
 
+import io.jmix.core.LoadContext;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.search.index.queue.entity.IndexingQueueItem;
 import io.jmix.search.index.queue.impl.JpaIndexingQueueManager;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 /**
  * JpaIndexingQueueManager with additional test tracker of queue items
@@ -60,4 +63,11 @@ public class TestJpaIndexingQueueManager extends JpaIndexingQueueManager {
         }
         return super.processRawIds(rawIds, metaClass, batchSize);
     }
+
+    @Override
+    public LoadContext<IndexingQueueItem> createDequeueLoadContext(List<String> unavailableEntities,
+                                                                   @Nullable Set<Integer> partitions,
+                                                                   int batchSize) {
+        return super.createDequeueLoadContext(unavailableEntities, partitions, batchSize);
+    }
 }
@@ -28,6 +28,11 @@ public class TestNoopEntityIndexer implements EntityIndexer {
         return new IndexResult(0, Collections.emptyList());
     }
 
+    @Override
+    public IndexResult indexCollectionByEntityIds(Collection<Id<?>> entityIds, String targetIndexName) {
+        return new IndexResult(0, Collections.emptyList());
+    }
+
     @Override
     public IndexResult delete(Object entityInstance) {
         return new IndexResult(0, Collections.emptyList());
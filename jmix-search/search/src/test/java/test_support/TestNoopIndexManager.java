@@ -41,4 +41,14 @@ public class TestNoopIndexManager extends BaseIndexManager {
     public boolean putMapping(@NonNull String indexName, @NonNull IndexMappingConfiguration mapping) {
         return false;
     }
+
+    @Override
+    public boolean switchIndexVersion(@NonNull IndexConfiguration indexConfiguration, @NonNull String indexVersionName) {
+        return true;
+    }
+
+    @Override
+    protected boolean createIndex(@NonNull IndexConfiguration indexConfiguration, @NonNull String indexName) {
+        return true;
+    }
 }
@@ -16,8 +16,10 @@
 
 package io.jmix.securitydata.listener;
 
+import io.jmix.core.cluster.ClusterApplicationEventPublisher;
 import io.jmix.core.event.EntityChangedEvent;
 import io.jmix.security.impl.role.event.ResourceRoleModifiedEvent;
+import io.jmix.security.impl.role.event.RolesModifiedClusterEvent;
 import io.jmix.securitydata.entity.ResourcePolicyEntity;
 import io.jmix.securitydata.entity.ResourceRoleEntity;
 import org.springframework.context.ApplicationEventPublisher;
@@ -26,15 +28,19 @@ import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Listener is fired when {@link ResourceRoleEntity} or {@link ResourcePolicyEntity} is changed. Listener job is to send
- * the {@link ResourceRoleModifiedEvent}.
+ * the {@link ResourceRoleModifiedEvent} and to notify other application instances of a cluster by
+ * {@link RolesModifiedClusterEvent}.
  */
 @Component("sec_ResourceRoleEntityChangedEventListener")
 public class ResourceRoleEntityChangedEventListener {
 
     private ApplicationEventPublisher eventPublisher;
+    private ClusterApplicationEventPublisher clusterEventPublisher;
 
-    public ResourceRoleEntityChangedEventListener(ApplicationEventPublisher eventPublisher) {
+    public ResourceRoleEntityChangedEventListener(ApplicationEventPublisher eventPublisher,
+                                                  ClusterApplicationEventPublisher clusterEventPublisher) {
         this.eventPublisher = eventPublisher;
+        this.clusterEventPublisher = clusterEventPublisher;
     }
 
     @TransactionalEventListener
@@ -49,5 +55,6 @@ public class ResourceRoleEntityChangedEventListener {
 
     protected void publishRoleModifiedEvent() {
         eventPublisher.publishEvent(new ResourceRoleModifiedEvent(this));
+        clusterEventPublisher.publish(new RolesModifiedClusterEvent(this, RolesModifiedClusterEvent.RoleType.RESOURCE));
     }
 }
@@ -16,8 +16,10 @@
 
 package io.jmix.securitydata.listener;
 
+import io.jmix.core.cluster.ClusterApplicationEventPublisher;
 import io.jmix.core.event.EntityChangedEvent;
 import io.jmix.security.impl.role.event.ResourceRoleModifiedEvent;
+import io.jmix.security.impl.role.event.RolesModifiedClusterEvent;
 import io.jmix.security.impl.role.event.RowLevelRoleModifiedEvent;
 import io.jmix.securitydata.entity.ResourcePolicyEntity;
 import io.jmix.securitydata.entity.ResourceRoleEntity;
@@ -29,15 +31,19 @@ import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Listener is fired when {@link RowLevelRoleEntity} or {@link RowLevelPolicyEntity} is changed. Listener job is to send
- * the {@link RowLevelRoleModifiedEvent}.
+ * the {@link RowLevelRoleModifiedEvent} and to notify other application instances of a cluster by
+ * {@link RolesModifiedClusterEvent}.
  */
 @Component("sec_RowLevelRoleEntityChangedEventListener")
 public class RowLevelRoleEntityChangedEventListener {
 
     private ApplicationEventPublisher eventPublisher;
+    private ClusterApplicationEventPublisher clusterEventPublisher;
 
-    public RowLevelRoleEntityChangedEventListener(ApplicationEventPublisher eventPublisher) {
+    public RowLevelRoleEntityChangedEventListener(ApplicationEventPublisher eventPublisher,
+                                                  ClusterApplicationEventPublisher clusterEventPublisher) {
         this.eventPublisher = eventPublisher;
+        this.clusterEventPublisher = clusterEventPublisher;
     }
 
     @TransactionalEventListener
@@ -52,5 +58,6 @@ public class RowLevelRoleEntityChangedEventListener {
 
     protected void publishRoleModifiedEvent() {
         eventPublisher.publishEvent(new RowLevelRoleModifiedEvent(this));
+        clusterEventPublisher.publish(new RolesModifiedClusterEvent(this, RolesModifiedClusterEvent.RoleType.ROW_LEVEL));
     }
 }
@@ -32,11 +32,19 @@ public class SecurityProperties {
      */
     String defaultRowLevelRolePrefix;
 
+    /**
+     * Maximum number of compiled policy snapshots kept by the policy store. A snapshot is shared by all
+     * authentications with the same set of granted authorities and scope.
+     */
+    long policySnapshotCacheMaxSize;
+
     public SecurityProperties(
             @DefaultValue("true") boolean annotatedRolesHotDeployEnabled,
-            @DefaultValue("ROW_LEVEL_ROLE_") String defaultRowLevelRolePrefix) {
+            @DefaultValue("ROW_LEVEL_ROLE_") String defaultRowLevelRolePrefix,
+            @DefaultValue("1000") long policySnapshotCacheMaxSize) {
         this.annotatedRolesHotDeployEnabled = annotatedRolesHotDeployEnabled;
         this.defaultRowLevelRolePrefix = defaultRowLevelRolePrefix;
+        this.policySnapshotCacheMaxSize = policySnapshotCacheMaxSize;
     }
 
     /**
@@ -52,4 +60,11 @@ public class SecurityProperties {
     public String getDefaultRowLevelRolePrefix() {
         return defaultRowLevelRolePrefix;
     }
+
+    /**
+     * @see #policySnapshotCacheMaxSize
+     */
+    public long getPolicySnapshotCacheMaxSize() {
+        return policySnapshotCacheMaxSize;
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.security.impl.constraint;
+
+import io.jmix.security.model.ResourcePolicy;
+import io.jmix.security.model.ResourceRole;
+import io.jmix.security.model.RowLevelPolicy;
+import io.jmix.security.model.RowLevelRole;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Immutable set of effective roles resolved for a combination of granted authorities and security scope.
+ * <p>
+ * Policies requested by resource are collected from all roles once and then served from a hash lookup, so repeated
+ * permission checks do not walk the granted authorities and role repositories again.
+ *
+ * @see AuthenticationPolicyStore
+ */
+public class AuthenticationPolicySnapshot {
+
+    protected final List<ResourceRole> resourceRoles;
+    protected final List<RowLevelRole> rowLevelRoles;
+
+    protected final ConcurrentMap<ResourceKey, List<ResourcePolicy>> resourcePolicies = new ConcurrentHashMap<>();
+    protected final ConcurrentMap<String, List<RowLevelPolicy>> rowLevelPolicies = new ConcurrentHashMap<>();
+
+    public AuthenticationPolicySnapshot(List<ResourceRole> resourceRoles, List<RowLevelRole> rowLevelRoles) {
+        this.resourceRoles = List.copyOf(resourceRoles);
+        this.rowLevelRoles = List.copyOf(rowLevelRoles);
+    }
+
+    /**
+     * @return resource roles applicable to the authentication and its scope
+     */
+    public List<ResourceRole> getResourceRoles() {
+        return resourceRoles;
+    }
+
+    /**
+     * @return row-level roles of the authentication
+     */
+    public List<RowLevelRole> getRowLevelRoles() {
+        return rowLevelRoles;
+    }
+
+    /**
+     * Returns policies of the given type defined for any of the given resources in all roles of the snapshot.
+     *
+     * @param policyType policy type, see {@link io.jmix.security.model.ResourcePolicyType}
+     * @param resources  resource names, the order is significant only for the order of returned policies
+     */
+    public List<ResourcePolicy> getResourcePolicies(String policyType, String... resources) {
+        return resourcePolicies.computeIfAbsent(new ResourceKey(policyType, resources), this::collectResourcePolicies);
+    }
+
+    /**
+     * Returns row-level policies defined for any of the given entity names in all roles of the snapshot.
+     *
+     * @param entityName          name of the requested entity
+     * @param entityNamesSupplier supplies names of the entity, its original entity and ancestors, invoked only
+     *                            if policies for the entity are not collected yet
+     */
+    public List<RowLevelPolicy> getRowLevelPolicies(String entityName, Supplier<Collection<String>> entityNamesSupplier) {
+        return rowLevelPolicies.computeIfAbsent(entityName, k -> collectRowLevelPolicies(entityNamesSupplier.get()));
+    }
+
+    protected List<ResourcePolicy> collectResourcePolicies(ResourceKey key) {
+        List<ResourcePolicy> result = new ArrayList<>();
+        for (ResourceRole resourceRole : resourceRoles) {
+            for (String resource : key.resources) {
+                result.addAll(resourceRole.getAllResourcePoliciesIndex().getPoliciesByTypeAndResource(key.policyType, resource));
+            }
+        }
+        return result.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(result);
+    }
+
+    protected List<RowLevelPolicy> collectRowLevelPolicies(Collection<String> entityNames) {
+        List<RowLevelPolicy> result = new ArrayList<>();
+        for (RowLevelRole rowLevelRole : rowLevelRoles) {
+            for (String entityName : entityNames) {
+                result.addAll(rowLevelRole.getAllRowLevelPoliciesIndex().getRowLevelPoliciesByEntityName(entityName));
+            }
+        }
+        return result.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(result);
+    }
+
+    protected static final class ResourceKey {
+
+        private final String policyType;
+        private final String[] resources;
+        private final int hash;
+
+        private ResourceKey(String policyType, String[] resources) {
+            this.policyType = policyType;
+            this.resources = resources;
+            this.hash = 31 * policyType.hashCode() + Arrays.hashCode(resources);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ResourceKey)) return false;
+            ResourceKey that = (ResourceKey) o;
+            return policyType.equals(that.policyType) && Arrays.equals(resources, that.resources);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
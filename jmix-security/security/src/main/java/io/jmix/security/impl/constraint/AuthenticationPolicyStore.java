@@ -16,15 +16,19 @@
 
 package io.jmix.security.impl.constraint;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.jmix.core.ExtendedEntities;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.security.ClientDetails;
 import io.jmix.core.security.CurrentAuthentication;
+import io.jmix.security.SecurityProperties;
 import io.jmix.security.constraint.PolicyStore;
 import io.jmix.security.model.*;
 import io.jmix.security.role.ResourceRoleRepository;
 import io.jmix.security.role.RoleGrantedAuthorityUtils;
 import io.jmix.security.role.RowLevelRoleRepository;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,12 +37,16 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.function.Function;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
+/**
+ * Provides policies of the current authentication. Roles granted to the authentication are resolved once per set of
+ * granted authorities and scope into an {@link AuthenticationPolicySnapshot}, which is invalidated when roles are
+ * modified.
+ */
 @Component("sec_AuthenticationPolicyStore")
 public class AuthenticationPolicyStore implements PolicyStore {
 
@@ -58,140 +66,164 @@ public class AuthenticationPolicyStore implements PolicyStore {
     @Autowired
     protected RoleGrantedAuthorityUtils roleGrantedAuthorityUtils;
 
+    @Autowired
+    protected SecurityProperties securityProperties;
+
+    protected Cache<SnapshotKey, SnapshotEntry> snapshots;
+
+    /**
+     * Incremented on each invalidation. A snapshot built before an invalidation is tagged with the previous
+     * generation and is never returned after the invalidation even if its loading completed later.
+     */
+    protected final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    protected void init() {
+        snapshots = CacheBuilder.newBuilder()
+                .maximumSize(securityProperties.getPolicySnapshotCacheMaxSize())
+                .build();
+    }
+
     @Override
     public Stream<RowLevelPolicy> getRowLevelPolicies(MetaClass metaClass) {
-        MetaClass originalMetaClass = extendedEntities.getOriginalMetaClass(metaClass);
-        Set<String> suitableMetaClassNames = new HashSet<>();
-        suitableMetaClassNames.add(metaClass.getName());
-        if (originalMetaClass != null) {
-            suitableMetaClassNames.add(originalMetaClass.getName());
-            for (MetaClass ancestor : originalMetaClass.getAncestors()) {
-                suitableMetaClassNames.add(ancestor.getName());
-            }
+        AuthenticationPolicySnapshot snapshot = getSnapshot();
+        if (snapshot.getRowLevelRoles().isEmpty()) {
+            return Stream.empty();
         }
-        for (MetaClass ancestor : metaClass.getAncestors()) {
-            suitableMetaClassNames.add(ancestor.getName());
-        }
-
-        return extractRowLevelPoliciesFromAuthentication(rowLevelRole ->
-                suitableMetaClassNames.stream()
-                                .flatMap(metaClassName ->
-                                        rowLevelRole.getAllRowLevelPoliciesIndex().getRowLevelPoliciesByEntityName(metaClassName).stream())
-        );
+        return snapshot.getRowLevelPolicies(metaClass.getName(), () -> getSuitableMetaClassNames(metaClass)).stream();
     }
 
     @Override
     public Stream<ResourcePolicy> getEntityResourcePolicies(MetaClass metaClass) {
         MetaClass originalMetaClass = extendedEntities.getOriginalMetaClass(metaClass);
-        return extractResourcePoliciesFromAuthenticationByScope(resourceRole -> {
-            Set<String> resources = new HashSet<>();
-            resources.add(metaClass.getName());
-            if (originalMetaClass != null) {
-                resources.add(originalMetaClass.getName());
-            }
-            return getPoliciesStreamByTypeAndResources(resourceRole, ResourcePolicyType.ENTITY, resources);
-        });
+        return getSnapshot().getResourcePolicies(ResourcePolicyType.ENTITY,
+                getResources(metaClass, originalMetaClass, null)).stream();
     }
 
     @Override
     public Stream<ResourcePolicy> getEntityResourcePoliciesByWildcard(String wildcard) {
-        return extractResourcePoliciesFromAuthenticationByScope(resourceRole ->
-            getPoliciesStreamByTypeAndResources(resourceRole,
-                    ResourcePolicyType.ENTITY,
-                    Set.of(wildcard))
-        );
+        return getSnapshot().getResourcePolicies(ResourcePolicyType.ENTITY, wildcard).stream();
     }
 
     @Override
     public Stream<ResourcePolicy> getEntityAttributesResourcePolicies(MetaClass metaClass, String attribute) {
         MetaClass originalMetaClass = extendedEntities.getOriginalMetaClass(metaClass);
-        return extractResourcePoliciesFromAuthenticationByScope(resourceRole -> {
-            Set<String> resources = new HashSet<>();
-            resources.add(metaClass.getName() + "." + attribute);
-            if (originalMetaClass != null) {
-                resources.add(originalMetaClass.getName() + "." + attribute);
-            }
-            return getPoliciesStreamByTypeAndResources(resourceRole, ResourcePolicyType.ENTITY_ATTRIBUTE, resources);
-        });
+        return getSnapshot().getResourcePolicies(ResourcePolicyType.ENTITY_ATTRIBUTE,
+                getResources(metaClass, originalMetaClass, attribute)).stream();
     }
 
     @Override
     public Stream<ResourcePolicy> getEntityAttributesResourcePoliciesByWildcard(String entityWildcard, String attributeWildcard) {
-        return extractResourcePoliciesFromAuthenticationByScope(resourceRole ->
-                getPoliciesStreamByTypeAndResources(resourceRole,
-                        ResourcePolicyType.ENTITY_ATTRIBUTE,
-                        Set.of(entityWildcard + "." + attributeWildcard)));
+        return getSnapshot().getResourcePolicies(ResourcePolicyType.ENTITY_ATTRIBUTE,
+                entityWildcard + "." + attributeWildcard).stream();
     }
 
     @Override
     public Stream<ResourcePolicy> getSpecificResourcePolicies(String resourceName) {
-        return extractResourcePoliciesFromAuthenticationByScope(resourceRole ->
-                getPoliciesStreamByTypeAndResources(resourceRole,
-                        ResourcePolicyType.SPECIFIC,
-                        Set.of(resourceName)));
+        return getSnapshot().getResourcePolicies(ResourcePolicyType.SPECIFIC, resourceName).stream();
     }
 
     @Override
     public Stream<ResourcePolicy> getGraphQLResourcePolicies(String resourceName) {
-        return extractResourcePoliciesFromAuthenticationByScope(resourceRole ->
-                getPoliciesStreamByTypeAndResources(resourceRole,
-                        ResourcePolicyType.GRAPHQL,
-                        Set.of(resourceName)));
+        return getSnapshot().getResourcePolicies(ResourcePolicyType.GRAPHQL, resourceName).stream();
     }
 
-    protected Stream<ResourcePolicy> extractResourcePoliciesFromAuthenticationByScope(Function<ResourceRole, Stream<ResourcePolicy>> extractor) {
-        Stream<ResourcePolicy> stream = Stream.empty();
+    /**
+     * Drops all compiled snapshots. Must be invoked after the caches of role repositories are invalidated, see
+     * {@link io.jmix.security.impl.role.ResourceRoleModifiedEventListener} and
+     * {@link io.jmix.security.impl.role.RowLevelRoleModifiedEventListener}.
+     */
+    public void invalidateCache() {
+        generation.incrementAndGet();
+        snapshots.invalidateAll();
+    }
 
+    /**
+     * Returns the snapshot of effective roles for the current authentication. Snapshots are shared between all
+     * authentications having the same set of granted authorities and scope.
+     */
+    protected AuthenticationPolicySnapshot getSnapshot() {
         Authentication authentication = currentAuthentication.getAuthentication();
         String scope = getScope(authentication);
+        Set<String> authorities = new HashSet<>();
         for (GrantedAuthority authority : authentication.getAuthorities()) {
             if (authority.getAuthority() != null) {
-                String roleCode = authority.getAuthority();
-                String defaultRolePrefix = roleGrantedAuthorityUtils.getDefaultRolePrefix();
-                if (roleCode.startsWith(defaultRolePrefix)) {
-                    roleCode = roleCode.substring(defaultRolePrefix.length());
-                    ResourceRole resourceRole = resourceRoleRepository.findRoleByCode(roleCode);
-                    if (resourceRole == null) {
-                        log.trace("ResourceRole '{}' not found", roleCode);
-                        continue;
-                    }
-                    if (isAppliedForScope(resourceRole, scope)) {
-                        Stream<ResourcePolicy> extractedStream = extractor.apply(resourceRole);
-                        if (extractedStream != null) {
-                            stream = Stream.concat(stream, extractedStream);
-                        }
-                    }
-                }
+                authorities.add(authority.getAuthority());
             }
         }
-
-        return stream;
+        SnapshotKey key = new SnapshotKey(authorities, scope);
+        while (true) {
+            long currentGeneration = generation.get();
+            SnapshotEntry entry;
+            try {
+                entry = snapshots.get(key,
+                        () -> new SnapshotEntry(currentGeneration, createSnapshot(authentication, scope)));
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Unable to create policy snapshot", e.getCause());
+            }
+            if (entry.generation >= generation.get()) {
+                return entry.snapshot;
+            }
+            // the snapshot was built from roles that have been modified since, drop it and build again
+            snapshots.asMap().remove(key, entry);
+        }
     }
 
-    protected Stream<RowLevelPolicy> extractRowLevelPoliciesFromAuthentication(Function<RowLevelRole, Stream<RowLevelPolicy>> extractor) {
-        Stream<RowLevelPolicy> stream = Stream.empty();
+    protected AuthenticationPolicySnapshot createSnapshot(Authentication authentication, @Nullable String scope) {
+        List<ResourceRole> resourceRoles = new ArrayList<>();
+        List<RowLevelRole> rowLevelRoles = new ArrayList<>();
 
-        Authentication authentication = currentAuthentication.getAuthentication();
-        for (GrantedAuthority grantedAuthority : authentication.getAuthorities()) {
-            if (grantedAuthority.getAuthority() != null) {
-                String roleName = grantedAuthority.getAuthority();
-                String defaultRowLevelRolePrefix = roleGrantedAuthorityUtils.getDefaultRowLevelRolePrefix();
-                if (roleName.startsWith(defaultRowLevelRolePrefix)) {
-                    roleName = roleName.substring(defaultRowLevelRolePrefix.length());
-                    RowLevelRole rowLevelRole = rowLevelRoleRepository.findRoleByCode(roleName);
-                    if (rowLevelRole == null) {
-                        log.trace("RowLevelRole '{}' not found", roleName);
-                        continue;
-                    }
-                    Stream<RowLevelPolicy> extractedStream = extractor.apply(rowLevelRole);
-                    if (extractedStream != null) {
-                        stream = Stream.concat(stream, extractedStream);
-                    }
+        String defaultRolePrefix = roleGrantedAuthorityUtils.getDefaultRolePrefix();
+        String defaultRowLevelRolePrefix = roleGrantedAuthorityUtils.getDefaultRowLevelRolePrefix();
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String authorityName = authority.getAuthority();
+            if (authorityName == null) {
+                continue;
+            }
+            if (authorityName.startsWith(defaultRolePrefix)) {
+                String roleCode = authorityName.substring(defaultRolePrefix.length());
+                ResourceRole resourceRole = resourceRoleRepository.findRoleByCode(roleCode);
+                if (resourceRole == null) {
+                    log.trace("ResourceRole '{}' not found", roleCode);
+                } else if (isAppliedForScope(resourceRole, scope)) {
+                    resourceRoles.add(resourceRole);
+                }
+            }
+            if (authorityName.startsWith(defaultRowLevelRolePrefix)) {
+                String roleCode = authorityName.substring(defaultRowLevelRolePrefix.length());
+                RowLevelRole rowLevelRole = rowLevelRoleRepository.findRoleByCode(roleCode);
+                if (rowLevelRole == null) {
+                    log.trace("RowLevelRole '{}' not found", roleCode);
+                } else {
+                    rowLevelRoles.add(rowLevelRole);
                 }
             }
         }
+        return new AuthenticationPolicySnapshot(resourceRoles, rowLevelRoles);
+    }
 
-        return stream;
+    protected Collection<String> getSuitableMetaClassNames(MetaClass metaClass) {
+        MetaClass originalMetaClass = extendedEntities.getOriginalMetaClass(metaClass);
+        Set<String> suitableMetaClassNames = new LinkedHashSet<>();
+        suitableMetaClassNames.add(metaClass.getName());
+        if (originalMetaClass != null) {
+            suitableMetaClassNames.add(originalMetaClass.getName());
+            for (MetaClass ancestor : originalMetaClass.getAncestors()) {
+                suitableMetaClassNames.add(ancestor.getName());
+            }
+        }
+        for (MetaClass ancestor : metaClass.getAncestors()) {
+            suitableMetaClassNames.add(ancestor.getName());
+        }
+        return suitableMetaClassNames;
+    }
+
+    protected String[] getResources(MetaClass metaClass, @Nullable MetaClass originalMetaClass, @Nullable String attribute) {
+        String suffix = attribute == null ? "" : "." + attribute;
+        if (originalMetaClass == null || originalMetaClass.getName().equals(metaClass.getName())) {
+            return new String[]{metaClass.getName() + suffix};
+        }
+        return new String[]{metaClass.getName() + suffix, originalMetaClass.getName() + suffix};
     }
 
     @Nullable
@@ -207,10 +239,38 @@ public class AuthenticationPolicyStore implements PolicyStore {
         return scope == null || resourceRole.getScopes().contains(scope);
     }
 
-    protected Stream<ResourcePolicy> getPoliciesStreamByTypeAndResources(ResourceRole resourceRole,
-                                                                         String policyType,
-                                                                         Collection<String> resources) {
-        return resources.stream()
-                .flatMap(r -> resourceRole.getAllResourcePoliciesIndex().getPoliciesByTypeAndResource(policyType, r).stream());
+    protected static final class SnapshotEntry {
+
+        private final long generation;
+        private final AuthenticationPolicySnapshot snapshot;
+
+        protected SnapshotEntry(long generation, AuthenticationPolicySnapshot snapshot) {
+            this.generation = generation;
+            this.snapshot = snapshot;
+        }
+    }
+
+    protected static final class SnapshotKey {
+
+        private final Set<String> authorities;
+        private final String scope;
+
+        protected SnapshotKey(Set<String> authorities, @Nullable String scope) {
+            this.authorities = authorities;
+            this.scope = scope;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof SnapshotKey)) return false;
+            SnapshotKey that = (SnapshotKey) o;
+            return authorities.equals(that.authorities) && Objects.equals(scope, that.scope);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * authorities.hashCode() + Objects.hashCode(scope);
+        }
     }
 }
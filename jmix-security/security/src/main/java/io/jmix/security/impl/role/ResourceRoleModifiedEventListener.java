@@ -16,25 +16,32 @@
 
 package io.jmix.security.impl.role;
 
+import io.jmix.security.impl.constraint.AuthenticationPolicyStore;
 import io.jmix.security.impl.role.event.ResourceRoleModifiedEvent;
 import io.jmix.security.role.ResourceRoleRepository;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 /**
- * Listener invalidates resource roles repository cache when database resource role entity is modified.
+ * Listener invalidates resource roles repository cache and then the compiled policy snapshots of
+ * {@link AuthenticationPolicyStore} when database resource role entity is modified.
  */
 @Component("sec_ResourceRoleModifiedEventListener")
 public class ResourceRoleModifiedEventListener {
 
     private final ResourceRoleRepository resourceRoleRepository;
+    private final AuthenticationPolicyStore policyStore;
 
-    public ResourceRoleModifiedEventListener(ResourceRoleRepository resourceRoleRepository) {
+    public ResourceRoleModifiedEventListener(ResourceRoleRepository resourceRoleRepository,
+                                             AuthenticationPolicyStore policyStore) {
         this.resourceRoleRepository = resourceRoleRepository;
+        this.policyStore = policyStore;
     }
 
     @EventListener
     public void onResourceRoleModifiedEvent(ResourceRoleModifiedEvent event) {
         resourceRoleRepository.invalidateCache();
+        // snapshots must be dropped after the repository, otherwise they can be rebuilt from stale roles
+        policyStore.invalidateCache();
     }
 }
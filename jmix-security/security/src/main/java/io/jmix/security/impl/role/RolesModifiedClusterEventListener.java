@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.security.impl.role;
+
+import io.jmix.security.impl.role.event.ResourceRoleModifiedEvent;
+import io.jmix.security.impl.role.event.RolesModifiedClusterEvent;
+import io.jmix.security.impl.role.event.RowLevelRoleModifiedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener re-publishes {@link RolesModifiedClusterEvent} received from other application instances as local role
+ * modification events, so role repositories and policy snapshots are invalidated on all instances of a cluster.
+ */
+@Component("sec_RolesModifiedClusterEventListener")
+public class RolesModifiedClusterEventListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public RolesModifiedClusterEventListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener
+    public void onRolesModifiedClusterEvent(RolesModifiedClusterEvent event) {
+        if (event.isLocal()) {
+            return;
+        }
+        switch (event.getRoleType()) {
+            case RESOURCE -> eventPublisher.publishEvent(new ResourceRoleModifiedEvent(this));
+            case ROW_LEVEL -> eventPublisher.publishEvent(new RowLevelRoleModifiedEvent(this));
+        }
+    }
+}
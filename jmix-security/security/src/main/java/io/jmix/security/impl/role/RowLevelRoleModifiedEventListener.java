@@ -16,24 +16,31 @@
 
 package io.jmix.security.impl.role;
 
+import io.jmix.security.impl.constraint.AuthenticationPolicyStore;
 import io.jmix.security.impl.role.event.RowLevelRoleModifiedEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 /**
- * Listener invalidates row-level roles repository cache when database row-level role entity is modified.
+ * Listener invalidates row-level roles repository cache and then the compiled policy snapshots of
+ * {@link AuthenticationPolicyStore} when database row-level role entity is modified.
  */
 @Component("sec_RowLevelRoleModifiedEventListener")
 public class RowLevelRoleModifiedEventListener {
 
     private final RowLevelRoleRepositoryImpl rowLevelRoleRepository;
+    private final AuthenticationPolicyStore policyStore;
 
-    public RowLevelRoleModifiedEventListener(RowLevelRoleRepositoryImpl rowLevelRoleRepository) {
+    public RowLevelRoleModifiedEventListener(RowLevelRoleRepositoryImpl rowLevelRoleRepository,
+                                             AuthenticationPolicyStore policyStore) {
         this.rowLevelRoleRepository = rowLevelRoleRepository;
+        this.policyStore = policyStore;
     }
 
     @EventListener
     public void onRowLevelRoleModifiedEvent(RowLevelRoleModifiedEvent event) {
         rowLevelRoleRepository.invalidateCache();
+        // snapshots must be dropped after the repository, otherwise they can be rebuilt from stale roles
+        policyStore.invalidateCache();
     }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.security.impl.role.event;
+
+import io.jmix.core.cluster.ClusterApplicationEvent;
+
+import java.util.UUID;
+
+/**
+ * Event is sent to all application instances in a cluster when database resource or row-level roles are modified.
+ * Receiving instances re-publish it locally as {@link ResourceRoleModifiedEvent} or {@link RowLevelRoleModifiedEvent}
+ * to invalidate their role caches.
+ */
+public class RolesModifiedClusterEvent extends ClusterApplicationEvent {
+
+    private static final String LOCAL_INSTANCE_ID = UUID.randomUUID().toString();
+
+    public enum RoleType {
+        RESOURCE,
+        ROW_LEVEL
+    }
+
+    private final RoleType roleType;
+    private final String originInstanceId;
+
+    public RolesModifiedClusterEvent(Object source, RoleType roleType) {
+        super(source);
+        this.roleType = roleType;
+        this.originInstanceId = LOCAL_INSTANCE_ID;
+    }
+
+    public RoleType getRoleType() {
+        return roleType;
+    }
+
+    /**
+     * @return true if the event has been published by this application instance, which has already handled
+     * the corresponding local event
+     */
+    public boolean isLocal() {
+        return LOCAL_INSTANCE_ID.equals(originInstanceId);
+    }
+}
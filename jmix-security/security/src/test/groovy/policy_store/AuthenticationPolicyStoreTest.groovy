@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package policy_store
+
+import io.jmix.core.Metadata
+import io.jmix.security.impl.constraint.AuthenticationPolicyStore
+import io.jmix.security.impl.role.event.ResourceRoleModifiedEvent
+import io.jmix.security.model.EntityPolicyAction
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken
+import org.springframework.security.core.authority.SimpleGrantedAuthority
+import org.springframework.security.core.context.SecurityContextHolder
+import test_support.SecuritySpecification
+import test_support.entity.TestOrder
+
+class AuthenticationPolicyStoreTest extends SecuritySpecification {
+
+    @Autowired
+    AuthenticationPolicyStore policyStore
+
+    @Autowired
+    Metadata metadata
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher
+
+    def setup() {
+        def authorities = [new SimpleGrantedAuthority('ROLE_TestEntityPolicyAllCrudRole')]
+        SecurityContextHolder.context.authentication =
+                new UsernamePasswordAuthenticationToken('user1', null, authorities)
+    }
+
+    def cleanup() {
+        SecurityContextHolder.clearContext()
+    }
+
+    def "entity policies are resolved from snapshot"() {
+
+        when:
+        def policies = policyStore.getEntityResourcePolicies(metadata.getClass(TestOrder)).toList()
+
+        then:
+        policies.size() == 1
+        policies[0].action == EntityPolicyAction.ALL.id
+
+        policyStore.getEntityResourcePoliciesByWildcard('*').count() == 0
+    }
+
+    def "snapshot is shared by authentications with the same authorities and dropped on role modification"() {
+
+        when:
+        def snapshot1 = policyStore.getSnapshot()
+
+        SecurityContextHolder.context.authentication = new UsernamePasswordAuthenticationToken('user2', null,
+                [new SimpleGrantedAuthority('ROLE_TestEntityPolicyAllCrudRole')])
+        def snapshot2 = policyStore.getSnapshot()
+
+        then:
+        snapshot1.is(snapshot2)
+        snapshot1.resourceRoles.size() == 1
+
+        when:
+        eventPublisher.publishEvent(new ResourceRoleModifiedEvent(this))
+        def snapshot3 = policyStore.getSnapshot()
+
+        then:
+        !snapshot1.is(snapshot3)
+    }
+
+    def "snapshot loaded before invalidation is not returned after it"() {
+
+        when:
+        def snapshot1 = policyStore.getSnapshot()
+        // invalidation raced with loading: the generation moved on but the entry loaded before it remains cached
+        policyStore.generation.incrementAndGet()
+        def snapshot2 = policyStore.getSnapshot()
+
+        then:
+        !snapshot1.is(snapshot2)
+        policyStore.getSnapshot().is(snapshot2)
+    }
+}